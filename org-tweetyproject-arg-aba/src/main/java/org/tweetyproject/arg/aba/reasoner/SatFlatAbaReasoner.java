@@ -0,0 +1,612 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.aba.reasoner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import org.tweetyproject.arg.aba.semantics.AbaExtension;
+import org.tweetyproject.arg.aba.syntax.AbaTheory;
+import org.tweetyproject.arg.aba.syntax.Assumption;
+import org.tweetyproject.arg.aba.syntax.InferenceRule;
+import org.tweetyproject.arg.dung.semantics.Semantics;
+import org.tweetyproject.commons.Formula;
+import org.tweetyproject.commons.InferenceMode;
+import org.tweetyproject.logics.pl.sat.SatSession;
+import org.tweetyproject.logics.pl.sat.SatSolver;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.PlFormulaFactory;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+/**
+ * This reasoner for flat ABA theories encodes the admissible, complete, stable and
+ * preferred semantics directly into SAT, i.e., it neither enumerates sets of assumptions
+ * nor constructs the corresponding Dung theory. For every assumption a there is a
+ * proposition "in_a" and the derivability of atoms from the chosen assumptions is
+ * encoded by the completion of the rules, where atoms on cyclic dependencies are derived
+ * in rounds to rule out unfounded self-support. A second copy of this encoding over the
+ * assumptions that are not attacked by the chosen ones decides which assumptions are
+ * defended by them.<br>
+ * <br>
+ * Preferred extensions are computed by iteratively maximizing admissible sets within a
+ * single SAT session. Credulous and skeptical queries are answered by a few SAT calls
+ * without computing all extensions.<br>
+ * <br>
+ * NOTE: the given ABA theories are assumed to be flat, which is not checked.
+ *
+ * @param <T> the language of the underlying ABA theory
+ * @author The TweetyProject Team
+ */
+public class SatFlatAbaReasoner<T extends Formula> extends GeneralAbaReasoner<T> {
+
+	/** The semantics of this reasoner. */
+	private Semantics semantics;
+	/** The SAT solver used for reasoning. */
+	private SatSolver solver;
+
+	/**
+	 * Creates a new reasoner for the given semantics that uses the given SAT solver.
+	 * @param semantics one of Semantics.ADM, Semantics.CO, Semantics.PR, Semantics.ST
+	 * @param solver some SAT solver
+	 */
+	public SatFlatAbaReasoner(Semantics semantics, SatSolver solver) {
+		if(semantics != Semantics.ADM && semantics != Semantics.CO && semantics != Semantics.PR && semantics != Semantics.ST)
+			throw new IllegalArgumentException("Semantics " + semantics + " is not supported by this reasoner.");
+		this.semantics = semantics;
+		this.solver = solver;
+	}
+
+	/**
+	 * Creates a new reasoner for the given semantics that uses the default SAT solver.
+	 * @param semantics one of Semantics.ADM, Semantics.CO, Semantics.PR, Semantics.ST
+	 */
+	public SatFlatAbaReasoner(Semantics semantics) {
+		this(semantics, SatSolver.getDefaultSolver());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.tweetyproject.arg.aba.reasoner.GeneralAbaReasoner#query(org.
+	 * tweetyproject.arg.aba.syntax.AbaTheory, org.tweetyproject.arg.aba.syntax.Assumption,
+	 * org.tweetyproject.commons.InferenceMode)
+	 */
+	@Override
+	public Boolean query(AbaTheory<T> beliefbase, Assumption<T> query, InferenceMode inferenceMode) {
+		Encoding<T> enc = new Encoding<>(beliefbase, this.semantics);
+		PlFormula in = enc.getLiteral(query);
+		try(SatSession session = this.solver.openSession()){
+			session.addAll(enc.clauses);
+			// credulous acceptance under the preferred semantics coincides with the one under the admissible semantics
+			if(inferenceMode.equals(InferenceMode.CREDULOUS))
+				return session.isSatisfiable(Collections.singleton(in));
+			PlFormula out = enc.complement(in);
+			if(this.semantics != Semantics.PR)
+				return !session.isSatisfiable(Collections.singleton(out));
+			if(!session.isSatisfiable(Collections.singleton(in)))
+				return false;
+			// look for a preferred extension without the query by maximizing admissible sets without
+			// the query, and exclude the subsets of every preferred extension with the query
+			PossibleWorld w;
+			while((w = session.getWitness(Collections.singleton(out))) != null) {
+				if(Thread.currentThread().isInterrupted())
+					throw new CancellationException("Query answering interrupted.");
+				boolean[] ext = enc.maximize(session, enc.getAssumptions(w));
+				if(!enc.contains(ext, query))
+					return false;
+				Disjunction clause = enc.getExcludingClause(ext);
+				if(clause.isEmpty())
+					break;
+				session.add(clause);
+			}
+			return true;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.tweetyproject.arg.aba.reasoner.GeneralAbaReasoner#getModels(org.
+	 * tweetyproject.arg.aba.syntax.AbaTheory)
+	 */
+	@Override
+	public Collection<AbaExtension<T>> getModels(AbaTheory<T> bbase) {
+		Encoding<T> enc = new Encoding<>(bbase, this.semantics);
+		// get some extension from the solver, then add a clause excluding it (or, for
+		// the preferred semantics, all of its subsets) and repeat to obtain all extensions
+		Set<AbaExtension<T>> result = new HashSet<>();
+		try(SatSession session = this.solver.openSession()){
+			session.addAll(enc.clauses);
+			PossibleWorld w;
+			while((w = session.getWitness()) != null) {
+				if(Thread.currentThread().isInterrupted())
+					throw new CancellationException("Enumeration of extensions interrupted.");
+				boolean[] ext = enc.getAssumptions(w);
+				Disjunction clause;
+				if(this.semantics == Semantics.PR) {
+					ext = enc.maximize(session, ext);
+					clause = enc.getExcludingClause(ext);
+				}else clause = enc.getBlockingClause(ext);
+				result.add(enc.getExtension(ext));
+				if(clause.isEmpty())
+					break;
+				session.add(clause);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns some extension of the given ABA theory wrt. the semantics of this reasoner.
+	 * @param bbase some flat ABA theory
+	 * @return some extension, or null if there is none (which may only happen for the
+	 * 	stable semantics).
+	 */
+	@Override
+	public AbaExtension<T> getModel(AbaTheory<T> bbase) {
+		Encoding<T> enc = new Encoding<>(bbase, this.semantics);
+		try(SatSession session = this.solver.openSession()){
+			session.addAll(enc.clauses);
+			PossibleWorld w = session.getWitness();
+			if(w == null)
+				return null;
+			boolean[] ext = enc.getAssumptions(w);
+			if(this.semantics == Semantics.PR)
+				ext = enc.maximize(session, ext);
+			return enc.getExtension(ext);
+		}
+	}
+
+	/**
+	 * the solver is natively installed and is therefore always installed
+	 */
+	@Override
+	public boolean isInstalled() {
+		return true;
+	}
+
+	/**
+	 * The propositional encoding of the extensions of a flat ABA theory. Atoms are
+	 * numbered such that the assumptions come first; only atoms the contraries of
+	 * assumptions depend on are encoded.
+	 *
+	 * @param <T> the language of the underlying ABA theory
+	 */
+	private static class Encoding<T extends Formula> {
+		/** The factory interning the propositions of this encoding. */
+		private PlFormulaFactory factory = new PlFormulaFactory();
+		/** The clauses of this encoding. */
+		private List<PlFormula> clauses = new ArrayList<>();
+		/** The number of auxiliary propositions. */
+		private int auxiliaries = 0;
+		/** A literal that is false in every model, and its complement. */
+		private PlFormula falsum, verum;
+		/** The assumptions, indexed by their ids. */
+		private List<Assumption<T>> assumptions = new ArrayList<>();
+		/** The "in" propositions of the assumptions, indexed by their ids. */
+		private Proposition[] in;
+		/** Maps formulas to their atom ids. */
+		private Map<T,Integer> atoms = new HashMap<>();
+		/** The heads and the (distinct) premises of the rules. */
+		private int[] heads;
+		private int[][] premises;
+		/** The ids of the rules with the given atom as head, indexed by atom ids. */
+		private List<List<Integer>> rulesWithHead = new ArrayList<>();
+		/** The contraries of every assumption, indexed by assumption ids. */
+		private List<List<Integer>> contraries = new ArrayList<>();
+		/** The strongly connected components of the dependency graph of the relevant atoms (premises first). */
+		private List<int[]> components = new ArrayList<>();
+
+		/**
+		 * Creates the encoding of the given theory for the given semantics.
+		 * @param abat some flat ABA theory
+		 * @param semantics one of Semantics.ADM, Semantics.CO, Semantics.PR, Semantics.ST
+		 */
+		Encoding(AbaTheory<T> abat, Semantics semantics) {
+			for(Assumption<T> a: abat.getAssumptions())
+				if(!this.atoms.containsKey(a.getConclusion())) {
+					this.getId(a.getConclusion());
+					this.assumptions.add(a);
+					this.contraries.add(new ArrayList<>());
+				}
+			for(org.tweetyproject.arg.aba.syntax.Negation<T> n: abat.getNegations()) {
+				Integer id = this.atoms.get(n.getFormula());
+				if(id != null && id < this.assumptions.size())
+					this.contraries.get(id).add(this.getId(n.getNegation()));
+			}
+			Collection<InferenceRule<T>> rules = abat.getRules();
+			this.heads = new int[rules.size()];
+			this.premises = new int[rules.size()][];
+			int r = 0;
+			for(InferenceRule<T> rule: rules) {
+				this.heads[r] = this.getId(rule.getConclusion());
+				Set<Integer> body = new LinkedHashSet<>();
+				for(T p: rule.getPremise())
+					body.add(this.getId(p));
+				this.premises[r] = body.stream().mapToInt(Integer::intValue).toArray();
+				this.rulesWithHead.get(this.heads[r]).add(r++);
+			}
+			this.computeComponents();
+			Proposition f = this.newProposition();
+			this.clauses.add(new Negation(f));
+			this.falsum = f;
+			this.verum = new Negation(f);
+			this.in = new Proposition[this.assumptions.size()];
+			PlFormula[] input = new PlFormula[this.atoms.size()];
+			for(int i = 0; i < this.in.length; i++)
+				input[i] = this.in[i] = this.factory.getProposition("in_" + i);
+			PlFormula[] attacked = this.getAttacked(this.derive(input));
+			for(int i = 0; i < this.in.length; i++) {
+				this.clauses.add(new Disjunction(this.complement(this.in[i]), this.complement(attacked[i])));
+				if(semantics == Semantics.ST)
+					this.clauses.add(new Disjunction(this.in[i], attacked[i]));
+			}
+			if(semantics == Semantics.ST)
+				return;
+			// an assumption is defended iff it is not attacked by the assumptions that are not attacked
+			PlFormula[] unattacked = new PlFormula[this.atoms.size()];
+			for(int i = 0; i < this.in.length; i++)
+				unattacked[i] = this.complement(attacked[i]);
+			PlFormula[] defeated = this.getAttacked(this.derive(unattacked));
+			for(int i = 0; i < this.in.length; i++) {
+				this.clauses.add(new Disjunction(this.complement(this.in[i]), this.complement(defeated[i])));
+				if(semantics == Semantics.CO)
+					this.clauses.add(new Disjunction(this.in[i], defeated[i]));
+			}
+		}
+
+		/**
+		 * Returns the id of the given atom, after assigning a new one if necessary.
+		 * @param f some atom
+		 * @return the id of f.
+		 */
+		private int getId(T f) {
+			Integer id = this.atoms.get(f);
+			if(id == null) {
+				id = this.atoms.size();
+				this.atoms.put(f, id);
+				this.rulesWithHead.add(new ArrayList<>());
+			}
+			return id;
+		}
+
+		/**
+		 * Computes the strongly connected components of the atoms the contraries depend on
+		 * (using an iterative version of Tarjan's algorithm), such that every component
+		 * comes after the components of the premises of its rules.
+		 */
+		private void computeComponents() {
+			int n = this.atoms.size();
+			int[][] successors = new int[n][];
+			for(int x = 0; x < n; x++) {
+				Set<Integer> succ = new LinkedHashSet<>();
+				for(int r: this.rulesWithHead.get(x))
+					for(int p: this.premises[r])
+						succ.add(p);
+				successors[x] = succ.stream().mapToInt(Integer::intValue).toArray();
+			}
+			int[] index = new int[n], low = new int[n], pos = new int[n];
+			int[] stack = new int[n], calls = new int[n];
+			boolean[] onStack = new boolean[n];
+			Arrays.fill(index, -1);
+			int counter = 0, top = 0;
+			for(List<Integer> roots: this.contraries)
+				for(int root: roots) {
+					if(index[root] >= 0)
+						continue;
+					int sp = 0;
+					calls[sp++] = root;
+					index[root] = low[root] = counter++;
+					stack[top++] = root;
+					onStack[root] = true;
+					while(sp > 0) {
+						int v = calls[sp - 1];
+						if(pos[v] < successors[v].length) {
+							int w = successors[v][pos[v]++];
+							if(index[w] < 0) {
+								index[w] = low[w] = counter++;
+								stack[top++] = w;
+								onStack[w] = true;
+								calls[sp++] = w;
+							}else if(onStack[w])
+								low[v] = Math.min(low[v], index[w]);
+							continue;
+						}
+						sp--;
+						if(sp > 0)
+							low[calls[sp - 1]] = Math.min(low[calls[sp - 1]], low[v]);
+						if(low[v] == index[v]) {
+							int start = top;
+							do {
+								start--;
+								onStack[stack[start]] = false;
+							}while(stack[start] != v);
+							this.components.add(Arrays.copyOfRange(stack, start, top));
+							top = start;
+						}
+					}
+				}
+		}
+
+		/**
+		 * Encodes the derivability of the relevant atoms from the given input literals.
+		 * @param input the literals representing the availability of the assumptions (null for other atoms)
+		 * @return the literals representing the derivability of the relevant atoms (null for other atoms).
+		 */
+		private PlFormula[] derive(PlFormula[] input) {
+			PlFormula[] derivable = new PlFormula[this.atoms.size()];
+			int[] component = new int[this.atoms.size()];
+			Arrays.fill(component, -1);
+			for(int c = 0; c < this.components.size(); c++) {
+				int[] atomsOfComponent = this.components.get(c);
+				for(int x: atomsOfComponent)
+					component[x] = c;
+				// first the rules whose premises are all outside of the component
+				Map<Integer,PlFormula> cyclic = new HashMap<>();
+				for(int x: atomsOfComponent) {
+					List<PlFormula> supports = new ArrayList<>();
+					if(input[x] != null)
+						supports.add(input[x]);
+					for(int r: this.rulesWithHead.get(x)) {
+						List<PlFormula> body = new ArrayList<>();
+						boolean internal = false;
+						for(int p: this.premises[r])
+							if(component[p] == c)
+								internal = true;
+							else body.add(derivable[p]);
+						// (a rule with the only atom of its component among its premises never applies)
+						if(!internal)
+							supports.add(this.and(body));
+						else if(atomsOfComponent.length > 1)
+							cyclic.put(r, this.and(body));
+					}
+					derivable[x] = this.or(supports);
+				}
+				// every round of applying the remaining rules derives a new atom unless a fixpoint is reached
+				for(int round = 1; round < atomsOfComponent.length; round++) {
+					PlFormula[] next = new PlFormula[atomsOfComponent.length];
+					for(int i = 0; i < atomsOfComponent.length; i++) {
+						int x = atomsOfComponent[i];
+						List<PlFormula> supports = new ArrayList<>();
+						supports.add(derivable[x]);
+						for(int r: this.rulesWithHead.get(x)) {
+							PlFormula external = cyclic.get(r);
+							if(external == null)
+								continue;
+							List<PlFormula> body = new ArrayList<>();
+							body.add(external);
+							for(int p: this.premises[r])
+								if(component[p] == c)
+									body.add(derivable[p]);
+							supports.add(this.and(body));
+						}
+						next[i] = this.or(supports);
+					}
+					for(int i = 0; i < atomsOfComponent.length; i++)
+						derivable[atomsOfComponent[i]] = next[i];
+				}
+			}
+			return derivable;
+		}
+
+		/**
+		 * Encodes the attacks on the assumptions.
+		 * @param derivable the literals representing the derivability of the relevant atoms
+		 * @return the literals representing that some contrary of the assumptions is derivable, indexed by assumption ids.
+		 */
+		private PlFormula[] getAttacked(PlFormula[] derivable) {
+			PlFormula[] attacked = new PlFormula[this.assumptions.size()];
+			for(int i = 0; i < attacked.length; i++) {
+				List<PlFormula> lits = new ArrayList<>();
+				for(int c: this.contraries.get(i))
+					lits.add(derivable[c]);
+				attacked[i] = this.or(lits);
+			}
+			return attacked;
+		}
+
+		/**
+		 * Returns a literal equivalent to the conjunction of the given literals.
+		 * @param lits some literals
+		 * @return a literal equivalent to the conjunction of lits.
+		 */
+		private PlFormula and(List<PlFormula> lits) {
+			List<PlFormula> conjuncts = new ArrayList<>();
+			for(PlFormula l: lits)
+				if(l == this.falsum)
+					return this.falsum;
+				else if(l != this.verum)
+					conjuncts.add(l);
+			if(conjuncts.isEmpty())
+				return this.verum;
+			if(conjuncts.size() == 1)
+				return conjuncts.get(0);
+			Proposition v = this.newProposition();
+			Disjunction clause = new Disjunction();
+			clause.add(v);
+			for(PlFormula l: conjuncts) {
+				this.clauses.add(new Disjunction(this.complement(v), l));
+				clause.add(this.complement(l));
+			}
+			this.clauses.add(clause);
+			return v;
+		}
+
+		/**
+		 * Returns a literal equivalent to the disjunction of the given literals.
+		 * @param lits some literals
+		 * @return a literal equivalent to the disjunction of lits.
+		 */
+		private PlFormula or(List<PlFormula> lits) {
+			List<PlFormula> disjuncts = new ArrayList<>();
+			for(PlFormula l: lits)
+				if(l == this.verum)
+					return this.verum;
+				else if(l != this.falsum)
+					disjuncts.add(l);
+			if(disjuncts.isEmpty())
+				return this.falsum;
+			if(disjuncts.size() == 1)
+				return disjuncts.get(0);
+			Proposition v = this.newProposition();
+			Disjunction clause = new Disjunction();
+			clause.add(this.complement(v));
+			for(PlFormula l: disjuncts) {
+				this.clauses.add(new Disjunction(v, this.complement(l)));
+				clause.add(l);
+			}
+			this.clauses.add(clause);
+			return v;
+		}
+
+		/**
+		 * Returns a new auxiliary proposition.
+		 * @return a new proposition.
+		 */
+		private Proposition newProposition() {
+			return this.factory.getProposition("aux_" + this.auxiliaries++);
+		}
+
+		/**
+		 * Returns the complement of the given literal.
+		 * @param l some literal
+		 * @return the complement of l.
+		 */
+		PlFormula complement(PlFormula l) {
+			if(l == this.falsum)
+				return this.verum;
+			if(l == this.verum)
+				return this.falsum;
+			return l instanceof Negation ? ((Negation) l).getFormula() : new Negation(l);
+		}
+
+		/**
+		 * Returns the literal representing that the given assumption is in an extension.
+		 * @param a some assumption
+		 * @return the "in" proposition of a, or a literal that is always false if a is not
+		 * 	an assumption of the theory.
+		 */
+		PlFormula getLiteral(Assumption<T> a) {
+			Integer id = this.atoms.get(a.getConclusion());
+			return id == null || id >= this.in.length ? this.falsum : this.in[id];
+		}
+
+		/**
+		 * Checks whether the given set of assumptions contains the given assumption.
+		 * @param ext a set of assumptions, indexed by assumption ids
+		 * @param a some assumption
+		 * @return "true" if a is in ext.
+		 */
+		boolean contains(boolean[] ext, Assumption<T> a) {
+			Integer id = this.atoms.get(a.getConclusion());
+			return id != null && id < ext.length && ext[id];
+		}
+
+		/**
+		 * Decodes the set of assumptions of the given model.
+		 * @param w some model of this encoding
+		 * @return the assumptions that are in, indexed by assumption ids.
+		 */
+		boolean[] getAssumptions(PossibleWorld w) {
+			boolean[] ext = new boolean[this.in.length];
+			for(int i = 0; i < ext.length; i++)
+				ext[i] = w.contains(this.in[i]);
+			return ext;
+		}
+
+		/**
+		 * Returns the extension consisting of the given assumptions.
+		 * @param ext a set of assumptions, indexed by assumption ids
+		 * @return the corresponding extension.
+		 */
+		AbaExtension<T> getExtension(boolean[] ext) {
+			List<Assumption<T>> result = new ArrayList<>();
+			for(int i = 0; i < ext.length; i++)
+				if(ext[i])
+					result.add(this.assumptions.get(i));
+			return new AbaExtension<T>(result);
+		}
+
+		/**
+		 * Returns the clause excluding exactly the given set of assumptions.
+		 * @param ext a set of assumptions, indexed by assumption ids
+		 * @return a clause excluding ext (which is empty iff there are no assumptions).
+		 */
+		Disjunction getBlockingClause(boolean[] ext) {
+			Disjunction clause = new Disjunction();
+			for(int i = 0; i < ext.length; i++)
+				clause.add(ext[i] ? new Negation(this.in[i]) : this.in[i]);
+			return clause;
+		}
+
+		/**
+		 * Returns the clause excluding all subsets of the given set of assumptions.
+		 * @param ext a set of assumptions, indexed by assumption ids
+		 * @return a clause excluding all subsets of ext (which is empty iff ext contains all assumptions).
+		 */
+		Disjunction getExcludingClause(boolean[] ext) {
+			Disjunction clause = new Disjunction();
+			for(int i = 0; i < ext.length; i++)
+				if(!ext[i])
+					clause.add(this.in[i]);
+			return clause;
+		}
+
+		/**
+		 * Extends the given extension of the session to a maximal one by repeatedly asking
+		 * for a proper superset. The clauses demanding supersets are guarded by fresh
+		 * propositions that are assumed for the respective call and disabled afterwards,
+		 * so the session remains usable.
+		 * @param session a session containing (at least) the clauses of this encoding
+		 * @param ext a set of assumptions of some model of the session, indexed by assumption ids
+		 * @return a maximal set of assumptions of some model of the session that contains ext.
+		 */
+		boolean[] maximize(SatSession session, boolean[] ext) {
+			while(true) {
+				Proposition guard = this.newProposition();
+				Disjunction larger = new Disjunction();
+				larger.add(new Negation(guard));
+				List<PlFormula> assumed = new ArrayList<>();
+				assumed.add(guard);
+				for(int i = 0; i < ext.length; i++)
+					if(ext[i])
+						assumed.add(this.in[i]);
+					else larger.add(this.in[i]);
+				session.add(larger);
+				PossibleWorld w = session.getWitness(assumed);
+				session.add(new Negation(guard));
+				if(w == null)
+					return ext;
+				ext = this.getAssumptions(w);
+			}
+		}
+	}
+}
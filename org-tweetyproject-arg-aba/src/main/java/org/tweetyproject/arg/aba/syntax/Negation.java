@@ -57,6 +57,24 @@ public class Negation<T extends Formula> extends AbaElement<T> {
 		this.negation = negation;
 	}
 
+	/**
+	 * Returns the formula negated by this relation.
+	 *
+	 * @return the formula
+	 */
+	public T getFormula() {
+		return formula;
+	}
+
+	/**
+	 * Returns the complement of the formula of this relation.
+	 *
+	 * @return the complement
+	 */
+	public T getNegation() {
+		return negation;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -18,12 +18,15 @@
  */
 package org.tweetyproject.arg.aba;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,6 +37,7 @@ import org.tweetyproject.arg.aba.reasoner.CompleteReasoner;
 import org.tweetyproject.arg.aba.reasoner.FlatAbaReasoner;
 import org.tweetyproject.arg.aba.reasoner.GeneralAbaReasoner;
 import org.tweetyproject.arg.aba.reasoner.PreferredReasoner;
+import org.tweetyproject.arg.aba.reasoner.SatFlatAbaReasoner;
 import org.tweetyproject.arg.aba.reasoner.WellFoundedReasoner;
 import org.tweetyproject.arg.aba.semantics.AbaAttack;
 import org.tweetyproject.arg.aba.semantics.AbaExtension;
@@ -52,6 +56,7 @@ import org.tweetyproject.logics.pl.parser.PlParser;
 import org.tweetyproject.logics.pl.sat.Sat4jSolver;
 import org.tweetyproject.logics.pl.sat.SatSolver;
 import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
 
 /**
  * Test class for ABA.
@@ -360,6 +365,77 @@ public class AbaTest {
 		assertTrue(wellfexts.contains(asss_c));
 	}
 
+	@Test
+	public void SatReasonerTest() throws Exception {
+		Random rand = new Random(1);
+		for (int run = 0; run < 60; run++) {
+			// a random flat theory with assumptions a0,a1,... and other atoms p0,p1,...
+			AbaTheory<PlFormula> abat = new AbaTheory<>();
+			int assumptions = 1 + rand.nextInt(5);
+			for (int i = 0; i < assumptions; i++) {
+				abat.addAssumption(new Proposition("a" + i));
+				abat.addNegation(new Proposition("a" + i), rand.nextInt(4) == 0 ? new Proposition("a" + rand.nextInt(assumptions))
+						: new Proposition("p" + rand.nextInt(4)));
+			}
+			for (int i = rand.nextInt(8); i > 0; i--) {
+				InferenceRule<PlFormula> rule = new InferenceRule<>();
+				rule.setConclusion(new Proposition("p" + rand.nextInt(4)));
+				for (int j = rand.nextInt(3); j > 0; j--)
+					rule.addPremise(rand.nextBoolean() ? new Proposition("a" + rand.nextInt(assumptions))
+							: new Proposition("p" + rand.nextInt(4)));
+				abat.add(rule);
+			}
+			for (Semantics semantics : new Semantics[] { Semantics.CO, Semantics.PR, Semantics.ST }) {
+				GeneralAbaReasoner<PlFormula> reasoner = new SatFlatAbaReasoner<>(semantics);
+				Collection<AbaExtension<PlFormula>> exts = new FlatAbaReasoner<PlFormula>(semantics).getModels(abat);
+				assertEquals(new HashSet<>(exts), new HashSet<>(reasoner.getModels(abat)));
+				for (Assumption<PlFormula> a : abat.getAssumptions()) {
+					assertEquals(exts.stream().anyMatch(e -> e.contains(a)), reasoner.query(abat, a, InferenceMode.CREDULOUS));
+					assertEquals(exts.stream().allMatch(e -> e.contains(a)), reasoner.query(abat, a, InferenceMode.SKEPTICAL));
+				}
+			}
+			assertEquals(new HashSet<>(abat.getAllAdmissbleExtensions()),
+					new HashSet<>(new SatFlatAbaReasoner<PlFormula>(Semantics.ADM).getModels(abat)));
+		}
+	}
+
+	@Test
+	public void SatReasonerLargeTest() throws Exception {
+		// every assumption ai is attacked by a(i+1) via ci, and b is only attacked by
+		// the atom q that merely supports itself (via r)
+		AbaTheory<PlFormula> abat = new AbaTheory<>();
+		int n = 60;
+		for (int i = 0; i < n; i++) {
+			abat.addAssumption(new Proposition("a" + i));
+			abat.addNegation(new Proposition("a" + i), new Proposition("c" + i));
+			if (i + 1 < n) {
+				InferenceRule<PlFormula> rule = new InferenceRule<>();
+				rule.setConclusion(new Proposition("c" + i));
+				rule.addPremise(new Proposition("a" + (i + 1)));
+				abat.add(rule);
+			}
+		}
+		abat.addAssumption(new Proposition("b"));
+		abat.addNegation(new Proposition("b"), new Proposition("q"));
+		InferenceRule<PlFormula> rule = new InferenceRule<>();
+		rule.setConclusion(new Proposition("q"));
+		rule.addPremise(new Proposition("r"));
+		abat.add(rule);
+		rule = new InferenceRule<>();
+		rule.setConclusion(new Proposition("r"));
+		rule.addPremise(new Proposition("q"));
+		rule.addPremise(new Proposition("a0"));
+		abat.add(rule);
+		for (Semantics semantics : new Semantics[] { Semantics.CO, Semantics.PR, Semantics.ST }) {
+			SatFlatAbaReasoner<PlFormula> reasoner = new SatFlatAbaReasoner<>(semantics);
+			assertEquals(1, reasoner.getModels(abat).size());
+			assertTrue(reasoner.query(abat, new Assumption<PlFormula>(new Proposition("b"))));
+			assertTrue(reasoner.query(abat, new Assumption<PlFormula>(new Proposition("a" + (n - 1)))));
+			assertFalse(reasoner.query(abat, new Assumption<PlFormula>(new Proposition("a" + (n - 2))), InferenceMode.CREDULOUS));
+		}
+		assertTrue(new SatFlatAbaReasoner<PlFormula>(Semantics.PR).getModel(abat).size() == n / 2 + 1);
+	}
+
 //	@Test
 	public void Example11() throws Exception {
 		PlParser plparser = new PlParser();
@@ -4,6 +4,7 @@ import java.util.Objects;
 
 import org.tweetyproject.arg.adf.sat.IncrementalSatSolver;
 import org.tweetyproject.arg.adf.sat.solver.NativeMinisatSolver;
+import org.tweetyproject.arg.adf.sat.solver.Sat4jIncrementalSatSolver;
 
 /**
  * The {@code Configuration} class encapsulates the settings used for SAT solving and parallel execution
@@ -87,8 +88,11 @@ public final class Configuration {
 	 */
 	public static final class Builder {
 
-		/** The SAT solver used by default, initialized to {@link NativeMinisatSolver}. */
-		private IncrementalSatSolver satSolver = new NativeMinisatSolver();
+		/**
+		 * The SAT solver used by default, initialized to {@link NativeMinisatSolver} or to
+		 * {@link Sat4jIncrementalSatSolver} if the native library is not available.
+		 */
+		private IncrementalSatSolver satSolver = defaultSatSolver();
 
 		/** The parallelism level, initialized to the number of available processors. */
 		private int parallelism = Runtime.getRuntime().availableProcessors();
@@ -96,6 +100,14 @@ public final class Configuration {
 		/** Creates a new configuration builder. */
 		private Builder() {
 		}
+
+		private static IncrementalSatSolver defaultSatSolver() {
+			try {
+				return new NativeMinisatSolver();
+			} catch (LinkageError | RuntimeException e) {
+				return new Sat4jIncrementalSatSolver();
+			}
+		}
 
 		/**
 		 * Sets the {@link IncrementalSatSolver} to be used in the {@link Configuration}.
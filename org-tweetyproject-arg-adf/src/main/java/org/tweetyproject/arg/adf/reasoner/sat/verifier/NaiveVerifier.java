@@ -69,6 +69,8 @@ public final class NaiveVerifier implements Verifier {
 		state.assume(toggle.neg());
 		
 		boolean notMaximal = state.satisfiable();
+		// retract the clause, otherwise it constrains later verifications on this state
+		state.add(Clause.of(toggle));
 		return !notMaximal;
 	}
 
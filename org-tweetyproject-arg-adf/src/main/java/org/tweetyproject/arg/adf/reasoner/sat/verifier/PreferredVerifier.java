@@ -88,6 +88,8 @@ public final class PreferredVerifier implements Verifier {
 
         // Check if the interpretation is maximal
         boolean notMaximal = state.satisfiable();
+        // Retract the clause, otherwise it constrains later verifications on this state
+        state.add(Clause.of(toggle));
         return !notMaximal;
     }
 
@@ -0,0 +1,174 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.adf.sat.solver;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.TimeoutException;
+import org.tweetyproject.arg.adf.sat.IncrementalSatSolver;
+import org.tweetyproject.arg.adf.sat.SatSolverState;
+import org.tweetyproject.arg.adf.syntax.pl.Clause;
+import org.tweetyproject.arg.adf.syntax.pl.Literal;
+
+/**
+ * An incremental SAT solver that does not need native libraries. Every state
+ * wraps its own Sat4j solver, which is kept alive for the lifetime of the state:
+ * clauses are added incrementally, assumptions are passed to Sat4j's assumption
+ * interface and learned clauses are reused across calls. States are independent
+ * of each other, so they can be used concurrently (one per thread) by
+ * {@link org.tweetyproject.arg.adf.reasoner.sat.execution.ParallelExecution}.
+ * <p>
+ * Clauses can be retracted with activation literals, i.e., by adding a fresh
+ * literal to the clause, assuming its negation while the clause is needed and
+ * adding it as a unit clause afterwards.
+ *
+ * @author The TweetyProject Team
+ *
+ */
+public final class Sat4jIncrementalSatSolver implements IncrementalSatSolver {
+
+	/**
+	 * Creates a new solver.
+	 */
+	public Sat4jIncrementalSatSolver() {
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.tweetyproject.arg.adf.sat.IncrementalSatSolver#createState()
+	 */
+	@Override
+	public SatSolverState createState() {
+		return new Sat4jSolverState(SolverFactory.newDefault());
+	}
+
+	private static final class Sat4jSolverState implements SatSolverState {
+
+		private final ISolver solver;
+
+		/**
+		 * Maps the propositions to their Sat4j variables.
+		 */
+		private final Map<Literal, Integer> nonTransientMapping = new HashMap<Literal, Integer>();
+
+		private Map<Literal, Integer> transientMapping = new HashMap<Literal, Integer>();
+
+		private int[] assumptions = new int[8];
+
+		private int numberOfAssumptions = 0;
+
+		/**
+		 * Set if an added clause contradicts the clauses of the state, Sat4j does
+		 * not accept further queries in this case.
+		 */
+		private boolean unsat = false;
+
+		private Sat4jSolverState(ISolver solver) {
+			this.solver = solver;
+		}
+
+		@Override
+		public void close() {
+			solver.reset();
+		}
+
+		@Override
+		public Set<Literal> witness() {
+			return witness(nonTransientMapping.keySet());
+		}
+
+		@Override
+		public Set<Literal> witness(Collection<? extends Literal> filter) {
+			if (satisfiable()) {
+				Set<Literal> witness = new HashSet<>();
+				for (Literal atom : filter) {
+					Integer mapping = nonTransientMapping.get(atom);
+					if (mapping != null && solver.model(mapping)) {
+						witness.add(atom);
+					}
+				}
+				return witness;
+			}
+
+			return null;
+		}
+
+		@Override
+		public boolean satisfiable() {
+			transientMapping = new HashMap<>();
+			VecInt assumps = new VecInt(Arrays.copyOf(assumptions, numberOfAssumptions));
+			numberOfAssumptions = 0;
+			if (unsat) {
+				return false;
+			}
+			try {
+				return solver.isSatisfiable(assumps);
+			} catch (TimeoutException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public void assume(Literal literal) {
+			int mapped = mapToSat4j(literal.getAtom());
+			if (numberOfAssumptions == assumptions.length) {
+				assumptions = Arrays.copyOf(assumptions, 2 * assumptions.length);
+			}
+			assumptions[numberOfAssumptions++] = literal.isPositive() ? mapped : -mapped;
+		}
+
+		@Override
+		public boolean add(Clause clause) {
+			int[] sclause = new int[clause.size()];
+			int i = 0;
+			for (Literal literal : clause) {
+				int mapped = mapToSat4j(literal.getAtom());
+				sclause[i++] = literal.isPositive() ? mapped : -mapped;
+			}
+			if (!unsat) {
+				try {
+					solver.addClause(new VecInt(sclause));
+				} catch (ContradictionException e) {
+					unsat = true;
+				}
+			}
+			return true;
+		}
+
+		private int mapToSat4j(Literal atom) {
+			Map<Literal, Integer> map = atom.isTransient() ? transientMapping : nonTransientMapping;
+			Integer mapping = map.get(atom);
+			if (mapping == null) {
+				mapping = solver.nextFreeVarId(true);
+				map.put(atom, mapping);
+			}
+			return mapping;
+		}
+	}
+}
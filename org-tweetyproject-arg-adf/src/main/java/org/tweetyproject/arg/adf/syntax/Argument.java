@@ -86,6 +86,7 @@ public final class Argument extends org.tweetyproject.arg.dung.syntax.Argument i
      * @see java.lang.Object#equals(java.lang.Object)
      */
     public boolean equals(Object o){
+        if(this == o) return true;
         if(!o.getClass().equals(this.getClass())) return false;
         if(!((Argument)o).getName().equals(getName())) return false;
         return true;
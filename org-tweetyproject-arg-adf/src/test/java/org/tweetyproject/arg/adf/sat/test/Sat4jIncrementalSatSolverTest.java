@@ -0,0 +1,107 @@
+package org.tweetyproject.arg.adf.sat.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.tweetyproject.arg.adf.reasoner.AbstractDialecticalFrameworkReasoner;
+import org.tweetyproject.arg.adf.reasoner.GroundReasoner;
+import org.tweetyproject.arg.adf.reasoner.NaiveReasoner;
+import org.tweetyproject.arg.adf.reasoner.PreferredReasoner;
+import org.tweetyproject.arg.adf.reasoner.StableReasoner;
+import org.tweetyproject.arg.adf.sat.IncrementalSatSolver;
+import org.tweetyproject.arg.adf.sat.SatSolverState;
+import org.tweetyproject.arg.adf.sat.solver.Sat4jIncrementalSatSolver;
+import org.tweetyproject.arg.adf.semantics.interpretation.Interpretation;
+import org.tweetyproject.arg.adf.semantics.link.SatLinkStrategy;
+import org.tweetyproject.arg.adf.syntax.Argument;
+import org.tweetyproject.arg.adf.syntax.acc.AcceptanceCondition;
+import org.tweetyproject.arg.adf.syntax.acc.NegationAcceptanceCondition;
+import org.tweetyproject.arg.adf.syntax.adf.AbstractDialecticalFramework;
+import org.tweetyproject.arg.adf.syntax.pl.Clause;
+import org.tweetyproject.arg.adf.syntax.pl.Literal;
+
+public class Sat4jIncrementalSatSolverTest {
+
+	public static final int DEFAULT_TIMEOUT = 2000;
+
+	private final IncrementalSatSolver solver = new Sat4jIncrementalSatSolver();
+
+	@Test(timeout = DEFAULT_TIMEOUT)
+	public void testIncremental() {
+		Literal a = Literal.create("a");
+		Literal b = Literal.create("b");
+		try (SatSolverState state = solver.createState()) {
+			state.add(Clause.of(a, b));
+			assertTrue(state.satisfiable());
+
+			// assumptions only hold for the next call
+			state.assume(a.neg());
+			state.assume(b.neg());
+			assertFalse(state.satisfiable());
+			assertTrue(state.satisfiable());
+
+			state.add(Clause.of(a.neg()));
+			Set<Literal> witness = state.witness();
+			assertFalse(witness.contains(a));
+			assertTrue(witness.contains(b));
+
+			// retract a clause by an activation literal
+			Literal toggle = Literal.create();
+			state.add(Clause.of(b.neg(), toggle));
+			state.assume(toggle.neg());
+			assertFalse(state.satisfiable());
+			state.add(Clause.of(toggle));
+			assertTrue(state.satisfiable());
+
+			state.add(Clause.of(b.neg()));
+			assertFalse(state.satisfiable());
+			assertNull(state.witness());
+		}
+	}
+
+	@Test(timeout = DEFAULT_TIMEOUT)
+	public void testSemantics() {
+		Argument a = new Argument("a");
+		Argument b = new Argument("b");
+		Argument c = new Argument("c");
+
+		Map<Argument,AcceptanceCondition> map = new HashMap<Argument,AcceptanceCondition>();
+		map.put(a, new NegationAcceptanceCondition(b));
+		map.put(b, new NegationAcceptanceCondition(a));
+		map.put(c, new NegationAcceptanceCondition(c));
+		AbstractDialecticalFramework adf = AbstractDialecticalFramework.fromMap(map).lazy(new SatLinkStrategy(solver)).build();
+
+		Interpretation ground = new GroundReasoner(solver).getModel(adf);
+		assertTrue(ground.undecided().containsAll(adf.getArguments()));
+
+		assertEquals(satisfied(a, b), satisfied(new PreferredReasoner(solver), adf));
+		assertEquals(new HashSet<Set<Argument>>(), satisfied(new StableReasoner(solver), adf));
+		assertEquals(2, new NaiveReasoner(solver).getModels(adf).size());
+		assertTrue(new PreferredReasoner(solver).credulousQuery(adf, a));
+		assertFalse(new PreferredReasoner(solver).skepticalQuery(adf, a));
+	}
+
+	private Set<Set<Argument>> satisfied(Argument... arguments) {
+		Set<Set<Argument>> result = new HashSet<Set<Argument>>();
+		for (Argument arg : arguments) {
+			result.add(Set.of(arg));
+		}
+		return result;
+	}
+
+	private Set<Set<Argument>> satisfied(AbstractDialecticalFrameworkReasoner reasoner, AbstractDialecticalFramework adf) {
+		Set<Set<Argument>> result = new HashSet<Set<Argument>>();
+		for (Interpretation interpretation : reasoner.getModels(adf)) {
+			result.add(new HashSet<Argument>(interpretation.satisfied()));
+		}
+		return result;
+	}
+}
@@ -20,7 +20,13 @@ package org.tweetyproject.arg.aspic.semantics;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.tweetyproject.arg.aspic.ruleformulagenerator.RuleFormulaGenerator;
 import org.tweetyproject.arg.aspic.syntax.AspicArgument;
@@ -46,7 +52,10 @@ public class AspicAttack<T extends Invertable> extends Attack {
 	}
 		
 	/**
-	 * Checks for defeats in a list of arguments
+	 * Checks for defeats in a list of arguments. Instead of testing all pairs of
+	 * arguments, the arguments are indexed by their conclusion and for each
+	 * argument only those arguments are tested that conclude the complement of
+	 * one of its defeasible conclusions, ordinary premises or defeasible rules.
 	 * @param <T> the type of formula
 	 * @param args	a list of arguments
 	 * @param order	an comparator which should compare the arguments in args 
@@ -55,13 +64,41 @@ public class AspicAttack<T extends Invertable> extends Attack {
 	 */
 	public static <T extends Invertable> Collection<AspicAttack<T>> determineAttackRelations(Collection<AspicArgument<T>> args, Comparator<AspicArgument<T>> order, RuleFormulaGenerator<T> rfgen) {
 		Collection<AspicAttack<T>> successfull = new ArrayList<>();
-		for (AspicArgument<T> active : args)
-			for (AspicArgument<T> passive : args)
-				if (active != passive) {
-					if(AspicAttack.isAttack(active,passive,rfgen,order)) {
-						successfull.add(new AspicAttack<>(active, passive));
-					}
-				}
+		// default order
+		if(order == null)
+			order = (o1, o2) -> 0;
+		Map<Invertable,List<AspicArgument<T>>> argsByConclusion = new HashMap<>();
+		for (AspicArgument<T> arg : args)
+			argsByConclusion.computeIfAbsent(arg.getConclusion(), k -> new ArrayList<>()).add(arg);
+		for (AspicArgument<T> passive : args) {
+			Set<AspicArgument<T>> attackers = Collections.newSetFromMap(new IdentityHashMap<>());
+			Collection<AspicArgument<T>> defargs = passive.getDefeasibleSubs();
+			/*
+			 * Undercutting
+			 */
+			for (AspicArgument<T> a : defargs) {
+				if(rfgen == null)
+					throw new NullPointerException("AspicAttack: RuleFormulaGenerator missing");
+				attackers.addAll(argsByConclusion.getOrDefault(rfgen.getRuleFormula((DefeasibleInferenceRule<T>)a.getTopRule()).complement(), Collections.emptyList()));
+			}
+			/*
+			 * Rebuttal
+			 */
+			for (AspicArgument<T> a : defargs)
+				for (AspicArgument<T> active : argsByConclusion.getOrDefault(a.getConclusion().complement(), Collections.emptyList()))
+					if(order.compare(active, a) >= 0)
+						attackers.add(active);
+			/*
+			 * Undermining
+			 */
+			for (AspicArgument<T> a : passive.getOrdinaryPremises())
+				for (AspicArgument<T> active : argsByConclusion.getOrDefault(a.getConclusion().complement(), Collections.emptyList()))
+					if(order.compare(active, a) >= 0)
+						attackers.add(active);
+			for (AspicArgument<T> active : attackers)
+				if (active != passive)
+					successfull.add(new AspicAttack<>(active, passive));
+		}
 		return successfull;
 	}
 	
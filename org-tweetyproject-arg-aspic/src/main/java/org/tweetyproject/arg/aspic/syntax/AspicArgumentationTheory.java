@@ -18,10 +18,15 @@
  */
 package org.tweetyproject.arg.aspic.syntax;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -188,64 +193,128 @@ public class AspicArgumentationTheory<T extends Invertable> extends RuleSet<Infe
 	}
 
 	/**
-	 * Expands this system's inference rules into a tree arguments
+	 * Expands this system's inference rules into a tree arguments.<br>
+	 * <br>
+	 * Arguments are constructed by semi-naive forward chaining: rules are indexed
+	 * by their premises and in every round a rule is only applied to combinations
+	 * of sub-arguments that contain at least one argument constructed in the
+	 * previous round. So every argument is constructed exactly once.
 	 *
 	 * @return the arguments constructed from this system's inference rules
 	 */
 	public Collection<AspicArgument<T>> getArguments() {
-		Collection<AspicArgument<T>> args = new HashSet<>();
-		Collection<Collection<AspicArgument<T>>> subs = new HashSet<>();
-		Collection<Collection<AspicArgument<T>>> new_subs = new HashSet<>();
-		Collection<AspicArgument<T>> argsForPrem = new HashSet<>();
+		List<AspicArgument<T>> args = new ArrayList<>();
+		// the arguments for each conclusion, in the order of their construction
+		Map<T, List<AspicArgument<T>>> argsByConclusion = new HashMap<>();
+		// all conclusions of the (sub-)arguments of each argument
+		Map<AspicArgument<T>, Set<T>> conclusions = new IdentityHashMap<>();
+		Map<T, List<InferenceRule<T>>> rulesByPremise = new HashMap<>();
+		Map<InferenceRule<T>, List<T>> premises = new HashMap<>();
 
 		Set<InferenceRule<T>> rules = this.groundFolRules();
 		for (InferenceRule<T> rule : rules) {
-			if (rule.isFact())
-				args.add(new AspicArgument<>(rule));
+			if (rule.isFact()) {
+				this.addArgument(new AspicArgument<>(rule), Collections.emptyList(), args, argsByConclusion, conclusions);
+				continue;
+			}
+			List<T> prems = new ArrayList<>(rule.getPremise());
+			premises.put(rule, prems);
+			for (T prem : new LinkedHashSet<>(prems))
+				rulesByPremise.computeIfAbsent(prem, k -> new ArrayList<>()).add(rule);
 		}
-		boolean changed;
-		do {
-			changed = false;
-			for (InferenceRule<T> rule : rules) {
-				subs.clear();
-				boolean continueWithNextRule = false;
-				for (T prem : rule.getPremise()) {
-					argsForPrem.clear();
-					for (AspicArgument<T> arg : args) {
-						if (arg.getConclusion().equals(prem) && !arg.getAllConclusions().contains(rule.getConclusion()))
-							argsForPrem.add(arg);
-					}
-					if (argsForPrem.isEmpty()) {
-						continueWithNextRule = true;
-						break;
-					} else {
-						if (subs.isEmpty()) {
-							for (AspicArgument<T> subarg : argsForPrem) {
-								Collection<AspicArgument<T>> subargset = new HashSet<>();
-								subargset.add(subarg);
-								subs.add(subargset);
-							}
-						} else {
-							new_subs.clear();
-							for (AspicArgument<T> subarg : argsForPrem) {
-								for (Collection<AspicArgument<T>> s : subs) {
-									Collection<AspicArgument<T>> newS = new HashSet<>(s);
-									newS.add(subarg);
-									new_subs.add(newS);
-								}
-							}
-							subs.clear();
-							subs.addAll(new_subs);
-						}
-					}
-				}
-				if (continueWithNextRule)
-					continue;
-				for (Collection<AspicArgument<T>> subargset : subs)
-					changed = args.add(new AspicArgument<>(rule, subargset)) || changed;
+		// the arguments for a conclusion constructed in the last round are those
+		// between deltaBegin (inclusive) and deltaEnd (exclusive)
+		Map<T, Integer> deltaBegin = new HashMap<>();
+		Map<T, Integer> deltaEnd = new HashMap<>();
+		Set<T> changed = new HashSet<>(argsByConclusion.keySet());
+		while (!changed.isEmpty()) {
+			for (T conc : changed)
+				deltaEnd.put(conc, argsByConclusion.get(conc).size());
+			Set<InferenceRule<T>> candidates = new LinkedHashSet<>();
+			for (T conc : changed)
+				candidates.addAll(rulesByPremise.getOrDefault(conc, Collections.emptyList()));
+			int size = args.size();
+			for (InferenceRule<T> rule : candidates) {
+				List<T> prems = premises.get(rule);
+				for (int i = 0; i < prems.size(); i++)
+					if (changed.contains(prems.get(i)))
+						this.combine(rule, prems, i, 0, new ArrayList<>(), deltaBegin, deltaEnd, args, argsByConclusion, conclusions);
 			}
-		} while (changed);
-		return args;
+			for (T conc : changed)
+				deltaBegin.put(conc, deltaEnd.get(conc));
+			changed = new HashSet<>();
+			for (AspicArgument<T> arg : args.subList(size, args.size()))
+				changed.add(arg.getConclusion());
+		}
+		return new HashSet<>(args);
+	}
+
+	/**
+	 * Constructs all arguments with the given top rule, where the sub-argument
+	 * for premise <code>delta</code> has been constructed in the last round, the
+	 * sub-arguments for the premises before it have been constructed in earlier
+	 * rounds and the sub-arguments for the premises after it in any round.
+	 *
+	 * @param rule             the top rule
+	 * @param prems            the premises of the rule
+	 * @param delta            the premise whose sub-argument is new
+	 * @param idx              the premise to choose a sub-argument for
+	 * @param subs             the sub-arguments chosen so far
+	 * @param deltaBegin       begin of the last round for each conclusion
+	 * @param deltaEnd         end of the last round for each conclusion
+	 * @param args             all arguments
+	 * @param argsByConclusion all arguments by their conclusion
+	 * @param conclusions      the conclusions of all arguments
+	 */
+	private void combine(InferenceRule<T> rule, List<T> prems, int delta, int idx, List<AspicArgument<T>> subs,
+			Map<T, Integer> deltaBegin, Map<T, Integer> deltaEnd, List<AspicArgument<T>> args,
+			Map<T, List<AspicArgument<T>>> argsByConclusion, Map<AspicArgument<T>, Set<T>> conclusions) {
+		if (idx == prems.size()) {
+			if (new HashSet<>(prems).size() < prems.size()) {
+				// a premise occurs several times, the same sub-argument is only used once
+				// and different choices may result in the same argument
+				Collection<AspicArgument<T>> distinct = new LinkedHashSet<>(subs);
+				AspicArgument<T> arg = new AspicArgument<>(rule, distinct);
+				if (!argsByConclusion.getOrDefault(rule.getConclusion(), Collections.emptyList()).contains(arg))
+					this.addArgument(arg, distinct, args, argsByConclusion, conclusions);
+			} else
+				this.addArgument(new AspicArgument<>(rule, subs), subs, args, argsByConclusion, conclusions);
+			return;
+		}
+		T prem = prems.get(idx);
+		List<AspicArgument<T>> candidates = argsByConclusion.get(prem);
+		if (candidates == null)
+			return;
+		int begin = idx == delta ? deltaBegin.getOrDefault(prem, 0) : 0;
+		int end = idx < delta ? deltaBegin.getOrDefault(prem, 0) : deltaEnd.getOrDefault(prem, 0);
+		for (AspicArgument<T> sub : candidates.subList(begin, end)) {
+			// rules must not be applied to arguments for their own conclusion
+			if (conclusions.get(sub).contains(rule.getConclusion()))
+				continue;
+			subs.add(sub);
+			this.combine(rule, prems, delta, idx + 1, subs, deltaBegin, deltaEnd, args, argsByConclusion, conclusions);
+			subs.remove(subs.size() - 1);
+		}
+	}
+
+	/**
+	 * Registers a newly constructed argument.
+	 *
+	 * @param arg              some argument
+	 * @param subs             its direct sub-arguments
+	 * @param args             all arguments
+	 * @param argsByConclusion all arguments by their conclusion
+	 * @param conclusions      the conclusions of all arguments
+	 */
+	private void addArgument(AspicArgument<T> arg, Collection<AspicArgument<T>> subs, List<AspicArgument<T>> args,
+			Map<T, List<AspicArgument<T>>> argsByConclusion, Map<AspicArgument<T>, Set<T>> conclusions) {
+		Set<T> concs = new HashSet<>();
+		concs.add(arg.getConclusion());
+		for (AspicArgument<T> sub : subs)
+			concs.addAll(conclusions.get(sub));
+		conclusions.put(arg, concs);
+		args.add(arg);
+		argsByConclusion.computeIfAbsent(arg.getConclusion(), k -> new ArrayList<>()).add(arg);
 	}
 
 	/**
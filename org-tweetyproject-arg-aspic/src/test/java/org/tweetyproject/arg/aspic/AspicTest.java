@@ -38,6 +38,7 @@ import org.tweetyproject.arg.aspic.syntax.AspicArgumentationTheory;
 import org.tweetyproject.arg.aspic.syntax.DefeasibleInferenceRule;
 import org.tweetyproject.arg.aspic.syntax.InferenceRule;
 import org.tweetyproject.arg.aspic.syntax.StrictInferenceRule;
+import org.tweetyproject.arg.aspic.util.RandomAspicArgumentationTheoryGenerator;
 import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
 import org.tweetyproject.arg.dung.semantics.Semantics;
 import org.tweetyproject.arg.dung.syntax.Argument;
@@ -336,6 +337,31 @@ public class AspicTest {
 
 	}
 
+	@Test
+	public void ArgumentConstructionTest() throws Exception {
+		AspicParser<PlFormula> parser = new AspicParser<>(new PlParser(), pfg);
+		String input = "-> a \n => b \n a => c \n b => c \n c, a -> d \n d => a \n a, a -> e";
+		AspicArgumentationTheory<PlFormula> at = parser.parseBeliefBase(input);
+		Collection<AspicArgument<PlFormula>> args = at.getArguments();
+		// two arguments for c and d each, d => a cannot be applied as a is a sub-conclusion of d
+		assertEquals(7, args.size());
+		for (AspicArgument<PlFormula> a : args)
+			if (a.getConclusion().equals(new Proposition("e")))
+				assertEquals(1, a.getDirectSubs().size());
+
+		// the indexed attack relation coincides with the pairwise check
+		for (int i = 0; i < 10; i++) {
+			at = new RandomAspicArgumentationTheoryGenerator(6, 15, 3, 0.3).next();
+			args = at.getArguments();
+			Set<AspicAttack<PlFormula>> attacks = new HashSet<>();
+			for (AspicArgument<PlFormula> a : args)
+				for (AspicArgument<PlFormula> b : args)
+					if (a != b && AspicAttack.isAttack(a, b, at.getRuleFormulaGenerator(), at.getOrder()))
+						attacks.add(new AspicAttack<>(a, b));
+			assertEquals(attacks, new HashSet<>(AspicAttack.determineAttackRelations(args, at.getOrder(), at.getRuleFormulaGenerator())));
+		}
+	}
+
 	final PlFormulaGenerator pfg = new PlFormulaGenerator();
 	final FolFormulaGenerator folfg = new FolFormulaGenerator();
 
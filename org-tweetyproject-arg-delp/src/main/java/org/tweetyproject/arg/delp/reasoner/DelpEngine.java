@@ -0,0 +1,590 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.delp.reasoner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.tweetyproject.arg.delp.syntax.DefeasibleLogicProgram;
+import org.tweetyproject.arg.delp.syntax.DefeasibleRule;
+import org.tweetyproject.arg.delp.syntax.DelpArgument;
+import org.tweetyproject.arg.delp.syntax.DelpFact;
+import org.tweetyproject.arg.delp.syntax.DelpRule;
+import org.tweetyproject.logics.fol.syntax.FolFormula;
+
+/**
+ * An index over a ground defeasible logic program for computing strict closures,
+ * consistency checks and arguments.<br>
+ * <br>
+ * Literals and rules are numbered once and every literal has a watch list of the
+ * rules having it in their premise. Strict closures are computed in linear time by
+ * counting the premises of every rule that are not yet derived (Dowling and Gallier,
+ * 1984): when a literal is derived the counters of the rules in its watch list are
+ * decreased and a rule fires as soon as its counter reaches zero. The closure of the
+ * facts and strict rules is computed once; the closures of the program extended by
+ * some set of defeasible rules start from it and are memoized per set.<br>
+ * <br>
+ * Arguments are built goal-directed: the minimal consistent supports of a literal
+ * are computed by a fixpoint iteration over the rules that can contribute to a
+ * derivation of this literal only, and are memoized for all literals visited.<br>
+ * <br>
+ * This class is not thread-safe.
+ *
+ * @author The TweetyProject Team
+ */
+public class DelpEngine {
+
+	/** The program of this engine. */
+	private DefeasibleLogicProgram delp;
+	/** The literals, indexed by their ids. */
+	private List<FolFormula> literals;
+	/** Maps literals to their ids. */
+	private Map<FolFormula,Integer> literalIds;
+	/** The id of the complement of every literal (-1 if not indexed). */
+	private int[] complements;
+	/** The rules, indexed by their ids. */
+	private List<DelpRule> rules;
+	/** Maps rules to their ids. */
+	private Map<DelpRule,Integer> ruleIds;
+	/** The head of every rule. */
+	private int[] heads;
+	/** The (distinct) premise literals of every rule. */
+	private int[][] premises;
+	/** For every literal the rules having it in their premise. */
+	private int[][] watches;
+	/** For every literal the strict and defeasible rules (and facts) having it as head. */
+	private int[][] rulesWithHead;
+	/** The ids of the defeasible rules. */
+	private BitSet defeasible;
+	/** The ids of the facts. */
+	private BitSet facts;
+	/** The closure of the facts and strict rules. */
+	private BitSet closure;
+	/** The number of premises of every rule not in the closure of the facts and strict rules. */
+	private int[] counters;
+	/** The memoized closures, indexed by sets of defeasible rules. */
+	private Map<BitSet,BitSet> closures = new HashMap<>();
+	/** The memoized consistency checks, indexed by sets of defeasible rules. */
+	private Map<BitSet,Boolean> consistency = new HashMap<>();
+	/** The memoized disagreement checks, indexed by sets of literals. */
+	private Map<BitSet,Boolean> disagreements = new HashMap<>();
+	/** The minimal consistent supports of the literals visited so far. */
+	private Map<Integer,List<BitSet>> supports = new HashMap<>();
+	/** The arguments of the literals queried so far. */
+	private Map<Integer,Set<DelpArgument>> arguments = new HashMap<>();
+
+	/**
+	 * Creates a new engine for the given program.
+	 * @param delp a ground defeasible logic program
+	 */
+	public DelpEngine(DefeasibleLogicProgram delp) {
+		if(!delp.isGround())
+			throw new IllegalArgumentException("Delp must be grounded first.");
+		this.delp = delp;
+		this.literals = new ArrayList<>();
+		this.literalIds = new HashMap<>();
+		this.complements = new int[16];
+		this.rules = new ArrayList<>(delp);
+		this.ruleIds = new HashMap<>();
+		this.heads = new int[this.rules.size()];
+		this.premises = new int[this.rules.size()][];
+		this.defeasible = new BitSet();
+		this.facts = new BitSet();
+		for(int r = 0; r < this.rules.size(); r++) {
+			DelpRule rule = this.rules.get(r);
+			this.ruleIds.put(rule, r);
+			this.heads[r] = this.getId(rule.getConclusion());
+			Set<Integer> premise = new LinkedHashSet<>();
+			for(FolFormula f: rule.getPremise())
+				premise.add(this.getId(f));
+			this.premises[r] = premise.stream().mapToInt(Integer::intValue).toArray();
+			if(rule instanceof DefeasibleRule)
+				this.defeasible.set(r);
+			else if(rule instanceof DelpFact)
+				this.facts.set(r);
+		}
+		int[] watchCount = new int[this.literals.size()];
+		int[] headCount = new int[this.literals.size()];
+		for(int r = 0; r < this.rules.size(); r++) {
+			headCount[this.heads[r]]++;
+			for(int l: this.premises[r])
+				watchCount[l]++;
+		}
+		this.watches = new int[this.literals.size()][];
+		this.rulesWithHead = new int[this.literals.size()][];
+		for(int l = 0; l < this.literals.size(); l++) {
+			this.watches[l] = new int[watchCount[l]];
+			this.rulesWithHead[l] = new int[headCount[l]];
+		}
+		for(int r = this.rules.size() - 1; r >= 0; r--) {
+			this.rulesWithHead[this.heads[r]][--headCount[this.heads[r]]] = r;
+			for(int l: this.premises[r])
+				this.watches[l][--watchCount[l]] = r;
+		}
+		this.counters = new int[this.rules.size()];
+		for(int r = 0; r < this.rules.size(); r++)
+			this.counters[r] = this.premises[r].length;
+		this.closure = new BitSet();
+		int[] queue = new int[this.literals.size()];
+		int size = 0;
+		for(int r = 0; r < this.rules.size(); r++)
+			if(this.counters[r] == 0 && !this.defeasible.get(r))
+				size = this.derive(this.heads[r], this.closure, queue, size);
+		this.propagate(this.closure, this.counters, queue, size, null);
+	}
+
+	/**
+	 * Returns the program of this engine.
+	 * @return the program of this engine.
+	 */
+	public DefeasibleLogicProgram getDefeasibleLogicProgram() {
+		return this.delp;
+	}
+
+	/**
+	 * Returns the id of the given literal; literals not appearing in the program
+	 * are numbered on demand.
+	 * @param f some literal
+	 * @return the id of the literal.
+	 */
+	private int getId(FolFormula f) {
+		Integer id = this.literalIds.get(f);
+		if(id != null)
+			return id;
+		int l = this.literals.size();
+		this.literals.add(f);
+		this.literalIds.put(f, l);
+		if(l >= this.complements.length)
+			this.complements = Arrays.copyOf(this.complements, 2 * this.complements.length);
+		Integer c = this.literalIds.get(f.complement());
+		this.complements[l] = c == null ? -1 : c;
+		if(c != null)
+			this.complements[c] = l;
+		return l;
+	}
+
+	/**
+	 * Returns the ids of the given defeasible rules.
+	 * @param defeasibleRules some defeasible rules
+	 * @return the ids of the rules, or null if one of them is not a rule of the program.
+	 */
+	private BitSet getIds(Collection<DefeasibleRule> defeasibleRules) {
+		BitSet ids = new BitSet();
+		for(DefeasibleRule rule: defeasibleRules) {
+			Integer r = this.ruleIds.get(rule);
+			if(r == null)
+				return null;
+			ids.set(r);
+		}
+		return ids;
+	}
+
+	/**
+	 * Returns an engine for the program extended by the given defeasible rules.
+	 * @param defeasibleRules some defeasible rules
+	 * @return an engine for the extended program.
+	 */
+	private DelpEngine extend(Collection<DefeasibleRule> defeasibleRules) {
+		DefeasibleLogicProgram extended = new DefeasibleLogicProgram(this.delp);
+		extended.addAll(defeasibleRules);
+		return new DelpEngine(extended);
+	}
+
+	/**
+	 * Adds the given literal to the closure and the queue of literals to be propagated.
+	 * @param l some literal
+	 * @param closure some closure
+	 * @param queue the queue of literals to be propagated
+	 * @param size the size of the queue
+	 * @return the new size of the queue.
+	 */
+	private int derive(int l, BitSet closure, int[] queue, int size) {
+		if(closure.get(l))
+			return size;
+		closure.set(l);
+		queue[size] = l;
+		return size + 1;
+	}
+
+	/**
+	 * Fires every strict rule and every given defeasible rule whose premise becomes
+	 * derived until the queue is empty.
+	 * @param closure some closure
+	 * @param counters the number of premises not in the closure of every rule
+	 * @param queue the queue of literals to be propagated
+	 * @param size the size of the queue
+	 * @param active some defeasible rules (may be null)
+	 */
+	private void propagate(BitSet closure, int[] counters, int[] queue, int size, BitSet active) {
+		while(size > 0) {
+			int l = queue[--size];
+			if(l >= this.watches.length)
+				continue;
+			for(int r: this.watches[l])
+				if(--counters[r] == 0 && (!this.defeasible.get(r) || (active != null && active.get(r))))
+					size = this.derive(this.heads[r], closure, queue, size);
+		}
+	}
+
+	/**
+	 * Returns the (memoized) closure of the facts and strict rules extended
+	 * by the given defeasible rules.
+	 * @param active the ids of some defeasible rules
+	 * @return the closure.
+	 */
+	private BitSet getClosure(BitSet active) {
+		BitSet result = this.closures.get(active);
+		if(result != null)
+			return result;
+		result = (BitSet) this.closure.clone();
+		int[] counters = this.counters.clone();
+		int[] queue = new int[this.literals.size()];
+		int size = 0;
+		for(int r = active.nextSetBit(0); r >= 0; r = active.nextSetBit(r + 1))
+			if(counters[r] == 0)
+				size = this.derive(this.heads[r], result, queue, size);
+		this.propagate(result, counters, queue, size, active);
+		this.closures.put((BitSet) active.clone(), result);
+		return result;
+	}
+
+	/**
+	 * Checks whether the given closure contains two complementary literals.
+	 * @param closure some closure
+	 * @return true iff the closure does not contain two complementary literals.
+	 */
+	private boolean isConsistentClosure(BitSet closure) {
+		for(int l = closure.nextSetBit(0); l >= 0; l = closure.nextSetBit(l + 1))
+			if(this.complements[l] >= 0 && closure.get(this.complements[l]))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Checks whether the given defeasible rules are consistent with the strict part of the program.
+	 * @param active the ids of some defeasible rules
+	 * @return true iff the closure of the strict part and the rules is consistent.
+	 */
+	private boolean isConsistent(BitSet active) {
+		Boolean result = this.consistency.get(active);
+		if(result == null) {
+			result = this.isConsistentClosure(this.getClosure(active));
+			this.consistency.put((BitSet) active.clone(), result);
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the strict closure of the program, i.e., the set of all strictly
+	 * derivable literals.
+	 * @return the set of all strictly derivable literals.
+	 */
+	public Set<FolFormula> getStrictClosure() {
+		return this.toLiterals(this.closure);
+	}
+
+	/**
+	 * Computes the strict closure of the program extended by the given parameters,
+	 * see {@link DefeasibleLogicProgram#getStrictClosure(Set, Set, boolean)}.
+	 * @param literals a set of literals
+	 * @param defeasibleRules a set of defeasible rules (which are interpreted as strict rules here)
+	 * @param usefacts set to <code>true</code> iff the facts of the program shall be used
+	 * @return the set of all strictly derivable literals.
+	 */
+	public Set<FolFormula> getStrictClosure(Collection<? extends FolFormula> literals, Collection<DefeasibleRule> defeasibleRules, boolean usefacts) {
+		BitSet active = this.getIds(defeasibleRules);
+		if(active == null)
+			return this.extend(defeasibleRules).getStrictClosure(literals, defeasibleRules, usefacts);
+		if(usefacts && literals.isEmpty())
+			return this.toLiterals(this.getClosure(active));
+		BitSet result = new BitSet();
+		int[] counters = new int[this.rules.size()];
+		for(int r = 0; r < this.rules.size(); r++)
+			counters[r] = this.premises[r].length;
+		List<Integer> start = new ArrayList<>();
+		for(FolFormula f: literals)
+			start.add(this.getId(f));
+		int[] queue = new int[this.literals.size()];
+		int size = 0;
+		for(int l: start)
+			size = this.derive(l, result, queue, size);
+		for(int r = 0; r < this.rules.size(); r++)
+			if(counters[r] == 0 && (this.defeasible.get(r) ? active.get(r) : usefacts || !this.facts.get(r)))
+				size = this.derive(this.heads[r], result, queue, size);
+		this.propagate(result, counters, queue, size, active);
+		return this.toLiterals(result);
+	}
+
+	/**
+	 * Checks whether the given set of defeasible rules is consistent given the strict
+	 * part of the program, see {@link DefeasibleLogicProgram#isConsistent(Set)}.
+	 * @param defeasibleRules a set of defeasible rules
+	 * @return <code>false</code> if the facts and strict rules of the program together with the given
+	 * 	set of defeasible rules derive two complementary literals
+	 */
+	public boolean isConsistent(Collection<DefeasibleRule> defeasibleRules) {
+		BitSet active = this.getIds(defeasibleRules);
+		if(active == null)
+			return this.extend(defeasibleRules).isConsistent(defeasibleRules);
+		return this.isConsistent(active);
+	}
+
+	/**
+	 * Checks whether the given set of literals disagree with respect to the strict
+	 * part of the program, see {@link DefeasibleLogicProgram#disagree(Set)}.
+	 * @param literals a set of literals
+	 * @return <code>true</code> if the facts and strict rules of the program together with the given
+	 * 	literals derive two complementary literals
+	 */
+	public boolean disagree(Collection<? extends FolFormula> literals) {
+		BitSet start = new BitSet();
+		for(FolFormula f: literals)
+			start.set(this.getId(f));
+		return this.disagree(start);
+	}
+
+	/**
+	 * Checks whether the given set of literals disagree with respect to the strict part of the program.
+	 * @param start the ids of some literals
+	 * @return <code>true</code> if the strict part of the program and the literals derive
+	 * 	two complementary literals
+	 */
+	private boolean disagree(BitSet start) {
+		Boolean result = this.disagreements.get(start);
+		if(result == null) {
+			BitSet closure = (BitSet) this.closure.clone();
+			int[] counters = this.counters.clone();
+			int[] queue = new int[this.literals.size()];
+			int size = 0;
+			for(int l = start.nextSetBit(0); l >= 0; l = start.nextSetBit(l + 1))
+				size = this.derive(l, closure, queue, size);
+			this.propagate(closure, counters, queue, size, null);
+			result = !this.isConsistentClosure(closure);
+			this.disagreements.put(start, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns all arguments that can be built in the program.
+	 * @return the set of all arguments of the program.
+	 */
+	public Set<DelpArgument> getArguments() {
+		Set<DelpArgument> result = new HashSet<>();
+		for(int l = 0; l < this.rulesWithHead.length; l++)
+			if(this.rulesWithHead[l].length > 0)
+				result.addAll(this.getArguments(l));
+		return result;
+	}
+
+	/**
+	 * Returns all arguments with the given conclusion, i.e., all minimal sets of defeasible
+	 * rules that are consistent with the strict part of the program and derive the literal.
+	 * @param f some literal
+	 * @return the set of all arguments with conclusion f.
+	 */
+	public Set<DelpArgument> getArguments(FolFormula f) {
+		Integer l = this.literalIds.get(f);
+		if(l == null || l >= this.rulesWithHead.length)
+			return new HashSet<>();
+		return this.getArguments(l);
+	}
+
+	/**
+	 * Returns all arguments with the given conclusion.
+	 * @param l the id of some literal
+	 * @return the set of all arguments for the literal.
+	 */
+	private Set<DelpArgument> getArguments(int l) {
+		Set<DelpArgument> result = this.arguments.get(l);
+		if(result == null) {
+			result = new HashSet<>();
+			for(BitSet support: this.getSupports(l))
+				result.add(this.toArgument(support, l));
+			this.arguments.put(l, result);
+		}
+		return new HashSet<>(result);
+	}
+
+	/**
+	 * Computes the disagreement subargument of the given argument for the given literal,
+	 * see {@link DelpArgument#getDisagreementSubargument(FolFormula, DefeasibleLogicProgram)}.
+	 * @param argument some argument
+	 * @param f some literal
+	 * @return the disagreement subargument for f or null if there is no disagreement subargument.
+	 */
+	public DelpArgument getDisagreementSubargument(DelpArgument argument, FolFormula f) {
+		BitSet active = this.getIds(argument.getSupport());
+		if(active == null)
+			return this.extend(argument.getSupport()).getDisagreementSubargument(argument, f);
+		int lit = this.getId(f);
+		BitSet closure = this.getClosure(active);
+		for(int l = closure.nextSetBit(0); l >= 0; l = closure.nextSetBit(l + 1)) {
+			BitSet pair = new BitSet();
+			pair.set(lit);
+			pair.set(l);
+			if(!this.disagree(pair))
+				continue;
+			for(BitSet support: this.getSupports(l))
+				if(DelpEngine.isSubset(support, active))
+					return this.toArgument(support, l);
+		}
+		return null;
+	}
+
+	/**
+	 * Computes the minimal consistent supports of the given literal and of all literals
+	 * it depends on. The supports of a rule are the unions of the supports of its premise
+	 * literals (plus the rule itself if it is defeasible), the supports of a literal are the
+	 * minimal ones of the rules with this head. Unions that are inconsistent are dropped right
+	 * away as every superset of them is inconsistent as well.
+	 * @param goal the id of some literal
+	 * @return the minimal consistent supports of the literal.
+	 */
+	private List<BitSet> getSupports(int goal) {
+		List<BitSet> result = this.supports.get(goal);
+		if(result != null)
+			return result;
+		// collect the literals the goal depends on
+		Map<Integer,List<BitSet>> local = new HashMap<>();
+		Deque<Integer> stack = new ArrayDeque<>();
+		local.put(goal, new ArrayList<>());
+		stack.push(goal);
+		while(!stack.isEmpty()) {
+			int l = stack.pop();
+			if(l >= this.rulesWithHead.length)
+				continue;
+			for(int r: this.rulesWithHead[l])
+				for(int p: this.premises[r])
+					if(!this.supports.containsKey(p) && !local.containsKey(p)) {
+						local.put(p, new ArrayList<>());
+						stack.push(p);
+					}
+		}
+		// fixpoint over the rules with these heads
+		Deque<Integer> queue = new ArrayDeque<>();
+		BitSet queued = new BitSet();
+		for(int l: local.keySet())
+			if(l < this.rulesWithHead.length)
+				for(int r: this.rulesWithHead[l]) {
+					queue.add(r);
+					queued.set(r);
+				}
+		while(!queue.isEmpty()) {
+			int r = queue.poll();
+			queued.clear(r);
+			List<BitSet> partial = new ArrayList<>();
+			BitSet initial = new BitSet();
+			if(this.defeasible.get(r))
+				initial.set(r);
+			if(!this.isConsistent(initial))
+				continue;
+			partial.add(initial);
+			for(int p: this.premises[r]) {
+				List<BitSet> premiseSupports = local.containsKey(p) ? local.get(p) : this.supports.get(p);
+				List<BitSet> next = new ArrayList<>();
+				for(BitSet s1: partial)
+					for(BitSet s2: premiseSupports) {
+						BitSet s = (BitSet) s1.clone();
+						s.or(s2);
+						if(this.isConsistent(s))
+							DelpEngine.addMinimal(next, s);
+					}
+				partial = next;
+				if(partial.isEmpty())
+					break;
+			}
+			boolean changed = false;
+			List<BitSet> target = local.get(this.heads[r]);
+			for(BitSet s: partial)
+				changed |= DelpEngine.addMinimal(target, s);
+			if(changed)
+				for(int r2: this.watches[this.heads[r]])
+					if(local.containsKey(this.heads[r2]) && !queued.get(r2)) {
+						queue.add(r2);
+						queued.set(r2);
+					}
+		}
+		this.supports.putAll(local);
+		return local.get(goal);
+	}
+
+	/**
+	 * Adds the given set to the given antichain if it contains no subset of it and removes
+	 * all supersets of it.
+	 * @param antichain some list of pairwise incomparable sets
+	 * @param s some set
+	 * @return true iff the set has been added.
+	 */
+	private static boolean addMinimal(List<BitSet> antichain, BitSet s) {
+		for(BitSet t: antichain)
+			if(DelpEngine.isSubset(t, s))
+				return false;
+		antichain.removeIf(t -> DelpEngine.isSubset(s, t));
+		antichain.add(s);
+		return true;
+	}
+
+	/**
+	 * Checks whether the first set is a subset of the second one.
+	 * @param s1 some set
+	 * @param s2 some set
+	 * @return true iff s1 is a subset of s2.
+	 */
+	private static boolean isSubset(BitSet s1, BitSet s2) {
+		BitSet s = (BitSet) s1.clone();
+		s.andNot(s2);
+		return s.isEmpty();
+	}
+
+	/**
+	 * Returns the argument with the given support and conclusion.
+	 * @param support the ids of some defeasible rules
+	 * @param l the id of some literal
+	 * @return an argument.
+	 */
+	private DelpArgument toArgument(BitSet support, int l) {
+		Set<DefeasibleRule> rules = new HashSet<>();
+		for(int r = support.nextSetBit(0); r >= 0; r = support.nextSetBit(r + 1))
+			rules.add((DefeasibleRule) this.rules.get(r));
+		return new DelpArgument(rules, this.literals.get(l));
+	}
+
+	/**
+	 * Returns the literals with the given ids.
+	 * @param ids the ids of some literals
+	 * @return a set of literals.
+	 */
+	private Set<FolFormula> toLiterals(BitSet ids) {
+		Set<FolFormula> result = new HashSet<>();
+		for(int l = ids.nextSetBit(0); l >= 0; l = ids.nextSetBit(l + 1))
+			result.add(this.literals.get(l));
+		return result;
+	}
+}
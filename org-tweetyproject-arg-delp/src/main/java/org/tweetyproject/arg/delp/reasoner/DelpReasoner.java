@@ -24,17 +24,12 @@ import org.tweetyproject.arg.delp.semantics.DelpAnswer.Type;
 import org.tweetyproject.arg.delp.semantics.DialecticalTree;
 import org.tweetyproject.arg.delp.semantics.EmptyCriterion;
 import org.tweetyproject.arg.delp.syntax.DefeasibleLogicProgram;
-import org.tweetyproject.arg.delp.syntax.DefeasibleRule;
 import org.tweetyproject.arg.delp.syntax.DelpArgument;
-import org.tweetyproject.arg.delp.syntax.DelpRule;
 import org.tweetyproject.commons.Reasoner;
-import org.tweetyproject.commons.util.rules.Derivation;
 import org.tweetyproject.logics.fol.syntax.FolFormula;
 
 import java.util.ArrayDeque;
-import java.util.Collection;
 import java.util.Deque;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -74,27 +69,27 @@ public class DelpReasoner implements Reasoner<DelpAnswer.Type,DefeasibleLogicPro
 	 * @return a set of <code>DelpArgument</code> that are warrants
 	 */
     public Set<DelpArgument> getWarrants(DefeasibleLogicProgram delp){
-    	DefeasibleLogicProgram groundDelp = delp.ground();
-        Set<DelpArgument> all_arguments = groundDelp.ground().getArguments();
+    	DelpEngine engine = new DelpEngine(delp.ground());
+        Set<DelpArgument> all_arguments = engine.getArguments();
 		return all_arguments.stream()
-                .filter(argument -> isWarrant(groundDelp,argument))
+                .filter(argument -> isWarrant(engine,argument))
                 .collect(Collectors.toSet());
 	}
 
 	/**
 	 * Checks whether the given argument is a warrant regarding a given set of arguments
-	 * @param groundDelp a grounded DeLP
+	 * @param engine an engine for a grounded DeLP
 	 * @param argument a DeLP argument
 	 *
 	 * @return <source>true</source> iff <source>argument</source> is a warrant given <source>arguments</source>.
 	 */
-	private boolean isWarrant(DefeasibleLogicProgram groundDelp, DelpArgument argument){
-		DialecticalTree dtree = new DialecticalTree(argument);
+	private boolean isWarrant(DelpEngine engine, DelpArgument argument){
+		DialecticalTree dtree = new DialecticalTree(argument, engine);
 		Deque<DialecticalTree> stack = new ArrayDeque<>();
 		stack.add(dtree);
 		while(!stack.isEmpty()){
 			DialecticalTree dtree2 = stack.pop();
-			stack.addAll(dtree2.getDefeaters(groundDelp,comparisonCriterion));
+			stack.addAll(dtree2.getDefeaters(engine.getDefeasibleLogicProgram(),comparisonCriterion));
 		}
 		return dtree.getMarking().equals(DialecticalTree.Mark.UNDEFEATED);
 	}
@@ -106,32 +101,7 @@ public class DelpReasoner implements Reasoner<DelpAnswer.Type,DefeasibleLogicPro
 	 * @return all arguments with the given conclusion from the delp.
 	 */
 	public static Set<DelpArgument> getArgumentsWithConclusion(DefeasibleLogicProgram delp, FolFormula f){
-		Collection<DelpRule> allRules = new HashSet<DelpRule>();
-		allRules.addAll(delp);
-		Set<Derivation<DelpRule>> allDerivations = Derivation.allDerivations(allRules, f);
-		Set<DelpArgument> arguments = new HashSet<>();
-		for(Derivation<DelpRule> derivation: allDerivations){
-			Set<DefeasibleRule> rules = derivation.stream()
-                    .filter(rule -> rule instanceof DefeasibleRule)
-                    .map(rule -> (DefeasibleRule) rule)
-                    .collect(Collectors.toSet());
-            // consistency check: rules have to be consistent with strict knowledge part
-			if(delp.isConsistent(rules))
-				arguments.add(new DelpArgument(rules,(FolFormula)derivation.getConclusion()));
-		}
-		// subargument test
-		Set<DelpArgument> result = new HashSet<>();
-		for(DelpArgument argument1: arguments){
-			boolean is_minimal = true;
-			for(DelpArgument argument2: arguments){
-				if(argument1.getConclusion().equals(argument2.getConclusion()) && argument2.isStrongSubargumentOf(argument1)){
-					is_minimal = false;
-					break;
-				}
-			}
-			if(is_minimal) result.add(argument1);
-		}
-		return result;
+		return new DelpEngine(delp).getArguments(f);
 	}
 
 	/* (non-Javadoc)
@@ -145,17 +115,17 @@ public class DelpReasoner implements Reasoner<DelpAnswer.Type,DefeasibleLogicPro
 		if(!f.isGround())
 			throw new IllegalArgumentException("Formula is expected to be ground: "+f);
 
-		DefeasibleLogicProgram groundDelp = delp.ground();
+		DelpEngine engine = new DelpEngine(delp.ground());
 		// get all arguments for f
 		boolean warrant = false;
-		Set<DelpArgument> args = getArgumentsWithConclusion(groundDelp, f);
+		Set<DelpArgument> args = engine.getArguments(f);
 		for(DelpArgument arg: args){
-			DialecticalTree dtree = new DialecticalTree(arg);
+			DialecticalTree dtree = new DialecticalTree(arg, engine);
 			Deque<DialecticalTree> stack = new ArrayDeque<>();
 			stack.add(dtree);
 			while(!stack.isEmpty()){
 				DialecticalTree dtree2 = stack.pop();
-				stack.addAll(dtree2.getDefeaters(groundDelp,comparisonCriterion));
+				stack.addAll(dtree2.getDefeaters(engine.getDefeasibleLogicProgram(),comparisonCriterion));
 			}
 			if(dtree.getMarking().equals(DialecticalTree.Mark.UNDEFEATED)){
 				warrant = true;
@@ -165,14 +135,14 @@ public class DelpReasoner implements Reasoner<DelpAnswer.Type,DefeasibleLogicPro
 		// get all arguments for ~f (if f is not already warranted)
 		boolean comp_warrant = false;
 		if(!warrant){
-			args = getArgumentsWithConclusion(groundDelp, (FolFormula) f.complement());
+			args = engine.getArguments((FolFormula) f.complement());
 			for(DelpArgument arg: args){
-				DialecticalTree dtree = new DialecticalTree(arg);
+				DialecticalTree dtree = new DialecticalTree(arg, engine);
 				Deque<DialecticalTree> stack = new ArrayDeque<>();
 				stack.add(dtree);
 				while(!stack.isEmpty()){
 					DialecticalTree dtree2 = stack.pop();
-					stack.addAll(dtree2.getDefeaters(groundDelp,comparisonCriterion));
+					stack.addAll(dtree2.getDefeaters(engine.getDefeasibleLogicProgram(),comparisonCriterion));
 				}
 				if(dtree.getMarking().equals(DialecticalTree.Mark.UNDEFEATED)){
 					comp_warrant = true;
@@ -22,7 +22,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.tweetyproject.arg.delp.reasoner.DelpReasoner;
+import org.tweetyproject.arg.delp.reasoner.DelpEngine;
 import org.tweetyproject.arg.delp.syntax.*;
 import org.tweetyproject.logics.fol.syntax.*;
 
@@ -76,12 +76,29 @@ public enum Mark {
 	 */
 	private final Set<DialecticalTree> children = new HashSet<>();
 
+	/**
+	 * The engine used for computing the defeaters of this node and its descendants; <source>null</source>
+	 * if it is created on demand
+	 */
+	private final DelpEngine engine;
+
 	/**
 	 * constructor; initializes this dialectical tree node as a root with given argument
 	 * @param argument a DeLP argument
 	 */
 	public DialecticalTree(DelpArgument argument){
-		this(null, argument);
+		this(null, argument, null);
+	}
+
+	/**
+	 * constructor; initializes this dialectical tree node as a root with given argument. The defeaters
+	 * of all nodes of this tree are computed with the given engine when they are computed for its program,
+	 * so arguments and closures are not recomputed for every node.
+	 * @param argument a DeLP argument
+	 * @param engine an engine for a defeasible logic program
+	 */
+	public DialecticalTree(DelpArgument argument, DelpEngine engine){
+		this(null, argument, engine);
 	}
 
     /**
@@ -89,12 +106,14 @@ public enum Mark {
      *
      * @param parent the parent node
      * @param argument the argument stored in this node
+     * @param engine the engine of the tree (may be null)
      */
-    private DialecticalTree(DialecticalTree parent, DelpArgument argument){
+    private DialecticalTree(DialecticalTree parent, DelpArgument argument, DelpEngine engine){
         if (argument == null)
             throw new IllegalArgumentException("Cannot instantiate dialectical tree with NULL argument");
 		this.parent = parent;
 		this.argument = argument;
+		this.engine = engine;
 	}
 
 	/**
@@ -112,23 +131,25 @@ public enum Mark {
         // test parameters:
         if (delp == null)
             throw new IllegalArgumentException("Cannot compute defeaters for NULL DeLP");
-		Set<FolFormula> attackOpportunities = argument.getAttackOpportunities(delp);
+        DelpEngine engine = this.engine != null && this.engine.getDefeasibleLogicProgram() == delp ?
+                this.engine : new DelpEngine(delp);
+		Set<FolFormula> attackOpportunities = argument.getAttackOpportunities(engine);
 
         //gather attacks of last argument in the line
         Set<DelpArgument> attacks = new HashSet<>();
         for (FolFormula lit : attackOpportunities) {
-        	attacks.addAll(DelpReasoner.getArgumentsWithConclusion(delp, lit));
+        	attacks.addAll(engine.getArguments(lit));
         }
 
 		//for each attacker check acceptability
         Set<DelpArgument> defeaters = attacks.stream()
-                .filter(attack -> isAcceptable(attack,delp,comparisonCriterion))
+                .filter(attack -> isAcceptable(attack,engine,comparisonCriterion))
                 .collect(Collectors.toSet());
 
 		//build dialectical tree nodes
         children.clear();
         children.addAll(defeaters.stream()
-                .map(defeater -> new DialecticalTree(this, defeater))
+                .map(defeater -> new DialecticalTree(this, defeater, engine))
                 .collect(Collectors.toSet()));
 		return children;
 	}
@@ -144,6 +165,21 @@ public enum Mark {
 	public boolean isAcceptable(DelpArgument argument,
                                  DefeasibleLogicProgram delp,
                                  ComparisonCriterion comparisonCriterion){
+		return isAcceptable(argument, new DelpEngine(delp), comparisonCriterion);
+	}
+
+	/**
+	 * Checks whether the argumentation line composed of the ancestors of this node and the parameter
+	 * <code>argument</code> is acceptable given the program of the parameter <code>engine</code>
+	 * @param argument a DeLP argument
+	 * @param engine an engine for a defeasible logic program
+	 * @param comparisonCriterion a comparison criterion.
+	 * @return <code>true</code> if the corresponding argumentation line is acceptable
+	 */
+	private boolean isAcceptable(DelpArgument argument,
+                                 DelpEngine engine,
+                                 ComparisonCriterion comparisonCriterion){
+		DefeasibleLogicProgram delp = engine.getDefeasibleLogicProgram();
 		List<DelpArgument> argumentationLine = getArgumentationLine().collect(Collectors.toList());
 
 		//Subargument test: return FALSE if any subargument found
@@ -156,20 +192,20 @@ public enum Mark {
         // beginning from the second last element (one before root):
 		for(int i = argumentationLine.size()-2; i >= 0; i -= 2)
 			rules.addAll(argumentationLine.get(i).getSupport());
-		if(!delp.isConsistent(rules))
+		if(!engine.isConsistent(rules))
 			return false;
 
 		//Blocking attack
         if (comparisonCriterion == null)
             comparisonCriterion = new EmptyCriterion();
-        DelpArgument disagreementSubargument = argumentationLine.get(argumentationLine.size()-1).getDisagreementSubargument(argument.getConclusion(), delp);
+        DelpArgument disagreementSubargument = argumentationLine.get(argumentationLine.size()-1).getDisagreementSubargument(argument.getConclusion(), engine);
 		if(comparisonCriterion.compare(argument, disagreementSubargument, delp) == ComparisonCriterion.Result.IS_WORSE)
 			return false;
 
         //Proper attack
 		if(argumentationLine.size()>1){
 			DelpArgument arg1 = argumentationLine.get(argumentationLine.size()-1);
-			DelpArgument arg2 = argumentationLine.get(argumentationLine.size()-2).getDisagreementSubargument(arg1.getConclusion(), delp);
+			DelpArgument arg2 = argumentationLine.get(argumentationLine.size()-2).getDisagreementSubargument(arg1.getConclusion(), engine);
 			if(comparisonCriterion.compare(arg1, arg2, delp) == ComparisonCriterion.Result.NOT_COMPARABLE)
 				if(comparisonCriterion.compare(argument, disagreementSubargument, delp) != ComparisonCriterion.Result.IS_BETTER)
 					return false;
@@ -27,7 +27,6 @@ import java.nio.file.Files;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -37,6 +36,7 @@ import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
 
 import org.tweetyproject.arg.delp.parser.DelpParser;
+import org.tweetyproject.arg.delp.reasoner.DelpEngine;
 import org.tweetyproject.arg.delp.reasoner.DelpReasoner;
 import org.tweetyproject.arg.delp.semantics.ComparisonCriterion;
 import org.tweetyproject.arg.delp.semantics.CriterionOptionHandler;
@@ -47,7 +47,6 @@ import org.tweetyproject.arg.dung.syntax.Attack;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 import org.tweetyproject.commons.BeliefSet;
 import org.tweetyproject.commons.Signature;
-import org.tweetyproject.commons.util.rules.Derivation;
 import org.tweetyproject.logics.commons.syntax.Constant;
 import org.tweetyproject.logics.fol.syntax.FolFormula;
 import org.tweetyproject.logics.fol.syntax.FolSignature;
@@ -145,32 +144,7 @@ public class DefeasibleLogicProgram extends BeliefSet<DelpRule, FolSignature> {
 	public Set<DelpArgument> getArguments() {
 		if (!this.isGround())
 			throw new IllegalArgumentException("This program must be grounded first before computing arguments.");
-		Set<Derivation<DelpRule>> derivations = Derivation.allDerivations(this);
-		Set<DelpArgument> arguments = new HashSet<>();
-		for (Derivation<DelpRule> derivation : derivations) {
-			Set<DefeasibleRule> rules = derivation.stream()
-					.filter(rule -> rule instanceof DefeasibleRule)
-					.map(rule -> (DefeasibleRule) rule)
-					.collect(Collectors.toSet());
-			// consistency check: rules have to be consistent with strict knowledge part
-			if (isConsistent(rules))
-				arguments.add(new DelpArgument(rules, (FolFormula) derivation.getConclusion()));
-		}
-		// subargument test
-		Set<DelpArgument> result = new HashSet<>();
-		for (DelpArgument argument1 : arguments) {
-			boolean is_minimal = true;
-			for (DelpArgument argument2 : arguments) {
-				if (argument1.getConclusion().equals(argument2.getConclusion())
-						&& argument2.isStrongSubargumentOf(argument1)) {
-					is_minimal = false;
-					break;
-				}
-			}
-			if (is_minimal)
-				result.add(argument1);
-		}
-		return result;
+		return new DelpEngine(this).getArguments();
 	}
 
 	/**
@@ -189,37 +163,7 @@ public class DefeasibleLogicProgram extends BeliefSet<DelpRule, FolSignature> {
 			boolean usefacts) {
 		if (!isGround())
 			throw new IllegalArgumentException("Delp must be grounded first.");
-		Set<FolFormula> strictClosure = new HashSet<>(literals);
-		if (usefacts) {
-			strictClosure.addAll(this.stream()
-					.filter(rule -> rule instanceof DelpFact)
-					.map(DelpRule::getConclusion)
-					.collect(Collectors.toList()));
-		}
-		boolean modified = true;
-		Set<StrictRule> rules = this.stream()
-				.filter(rule -> rule instanceof StrictRule)
-				.map(rule -> (StrictRule) rule)
-				.collect(Collectors.toSet());
-		for (DefeasibleRule rule : defeasibleRules) {
-			Set<FolFormula> premise = rule.getPremise().stream()
-					.map(f -> (FolFormula) f)
-					.collect(Collectors.toSet());
-			rules.add(new StrictRule(rule.getConclusion(), premise));
-		}
-		while (modified) {
-			modified = false;
-			Set<StrictRule> rules2 = new HashSet<>();
-			for (StrictRule rule : rules) {
-				if (rule.isApplicable(strictClosure)) {
-					strictClosure.add(rule.getConclusion());
-					modified = true;
-				} else
-					rules2.add(rule);
-			}
-			rules = rules2;
-		}
-		return strictClosure;
+		return new DelpEngine(this).getStrictClosure(literals, defeasibleRules, usefacts);
 	}
 
 	/**
@@ -275,17 +219,7 @@ public class DefeasibleLogicProgram extends BeliefSet<DelpRule, FolSignature> {
 	public boolean isConsistent(Set<DefeasibleRule> rules) {
 		if (!isGround())
 			throw new IllegalArgumentException("Delp must be ground.");
-		DefeasibleLogicProgram delp = this.stream()
-				.filter(rule -> rule instanceof DelpFact || rule instanceof StrictRule)
-				.collect(Collectors.toCollection(DefeasibleLogicProgram::new));
-		delp.addAll(rules.stream()
-				.map(DefeasibleRule::toStrictRule)
-				.collect(Collectors.toList()));
-		Set<FolFormula> closure = delp.getStrictClosure();
-		for (FolFormula aClosure : closure)
-			if (closure.contains(aClosure.complement()))
-				return false;
-		return true;
+		return new DelpEngine(this).isConsistent(rules);
 	}
 
 	/**
@@ -300,15 +234,7 @@ public class DefeasibleLogicProgram extends BeliefSet<DelpRule, FolSignature> {
 	public boolean disagree(Set<FolFormula> literals) {
 		if (!isGround())
 			throw new IllegalArgumentException("Delp must be grounded first.");
-		DefeasibleLogicProgram delp = new DefeasibleLogicProgram(this);
-		delp.addAll(literals.stream()
-				.map(DelpFact::new)
-				.collect(Collectors.toList()));
-		Set<FolFormula> closure = delp.getStrictClosure();
-		for (FolFormula aClosure : closure)
-			if (closure.contains(aClosure.complement()))
-				return true;
-		return false;
+		return new DelpEngine(this).disagree(literals);
 	}
 
 	/**
@@ -20,8 +20,8 @@ package org.tweetyproject.arg.delp.syntax;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.tweetyproject.arg.delp.reasoner.DelpEngine;
 import org.tweetyproject.commons.*;
 import org.tweetyproject.logics.fol.syntax.*;
 
@@ -94,12 +94,21 @@ public class DelpArgument implements Formula {
 	 * @return  the set of literals that disagree with the conclusion of a subargument of this argument
 	 */
 	public Set<FolFormula> getAttackOpportunities(DefeasibleLogicProgram delp){
+		return getAttackOpportunities(new DelpEngine(delp));
+	}
+
+	/**
+	 * Computes the set of literals that disagree with the conclusion of a subargument of this argument
+	 * @param engine an engine for a defeasible logic program
+	 * @return  the set of literals that disagree with the conclusion of a subargument of this argument
+	 */
+	public Set<FolFormula> getAttackOpportunities(DelpEngine engine){
 		Set<FolFormula> literals = support.stream()
 				.map(DelpRule::getConclusion)
 				.collect(Collectors.toSet());
 
-		Set<FolFormula> strictClosure = delp.getStrictClosure();
-		Set<FolFormula> strictClosureWithAP = delp.getStrictClosure(literals);
+		Set<FolFormula> strictClosure = engine.getStrictClosure();
+		Set<FolFormula> strictClosureWithAP = engine.getStrictClosure(literals, Collections.emptySet(), true);
 		strictClosureWithAP.removeAll(strictClosure);
 		literals.addAll(strictClosureWithAP);
 
@@ -117,17 +126,18 @@ public class DelpArgument implements Formula {
 	 * 	there is no disagreement subargument
 	 */
 	public DelpArgument getDisagreementSubargument(FolFormula lit, DefeasibleLogicProgram delp){
-        for (DelpArgument argument : delp.getArguments()) {
-            if (argument.isSubargumentOf(this)) {
-                if (delp.disagree(Stream
-                        .of(
-                                lit,
-                                argument.getConclusion())
-                        .collect(Collectors.toSet())))
-                    return argument;
-            }
-        }
-		return null;
+		return getDisagreementSubargument(lit, new DelpEngine(delp));
+	}
+
+	/**
+	 * Computes the disagreement subargument of this argument for the given literal
+	 * @param lit a literal
+	 * @param engine an engine for a defeasible logic program
+	 * @return the disagreement subargument for <code>lit</code> or <code>null</code> if
+	 * 	there is no disagreement subargument
+	 */
+	public DelpArgument getDisagreementSubargument(FolFormula lit, DelpEngine engine){
+		return engine.getDisagreementSubargument(this, lit);
 	}
 
 	// Misc Methods
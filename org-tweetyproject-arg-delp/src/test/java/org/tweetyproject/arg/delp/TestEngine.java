@@ -0,0 +1,153 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.delp;
+
+import org.tweetyproject.arg.delp.parser.DelpParser;
+import org.tweetyproject.arg.delp.reasoner.DelpEngine;
+import org.tweetyproject.arg.delp.reasoner.DelpReasoner;
+import org.tweetyproject.arg.delp.semantics.DelpAnswer;
+import org.tweetyproject.arg.delp.semantics.GeneralizedSpecificity;
+import org.tweetyproject.arg.delp.syntax.DefeasibleLogicProgram;
+import org.tweetyproject.arg.delp.syntax.DefeasibleRule;
+import org.tweetyproject.arg.delp.syntax.DelpArgument;
+import org.tweetyproject.arg.delp.syntax.DelpFact;
+import org.tweetyproject.arg.delp.syntax.DelpRule;
+import org.tweetyproject.arg.delp.syntax.StrictRule;
+import org.tweetyproject.commons.util.rules.Derivation;
+import org.tweetyproject.logics.fol.syntax.FolFormula;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Testing the engine for closures and arguments against a naive computation.
+ *
+ * @author The TweetyProject Team
+ */
+public final class TestEngine {
+
+    private static DefeasibleLogicProgram randomProgram(Random rand, int atoms, int rules) throws IOException {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < rules; i++) {
+            s.append(randomLiteral(rand, atoms));
+            int body = rand.nextInt(3);
+            if (body > 0) {
+                s.append(rand.nextBoolean() ? " <- " : " -< ");
+                for (int j = 0; j < body; j++)
+                    s.append(j > 0 ? ", " : "").append(randomLiteral(rand, atoms));
+            }
+            s.append(".\n");
+        }
+        return new DelpParser().parseBeliefBase(s.toString());
+    }
+
+    private static String randomLiteral(Random rand, int atoms) {
+        return (rand.nextInt(4) == 0 ? "~" : "") + "a" + rand.nextInt(atoms);
+    }
+
+    private static Set<FolFormula> naiveClosure(DefeasibleLogicProgram delp, Set<DefeasibleRule> defeasibleRules) {
+        Set<DelpRule> rules = delp.stream()
+                .filter(rule -> rule instanceof DelpFact || rule instanceof StrictRule)
+                .collect(Collectors.toSet());
+        rules.addAll(defeasibleRules);
+        Set<FolFormula> closure = new HashSet<>();
+        boolean modified = true;
+        while (modified) {
+            modified = false;
+            for (DelpRule rule : rules)
+                if (rule.isApplicable(closure))
+                    modified |= closure.add(rule.getConclusion());
+        }
+        return closure;
+    }
+
+    private static boolean naiveConsistent(DefeasibleLogicProgram delp, Set<DefeasibleRule> defeasibleRules) {
+        Set<FolFormula> closure = naiveClosure(delp, defeasibleRules);
+        return closure.stream().noneMatch(f -> closure.contains(f.complement()));
+    }
+
+    private static Set<DelpArgument> naiveArguments(DefeasibleLogicProgram delp, FolFormula f) {
+        Set<DelpArgument> arguments = new HashSet<>();
+        for (Derivation<DelpRule> derivation : Derivation.allDerivations(delp, f)) {
+            Set<DefeasibleRule> rules = derivation.stream()
+                    .filter(rule -> rule instanceof DefeasibleRule)
+                    .map(rule -> (DefeasibleRule) rule)
+                    .collect(Collectors.toSet());
+            if (naiveConsistent(delp, rules))
+                arguments.add(new DelpArgument(rules, f));
+        }
+        return arguments.stream()
+                .filter(a1 -> arguments.stream().noneMatch(a2 -> a2.isStrongSubargumentOf(a1)))
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void closures() throws IOException {
+        Random rand = new Random(1);
+        for (int run = 0; run < 50; run++) {
+            DefeasibleLogicProgram delp = randomProgram(rand, 8, 14);
+            DelpEngine engine = new DelpEngine(delp);
+            Set<DefeasibleRule> defeasibleRules = delp.stream()
+                    .filter(rule -> rule instanceof DefeasibleRule && rand.nextBoolean())
+                    .map(rule -> (DefeasibleRule) rule)
+                    .collect(Collectors.toSet());
+            assertEquals(naiveClosure(delp, new HashSet<>()), engine.getStrictClosure());
+            assertEquals(naiveClosure(delp, defeasibleRules), delp.getStrictClosure(new HashSet<>(), defeasibleRules));
+            assertEquals(naiveConsistent(delp, defeasibleRules), engine.isConsistent(defeasibleRules));
+        }
+    }
+
+    @Test
+    public void arguments() throws IOException {
+        Random rand = new Random(2);
+        for (int run = 0; run < 50; run++) {
+            DefeasibleLogicProgram delp = randomProgram(rand, 6, 12);
+            DelpEngine engine = new DelpEngine(delp);
+            for (DelpRule rule : delp) {
+                FolFormula f = rule.getConclusion();
+                assertEquals(naiveArguments(delp, f), engine.getArguments(f));
+                assertEquals(naiveArguments(delp, (FolFormula) f.complement()), engine.getArguments((FolFormula) f.complement()));
+            }
+        }
+    }
+
+    @Test
+    public void longChain() throws IOException {
+        // a0 is a fact, every a(i+1) follows defeasibly from a(i) and every b(i) strictly from a(i+1),
+        // but ~b100 follows strictly from a0
+        StringBuilder s = new StringBuilder("a0.\n~b100 <- a0.\n");
+        for (int i = 0; i < 200; i++) {
+            s.append("a").append(i + 1).append(" -< a").append(i).append(".\n");
+            s.append("b").append(i).append(" <- a").append(i + 1).append(".\n");
+        }
+        DelpParser parser = new DelpParser();
+        DefeasibleLogicProgram delp = parser.parseBeliefBase(s.toString());
+        DelpReasoner reasoner = new DelpReasoner(new GeneralizedSpecificity());
+        assertEquals(DelpAnswer.Type.YES, reasoner.query(delp, (FolFormula) parser.parseFormula("b99")));
+        assertEquals(DelpAnswer.Type.NO, reasoner.query(delp, (FolFormula) parser.parseFormula("b100")));
+        assertEquals(DelpAnswer.Type.UNDECIDED, reasoner.query(delp, (FolFormula) parser.parseFormula("b199")));
+    }
+}
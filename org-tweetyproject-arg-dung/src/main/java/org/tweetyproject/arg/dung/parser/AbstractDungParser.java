@@ -18,8 +18,14 @@
  */
  package org.tweetyproject.arg.dung.parser;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +39,7 @@ import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.semantics.Labeling;
 import org.tweetyproject.arg.dung.syntax.Argument;
 import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 import org.tweetyproject.commons.Formula;
 import org.tweetyproject.commons.Parser;
@@ -82,6 +89,64 @@ public abstract class AbstractDungParser extends Parser<DungTheory,Formula> {
 		throw new ParserException("Method AbstractDungParser.parseFormula not implemted");
 	}
 
+	/**
+	 * Parses the given file into a compact theory. The file is memory-mapped and
+	 * read without creating objects for individual lines or attacks, which makes
+	 * this method suitable for large benchmark instances, see
+	 * {@link #parse(ByteBuffer, DungTheoryListener)}.
+	 *
+	 * @param file some file
+	 * @return the compact theory given in the file
+	 * @throws IOException if the file cannot be read or does not conform to the format
+	 */
+	public CompactDungTheory parseCompact(File file) throws IOException {
+		CompactTheoryCollector collector = new CompactTheoryCollector();
+		this.parse(file, collector);
+		return collector.getTheory();
+	}
+
+	/**
+	 * Parses the given file and passes its arguments and attacks to the given
+	 * listener as soon as they are read, without building a theory. The file
+	 * is memory-mapped, see {@link #parse(ByteBuffer, DungTheoryListener)}.
+	 *
+	 * @param file some file (of at most 2GB)
+	 * @param listener the listener receiving arguments and attacks
+	 * @throws IOException if the file cannot be read or does not conform to the format
+	 */
+	public void parse(File file, DungTheoryListener listener) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("File too large to be mapped into memory: " + file);
+			this.parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), listener);
+		}
+	}
+
+	/**
+	 * Parses the remaining bytes of the given (UTF-8 encoded) buffer and passes
+	 * its arguments and attacks to the given listener. Parsers supporting this
+	 * streaming mode (apx, tgf, and i23) work directly on the bytes of the buffer
+	 * and only create a string for each argument name. The default implementation
+	 * decodes the buffer, parses it with {@link #parse(Reader)} and passes the
+	 * arguments of the resulting theory (in its iteration order) and then its
+	 * attacks to the listener.
+	 *
+	 * @param buffer some buffer
+	 * @param listener the listener receiving arguments and attacks
+	 * @throws IOException if the input does not conform to the format
+	 */
+	public void parse(ByteBuffer buffer, DungTheoryListener listener) throws IOException {
+		DungTheory theory = this.parse(new StringReader(StandardCharsets.UTF_8.decode(buffer.duplicate()).toString()));
+		Map<Argument,Integer> index = new HashMap<>();
+		for (Argument a : theory) {
+			index.put(a, index.size());
+			listener.argument(index.size() - 1, a.getName());
+		}
+		for (Attack att : theory.getAttacks())
+			listener.attack(index.get(att.getAttacker()), index.get(att.getAttacked()));
+	}
+
 	/**
 	 * Returns a collection view of the given set of arguments
 	 *
@@ -22,6 +22,7 @@ import java.io.BufferedReader;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -131,6 +132,55 @@ public class ApxParser extends AbstractDungParser {
 		return theory;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.parser.AbstractDungParser#parse(java.nio.ByteBuffer, org.tweetyproject.arg.dung.parser.DungTheoryListener)
+	 */
+	@Override
+	public void parse(ByteBuffer buffer, DungTheoryListener listener) throws IOException {
+		ByteScanner in = new ByteScanner(buffer);
+		ArgumentTable arguments = new ArgumentTable();
+		while (true) {
+			in.skipWhitespace();
+			if (in.atEnd())
+				break;
+			// ASP comments
+			if (in.peek() == '%') {
+				in.skipLine();
+				continue;
+			}
+			if (in.accept("arg")) {
+				in.expect('(');
+				int end = in.tokenEnd(')');
+				int start = in.position();
+				if (start == end)
+					throw in.error("argument");
+				int i = arguments.add(buffer, start, end);
+				if (i != -1)
+					listener.argument(i, in.getString(start, end));
+				in.consumeTo(end);
+				in.expect(')');
+				in.expect('.');
+			} else if (in.accept("att")) {
+				in.expect('(');
+				int end = in.tokenEnd(',');
+				int attacker = arguments.get(buffer, in.position(), end);
+				if (attacker == -1)
+					throw in.error("declared argument");
+				in.consumeTo(end);
+				in.expect(',');
+				end = in.tokenEnd(')');
+				int attacked = arguments.get(buffer, in.position(), end);
+				if (attacked == -1)
+					throw in.error("declared argument");
+				in.consumeTo(end);
+				in.expect(')');
+				in.expect('.');
+				listener.attack(attacker, attacked);
+			} else
+				throw in.error("argument or attack declaration");
+		}
+	}
+
 	
 
 	
@@ -0,0 +1,166 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.parser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Maps argument names, given as byte ranges of a buffer, to consecutive
+ * indices. The names of all arguments are copied into a single byte array
+ * and looked up by open addressing, so looking up the arguments of an
+ * attack does not create any objects.
+ *
+ * @author The TweetyProject Team
+ */
+class ArgumentTable {
+
+	/** The bytes of all names */
+	private byte[] names = new byte[1024];
+	/** The number of used bytes in names */
+	private int used = 0;
+	/** start[i] is the position of the name of argument i in names */
+	private int[] start = new int[64];
+	/** The lengths of the names */
+	private int[] length = new int[64];
+	/** The hash values of the names */
+	private int[] hashes = new int[64];
+	/** Hash slots holding argument indices, -1 for empty slots */
+	private int[] slots = new int[128];
+	/** The number of arguments */
+	private int size = 0;
+
+	/**
+	 * Creates an empty table.
+	 */
+	public ArgumentTable() {
+		Arrays.fill(this.slots, -1);
+	}
+
+	/**
+	 * @return the number of arguments
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Computes the (FNV-1a) hash of the given range.
+	 * @param buffer some buffer
+	 * @param from the start of the range
+	 * @param to the end (exclusive) of the range
+	 * @return the hash value
+	 */
+	private static int hash(ByteBuffer buffer, int from, int to) {
+		int h = 0x811c9dc5;
+		for (int i = from; i < to; i++)
+			h = (h ^ (buffer.get(i) & 0xff)) * 0x01000193;
+		return h;
+	}
+
+	/**
+	 * Returns the index of the argument whose name is given by the range.
+	 * @param buffer some buffer
+	 * @param from the start of the range
+	 * @param to the end (exclusive) of the range
+	 * @return the index of the argument or -1 if there is no such argument
+	 */
+	public int get(ByteBuffer buffer, int from, int to) {
+		int h = hash(buffer, from, to);
+		int mask = this.slots.length - 1;
+		for (int s = h & mask; this.slots[s] != -1; s = (s + 1) & mask) {
+			int i = this.slots[s];
+			if (this.hashes[i] == h && this.equals(i, buffer, from, to))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds the argument whose name is given by the range.
+	 * @param buffer some buffer
+	 * @param from the start of the range
+	 * @param to the end (exclusive) of the range
+	 * @return the index of the new argument or -1 if the argument already exists
+	 */
+	public int add(ByteBuffer buffer, int from, int to) {
+		if (this.get(buffer, from, to) != -1)
+			return -1;
+		int i = this.size++;
+		if (i == this.start.length) {
+			this.start = Arrays.copyOf(this.start, 2 * i);
+			this.length = Arrays.copyOf(this.length, 2 * i);
+			this.hashes = Arrays.copyOf(this.hashes, 2 * i);
+		}
+		int len = to - from;
+		if (this.used + len > this.names.length)
+			this.names = Arrays.copyOf(this.names, Math.max(2 * this.names.length, this.used + len));
+		for (int k = 0; k < len; k++)
+			this.names[this.used + k] = buffer.get(from + k);
+		this.start[i] = this.used;
+		this.length[i] = len;
+		this.hashes[i] = hash(buffer, from, to);
+		this.used += len;
+		if (2 * this.size > this.slots.length)
+			this.rehash();
+		else
+			this.insert(i);
+		return i;
+	}
+
+	/**
+	 * Puts the given argument into a free slot.
+	 * @param i some argument index
+	 */
+	private void insert(int i) {
+		int mask = this.slots.length - 1;
+		int s = this.hashes[i] & mask;
+		while (this.slots[s] != -1)
+			s = (s + 1) & mask;
+		this.slots[s] = i;
+	}
+
+	/**
+	 * Doubles the number of slots and inserts all arguments again.
+	 */
+	private void rehash() {
+		this.slots = new int[2 * this.slots.length];
+		Arrays.fill(this.slots, -1);
+		for (int i = 0; i < this.size; i++)
+			this.insert(i);
+	}
+
+	/**
+	 * Checks whether the name of argument i equals the given range.
+	 * @param i some argument index
+	 * @param buffer some buffer
+	 * @param from the start of the range
+	 * @param to the end (exclusive) of the range
+	 * @return "true" iff the name equals the range.
+	 */
+	private boolean equals(int i, ByteBuffer buffer, int from, int to) {
+		if (this.length[i] != to - from)
+			return false;
+		int p = this.start[i];
+		for (int k = from; k < to; k++)
+			if (this.names[p++] != buffer.get(k))
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans the bytes of a (possibly memory-mapped) buffer for the streaming
+ * parsers of argumentation frameworks. Tokens are reported as positions
+ * within the buffer, so no objects are created while scanning; only error
+ * messages copy parts of the buffer into strings.
+ *
+ * @author The TweetyProject Team
+ */
+class ByteScanner {
+
+	/** The buffer */
+	private final ByteBuffer buffer;
+	/** The current position */
+	private int pos;
+	/** The end of the input */
+	private final int limit;
+
+	/**
+	 * Creates a new scanner for the remaining bytes of the given buffer.
+	 * @param buffer some buffer
+	 */
+	public ByteScanner(ByteBuffer buffer) {
+		this.buffer = buffer;
+		this.pos = buffer.position();
+		this.limit = buffer.limit();
+	}
+
+	/**
+	 * @return the underlying buffer
+	 */
+	public ByteBuffer getBuffer() {
+		return this.buffer;
+	}
+
+	/**
+	 * @return the current position
+	 */
+	public int position() {
+		return this.pos;
+	}
+
+	/**
+	 * @return "true" iff the end of the input has been reached
+	 */
+	public boolean atEnd() {
+		return this.pos >= this.limit;
+	}
+
+	/**
+	 * @return the current byte or -1 at the end of the input
+	 */
+	public int peek() {
+		return this.pos < this.limit ? this.buffer.get(this.pos) : -1;
+	}
+
+	/**
+	 * @param c some byte
+	 * @return "true" iff the given byte is a blank (space, tab, or carriage return)
+	 */
+	private static boolean isBlank(int c) {
+		return c == ' ' || c == '\t' || c == '\r';
+	}
+
+	/**
+	 * @param c some byte
+	 * @return "true" iff the given byte is a blank or a line break
+	 */
+	public static boolean isWhitespace(int c) {
+		return isBlank(c) || c == '\n';
+	}
+
+	/**
+	 * Skips blanks within the current line.
+	 */
+	public void skipBlanks() {
+		while (this.pos < this.limit && isBlank(this.buffer.get(this.pos)))
+			this.pos++;
+	}
+
+	/**
+	 * Skips blanks and line breaks.
+	 */
+	public void skipWhitespace() {
+		while (this.pos < this.limit && isWhitespace(this.buffer.get(this.pos)))
+			this.pos++;
+	}
+
+	/**
+	 * Skips the remainder of the current line including the line break.
+	 */
+	public void skipLine() {
+		while (this.pos < this.limit && this.buffer.get(this.pos) != '\n')
+			this.pos++;
+		if (this.pos < this.limit)
+			this.pos++;
+	}
+
+	/**
+	 * Skips blanks and expects the end of the current line (or of the input).
+	 * @throws IOException if there are further characters in the current line
+	 */
+	public void expectEndOfLine() throws IOException {
+		this.skipBlanks();
+		if (this.pos < this.limit && this.buffer.get(this.pos) != '\n')
+			throw this.error("end of line");
+		this.skipLine();
+	}
+
+	/**
+	 * Consumes the given keyword if the input continues with it.
+	 * @param keyword some ASCII string
+	 * @return "true" iff the keyword has been consumed
+	 */
+	public boolean accept(String keyword) {
+		if (this.pos + keyword.length() > this.limit)
+			return false;
+		for (int i = 0; i < keyword.length(); i++)
+			if (this.buffer.get(this.pos + i) != keyword.charAt(i))
+				return false;
+		this.pos += keyword.length();
+		return true;
+	}
+
+	/**
+	 * Skips blanks and consumes the given character.
+	 * @param c some ASCII character
+	 * @throws IOException if the input does not continue with c
+	 */
+	public void expect(char c) throws IOException {
+		this.skipBlanks();
+		if (this.pos >= this.limit || this.buffer.get(this.pos) != c)
+			throw this.error("'" + c + "'");
+		this.pos++;
+	}
+
+	/**
+	 * Skips blanks and reads a token that ends before a blank, a line break,
+	 * the end of the input, or the given delimiter. The token is not consumed
+	 * but its end is returned, see {@link #consumeTo(int)}.
+	 * @param delimiter some ASCII character or -1
+	 * @return the end (exclusive) of the token starting at the current position.
+	 */
+	public int tokenEnd(int delimiter) {
+		this.skipBlanks();
+		int end = this.pos;
+		while (end < this.limit) {
+			byte c = this.buffer.get(end);
+			if (c == delimiter || isWhitespace(c))
+				break;
+			end++;
+		}
+		return end;
+	}
+
+	/**
+	 * Reads the remainder of the current line without consuming it, see
+	 * {@link #consumeTo(int)}. Like {@link String#trim()}, trailing control
+	 * characters and spaces are not part of the line.
+	 * @return the end (exclusive) of the line starting at the current position.
+	 */
+	public int lineEnd() {
+		int end = this.pos;
+		while (end < this.limit && this.buffer.get(end) != '\n')
+			end++;
+		return this.trimEnd(this.pos, end);
+	}
+
+	/**
+	 * Skips leading control characters and spaces of the given part of the
+	 * buffer, like {@link String#trim()}.
+	 * @param from the start of the part
+	 * @param to the end (exclusive) of the part
+	 * @return the start of the trimmed part
+	 */
+	public int trimStart(int from, int to) {
+		while (from < to && (this.buffer.get(from) & 0xFF) <= ' ')
+			from++;
+		return from;
+	}
+
+	/**
+	 * Skips trailing control characters and spaces of the given part of the
+	 * buffer, like {@link String#trim()}.
+	 * @param from the start of the part
+	 * @param to the end (exclusive) of the part
+	 * @return the end (exclusive) of the trimmed part
+	 */
+	public int trimEnd(int from, int to) {
+		while (to > from && (this.buffer.get(to - 1) & 0xFF) <= ' ')
+			to--;
+		return to;
+	}
+
+	/**
+	 * Finds the first occurrence of the given character in the given part of the buffer.
+	 * @param c some ASCII character
+	 * @param from the start of the part
+	 * @param to the end (exclusive) of the part
+	 * @return the position of c or -1 if the part does not contain c
+	 */
+	public int indexOf(char c, int from, int to) {
+		for (int i = from; i < to; i++)
+			if (this.buffer.get(i) == c)
+				return i;
+		return -1;
+	}
+
+	/**
+	 * Sets the current position to the given one.
+	 * @param end some position not before the current position
+	 */
+	public void consumeTo(int end) {
+		this.pos = end;
+	}
+
+	/**
+	 * Skips blanks and reads a non-negative decimal integer.
+	 * @return the integer
+	 * @throws IOException if there is no integer at the current position
+	 */
+	public int readInt() throws IOException {
+		this.skipBlanks();
+		int start = this.pos;
+		long value = 0;
+		while (this.pos < this.limit) {
+			byte c = this.buffer.get(this.pos);
+			if (c < '0' || c > '9')
+				break;
+			value = 10 * value + (c - '0');
+			if (value > Integer.MAX_VALUE)
+				throw this.error("integer");
+			this.pos++;
+		}
+		if (this.pos == start)
+			throw this.error("integer");
+		return (int) value;
+	}
+
+	/**
+	 * Decodes the given part of the buffer as UTF-8 string.
+	 * @param from the start of the part
+	 * @param to the end (exclusive) of the part
+	 * @return the string
+	 */
+	public String getString(int from, int to) {
+		byte[] bytes = new byte[to - from];
+		for (int i = from; i < to; i++)
+			bytes[i - from] = this.buffer.get(i);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Creates an exception describing a syntax error at the current position.
+	 * @param expected a description of the expected input
+	 * @return an exception
+	 */
+	public IOException error(String expected) {
+		int lineStart = this.pos;
+		while (lineStart > this.buffer.position() && this.buffer.get(lineStart - 1) != '\n')
+			lineStart--;
+		int lineEnd = this.pos;
+		while (lineEnd < this.limit && this.buffer.get(lineEnd) != '\n')
+			lineEnd++;
+		int line = 1;
+		for (int i = this.buffer.position(); i < lineStart; i++)
+			if (this.buffer.get(i) == '\n')
+				line++;
+		return new IOException(expected + " expected in line " + line + ", found " + this.getString(lineStart, lineEnd).trim());
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.parser;
+
+import java.util.Arrays;
+
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+
+/**
+ * Collects arguments and attacks reported by a parser into growing arrays
+ * and builds a compact theory from them.
+ *
+ * @author The TweetyProject Team
+ */
+class CompactTheoryCollector implements DungTheoryListener {
+
+	/** The arguments */
+	private Argument[] arguments = new Argument[64];
+	/** The number of arguments */
+	private int n = 0;
+	/** The attackers of the attacks */
+	private int[] from = new int[256];
+	/** The attacked arguments of the attacks */
+	private int[] to = new int[256];
+	/** The number of attacks */
+	private int m = 0;
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.parser.DungTheoryListener#argument(int, java.lang.String)
+	 */
+	@Override
+	public void argument(int index, String name) {
+		if (index >= this.arguments.length)
+			this.arguments = Arrays.copyOf(this.arguments, Math.max(2 * this.arguments.length, index + 1));
+		this.arguments[index] = new Argument(name);
+		this.n = Math.max(this.n, index + 1);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.parser.DungTheoryListener#attack(int, int)
+	 */
+	@Override
+	public void attack(int attacker, int attacked) {
+		if (this.m == this.from.length) {
+			this.from = Arrays.copyOf(this.from, 2 * this.m);
+			this.to = Arrays.copyOf(this.to, 2 * this.m);
+		}
+		this.from[this.m] = attacker;
+		this.to[this.m++] = attacked;
+	}
+
+	/**
+	 * Returns the compact theory of all reported arguments and attacks.
+	 * @return a compact theory.
+	 */
+	public CompactDungTheory getTheory() {
+		return new CompactDungTheory(Arrays.copyOf(this.arguments, this.n), this.from, this.to, this.m);
+	}
+}
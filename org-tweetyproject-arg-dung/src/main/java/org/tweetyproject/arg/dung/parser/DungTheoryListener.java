@@ -0,0 +1,45 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.parser;
+
+/**
+ * Receives the arguments and attacks of an abstract argumentation framework
+ * while it is parsed, see {@link AbstractDungParser#parse(java.io.File, DungTheoryListener)}.
+ * Arguments are numbered consecutively in the order of their declaration,
+ * starting with 0, and attacks refer to arguments by these indices. Every
+ * argument is passed to the listener before any attack referring to it.
+ *
+ * @author The TweetyProject Team
+ */
+public interface DungTheoryListener {
+
+	/**
+	 * Called for every (new) argument.
+	 * @param index the index of the argument
+	 * @param name the name of the argument
+	 */
+	void argument(int index, String name);
+
+	/**
+	 * Called for every attack.
+	 * @param attacker the index of the attacking argument
+	 * @param attacked the index of the attacked argument
+	 */
+	void attack(int attacker, int attacked);
+}
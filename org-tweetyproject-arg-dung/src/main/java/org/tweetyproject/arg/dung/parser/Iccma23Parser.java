@@ -21,6 +21,7 @@
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 
 import org.tweetyproject.arg.dung.syntax.Argument;
 import org.tweetyproject.arg.dung.syntax.Attack;
@@ -86,5 +87,42 @@ public class Iccma23Parser extends AbstractDungParser {
 		}
 		in.close();
 		return theory;
-	}	
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.parser.AbstractDungParser#parse(java.nio.ByteBuffer, org.tweetyproject.arg.dung.parser.DungTheoryListener)
+	 */
+	@Override
+	public void parse(ByteBuffer buffer, DungTheoryListener listener) throws IOException {
+		ByteScanner in = new ByteScanner(buffer);
+		int numArgs = -1;
+		while (true) {
+			in.skipWhitespace();
+			if (in.atEnd())
+				break;
+			// ignore comment lines
+			if (in.peek() == '#') {
+				in.skipLine();
+				continue;
+			}
+			if (in.accept("p")) {
+				in.skipBlanks();
+				if (!in.accept("af") || numArgs != -1)
+					throw in.error("a single problem definition \"p af\"");
+				numArgs = in.readInt();
+				in.expectEndOfLine();
+				for (int i = 1; i <= numArgs; i++)
+					listener.argument(i - 1, "a" + i);
+				continue;
+			}
+			if (numArgs == -1)
+				throw in.error("problem definition \"p af\"");
+			int attacker = in.readInt();
+			int attacked = in.readInt();
+			if (attacker < 1 || attacker > numArgs || attacked < 1 || attacked > numArgs)
+				throw in.error("attack between arguments 1.." + numArgs);
+			in.expectEndOfLine();
+			listener.attack(attacker - 1, attacked - 1);
+		}
+	}
 }
@@ -21,6 +21,7 @@
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,6 +39,7 @@ import org.tweetyproject.arg.dung.syntax.DungTheory;
  * ATTACK		::== ARGUMENT ARGUMENT<br>
  * 
  * where "ARGUMENT" represents any string (without blanks) as a terminal symbol.
+ * Lines are trimmed and an attack is split at its first space.
  * 
  * @author Matthias Thimm
  */
@@ -61,21 +63,67 @@ public class TgfParser extends AbstractDungParser{
 		boolean argumentSection = true;
 		Map<String,Argument> arguments = new HashMap<String,Argument>();
 		while ((row = in.readLine()) != null) {
-			if(row.trim().equals("")) continue;
-			if(row.trim().equals("#")){
+			String line = row.trim();
+			if(line.equals("")) continue;
+			if(line.equals("#")){
 				argumentSection = false;
 				continue;
 			}
 			if(argumentSection) {
-				Argument a = new Argument(row.trim());
+				Argument a = new Argument(line);
 				arguments.put(a.getName(), a);
 				theory.add(a);
 			}				
 			else{
-				theory.addAttack(arguments.get(row.substring(0, row.indexOf(" ")).trim()),arguments.get(row.substring(row.indexOf(" ")+1,row.length()).trim()));
+				int split = line.indexOf(" ");
+				if(split == -1)
+					throw new IOException("Attack expected, found " + line);
+				Argument attacker = arguments.get(line.substring(0, split).trim());
+				Argument attacked = arguments.get(line.substring(split+1).trim());
+				if(attacker == null || attacked == null)
+					throw new IOException("Attack between declared arguments expected, found " + line);
+				theory.addAttack(attacker,attacked);
 			}
 		}
 		in.close();
 		return theory;
-	}	
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.parser.AbstractDungParser#parse(java.nio.ByteBuffer, org.tweetyproject.arg.dung.parser.DungTheoryListener)
+	 */
+	@Override
+	public void parse(ByteBuffer buffer, DungTheoryListener listener) throws IOException {
+		ByteScanner in = new ByteScanner(buffer);
+		ArgumentTable arguments = new ArgumentTable();
+		boolean argumentSection = true;
+		while (true) {
+			in.skipWhitespace();
+			if (in.atEnd())
+				break;
+			// like the reader-based parser, work on the trimmed line
+			int end = in.lineEnd();
+			int start = in.trimStart(in.position(), end);
+			if (start == end) {
+				// only control characters
+			} else if (end - start == 1 && buffer.get(start) == '#') {
+				argumentSection = false;
+			} else if (argumentSection) {
+				int i = arguments.add(buffer, start, end);
+				if (i != -1)
+					listener.argument(i, in.getString(start, end));
+			} else {
+				// the attacked argument is the remainder after the first space
+				int split = in.indexOf(' ', start, end);
+				if (split == -1)
+					throw in.error("attack");
+				int attacker = arguments.get(buffer, start, in.trimEnd(start, split));
+				int attacked = arguments.get(buffer, in.trimStart(split + 1, end), end);
+				if (attacker == -1 || attacked == -1)
+					throw in.error("attack between declared arguments");
+				listener.attack(attacker, attacked);
+			}
+			in.skipLine();
+		}
+	}
 }
@@ -22,6 +22,7 @@ package org.tweetyproject.arg.dung.principles;
 import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
 import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 
 import java.util.Collection;
@@ -59,9 +60,10 @@ public class AdmissibilityPrinciple extends Principle {
     public boolean isSatisfied(Collection<Argument> kb, AbstractExtensionReasoner ev) {
         DungTheory theory = (DungTheory) kb;
         Collection<Extension<DungTheory>> exts = ev.getModels(theory);
+        CompactDungTheory compact = new CompactDungTheory(theory);
 
         for (Extension<DungTheory> ext: exts) {
-            if (!theory.isAdmissible(ext)) {
+            if (!compact.isAdmissible(compact.toBitSet(ext))) {
                 return false;
             }
         }
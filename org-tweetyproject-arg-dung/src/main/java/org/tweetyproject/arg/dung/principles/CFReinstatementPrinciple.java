@@ -22,6 +22,7 @@ package org.tweetyproject.arg.dung.principles;
 import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
 import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 
 import java.util.Collection;
@@ -59,17 +60,21 @@ public class CFReinstatementPrinciple extends Principle {
     public boolean isSatisfied(Collection<Argument> kb, AbstractExtensionReasoner ev) {
         DungTheory theory = (DungTheory) kb;
         Collection<Extension<DungTheory>> exts = ev.getModels(theory);
+        CompactDungTheory compact = new CompactDungTheory(theory);
 
         for (Extension<DungTheory> ext: exts) {
-            for (Argument a: theory) {
-                if (ext.contains(a)) {
+            long[] set = compact.toBitSet(ext);
+            if (!compact.isConflictFree(set)) {
+                continue;
+            }
+            long[] attacked = compact.getAttacked(set);
+            for (int i = 0; i < compact.getNumberOfArguments(); i++) {
+                if (CompactDungTheory.contains(set, i)) {
                     continue;
                 }
 
                 // for all arguments a in theory \ E, iff E u {a} is conflict-free and E defends a, then cf-reinstatement is violated
-                Extension<DungTheory> extWithA = new Extension<DungTheory>(ext);
-                extWithA.add(a);
-                if (theory.isConflictFree(extWithA) && theory.isAcceptable(a, ext)) {
+                if (compact.isConflictFreeWith(set, i) && compact.isAcceptable(i, attacked)) {
                     return false;
                 }
             }
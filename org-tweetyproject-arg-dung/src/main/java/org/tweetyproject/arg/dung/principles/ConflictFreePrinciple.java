@@ -22,6 +22,7 @@ package org.tweetyproject.arg.dung.principles;
 import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
 import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 
 import java.util.Collection;
@@ -60,9 +61,10 @@ public class ConflictFreePrinciple extends Principle {
     public boolean isSatisfied(Collection<Argument> kb, AbstractExtensionReasoner ev) {
         DungTheory theory = (DungTheory) kb;
         Collection<Extension<DungTheory>> exts = ev.getModels(theory);
+        CompactDungTheory compact = new CompactDungTheory(theory);
 
         for (Extension<DungTheory> ext: exts) {
-            if (!theory.isConflictFree(ext))
+            if (!compact.isConflictFree(compact.toBitSet(ext)))
                 return false;
         }
         return true;
@@ -23,6 +23,7 @@ import java.util.Collection;
 import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
 import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 
 /**
@@ -59,9 +60,13 @@ public class DefencePrinciple extends Principle {
 	public boolean isSatisfied(Collection<Argument> kb, AbstractExtensionReasoner ev) {
 		DungTheory theory = (DungTheory) kb;
 		Collection<Extension<DungTheory>> exts = ev.getModels(theory);
+		CompactDungTheory compact = new CompactDungTheory(theory);
 		for(Extension<DungTheory> ext : exts) {
+			long[] attacked = compact.getAttacked(compact.toBitSet(ext));
 			for(Argument a : ext) {
-				if(!theory.isAcceptable(a,ext)) {
+				int i = compact.getIndex(a);
+				// arguments outside the theory have no attackers and are trivially defended
+				if(i >= 0 && !compact.isAcceptable(i, attacked)) {
 					return false;
 				}
 			}
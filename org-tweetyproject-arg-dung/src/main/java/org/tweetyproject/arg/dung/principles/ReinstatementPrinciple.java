@@ -22,6 +22,7 @@ package org.tweetyproject.arg.dung.principles;
 import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
 import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 
 import java.util.Collection;
@@ -57,10 +58,12 @@ public class ReinstatementPrinciple extends Principle {
     public boolean isSatisfied(Collection<Argument> kb, AbstractExtensionReasoner ev) {
         DungTheory theory = (DungTheory) kb;
         Collection<Extension<DungTheory>> exts = ev.getModels(theory);
+        CompactDungTheory compact = new CompactDungTheory(theory);
 
         for (Extension<DungTheory> ext: exts) {
+            long[] set = compact.toBitSet(ext);
             // if the characteristic function of ext does not return ext(or a subset of ext), reinstatement is not satisfied i.e. ext defends some argument not in ext
-            if (!ext.containsAll(theory.faf(ext))) {
+            if (!CompactDungTheory.isSubset(compact.faf(set), set)) {
                 return false;
             }
         }
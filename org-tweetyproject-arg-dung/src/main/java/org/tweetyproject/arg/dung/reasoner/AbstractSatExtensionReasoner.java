@@ -19,17 +19,19 @@
 package org.tweetyproject.arg.dung.reasoner;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 import org.tweetyproject.arg.dung.semantics.Extension;
 import org.tweetyproject.arg.dung.syntax.Argument;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.logics.pl.sat.SatSession;
 import org.tweetyproject.logics.pl.sat.SatSolver;
 import org.tweetyproject.logics.pl.semantics.PossibleWorld;
 import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Negation;
 import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
 import org.tweetyproject.logics.pl.syntax.Proposition;
 import org.tweetyproject.logics.pl.syntax.PlFormula;
@@ -57,32 +59,52 @@ public abstract class AbstractSatExtensionReasoner extends AbstractExtensionReas
 	 * @see org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner#getModels(org.tweetyproject.arg.dung.syntax.DungTheory)
 	 */
 	@Override
-	public Collection<Extension<DungTheory>> getModels(DungTheory bbase) {		
-		PlBeliefSet prop = this.getPropositionalCharacterisation((DungTheory) bbase);
-		// get some labeling from the solver, then add the negation of this to the program and repeat
-		// to obtain all labelings
+	public Collection<Extension<DungTheory>> getModels(DungTheory bbase) {
+		ArgumentPropositionTable table = new ArgumentPropositionTable(bbase);
+		PlBeliefSet prop = this.getPropositionalCharacterisation(bbase, table);
+		// get some labeling from the solver, then add a clause excluding its extension
+		// to the session and repeat to obtain all extensions (until the thread is interrupted)
 		Set<Extension<DungTheory>> result = new HashSet<Extension<DungTheory>>();
-		Extension<DungTheory> ext;
-		do{
-			PossibleWorld w = (PossibleWorld) this.solver.getWitness(prop);
-			if(w == null)
-				break;
-			ext = new Extension<DungTheory>();
-			for(Proposition p: w){
-				if(p.getName().startsWith("in_"))
-					ext.add(new Argument(p.getName().substring(3)));				
+		try(SatSession session = this.solver.openSession()){
+			session.addAll(prop);
+			PossibleWorld w;
+			while((w = session.getWitness()) != null){
+				if(Thread.currentThread().isInterrupted())
+					throw new CancellationException("Enumeration of extensions interrupted.");
+				Extension<DungTheory> ext = this.getExtension(w, table);
+				result.add(ext);
+				session.add(this.getBlockingClause(ext, table));
 			}
-			result.add(ext);
-			// add the newly found extension in negative form to prop
-			// so the next witness cannot be the same
-			Collection<PlFormula> f = new HashSet<PlFormula>();
-			for(Proposition p: w)
-				f.add((PlFormula)p.complement());
-			prop.add(new Disjunction(f));
-		}while(true);
+		}
 		return result;
 	}
-	
+
+	/**
+	 * Decodes the extension of the given model of the propositional characterisation.
+	 * @param w some model of the propositional characterisation
+	 * @param table the table the characterisation has been created with
+	 * @return the extension represented by the model.
+	 */
+	protected Extension<DungTheory> getExtension(PossibleWorld w, ArgumentPropositionTable table){
+		return new Extension<DungTheory>(table.getArguments("in_", w));
+	}
+
+	/**
+	 * Returns a clause that is violated by exactly those models of the propositional
+	 * characterisation that represent the given extension.
+	 * @param ext some extension
+	 * @param table the table the characterisation has been created with
+	 * @return a clause excluding the given extension.
+	 */
+	protected Disjunction getBlockingClause(Extension<DungTheory> ext, ArgumentPropositionTable table){
+		Disjunction clause = new Disjunction();
+		for(int i = 0; i < table.getNumberOfArguments(); i++)
+			if(ext.contains(table.getArgument(i)))
+				clause.add(new Negation(table.getProposition("in_", i)));
+			else clause.add(table.getProposition("in_", i));
+		return clause;
+	}
+
 	/**
 	 * Creates a propositional representation of the set of labelings of the given
 	 * Dung theory that are consistent with the given semantics. This means that
@@ -96,14 +118,22 @@ public abstract class AbstractSatExtensionReasoner extends AbstractExtensionReas
 	 * @return a propositional belief set.
 	 */
 	public PlBeliefSet getPropositionalCharacterisation(DungTheory aaf){
-		Map<Argument,Proposition> in = new HashMap<Argument,Proposition>();
-		Map<Argument,Proposition> out = new HashMap<Argument,Proposition>();
-		Map<Argument,Proposition> undec = new HashMap<Argument,Proposition>();
+		return this.getPropositionalCharacterisation(aaf, new ArgumentPropositionTable(aaf));
+	}
+
+	/**
+	 * Creates the propositional representation of <code>getPropositionalCharacterisation(DungTheory)</code>
+	 * with the propositions of the given table, so that models can be decoded with the same table.
+	 * @param aaf a Dung theory
+	 * @param table a table of the arguments of the theory
+	 * @return a propositional belief set.
+	 */
+	protected PlBeliefSet getPropositionalCharacterisation(DungTheory aaf, ArgumentPropositionTable table){
+		Map<Argument,Proposition> in = table.getPropositions("in_");
+		Map<Argument,Proposition> out = table.getPropositions("out_");
+		Map<Argument,Proposition> undec = table.getPropositions("undec_");
 		PlBeliefSet beliefSet = new PlBeliefSet();
 		for(Argument a: aaf){
-			in.put(a, new Proposition("in_" + a.getName()));
-			out.put(a, new Proposition("out_" + a.getName()));
-			undec.put(a, new Proposition("undec_" + a.getName()));
 			// for every argument only one of in/out/undec can be true
 			beliefSet.add(in.get(a).combineWithOr(out.get(a)).combineWithOr(undec.get(a)));
 			beliefSet.add((PlFormula)in.get(a).complement().combineWithOr(out.get(a).complement()));
@@ -132,15 +162,14 @@ public abstract class AbstractSatExtensionReasoner extends AbstractExtensionReas
 	@Override
 	public Extension<DungTheory> getModel(DungTheory bbase) {
 		// returns the first found model
-		PlBeliefSet prop = this.getPropositionalCharacterisation((DungTheory) bbase);
-		PossibleWorld w = (PossibleWorld) this.solver.getWitness(prop);
-		if(w == null)
-			return null;
-		Extension<DungTheory> ext = new Extension<DungTheory>();
-		for(Proposition p: w){
-			if(p.getName().startsWith("in_"))
-				ext.add(new Argument(p.getName().substring(3)));				
+		ArgumentPropositionTable table = new ArgumentPropositionTable(bbase);
+		PlBeliefSet prop = this.getPropositionalCharacterisation(bbase, table);
+		try(SatSession session = this.solver.openSession()){
+			session.addAll(prop);
+			PossibleWorld w = session.getWitness();
+			if(w == null)
+				return null;
+			return this.getExtension(w, table);
 		}
-		return ext;
 	}
 }
@@ -0,0 +1,178 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.reasoner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.PlFormulaFactory;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+/**
+ * A symbol table for the propositional encodings of SAT-based reasoners. Arguments
+ * are numbered 0..n-1 and for every argument and label (like "in_" or "out_") there
+ * is a unique interned proposition "label + name". The propositions are created
+ * once per table and numbered densely by a {@link PlFormulaFactory}, so decoding a
+ * model amounts to looking up the ids of its propositions, i.e., no names have to
+ * be parsed and no new arguments are created.<br>
+ * <br>
+ * This class is not thread-safe.
+ *
+ * @author The TweetyProject Team
+ */
+public class ArgumentPropositionTable {
+
+	/** The arguments, indexed by their ids. */
+	private List<Argument> arguments;
+	/** Maps arguments to their ids. */
+	private Map<Argument,Integer> ids;
+	/** The factory interning the propositions. */
+	private PlFormulaFactory factory;
+	/** Maps every label to the propositions of the arguments, indexed by argument ids. */
+	private Map<String,Proposition[]> propositions;
+	/** The argument id of every proposition, indexed by proposition ids. */
+	private int[] argumentOf;
+	/** The label of every proposition, indexed by proposition ids. */
+	private String[] labelOf;
+
+	/**
+	 * Creates a new table for the given arguments.
+	 * @param arguments some arguments
+	 */
+	public ArgumentPropositionTable(Collection<? extends Argument> arguments) {
+		this.arguments = new ArrayList<>(arguments);
+		this.ids = new HashMap<>();
+		for(Argument a: this.arguments)
+			this.ids.put(a, this.ids.size());
+		this.factory = new PlFormulaFactory();
+		this.propositions = new HashMap<>();
+		this.argumentOf = new int[3 * this.arguments.size()];
+		this.labelOf = new String[this.argumentOf.length];
+	}
+
+	/**
+	 * Returns the number of arguments of this table.
+	 * @return the number of arguments.
+	 */
+	public int getNumberOfArguments() {
+		return this.arguments.size();
+	}
+
+	/**
+	 * Returns the id of the given argument.
+	 * @param a some argument
+	 * @return the id of the argument, or -1 if it is not in this table.
+	 */
+	public int getId(Argument a) {
+		Integer id = this.ids.get(a);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Returns the argument with the given id.
+	 * @param id some id
+	 * @return the argument with the given id.
+	 */
+	public Argument getArgument(int id) {
+		return this.arguments.get(id);
+	}
+
+	/**
+	 * Returns the proposition "label + name" of the given argument.
+	 * @param label some label, e.g. "in_"
+	 * @param a some argument of this table
+	 * @return the (interned) proposition of the argument.
+	 */
+	public Proposition getProposition(String label, Argument a) {
+		int id = this.getId(a);
+		if(id < 0)
+			throw new IllegalArgumentException("Argument " + a + " is not in the table.");
+		return this.getProposition(label, id);
+	}
+
+	/**
+	 * Returns the proposition "label + name" of the argument with the given id.
+	 * @param label some label, e.g. "in_"
+	 * @param id the id of some argument
+	 * @return the (interned) proposition of the argument.
+	 */
+	public Proposition getProposition(String label, int id) {
+		Proposition[] props = this.propositions.computeIfAbsent(label, l -> new Proposition[this.arguments.size()]);
+		if(props[id] == null) {
+			Proposition p = this.factory.getProposition(label + this.arguments.get(id).getName());
+			int pid = this.factory.getId(p);
+			if(pid >= this.argumentOf.length) {
+				this.argumentOf = Arrays.copyOf(this.argumentOf, Math.max(2 * this.argumentOf.length, pid + 1));
+				this.labelOf = Arrays.copyOf(this.labelOf, this.argumentOf.length);
+			}
+			this.argumentOf[pid] = id;
+			this.labelOf[pid] = label;
+			props[id] = p;
+		}
+		return props[id];
+	}
+
+	/**
+	 * Returns the propositions "label + name" of all arguments.
+	 * @param label some label, e.g. "in_"
+	 * @return a map from the arguments to their propositions (in the order of argument ids).
+	 */
+	public Map<Argument,Proposition> getPropositions(String label) {
+		Map<Argument,Proposition> result = new LinkedHashMap<>();
+		for(int i = 0; i < this.arguments.size(); i++)
+			result.put(this.arguments.get(i), this.getProposition(label, i));
+		return result;
+	}
+
+	/**
+	 * Returns the argument whose proposition with the given label is the given proposition.
+	 * @param label some label, e.g. "in_"
+	 * @param p some proposition
+	 * @return the argument, or null if p is not the proposition of some argument with the given label.
+	 */
+	public Argument getArgument(String label, Proposition p) {
+		int pid = this.factory.getId(p);
+		if(pid < 0 || !label.equals(this.labelOf[pid]))
+			return null;
+		return this.arguments.get(this.argumentOf[pid]);
+	}
+
+	/**
+	 * Returns the arguments whose propositions with the given label are true in the given world.
+	 * @param label some label, e.g. "in_"
+	 * @param w some possible world
+	 * @return the arguments whose propositions are true in w.
+	 */
+	public Collection<Argument> getArguments(String label, PossibleWorld w) {
+		Collection<Argument> result = new ArrayList<>();
+		for(Proposition p: w) {
+			Argument a = this.getArgument(label, p);
+			if(a != null)
+				result.add(a);
+		}
+		return result;
+	}
+}
@@ -47,6 +47,11 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 	 * The SAT solver used for reasoning
 	 */
 	private DimacsSatSolver satSolver;
+
+	/**
+	 * The propositions of the arguments
+	 */
+	private ArgumentPropositionTable table;
 	
 	/**
 	 * Maps arguments to their "in" propositions
@@ -117,16 +122,15 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 	}
 	
 	/**
-	 * Creates a new proposition and indexes it in this objects
+	 * Indexes the given proposition in this objects
 	 * indices
-	 * @param prop_name the name of the proposition
+	 * @param p some proposition
 	 * @param addToBothIndices whether the added proposition is to be added
 	 *  to both indices (for admExt and admExtAtt calls, or just the latter)
 	 * @return the proposition (side effect: proposition is added to this
 	 *   object's indices)
 	 */
-	private Proposition createAndIndexProposition(String prop_name, boolean addToBothIndices) {
-		Proposition p = new Proposition(prop_name);
+	private Proposition createAndIndexProposition(Proposition p, boolean addToBothIndices) {
 		this.prop_index_admExtAtt.put(p, this.index_admExtAtt);
 		this.prop_inverted_index_admExtAtt.put(this.index_admExtAtt++, p);
 		if(addToBothIndices) {
@@ -155,13 +159,14 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 		this.in2 = new HashMap<Argument,Proposition>();
 		this.out2 = new HashMap<Argument,Proposition>();
 		this.undec2 = new HashMap<Argument,Proposition>();
+		this.table = new ArgumentPropositionTable(af);
 		for(Argument a: af){
-			in.put(a, this.createAndIndexProposition("in_" + a.getName(),true));
-			out.put(a, this.createAndIndexProposition("out_" + a.getName(),true));
-			undec.put(a, this.createAndIndexProposition("undec_" + a.getName(),true));
-			in2.put(a, this.createAndIndexProposition("in2_" + a.getName(),false));
-			out2.put(a, this.createAndIndexProposition("out2_" + a.getName(),false));
-			undec2.put(a, this.createAndIndexProposition("undec2_" + a.getName(),false));
+			in.put(a, this.createAndIndexProposition(this.table.getProposition("in_", a),true));
+			out.put(a, this.createAndIndexProposition(this.table.getProposition("out_", a),true));
+			undec.put(a, this.createAndIndexProposition(this.table.getProposition("undec_", a),true));
+			in2.put(a, this.createAndIndexProposition(this.table.getProposition("in2_", a),false));
+			out2.put(a, this.createAndIndexProposition(this.table.getProposition("out2_", a),false));
+			undec2.put(a, this.createAndIndexProposition(this.table.getProposition("undec2_", a),false));
 			// for every argument only one of in/out/undec can be true
 			this.cnf_baseFormulas_admExt.add(prop_index_admExt.get(in.get(a)) + " " +  prop_index_admExt.get(out.get(a)) + " " + prop_index_admExt.get(undec.get(a)) + " 0");
 			this.cnf_baseFormulas_admExt.add("-" + prop_index_admExt.get(in.get(a)) + " -" + prop_index_admExt.get(out.get(a)) + " 0");
@@ -204,7 +209,7 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 					cnf_attackersOr2_admExtAtt += prop_index_admExtAtt.get(in2.get(b)) + " ";
 					cnf_attackersNotOr2_admExtAtt += "-"+prop_index_admExtAtt.get(out2.get(b)) + " ";
 					this.cnf_baseFormulas_admExtAtt.add("-" + prop_index_admExtAtt.get(in2.get(a)) + " " + prop_index_admExtAtt.get(out2.get(b)) + " 0");
-					Proposition attack = this.createAndIndexProposition("r" + b.getName() + "_" + a.getName(),false);
+					Proposition attack = this.createAndIndexProposition(new Proposition("r" + b.getName() + "_" + a.getName()),false);
 					cnf_oneAttack += prop_index_admExtAtt.get(attack) + " ";
 					this.cnf_baseFormulas_admExtAtt.add("-" + prop_index_admExtAtt.get(attack) + " " + prop_index_admExtAtt.get(this.in.get(b)) + " 0");
 					this.cnf_baseFormulas_admExtAtt.add("-" + prop_index_admExtAtt.get(attack) + " " + prop_index_admExtAtt.get(this.in2.get(a)) + " 0");
@@ -243,11 +248,7 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 		PossibleWorld w = (PossibleWorld) this.satSolver.getWitness(beliefSet,this.prop_index_admExt,this.prop_inverted_index_admExt,this.cnf_baseFormulas_admExt);
 		if(w == null)
 			return null;
-		Collection<Argument> args = new HashSet<Argument>();
-		for(Proposition p: w)
-			if(p.getName().startsWith("in_"))
-				args.add(new Argument(p.getName().substring(3)));
-		return args;
+		return new HashSet<Argument>(this.table.getArguments("in_", w));
 	}
 	
 	/**
@@ -264,11 +265,7 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 		PossibleWorld w = (PossibleWorld) this.satSolver.getWitness(beliefSet,this.prop_index_admExt,this.prop_inverted_index_admExt,this.cnf_baseFormulas_admExt);
 		if(w == null)
 			return null;
-		Collection<Argument> args = new HashSet<Argument>();
-		for(Proposition p: w)
-			if(p.getName().startsWith("in_"))
-				args.add(new Argument(p.getName().substring(3)));
-		return args;		
+		return new HashSet<Argument>(this.table.getArguments("in_", w));		
 	}
 	
 	/**
@@ -300,11 +297,7 @@ public class FudgeAcceptabilityReasoner extends AbstractAcceptabilityReasoner {
 		PossibleWorld w = (PossibleWorld) this.satSolver.getWitness(beliefSet,this.prop_index_admExtAtt,this.prop_inverted_index_admExtAtt, this.cnf_baseFormulas_admExtAtt);
 		if(w == null)
 			return null;
-		Collection<Argument> args = new HashSet<Argument>();
-		for(Proposition p: w)
-			if(p.getName().startsWith("in_"))
-				args.add(new Argument(p.getName().substring(3)));
-		return args;
+		return new HashSet<Argument>(this.table.getArguments("in_", w));
 	}
 	
 	@Override
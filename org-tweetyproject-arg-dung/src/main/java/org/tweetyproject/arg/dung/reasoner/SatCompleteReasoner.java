@@ -19,14 +19,15 @@
 package org.tweetyproject.arg.dung.reasoner;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 
 import org.tweetyproject.arg.dung.syntax.Argument;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 import org.tweetyproject.commons.InferenceMode;
+import org.tweetyproject.logics.pl.sat.SatSession;
 import org.tweetyproject.logics.pl.sat.SatSolver;
-import org.tweetyproject.logics.pl.semantics.PossibleWorld;
 import org.tweetyproject.logics.pl.syntax.Disjunction;
 import org.tweetyproject.logics.pl.syntax.Negation;
 import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
@@ -79,21 +80,16 @@ public class SatCompleteReasoner  extends AbstractSatExtensionReasoner {
 	 */
 	@Override
 	public Boolean query(DungTheory beliefbase, Argument formula, InferenceMode inferenceMode) {
-		if(inferenceMode.equals(InferenceMode.SKEPTICAL)){
-			PlBeliefSet prop = this.getPropositionalCharacterisation(beliefbase);
-			prop.add(new Negation(new Proposition("in_" + formula.getName())));
-			PossibleWorld w = (PossibleWorld) super.solver.getWitness(prop);
-			if(w == null)
-				return true;
-			return false;
+		ArgumentPropositionTable table = new ArgumentPropositionTable(beliefbase);
+		PlBeliefSet prop = this.getPropositionalCharacterisation(beliefbase, table);
+		Proposition in = table.getId(formula) < 0 ? new Proposition("in_" + formula.getName()) : table.getProposition("in_", formula);
+		try(SatSession session = super.solver.openSession()){
+			session.addAll(prop);
+			if(inferenceMode.equals(InferenceMode.SKEPTICAL))
+				return !session.isSatisfiable(Collections.singleton(new Negation(in)));
+			// so its credulous semantics
+			return session.isSatisfiable(Collections.singleton(in));
 		}
-		// so its credulous semantics
-		PlBeliefSet prop = this.getPropositionalCharacterisation(beliefbase);
-		prop.add(new Proposition("in_" + formula.getName()));
-		PossibleWorld w = (PossibleWorld) super.solver.getWitness(prop);
-		if(w == null)
-			return false;
-		return true;
 	}
     /**
      * this method always returns true because the solver is native
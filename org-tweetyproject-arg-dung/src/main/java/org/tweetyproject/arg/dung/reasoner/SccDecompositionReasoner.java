@@ -0,0 +1,339 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.reasoner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.tweetyproject.arg.dung.semantics.Extension;
+import org.tweetyproject.arg.dung.semantics.Semantics;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+
+/**
+ * Computes the extensions of a Dung theory by decomposing it along its strongly
+ * connected components (SCCs) and delegating every SCC to some other reasoner,
+ * cf. [Baroni, Giacomin, Guida. SCC-recursiveness: a general schema for
+ * argumentation semantics. Artificial Intelligence 168(1-2), 2005].<br>
+ * <br>
+ * The SCCs are arranged in topological layers, i.e., the SCCs of a layer are only
+ * attacked by SCCs of earlier layers. Given the labelling of the earlier layers, the
+ * extensions of an SCC are the extensions of the sub-theory that consists of its
+ * arguments not attacked by an "in" argument, where arguments attacked by an
+ * "undecided" argument are attacked by an additional self-attacking argument. For
+ * every layer, the distinct sub-theories arising from the current partial labellings
+ * are solved concurrently on a work-stealing pool, and every partial labelling is then
+ * combined with the extensions of the sub-theories of its SCCs. Partial labellings
+ * are kept as bitsets, extension objects are only created for the final result.<br>
+ * <br>
+ * This decomposition is sound for complete, grounded, preferred, and stable semantics.
+ * As the delegate reasoner is called concurrently, it must be thread-safe.
+ *
+ * @author The TweetyProject Team
+ */
+public class SccDecompositionReasoner extends AbstractExtensionReasoner {
+
+	/** The reasoner for the sub-theories of the SCCs */
+	private AbstractExtensionReasoner reasoner;
+
+	/** The semantics of the reasoner */
+	private Semantics semantics;
+
+	/** The number of threads */
+	private int threads;
+
+	/**
+	 * Creates a new reasoner for the given semantics that uses the simple reasoner
+	 * of the semantics for the SCCs and all available processors.
+	 * @param semantics one of CO, GR, PR, ST
+	 */
+	public SccDecompositionReasoner(Semantics semantics) {
+		this(AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics), semantics, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new reasoner.
+	 * @param reasoner a thread-safe reasoner for the given semantics, used for the SCCs
+	 * @param semantics one of CO, GR, PR, ST
+	 * @param threads the number of threads
+	 */
+	public SccDecompositionReasoner(AbstractExtensionReasoner reasoner, Semantics semantics, int threads) {
+		if (semantics != Semantics.CO && semantics != Semantics.GR && semantics != Semantics.PR && semantics != Semantics.ST)
+			throw new IllegalArgumentException("SCC decomposition is only supported for complete, grounded, preferred, and stable semantics.");
+		if (threads < 1)
+			throw new IllegalArgumentException("The number of threads must be positive.");
+		this.reasoner = reasoner;
+		this.semantics = semantics;
+		this.threads = threads;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner#getModels(org.tweetyproject.arg.dung.syntax.DungTheory)
+	 */
+	@Override
+	public Collection<Extension<DungTheory>> getModels(DungTheory bbase) {
+		CompactDungTheory theory = new CompactDungTheory(bbase);
+		Collection<Extension<DungTheory>> result = new HashSet<Extension<DungTheory>>();
+		for (Labelling l : this.computeLabellings(theory, false))
+			result.add(theory.toExtension(l.in));
+		return result;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner#getModel(org.tweetyproject.arg.dung.syntax.DungTheory)
+	 */
+	@Override
+	public Extension<DungTheory> getModel(DungTheory bbase) {
+		CompactDungTheory theory = new CompactDungTheory(bbase);
+		// stable extensions may not exist, so partial labellings cannot be discarded
+		List<Labelling> labellings = this.computeLabellings(theory, this.semantics != Semantics.ST);
+		if (labellings.isEmpty())
+			return null;
+		return theory.toExtension(labellings.get(0).in);
+	}
+
+	/**
+	 * Computes the labellings of the given theory layer by layer.
+	 * @param theory some theory
+	 * @param single whether only one labelling is needed (which requires that every partial
+	 *  labelling can be extended)
+	 * @return the labellings.
+	 */
+	private List<Labelling> computeLabellings(CompactDungTheory theory, boolean single) {
+		int n = theory.getNumberOfArguments();
+		int[] component = theory.getStronglyConnectedComponents();
+		int components = 0;
+		for (int c : component)
+			components = Math.max(components, c + 1);
+		// the arguments of every SCC
+		int[][] members = new int[components][];
+		int[] sizes = new int[components];
+		for (int c : component)
+			sizes[c]++;
+		for (int c = 0; c < components; c++)
+			members[c] = new int[sizes[c]];
+		Arrays.fill(sizes, 0);
+		for (int i = 0; i < n; i++)
+			members[component[i]][sizes[component[i]]++] = i;
+		// the layer of an SCC is the length of the longest path to it in the SCC graph,
+		// components are numbered topologically so attacking SCCs come first
+		int[] layer = new int[components];
+		int layers = components == 0 ? 0 : 1;
+		for (int c = 0; c < components; c++)
+			for (int i : members[c])
+				for (int k = 0; k < theory.getNumberOfAttackers(i); k++) {
+					int d = component[theory.getAttacker(i, k)];
+					if (d != c && layer[d] + 1 > layer[c]) {
+						layer[c] = layer[d] + 1;
+						layers = Math.max(layers, layer[c] + 1);
+					}
+				}
+		List<List<Integer>> sccsOfLayer = new ArrayList<>();
+		for (int l = 0; l < layers; l++)
+			sccsOfLayer.add(new ArrayList<>());
+		for (int c = 0; c < components; c++)
+			sccsOfLayer.get(layer[c]).add(c);
+		List<Labelling> labellings = new ArrayList<>();
+		labellings.add(new Labelling(theory.newBitSet(), theory.newBitSet()));
+		ForkJoinPool pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+		try {
+			for (List<Integer> sccs : sccsOfLayer) {
+				// the sub-theories of the SCCs of this layer for all partial labellings
+				Context[][] contexts = new Context[labellings.size()][sccs.size()];
+				Map<Context, List<int[][]>> solutions = new ConcurrentHashMap<>();
+				for (int l = 0; l < labellings.size(); l++)
+					for (int s = 0; s < sccs.size(); s++) {
+						contexts[l][s] = Context.of(theory, sccs.get(s), members[sccs.get(s)], labellings.get(l));
+						solutions.putIfAbsent(contexts[l][s], new ArrayList<>());
+					}
+				if (pool == null) {
+					for (Context context : solutions.keySet())
+						solutions.put(context, this.solve(theory, members[context.scc], component, context));
+				} else
+					pool.submit(() -> solutions.keySet().parallelStream().forEach(context -> solutions.put(context, this.solve(theory, members[context.scc], component, context)))).get();
+				// combine every partial labelling with the extensions of its SCCs
+				List<Labelling> next = new ArrayList<>();
+				for (int l = 0; l < labellings.size(); l++) {
+					List<Labelling> combined = new ArrayList<>();
+					combined.add(labellings.get(l));
+					for (int s = 0; s < sccs.size(); s++) {
+						List<Labelling> extended = new ArrayList<>();
+						for (Labelling partial : combined)
+							for (int[][] solution : solutions.get(contexts[l][s]))
+								extended.add(partial.extend(solution));
+						combined = extended;
+					}
+					next.addAll(combined);
+					if (single && !next.isEmpty())
+						break;
+				}
+				labellings = single && !next.isEmpty() ? next.subList(0, 1) : next;
+				if (labellings.isEmpty())
+					break;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			if (pool != null)
+				pool.shutdown();
+		}
+		return labellings;
+	}
+
+	/**
+	 * Computes the extensions of the sub-theory of an SCC.
+	 * @param theory the theory
+	 * @param members the arguments of the SCC
+	 * @param component the SCCs of all arguments
+	 * @param context the labels of the SCC induced by the earlier layers
+	 * @return the "in" and "undecided" arguments of every extension of the sub-theory.
+	 */
+	private List<int[][]> solve(CompactDungTheory theory, int[] members, int[] component, Context context) {
+		DungTheory sub = new DungTheory();
+		Set<String> names = new HashSet<>();
+		for (int k = 0; k < members.length; k++)
+			if (!context.out.get(k)) {
+				sub.add(theory.getArgument(members[k]));
+				names.add(theory.getArgument(members[k]).getName());
+			}
+		for (int k = 0; k < members.length; k++)
+			if (!context.out.get(k))
+				for (int m = 0; m < theory.getNumberOfAttacked(members[k]); m++) {
+					int j = theory.getAttacked(members[k], m);
+					if (component[j] == context.scc && sub.contains(theory.getArgument(j)))
+						sub.addAttack(theory.getArgument(members[k]), theory.getArgument(j));
+				}
+		if (!context.undec.isEmpty()) {
+			// a fresh name, so that the argument does not clash with the SCC's arguments in any encoding
+			String name = "_aux";
+			while (names.contains(name))
+				name = "_" + name;
+			Argument aux = new Argument(name);
+			sub.add(aux);
+			sub.add(new Attack(aux, aux));
+			for (int k = context.undec.nextSetBit(0); k >= 0; k = context.undec.nextSetBit(k + 1))
+				sub.add(new Attack(aux, theory.getArgument(members[k])));
+		}
+		List<int[][]> result = new ArrayList<>();
+		for (Extension<DungTheory> ext : this.reasoner.getModels(sub)) {
+			Set<Argument> decided = new HashSet<>(ext);
+			for (Argument a : ext)
+				decided.addAll(sub.getAttacked(a));
+			Set<Integer> in = new LinkedHashSet<>(), undec = new LinkedHashSet<>();
+			for (int k = 0; k < members.length; k++) {
+				if (context.out.get(k))
+					continue;
+				Argument a = theory.getArgument(members[k]);
+				if (ext.contains(a))
+					in.add(members[k]);
+				else if (!decided.contains(a))
+					undec.add(members[k]);
+			}
+			result.add(new int[][] { in.stream().mapToInt(Integer::intValue).toArray(), undec.stream().mapToInt(Integer::intValue).toArray() });
+		}
+		return result;
+	}
+
+	/**
+	 * A partial labelling, the "out" arguments are those processed arguments that are
+	 * neither "in" nor "undecided".
+	 */
+	private static class Labelling {
+		private final long[] in;
+		private final long[] undec;
+
+		private Labelling(long[] in, long[] undec) {
+			this.in = in;
+			this.undec = undec;
+		}
+
+		private Labelling extend(int[][] solution) {
+			long[] in = this.in.clone();
+			long[] undec = this.undec.clone();
+			for (int i : solution[0])
+				CompactDungTheory.add(in, i);
+			for (int i : solution[1])
+				CompactDungTheory.add(undec, i);
+			return new Labelling(in, undec);
+		}
+	}
+
+	/**
+	 * The labels of the arguments of an SCC induced by the labelling of the earlier layers,
+	 * i.e., the arguments attacked by "in" arguments and the remaining arguments attacked by
+	 * "undecided" arguments (both given by their positions within the SCC).
+	 */
+	private static class Context {
+		private final int scc;
+		private final BitSet out;
+		private final BitSet undec;
+
+		private Context(int scc, BitSet out, BitSet undec) {
+			this.scc = scc;
+			this.out = out;
+			this.undec = undec;
+		}
+
+		private static Context of(CompactDungTheory theory, int scc, int[] members, Labelling labelling) {
+			BitSet out = new BitSet(members.length), undec = new BitSet(members.length);
+			for (int k = 0; k < members.length; k++)
+				for (int m = 0; m < theory.getNumberOfAttackers(members[k]); m++) {
+					int b = theory.getAttacker(members[k], m);
+					if (CompactDungTheory.contains(labelling.in, b)) {
+						out.set(k);
+						undec.clear(k);
+						break;
+					}
+					if (CompactDungTheory.contains(labelling.undec, b))
+						undec.set(k);
+				}
+			return new Context(scc, out, undec);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * this.scc + this.out.hashCode()) + this.undec.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Context))
+				return false;
+			Context other = (Context) obj;
+			return this.scc == other.scc && this.out.equals(other.out) && this.undec.equals(other.undec);
+		}
+	}
+}
@@ -77,10 +77,11 @@ import org.tweetyproject.logics.pl.syntax.Proposition;
 		Map<Argument,Proposition> out = new HashMap<Argument,Proposition>();
 		Map<Argument,Proposition> undec = new HashMap<Argument,Proposition>();
 		PlBeliefSet beliefSet = new PlBeliefSet();
+		ArgumentPropositionTable table = new ArgumentPropositionTable(aaf);
 		for(Argument a: aaf){
-			in.put(a, new Proposition("in_" + a.getName()));
-			out.put(a, new Proposition("out_" + a.getName()));
-			undec.put(a, new Proposition("undec_" + a.getName()));
+			in.put(a, table.getProposition("in_", a));
+			out.put(a, table.getProposition("out_", a));
+			undec.put(a, table.getProposition("undec_", a));
 			// for every argument only one of in/out/undec can be true
 			beliefSet.add(in.get(a).combineWithOr(out.get(a)).combineWithOr(undec.get(a)));
 			beliefSet.add((PlFormula)in.get(a).complement().combineWithOr(out.get(a).complement()));
@@ -121,8 +122,8 @@ import org.tweetyproject.logics.pl.syntax.Proposition;
 				else {
 					changed = false;
 					for(Proposition p: w){
-						if(p.getName().startsWith("in_")) {
-							Argument b = new Argument(p.getName().substring(3));
+						Argument b = table.getArgument("in_", p);
+						if(b != null) {
 							result.add(b);												
 							if(softConstraints.containsKey(in.get(b))) {
 								softConstraints.remove(in.get(b));
@@ -147,8 +148,8 @@ import org.tweetyproject.logics.pl.syntax.Proposition;
 				else {
 					changed = false;
 					for(Proposition p: w){
-						if(p.getName().startsWith("out_")) {
-							Argument b = new Argument(p.getName().substring(4));
+						Argument b = table.getArgument("out_", p);
+						if(b != null) {
 							result.remove(b);												
 							if(softConstraints.containsKey(out.get(b))) {
 								softConstraints.remove(out.get(b));
@@ -23,9 +23,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.tweetyproject.arg.dung.semantics.Extension;
-import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
-import org.tweetyproject.commons.util.SetTools;
 
 /**
  * This reasoner for Dung theories performs inference on the admissible extensions.
@@ -43,11 +42,13 @@ public class SimpleAdmissibleReasoner extends AbstractExtensionReasoner {
 
 	@Override
 	public Collection<Extension<DungTheory>> getModels(DungTheory bbase) {
+		CompactDungTheory theory = new CompactDungTheory(bbase);
 		Set<Extension<DungTheory>> extensions = new HashSet<Extension<DungTheory>>();
-		// Check all subsets
-		for(Set<Argument> ext: new SetTools<Argument>().subsets(((DungTheory) bbase)))
-			if(((DungTheory) bbase).isAdmissible(new Extension<DungTheory>(ext)))
-				extensions.add(new Extension<DungTheory>(ext));
+		// Check all conflict-free sets
+		theory.forEachConflictFreeSuperset(theory.newBitSet(), ext -> {
+			if(theory.isAdmissible(ext))
+				extensions.add(theory.toExtension(ext));
+		});
 		return extensions;
 	}
 
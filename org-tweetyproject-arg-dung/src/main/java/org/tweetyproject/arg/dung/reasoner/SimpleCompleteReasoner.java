@@ -41,10 +41,16 @@ public class SimpleCompleteReasoner extends AbstractExtensionReasoner {
 
 	@Override
 	public Collection<Extension<DungTheory>> getModels(DungTheory bbase) {
-		Extension<DungTheory> groundedExtension = new SimpleGroundedReasoner().getModel(bbase);
-		Set<Argument> remaining = new HashSet<Argument>((DungTheory) bbase);
-		remaining.removeAll(groundedExtension);
-		return this.getCompleteExtensions((DungTheory) bbase,groundedExtension,remaining);	}
+		// every complete extension is a conflict-free superset of the grounded extension
+		// that is a fixpoint of the characteristic function
+		CompactDungTheory theory = new CompactDungTheory(bbase);
+		Set<Extension<DungTheory>> extensions = new HashSet<Extension<DungTheory>>();
+		theory.forEachConflictFreeSuperset(theory.getGroundedExtension(), ext -> {
+			if(Arrays.equals(theory.faf(ext), ext))
+				extensions.add(theory.toExtension(ext));
+		});
+		return extensions;
+	}
 
 	/* (non-Javadoc)
 	 * @see org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner#getModel(org.tweetyproject.arg.dung.syntax.DungTheory)
@@ -54,29 +60,4 @@ public class SimpleCompleteReasoner extends AbstractExtensionReasoner {
 		// as the grounded extension is also complete, we return that one
 		return new SimpleGroundedReasoner().getModel(bbase);
 	}
-		
-	/**
-	 * Auxiliary method to compute all complete extensions
-	 * @param dungTheory a Dung theory
-	 * @param ext some extension
-	 * @param remaining arguments that still have to be considered to be part of an extension
-	 * @return all complete extensions that are supersets of an argument in <source>arguments</source>
-	 */
-	private Set<Extension<DungTheory>> getCompleteExtensions(DungTheory dungTheory, Extension<DungTheory> ext, Collection<Argument> remaining){
-		Set<Extension<DungTheory>> extensions = new HashSet<Extension<DungTheory>>();
-		if(dungTheory.isConflictFree(ext)){
-			if(dungTheory.faf(ext).equals(ext))
-				extensions.add(ext);
-			if(!remaining.isEmpty()){
-				Argument arg = remaining.iterator().next();
-				Collection<Argument> remaining2 = new HashSet<Argument>(remaining);
-				remaining2.remove(arg);
-				extensions.addAll(this.getCompleteExtensions(dungTheory,ext, remaining2));
-				Extension<DungTheory> ext2 = new Extension<DungTheory>(ext);
-				ext2.add(arg);
-				extensions.addAll(this.getCompleteExtensions(dungTheory,ext2, remaining2));
-			}
-		}
-		return extensions;		
-	}
 }
@@ -21,6 +21,7 @@ package org.tweetyproject.arg.dung.reasoner;
 import java.util.*;
 
 import org.tweetyproject.arg.dung.semantics.*;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 
 
@@ -56,14 +57,7 @@ public class SimpleGroundedReasoner extends AbstractExtensionReasoner {
 	 */
 	@Override
 	public Extension<DungTheory> getModel(DungTheory bbase) {
-		Extension<DungTheory> ext = new Extension<DungTheory>();
-		int size;
-		do{
-			size = ext.size();			
-			ext = ((DungTheory)bbase).faf(ext);			
-		}while(size!=ext.size());		
-		return ext;
+		CompactDungTheory theory = new CompactDungTheory(bbase);
+		return theory.toExtension(theory.getGroundedExtension());
 	}
-
-
 }
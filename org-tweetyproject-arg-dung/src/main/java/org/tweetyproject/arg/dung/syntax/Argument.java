@@ -69,6 +69,7 @@ public class Argument implements DungEntity, Node, Comparable<Argument>{
 	 * @see java.lang.Object#equals(java.lang.Object)
 	 */
 	public boolean equals(Object o){
+		if(this == o) return true;
 		if(!o.getClass().equals(this.getClass())) return false;
 		if(!((Argument)o).getName().equals(getName())) return false;
 		return true;
@@ -0,0 +1,649 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung.syntax;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+import org.tweetyproject.arg.dung.semantics.Extension;
+
+/**
+ * A frozen, int-indexed representation of a Dung theory. Arguments are numbered
+ * 0..n-1, attackers and attacked arguments are stored in compressed sparse row
+ * (CSR) arrays, and sets of arguments are represented as bitsets, i.e., as
+ * <code>long[]</code> arrays where argument i is contained in the set iff bit
+ * <code>i % 64</code> of word <code>i / 64</code> is set.<br>
+ * <br>
+ * This representation is meant for the inner loops of reasoners and principle
+ * checks. Conversion from and to <code>Argument</code> and <code>Extension</code>
+ * objects only takes place in {@link #toBitSet(Collection)} and
+ * {@link #toExtension(long[])}. Later modifications of the original theory are
+ * not reflected in the compact theory.
+ *
+ * @author The TweetyProject Team
+ */
+public class CompactDungTheory {
+
+	/** The arguments, position i holds the argument with index i */
+	private Argument[] arguments;
+
+	/** Maps arguments to their indices */
+	private Map<Argument, Integer> index;
+
+	/** attackerOffsets[i]..attackerOffsets[i+1]-1 are the positions of the attackers of argument i in attackers */
+	private int[] attackerOffsets;
+
+	/** The indices of the attackers of all arguments */
+	private int[] attackers;
+
+	/** attackedOffsets[i]..attackedOffsets[i+1]-1 are the positions of the arguments attacked by argument i in attacked */
+	private int[] attackedOffsets;
+
+	/** The indices of the arguments attacked by all arguments */
+	private int[] attacked;
+
+	/** The number of words of a bitset */
+	private int words;
+
+	/**
+	 * Creates the compact representation of the given theory.
+	 * @param theory some Dung theory
+	 */
+	public CompactDungTheory(DungTheory theory) {
+		int n = theory.size();
+		Argument[] arguments = new Argument[n];
+		this.index = new HashMap<Argument, Integer>();
+		int i = 0;
+		for (Argument a : theory) {
+			arguments[i] = a;
+			this.index.put(a, i++);
+		}
+		// attacks on arguments outside the theory are ignored
+		int m = 0;
+		int[] from = new int[16];
+		int[] to = new int[16];
+		for (i = 0; i < n; i++) {
+			for (Argument b : theory.getAttacked(arguments[i])) {
+				Integer j = this.index.get(b);
+				if (j == null)
+					continue;
+				if (m == from.length) {
+					from = Arrays.copyOf(from, 2 * m);
+					to = Arrays.copyOf(to, 2 * m);
+				}
+				from[m] = i;
+				to[m++] = j;
+			}
+		}
+		this.init(arguments, from, to, m);
+	}
+
+	/**
+	 * Creates a compact theory from the given arguments and list of attacks, i.e.,
+	 * argument <code>from[k]</code> attacks argument <code>to[k]</code> for all
+	 * k in 0..m-1. Duplicate attacks are ignored. This constructor is meant for
+	 * parsers that read attacks directly as indices, see e.g.
+	 * {@link org.tweetyproject.arg.dung.parser.AbstractDungParser#parseCompact(java.io.File)}.
+	 * @param arguments the arguments, position i holds the argument with index i
+	 * @param from the indices of the attackers
+	 * @param to the indices of the attacked arguments
+	 * @param m the number of attacks
+	 */
+	public CompactDungTheory(Argument[] arguments, int[] from, int[] to, int m) {
+		this.index = new HashMap<Argument, Integer>();
+		for (int i = 0; i < arguments.length; i++)
+			this.index.put(arguments[i], i);
+		if (this.index.size() != arguments.length)
+			throw new IllegalArgumentException("Arguments must be distinct.");
+		for (int k = 0; k < m; k++)
+			if (from[k] < 0 || from[k] >= arguments.length || to[k] < 0 || to[k] >= arguments.length)
+				throw new IllegalArgumentException("Attack " + from[k] + "->" + to[k] + " refers to an unknown argument.");
+		this.init(arguments, from, to, m);
+	}
+
+	/**
+	 * Builds the CSR arrays from the given list of attacks. Both the attacked
+	 * arguments and the attackers of each argument are sorted by index.
+	 * @param arguments the arguments
+	 * @param from the indices of the attackers
+	 * @param to the indices of the attacked arguments
+	 * @param m the number of attacks
+	 */
+	private void init(Argument[] arguments, int[] from, int[] to, int m) {
+		int n = arguments.length;
+		this.arguments = arguments;
+		this.words = (n + 63) / 64;
+		// counting sort of the attacks by attacker
+		int[] offsets = new int[n + 1];
+		for (int k = 0; k < m; k++)
+			offsets[from[k] + 1]++;
+		for (int i = 0; i < n; i++)
+			offsets[i + 1] += offsets[i];
+		int[] targets = new int[m];
+		int[] pos = Arrays.copyOf(offsets, n);
+		for (int k = 0; k < m; k++)
+			targets[pos[from[k]]++] = to[k];
+		// sort each row and remove duplicates
+		this.attackedOffsets = new int[n + 1];
+		int size = 0;
+		for (int i = 0; i < n; i++) {
+			Arrays.sort(targets, offsets[i], offsets[i + 1]);
+			for (int k = offsets[i]; k < offsets[i + 1]; k++)
+				if (k == offsets[i] || targets[k] != targets[k - 1])
+					targets[size++] = targets[k];
+			this.attackedOffsets[i + 1] = size;
+		}
+		this.attacked = size == m ? targets : Arrays.copyOf(targets, size);
+		// transpose
+		this.attackerOffsets = new int[n + 1];
+		for (int k = 0; k < size; k++)
+			this.attackerOffsets[this.attacked[k] + 1]++;
+		for (int i = 0; i < n; i++)
+			this.attackerOffsets[i + 1] += this.attackerOffsets[i];
+		this.attackers = new int[size];
+		pos = Arrays.copyOf(this.attackerOffsets, n);
+		for (int i = 0; i < n; i++)
+			for (int k = this.attackedOffsets[i]; k < this.attackedOffsets[i + 1]; k++)
+				this.attackers[pos[this.attacked[k]]++] = i;
+	}
+
+	/**
+	 * Returns a Dung theory with the arguments and attacks of this compact theory.
+	 * @return a Dung theory.
+	 */
+	public DungTheory toDungTheory() {
+		DungTheory theory = new DungTheory();
+		for (Argument a : this.arguments)
+			theory.add(a);
+		for (int i = 0; i < this.arguments.length; i++)
+			for (int k = this.attackedOffsets[i]; k < this.attackedOffsets[i + 1]; k++)
+				theory.addAttack(this.arguments[i], this.arguments[this.attacked[k]]);
+		return theory;
+	}
+
+	/**
+	 * Returns the number of attacks.
+	 * @return the number of attacks.
+	 */
+	public int getNumberOfAttacks() {
+		return this.attacked.length;
+	}
+
+	/**
+	 * Returns the number of arguments.
+	 * @return the number of arguments.
+	 */
+	public int getNumberOfArguments() {
+		return this.arguments.length;
+	}
+
+	/**
+	 * Returns the argument with the given index.
+	 * @param i some index in 0..n-1
+	 * @return the argument with index i.
+	 */
+	public Argument getArgument(int i) {
+		return this.arguments[i];
+	}
+
+	/**
+	 * Returns the index of the given argument.
+	 * @param a some argument
+	 * @return the index of the argument or -1 if the argument is not in the theory.
+	 */
+	public int getIndex(Argument a) {
+		Integer i = this.index.get(a);
+		return i == null ? -1 : i;
+	}
+
+	/**
+	 * Returns the number of attackers of argument i.
+	 * @param i some argument index
+	 * @return the number of attackers of argument i.
+	 */
+	public int getNumberOfAttackers(int i) {
+		return this.attackerOffsets[i + 1] - this.attackerOffsets[i];
+	}
+
+	/**
+	 * Returns the k-th attacker of argument i.
+	 * @param i some argument index
+	 * @param k some number in 0..getNumberOfAttackers(i)-1
+	 * @return the index of the k-th attacker of argument i.
+	 */
+	public int getAttacker(int i, int k) {
+		return this.attackers[this.attackerOffsets[i] + k];
+	}
+
+	/**
+	 * Returns the number of arguments attacked by argument i.
+	 * @param i some argument index
+	 * @return the number of arguments attacked by argument i.
+	 */
+	public int getNumberOfAttacked(int i) {
+		return this.attackedOffsets[i + 1] - this.attackedOffsets[i];
+	}
+
+	/**
+	 * Returns the k-th argument attacked by argument i.
+	 * @param i some argument index
+	 * @param k some number in 0..getNumberOfAttacked(i)-1
+	 * @return the index of the k-th argument attacked by argument i.
+	 */
+	public int getAttacked(int i, int k) {
+		return this.attacked[this.attackedOffsets[i] + k];
+	}
+
+	/**
+	 * Checks whether argument i attacks argument j.
+	 * @param i some argument index
+	 * @param j some argument index
+	 * @return "true" iff i attacks j.
+	 */
+	public boolean attacks(int i, int j) {
+		// rows are sorted, search the shorter of both lists
+		if (this.getNumberOfAttacked(i) <= this.getNumberOfAttackers(j))
+			return Arrays.binarySearch(this.attacked, this.attackedOffsets[i], this.attackedOffsets[i + 1], j) >= 0;
+		return Arrays.binarySearch(this.attackers, this.attackerOffsets[j], this.attackerOffsets[j + 1], i) >= 0;
+	}
+
+	/**
+	 * Computes the strongly connected components (SCCs) of the attack graph with
+	 * (an iterative version of) Tarjan's algorithm. The components are numbered
+	 * topologically, i.e., if argument i attacks argument j then the component
+	 * of i is at most the component of j.
+	 * @return an array holding the component of every argument; the number of
+	 *  components is the maximal entry plus one.
+	 */
+	public int[] getStronglyConnectedComponents() {
+		int n = this.arguments.length;
+		int[] component = new int[n];
+		int[] order = new int[n];
+		int[] lowlink = new int[n];
+		int[] next = new int[n];
+		int[] stack = new int[n];
+		int[] path = new int[n];
+		boolean[] onStack = new boolean[n];
+		Arrays.fill(order, -1);
+		int counter = 0, size = 0, components = 0;
+		for (int root = 0; root < n; root++) {
+			if (order[root] >= 0)
+				continue;
+			int depth = 0;
+			path[depth++] = root;
+			order[root] = lowlink[root] = counter++;
+			next[root] = this.attackedOffsets[root];
+			stack[size++] = root;
+			onStack[root] = true;
+			while (depth > 0) {
+				int i = path[depth - 1];
+				if (next[i] < this.attackedOffsets[i + 1]) {
+					int j = this.attacked[next[i]++];
+					if (order[j] < 0) {
+						order[j] = lowlink[j] = counter++;
+						next[j] = this.attackedOffsets[j];
+						stack[size++] = j;
+						onStack[j] = true;
+						path[depth++] = j;
+					} else if (onStack[j])
+						lowlink[i] = Math.min(lowlink[i], order[j]);
+					continue;
+				}
+				depth--;
+				if (depth > 0)
+					lowlink[path[depth - 1]] = Math.min(lowlink[path[depth - 1]], lowlink[i]);
+				if (lowlink[i] == order[i]) {
+					int j;
+					do {
+						j = stack[--size];
+						onStack[j] = false;
+						component[j] = components;
+					} while (j != i);
+					components++;
+				}
+			}
+		}
+		// Tarjan's algorithm finds the components in reverse topological order
+		for (int i = 0; i < n; i++)
+			component[i] = components - 1 - component[i];
+		return component;
+	}
+
+	// ---------------------------------------------------------------------
+	// bitsets
+	// ---------------------------------------------------------------------
+
+	/**
+	 * Returns a new empty bitset for this theory.
+	 * @return an empty bitset.
+	 */
+	public long[] newBitSet() {
+		return new long[this.words];
+	}
+
+	/**
+	 * Checks whether argument i is in the given bitset.
+	 * @param set some bitset
+	 * @param i some argument index
+	 * @return "true" iff i is in set.
+	 */
+	public static boolean contains(long[] set, int i) {
+		return (set[i >>> 6] & (1L << i)) != 0;
+	}
+
+	/**
+	 * Adds argument i to the given bitset.
+	 * @param set some bitset
+	 * @param i some argument index
+	 */
+	public static void add(long[] set, int i) {
+		set[i >>> 6] |= 1L << i;
+	}
+
+	/**
+	 * Removes argument i from the given bitset.
+	 * @param set some bitset
+	 * @param i some argument index
+	 */
+	public static void remove(long[] set, int i) {
+		set[i >>> 6] &= ~(1L << i);
+	}
+
+	/**
+	 * Returns the number of arguments in the given bitset.
+	 * @param set some bitset
+	 * @return the cardinality of the set.
+	 */
+	public static int size(long[] set) {
+		int result = 0;
+		for (long w : set)
+			result += Long.bitCount(w);
+		return result;
+	}
+
+	/**
+	 * Checks whether set1 is a subset of set2.
+	 * @param set1 some bitset
+	 * @param set2 some bitset
+	 * @return "true" iff every argument of set1 is in set2.
+	 */
+	public static boolean isSubset(long[] set1, long[] set2) {
+		for (int w = 0; w < set1.length; w++)
+			if ((set1[w] & ~set2[w]) != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Converts the given arguments to a bitset. Arguments not in this theory are ignored.
+	 * @param args some arguments
+	 * @return the bitset of the arguments.
+	 */
+	public long[] toBitSet(Collection<? extends Argument> args) {
+		long[] set = this.newBitSet();
+		for (Argument a : args) {
+			Integer i = this.index.get(a);
+			if (i != null)
+				CompactDungTheory.add(set, i);
+		}
+		return set;
+	}
+
+	/**
+	 * Converts the given bitset to an extension.
+	 * @param set some bitset
+	 * @return the extension consisting of the arguments of the set.
+	 */
+	public Extension<DungTheory> toExtension(long[] set) {
+		Extension<DungTheory> ext = new Extension<DungTheory>();
+		for (int w = 0; w < set.length; w++) {
+			long word = set[w];
+			while (word != 0) {
+				ext.add(this.arguments[(w << 6) + Long.numberOfTrailingZeros(word)]);
+				word &= word - 1;
+			}
+		}
+		return ext;
+	}
+
+	// ---------------------------------------------------------------------
+	// semantical notions
+	// ---------------------------------------------------------------------
+
+	/**
+	 * Returns the set of arguments attacked by some argument of the given set.
+	 * @param set some bitset
+	 * @return the bitset of all arguments attacked by set.
+	 */
+	public long[] getAttacked(long[] set) {
+		long[] result = this.newBitSet();
+		for (int w = 0; w < set.length; w++) {
+			long word = set[w];
+			while (word != 0) {
+				int i = (w << 6) + Long.numberOfTrailingZeros(word);
+				for (int k = this.attackedOffsets[i]; k < this.attackedOffsets[i + 1]; k++)
+					CompactDungTheory.add(result, this.attacked[k]);
+				word &= word - 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether argument i is attacked by some argument of the given set.
+	 * @param i some argument index
+	 * @param set some bitset
+	 * @return "true" iff some argument of set attacks i.
+	 */
+	public boolean isAttackedBy(int i, long[] set) {
+		for (int k = this.attackerOffsets[i]; k < this.attackerOffsets[i + 1]; k++)
+			if (CompactDungTheory.contains(set, this.attackers[k]))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks whether argument i is acceptable wrt. the given set, i.e., whether every
+	 * attacker of i is attacked by the set.
+	 * @param i some argument index
+	 * @param attackedBySet the bitset of arguments attacked by the set, see {@link #getAttacked(long[])}
+	 * @return "true" iff i is acceptable wrt. the set.
+	 */
+	public boolean isAcceptable(int i, long[] attackedBySet) {
+		for (int k = this.attackerOffsets[i]; k < this.attackerOffsets[i + 1]; k++)
+			if (!CompactDungTheory.contains(attackedBySet, this.attackers[k]))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Checks whether the given set is conflict-free.
+	 * @param set some bitset
+	 * @return "true" iff no argument of the set attacks an argument of the set.
+	 */
+	public boolean isConflictFree(long[] set) {
+		for (int w = 0; w < set.length; w++) {
+			long word = set[w];
+			while (word != 0) {
+				int i = (w << 6) + Long.numberOfTrailingZeros(word);
+				for (int k = this.attackedOffsets[i]; k < this.attackedOffsets[i + 1]; k++)
+					if (CompactDungTheory.contains(set, this.attacked[k]))
+						return false;
+				word &= word - 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether argument i can be added to the given conflict-free set
+	 * without introducing a conflict.
+	 * @param set some conflict-free bitset
+	 * @param i some argument index
+	 * @return "true" iff the set with i is conflict-free.
+	 */
+	public boolean isConflictFreeWith(long[] set, int i) {
+		for (int k = this.attackedOffsets[i]; k < this.attackedOffsets[i + 1]; k++)
+			if (this.attacked[k] == i || CompactDungTheory.contains(set, this.attacked[k]))
+				return false;
+		return !this.isAttackedBy(i, set);
+	}
+
+	/**
+	 * Checks whether the given set is admissible.
+	 * @param set some bitset
+	 * @return "true" iff the set is conflict-free and defends all its arguments.
+	 */
+	public boolean isAdmissible(long[] set) {
+		if (!this.isConflictFree(set))
+			return false;
+		long[] att = this.getAttacked(set);
+		for (int w = 0; w < set.length; w++) {
+			long word = set[w];
+			while (word != 0) {
+				if (!this.isAcceptable((w << 6) + Long.numberOfTrailingZeros(word), att))
+					return false;
+				word &= word - 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The characteristic function: returns the set of all arguments acceptable wrt. the given set.
+	 * @param set some bitset
+	 * @return the bitset of all arguments acceptable wrt. set.
+	 */
+	public long[] faf(long[] set) {
+		long[] att = this.getAttacked(set);
+		long[] result = this.newBitSet();
+		for (int i = 0; i < this.arguments.length; i++)
+			if (this.isAcceptable(i, att))
+				CompactDungTheory.add(result, i);
+		return result;
+	}
+
+	/**
+	 * Checks whether the given set is complete, i.e., conflict-free and a fixpoint of the
+	 * characteristic function.
+	 * @param set some bitset
+	 * @return "true" iff the set is complete.
+	 */
+	public boolean isComplete(long[] set) {
+		return this.isConflictFree(set) && Arrays.equals(this.faf(set), set);
+	}
+
+	/**
+	 * Checks whether the given set is stable, i.e., conflict-free and attacking all other arguments.
+	 * @param set some bitset
+	 * @return "true" iff the set is stable.
+	 */
+	public boolean isStable(long[] set) {
+		if (!this.isConflictFree(set))
+			return false;
+		long[] att = this.getAttacked(set);
+		for (int i = 0; i < this.arguments.length; i++)
+			if (!CompactDungTheory.contains(set, i) && !CompactDungTheory.contains(att, i))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Enumerates all conflict-free supersets of the given conflict-free set. Every set is
+	 * passed exactly once to the given consumer; the passed array must not be modified
+	 * and is only valid during the call, so consumers have to copy it if they keep it.
+	 * The enumeration is aborted with a {@link CancellationException} if the current
+	 * thread is interrupted.
+	 * @param base some conflict-free bitset
+	 * @param consumer the consumer of the conflict-free sets.
+	 */
+	public void forEachConflictFreeSuperset(long[] base, Consumer<long[]> consumer) {
+		int[] candidates = new int[this.arguments.length];
+		int num = 0;
+		for (int i = 0; i < this.arguments.length; i++)
+			if (!CompactDungTheory.contains(base, i) && this.isConflictFreeWith(base, i))
+				candidates[num++] = i;
+		this.forEachConflictFreeSuperset(base.clone(), candidates, num, 0, consumer);
+	}
+
+	/**
+	 * Auxiliary method for enumerating conflict-free sets by extending the given set
+	 * with candidates from position idx on.
+	 * @param set the current conflict-free set
+	 * @param candidates candidate arguments
+	 * @param num the number of candidates
+	 * @param idx the first candidate to consider
+	 * @param consumer the consumer of the conflict-free sets.
+	 */
+	private void forEachConflictFreeSuperset(long[] set, int[] candidates, int num, int idx, Consumer<long[]> consumer) {
+		if (Thread.currentThread().isInterrupted())
+			throw new CancellationException("Enumeration of conflict-free sets interrupted.");
+		consumer.accept(set);
+		for (int k = idx; k < num; k++) {
+			int i = candidates[k];
+			if (this.isConflictFreeWith(set, i)) {
+				CompactDungTheory.add(set, i);
+				this.forEachConflictFreeSuperset(set, candidates, num, k + 1, consumer);
+				CompactDungTheory.remove(set, i);
+			}
+		}
+	}
+
+	/**
+	 * Computes the grounded extension, i.e., the least fixpoint of the characteristic function.
+	 * Instead of iterating the characteristic function, every argument keeps a counter of
+	 * its attackers that are not yet defeated, which yields a computation linear in the
+	 * number of attacks.
+	 * @return the bitset of the grounded extension.
+	 */
+	public long[] getGroundedExtension() {
+		int n = this.arguments.length;
+		long[] in = this.newBitSet();
+		boolean[] out = new boolean[n];
+		int[] undefeated = new int[n];
+		int[] queue = new int[n];
+		int head = 0, tail = 0;
+		for (int i = 0; i < n; i++) {
+			undefeated[i] = this.getNumberOfAttackers(i);
+			if (undefeated[i] == 0)
+				queue[tail++] = i;
+		}
+		while (head < tail) {
+			int i = queue[head++];
+			CompactDungTheory.add(in, i);
+			for (int k = this.attackedOffsets[i]; k < this.attackedOffsets[i + 1]; k++) {
+				int j = this.attacked[k];
+				if (out[j])
+					continue;
+				out[j] = true;
+				// all arguments attacked by j lose one undefeated attacker
+				for (int l = this.attackedOffsets[j]; l < this.attackedOffsets[j + 1]; l++) {
+					int c = this.attacked[l];
+					if (--undefeated[c] == 0 && !out[c])
+						queue[tail++] = c;
+				}
+			}
+		}
+		return in;
+	}
+}
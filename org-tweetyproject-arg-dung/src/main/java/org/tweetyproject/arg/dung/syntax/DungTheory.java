@@ -61,6 +61,11 @@ public class DungTheory extends BeliefSet<Argument,DungSignature> implements Gra
 	 *  explicit listing of direct attackers and attackees (for efficiency reasons)
 	 */
 	private Map<Argument,Set<Argument>> children= new HashMap<Argument,Set<Argument>>();
+
+	/**
+	 * The number of modifications of the arguments and attacks of this theory
+	 */
+	private long modCount = 0;
 	
 	/**
 	 * Default constructor; initializes empty sets of arguments and attacks
@@ -689,6 +694,8 @@ public class DungTheory extends BeliefSet<Argument,DungSignature> implements Gra
 		if(!children.containsKey(attacker))
 			children.put(attacker, new HashSet<Argument>());
 		result |= children.get(attacker).add(attacked);		
+		if(result)
+			this.modCount++;
 		return result; 
 	}
 	
@@ -703,6 +710,8 @@ public class DungTheory extends BeliefSet<Argument,DungSignature> implements Gra
 			result |= parents.get(attack.getAttacked()).remove(attack.getAttacker());
 		if(children.containsKey(attack.getAttacker()))
 			result |= children.get(attack.getAttacker()).remove(attack.getAttacked());
+		if(result)
+			this.modCount++;
 		return result; 
 	}
 	
@@ -722,6 +731,7 @@ public class DungTheory extends BeliefSet<Argument,DungSignature> implements Gra
 				this.parents.get(b).remove(a);
 			this.children.remove(a);
 		}		
+		this.modCount++;
 		return super.remove(a);
 	}
 	
@@ -798,7 +808,27 @@ public class DungTheory extends BeliefSet<Argument,DungSignature> implements Gra
 	}
 	
 	public boolean add(Argument argument) {
-		return super.add(argument);
+		if(!super.add(argument))
+			return false;
+		this.modCount++;
+		return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.commons.BeliefSet#clear()
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		this.modCount++;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.graphs.Graph#getModificationCount()
+	 */
+	@Override
+	public long getModificationCount() {
+		return this.modCount;
 	}
 	
 	/**
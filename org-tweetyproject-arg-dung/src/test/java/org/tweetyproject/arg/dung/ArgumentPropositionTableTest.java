@@ -0,0 +1,112 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.tweetyproject.arg.dung.reasoner.ArgumentPropositionTable;
+import org.tweetyproject.arg.dung.reasoner.SatStableReasoner;
+import org.tweetyproject.arg.dung.reasoner.SeeAcceptabilityReasoner;
+import org.tweetyproject.arg.dung.reasoner.SimpleCompleteReasoner;
+import org.tweetyproject.arg.dung.reasoner.SimpleStableReasoner;
+import org.tweetyproject.arg.dung.semantics.Extension;
+import org.tweetyproject.arg.dung.semantics.Semantics;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.commons.InferenceMode;
+import org.tweetyproject.logics.pl.sat.Sat4jSolver;
+import org.tweetyproject.logics.pl.sat.SatSolver;
+import org.tweetyproject.logics.pl.sat.SimpleDpllSolver;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+public class ArgumentPropositionTableTest {
+
+	@Test
+	public void decodesWorlds() {
+		Argument a = new Argument("a");
+		Argument b = new Argument("in_b");
+		DungTheory theory = new DungTheory();
+		theory.add(a);
+		theory.add(b);
+		ArgumentPropositionTable table = new ArgumentPropositionTable(theory);
+		assertSame(b, table.getArgument(table.getId(b)));
+		Proposition inA = table.getProposition("in_", a);
+		assertSame(inA, table.getPropositions("in_").get(a));
+		assertEquals(new Proposition("in_a"), inA);
+		PossibleWorld w = new PossibleWorld();
+		w.add(new Proposition("in_a"));
+		w.add(new Proposition("out_in_b"));
+		w.add(new Proposition("in_in_b"));
+		w.add(new Proposition("in_c"));
+		table.getProposition("out_", b);
+		assertEquals(2, table.getArguments("in_", w).size());
+		assertSame(b, table.getArgument("out_", new Proposition("out_in_b")));
+		assertNull(table.getArgument("out_", new Proposition("out_a")));
+		assertNull(table.getArgument("in_", new Proposition("out_in_b")));
+	}
+
+	@Test
+	public void decodesModels() {
+		Random rand = new Random(7);
+		SimpleDpllSolver solver = new SimpleDpllSolver();
+		for (int run = 0; run < 30; run++) {
+			DungTheory theory = new DungTheory();
+			Argument[] args = new Argument[1 + rand.nextInt(6)];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = new Argument("a" + i);
+				theory.add(args[i]);
+			}
+			for (Argument x : args)
+				for (Argument y : args)
+					if (rand.nextDouble() < 0.3)
+						theory.add(new Attack(x, y));
+			Set<Extension<DungTheory>> stable = new HashSet<>(new SimpleStableReasoner().getModels(theory));
+			assertEquals(stable, new HashSet<>(new SatStableReasoner(solver).getModels(theory)));
+			Extension<DungTheory> model = new SatStableReasoner(solver).getModel(theory);
+			assertEquals(stable.isEmpty(), model == null);
+			assertTrue(model == null || stable.contains(model));
+			Set<Argument> credulous = new HashSet<>();
+			for (Extension<DungTheory> e : new SimpleCompleteReasoner().getModels(theory))
+				credulous.addAll(e);
+			assertEquals(credulous, new HashSet<>(new SeeAcceptabilityReasoner(solver, Semantics.CO, InferenceMode.CREDULOUS).getAcceptableArguments(theory)));
+		}
+	}
+
+	@Test
+	public void emptyTheory() {
+		// the blocking clause of the empty extension is the empty clause
+		DungTheory theory = new DungTheory();
+		for (SatSolver solver : new SatSolver[] { new SimpleDpllSolver(), new Sat4jSolver() }) {
+			Collection<Extension<DungTheory>> models = new SatStableReasoner(solver).getModels(theory);
+			assertEquals(1, models.size());
+			assertTrue(models.iterator().next().isEmpty());
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.tweetyproject.arg.dung.reasoner.SimpleAdmissibleReasoner;
+import org.tweetyproject.arg.dung.reasoner.SimpleCompleteReasoner;
+import org.tweetyproject.arg.dung.reasoner.SimpleConflictFreeReasoner;
+import org.tweetyproject.arg.dung.reasoner.SimpleGroundedReasoner;
+import org.tweetyproject.arg.dung.semantics.Extension;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.commons.util.SetTools;
+
+public class CompactDungTheoryTest {
+
+	@Test
+	public void groundedOnLongChain() {
+		// a0 -> a1 -> ... -> a199, the grounded extension contains exactly the even arguments
+		DungTheory theory = new DungTheory();
+		Argument[] args = new Argument[200];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = new Argument("a" + i);
+			theory.add(args[i]);
+			if (i > 0)
+				theory.add(new Attack(args[i - 1], args[i]));
+		}
+		Extension<DungTheory> grounded = new SimpleGroundedReasoner().getModel(theory);
+		assertEquals(100, grounded.size());
+		for (int i = 0; i < args.length; i++)
+			assertEquals(i % 2 == 0, grounded.contains(args[i]));
+
+		CompactDungTheory compact = new CompactDungTheory(theory);
+		long[] set = compact.toBitSet(grounded);
+		assertTrue(compact.isComplete(set));
+		assertTrue(compact.isStable(set));
+		CompactDungTheory.add(set, compact.getIndex(args[199]));
+		assertFalse(compact.isConflictFree(set));
+	}
+
+	@Test
+	public void agreesWithObjectBasedChecks() {
+		Random rand = new Random(42);
+		for (int run = 0; run < 50; run++) {
+			DungTheory theory = new DungTheory();
+			Argument[] args = new Argument[1 + rand.nextInt(7)];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = new Argument("a" + i);
+				theory.add(args[i]);
+			}
+			for (Argument a : args)
+				for (Argument b : args)
+					if (rand.nextDouble() < 0.3)
+						theory.add(new Attack(a, b));
+			Set<Extension<DungTheory>> cf = new HashSet<>();
+			Set<Extension<DungTheory>> adm = new HashSet<>();
+			Set<Extension<DungTheory>> co = new HashSet<>();
+			for (Set<Argument> s : new SetTools<Argument>().subsets(theory)) {
+				Extension<DungTheory> ext = new Extension<>(s);
+				if (theory.isConflictFree(ext))
+					cf.add(ext);
+				if (theory.isAdmissible(ext))
+					adm.add(ext);
+				if (theory.isConflictFree(ext) && theory.faf(ext).equals(ext))
+					co.add(ext);
+			}
+			assertEquals(cf, new HashSet<>(new SimpleConflictFreeReasoner().getModels(theory)));
+			assertEquals(adm, new HashSet<>(new SimpleAdmissibleReasoner().getModels(theory)));
+			assertEquals(co, new HashSet<>(new SimpleCompleteReasoner().getModels(theory)));
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Test;
+import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
+import org.tweetyproject.arg.dung.reasoner.SatStableReasoner;
+import org.tweetyproject.arg.dung.reasoner.SccDecompositionReasoner;
+import org.tweetyproject.arg.dung.semantics.Semantics;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.logics.pl.sat.SimpleDpllSolver;
+
+public class SccDecompositionReasonerTest {
+
+	private DungTheory randomTheory(Random rand, int n, double p) {
+		DungTheory theory = new DungTheory();
+		Argument[] args = new Argument[n];
+		for (int i = 0; i < n; i++) {
+			args[i] = new Argument("a" + i);
+			theory.add(args[i]);
+		}
+		for (Argument a : args)
+			for (Argument b : args)
+				if (rand.nextDouble() < p)
+					theory.add(new Attack(a, b));
+		return theory;
+	}
+
+	@Test
+	public void componentsAreTopologicallyOrdered() {
+		Random rand = new Random(3);
+		for (int run = 0; run < 50; run++) {
+			DungTheory theory = this.randomTheory(rand, 1 + rand.nextInt(12), 0.15);
+			CompactDungTheory compact = new CompactDungTheory(theory);
+			int[] component = compact.getStronglyConnectedComponents();
+			for (int i = 0; i < component.length; i++)
+				for (int k = 0; k < compact.getNumberOfAttacked(i); k++)
+					assertTrue(component[i] <= component[compact.getAttacked(i, k)]);
+			assertEquals(theory.getStronglyConnectedComponents().size(), Arrays.stream(component).distinct().count());
+		}
+	}
+
+	@Test
+	public void agreesWithSimpleReasoners() {
+		Random rand = new Random(42);
+		for (int run = 0; run < 40; run++) {
+			DungTheory theory = this.randomTheory(rand, 1 + rand.nextInt(9), 0.15);
+			for (Semantics semantics : new Semantics[] { Semantics.CO, Semantics.GR, Semantics.PR, Semantics.ST }) {
+				AbstractExtensionReasoner simple = AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics);
+				assertEquals(new HashSet<>(simple.getModels(theory)), new HashSet<>(new SccDecompositionReasoner(simple, semantics, 1 + run % 3).getModels(theory)));
+				if (semantics != Semantics.ST)
+					assertTrue(simple.getModels(theory).contains(new SccDecompositionReasoner(semantics).getModel(theory)));
+			}
+			assertEquals(new HashSet<>(new SatStableReasoner(new SimpleDpllSolver()).getModels(theory)),
+					new HashSet<>(new SccDecompositionReasoner(new SatStableReasoner(new SimpleDpllSolver()), Semantics.ST, 2).getModels(theory)));
+		}
+	}
+
+	@Test
+	public void manySmallComponents() {
+		// a chain of 2000 arguments consists of 2000 SCCs in 2000 layers
+		DungTheory theory = new DungTheory();
+		Argument prev = null;
+		for (int i = 0; i < 2000; i++) {
+			Argument a = new Argument("x" + i);
+			theory.add(a);
+			if (prev != null)
+				theory.add(new Attack(prev, a));
+			prev = a;
+		}
+		assertEquals(1, new SccDecompositionReasoner(Semantics.PR).getModels(theory).size());
+		assertEquals(1000, new SccDecompositionReasoner(Semantics.GR).getModel(theory).size());
+		Argument a = new Argument("a"), b = new Argument("b");
+		theory.add(a);
+		theory.add(b);
+		theory.add(new Attack(a, b));
+		theory.add(new Attack(b, a));
+		theory.add(new Attack(b, b));
+		theory.add(new Attack(b, new Argument("x0")));
+		assertEquals(1, new SccDecompositionReasoner(Semantics.ST).getModels(theory).size());
+		theory.add(new Attack(a, a));
+		assertNull(new SccDecompositionReasoner(Semantics.ST).getModel(theory));
+	}
+}
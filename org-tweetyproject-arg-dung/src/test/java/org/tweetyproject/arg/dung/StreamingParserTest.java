@@ -0,0 +1,120 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.dung;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.tweetyproject.arg.dung.parser.AbstractDungParser;
+import org.tweetyproject.arg.dung.parser.ApxParser;
+import org.tweetyproject.arg.dung.parser.CnfParser;
+import org.tweetyproject.arg.dung.parser.DungTheoryListener;
+import org.tweetyproject.arg.dung.parser.Iccma23Parser;
+import org.tweetyproject.arg.dung.parser.TgfParser;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+
+public class StreamingParserTest {
+
+	private static final String APX = "arg(a).\narg(b).\n  arg( c ).\n\natt(a,b).\natt(b, c).\natt(c,c).\n";
+	private static final String TGF = "a\nb\nc\n#\na b\nb c\nc c\n";
+	private static final String I23 = "p af 3\n# a comment\n1 2\n2 3\n3 3\n";
+
+	private static CompactDungTheory parse(AbstractDungParser parser, String input) throws IOException {
+		File file = File.createTempFile("framework", ".txt");
+		try {
+			Files.write(file.toPath(), input.getBytes(StandardCharsets.UTF_8));
+			return parser.parseCompact(file);
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void apxAgreesWithReaderParser() throws IOException {
+		DungTheory expected = new ApxParser().parse(new StringReader(APX.replace("( c )", "(c)").replace("b, c", "b,c")));
+		CompactDungTheory compact = parse(new ApxParser(), APX);
+		assertEquals(3, compact.getNumberOfAttacks());
+		assertEquals(expected, compact.toDungTheory());
+	}
+
+	@Test
+	public void tgfAgreesWithReaderParser() throws IOException {
+		DungTheory expected = new TgfParser().parse(new StringReader(TGF));
+		assertEquals(expected, parse(new TgfParser(), TGF).toDungTheory());
+	}
+
+	@Test
+	public void tgfTokenizesLikeReaderParser() throws IOException {
+		String tgf = "  a\nb 1\t\r\n\n c \n#\na b 1\n c  a\n";
+		DungTheory expected = new TgfParser().parse(new StringReader(tgf));
+		assertEquals(3, expected.size());
+		assertEquals(2, expected.getAttacks().size());
+		assertEquals(expected, parse(new TgfParser(), tgf).toDungTheory());
+	}
+
+	@Test
+	public void i23AgreesWithReaderParser() throws IOException {
+		DungTheory expected = new Iccma23Parser().parse(new StringReader(I23));
+		assertEquals(expected, parse(new Iccma23Parser(), I23).toDungTheory());
+	}
+
+	@Test
+	public void streamingCallbacks() throws IOException {
+		int[] counts = new int[2];
+		new Iccma23Parser().parse(ByteBuffer.wrap(I23.getBytes(StandardCharsets.UTF_8)), new DungTheoryListener() {
+			@Override
+			public void argument(int index, String name) {
+				assertEquals("a" + (index + 1), name);
+				counts[0]++;
+			}
+
+			@Override
+			public void attack(int attacker, int attacked) {
+				counts[1]++;
+			}
+		});
+		assertEquals(3, counts[0]);
+		assertEquals(3, counts[1]);
+	}
+
+	@Test
+	public void readerFallback() throws IOException {
+		String cnf = "p af 2 1\n1 -2 0\n";
+		DungTheory expected = new CnfParser().parse(new StringReader(cnf));
+		assertEquals(expected, parse(new CnfParser(), cnf).toDungTheory());
+	}
+
+	@Test(expected = IOException.class)
+	public void undeclaredArgument() throws IOException {
+		parse(new ApxParser(), "arg(a).\natt(a,b).\n");
+	}
+
+	@Test(expected = IOException.class)
+	public void attackOutOfRange() throws IOException {
+		parse(new Iccma23Parser(), "p af 2\n1 3\n");
+	}
+}
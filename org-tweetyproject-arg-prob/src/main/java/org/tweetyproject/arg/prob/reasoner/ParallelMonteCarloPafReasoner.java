@@ -0,0 +1,611 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.prob.reasoner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.tweetyproject.arg.dung.reasoner.AbstractExtensionReasoner;
+import org.tweetyproject.arg.dung.semantics.Extension;
+import org.tweetyproject.arg.dung.semantics.Semantics;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.arg.prob.syntax.ProbabilisticArgumentationFramework;
+import org.tweetyproject.commons.InferenceMode;
+
+/**
+ * A parallel variant of the {@link MonteCarloPafReasoner}. Before sampling, the
+ * PAF is frozen into int-indexed arrays of arguments, attacks, and their
+ * probabilities and every trial samples a subgraph as a pair of bitsets over
+ * these arguments and attacks. Acceptance wrt. grounded semantics (for all
+ * inference modes) and skeptical acceptance wrt. complete semantics as well as
+ * whether a set is a conflict-free, admissible, complete, stable, or grounded
+ * extension is decided directly on these bitsets. For all other semantics, a
+ * <code>DungTheory</code> is created from the sample and given to the simple
+ * reasoner of the semantics.<br>
+ * <br>
+ * Trials are run in batches that are split into chunks of a fixed size, the
+ * chunks are distributed over a fork-join pool and each chunk draws its random
+ * numbers from its own <code>SplittableRandom</code>, which is split from a seeded
+ * random generator. Therefore, the result only depends on the seed and not on
+ * the number of threads. After every batch the reasoner stops if the Wilson score
+ * interval of the estimated probability (for {@link #queryAll(ProbabilisticArgumentationFramework, InferenceMode)}
+ * of all estimated probabilities) for the given confidence level is at most as
+ * wide as requested, or if the maximal number of trials has been reached.
+ *
+ * @author The TweetyProject Team
+ */
+public class ParallelMonteCarloPafReasoner extends AbstractPafReasoner {
+
+	/** The number of trials of a chunk */
+	private static final int CHUNK_SIZE = 256;
+
+	/** The minimal number of trials before checking the width of the confidence interval */
+	private static final int BATCH_SIZE = 16 * CHUNK_SIZE;
+
+	/** The maximal number of trials */
+	private int maxTrials;
+
+	/** The requested width of the confidence interval (0 for running all trials) */
+	private double intervalWidth;
+
+	/** The quantile of the standard normal distribution for the confidence level */
+	private double z;
+
+	/** The number of threads */
+	private int threads;
+
+	/** The seed of the random generator */
+	private long seed;
+
+	/**
+	 * Creates a new reasoner that runs the given number of trials on all
+	 * available processors.
+	 * @param semantics semantics used for determining extensions.
+	 * @param numberOfTrials the number of runs of the Monte Carlo simulation
+	 */
+	public ParallelMonteCarloPafReasoner(Semantics semantics, int numberOfTrials) {
+		this(semantics, numberOfTrials, 0, 0.95);
+	}
+
+	/**
+	 * Creates a new reasoner that runs trials on all available processors until
+	 * the confidence interval of the estimated probability is narrow enough.
+	 * @param semantics semantics used for determining extensions.
+	 * @param maxTrials the maximal number of runs of the Monte Carlo simulation
+	 * @param intervalWidth the requested width of the confidence interval
+	 * @param confidence the confidence level (e.g. 0.95)
+	 */
+	public ParallelMonteCarloPafReasoner(Semantics semantics, int maxTrials, double intervalWidth, double confidence) {
+		this(semantics, maxTrials, intervalWidth, confidence, Runtime.getRuntime().availableProcessors(), System.nanoTime());
+	}
+
+	/**
+	 * Creates a new reasoner.
+	 * @param semantics semantics used for determining extensions.
+	 * @param maxTrials the maximal number of runs of the Monte Carlo simulation
+	 * @param intervalWidth the requested width of the confidence interval
+	 * @param confidence the confidence level (e.g. 0.95)
+	 * @param threads the number of threads
+	 * @param seed the seed of the random generator
+	 */
+	public ParallelMonteCarloPafReasoner(Semantics semantics, int maxTrials, double intervalWidth, double confidence, int threads, long seed) {
+		super(semantics);
+		if (maxTrials < 1 || threads < 1)
+			throw new IllegalArgumentException("The number of trials and threads must be positive.");
+		if (confidence <= 0 || confidence >= 1)
+			throw new IllegalArgumentException("The confidence level must be in (0,1).");
+		this.maxTrials = maxTrials;
+		this.intervalWidth = intervalWidth;
+		this.z = ParallelMonteCarloPafReasoner.normalQuantile(1 - (1 - confidence) / 2);
+		this.threads = threads;
+		this.seed = seed;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.prob.reasoner.AbstractPafReasoner#query(org.tweetyproject.arg.prob.syntax.ProbabilisticArgumentationFramework, org.tweetyproject.arg.dung.semantics.Extension)
+	 */
+	@Override
+	public Double query(ProbabilisticArgumentationFramework paf, Extension<ProbabilisticArgumentationFramework> ext) {
+		FrozenPaf frozen = new FrozenPaf(paf);
+		for (Argument a : ext)
+			if (!paf.contains(a))
+				return 0d;
+		long[] set = frozen.theory.toBitSet(ext);
+		Semantics semantics = this.getSemantics();
+		AbstractExtensionReasoner r = AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics);
+		return this.run(frozen, 1, (sample, hits) -> {
+			boolean accepted;
+			switch (semantics) {
+				case CF: accepted = sample.isConflictFree(set); break;
+				case ADM: accepted = sample.isAdmissible(set); break;
+				case CO: accepted = sample.isComplete(set); break;
+				case ST: accepted = sample.isStable(set); break;
+				case GR: accepted = Arrays.equals(sample.getGroundedExtension(), set); break;
+				default: accepted = r.getModels(sample.toDungTheory()).contains(ext);
+			}
+			if (accepted)
+				hits[0]++;
+		})[0];
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.arg.prob.reasoner.AbstractPafReasoner#query(org.tweetyproject.arg.prob.syntax.ProbabilisticArgumentationFramework, org.tweetyproject.arg.dung.syntax.Argument, org.tweetyproject.commons.InferenceMode)
+	 */
+	@Override
+	public Double query(ProbabilisticArgumentationFramework beliefbase, Argument formula, InferenceMode inferenceMode) {
+		FrozenPaf frozen = new FrozenPaf(beliefbase);
+		int index = beliefbase.contains(formula) ? frozen.theory.getIndex(formula) : -1;
+		return this.run(frozen, 1, this.getEvaluator(new Argument[] { formula }, new int[] { index }, inferenceMode))[0];
+	}
+
+	/**
+	 * Estimates the probabilities of all arguments at once, i.e., every sampled
+	 * subgraph is used for all arguments.
+	 * @param paf some probabilistic argumentation framework
+	 * @param inferenceMode the inference mode
+	 * @return a map of all arguments and their respective acceptance probability
+	 */
+	@Override
+	public Map<Argument, Double> queryAll(ProbabilisticArgumentationFramework paf, InferenceMode inferenceMode) {
+		FrozenPaf frozen = new FrozenPaf(paf);
+		int n = frozen.theory.getNumberOfArguments();
+		Argument[] args = new Argument[n];
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++) {
+			args[i] = frozen.theory.getArgument(i);
+			indices[i] = i;
+		}
+		double[] probabilities = this.run(frozen, n, this.getEvaluator(args, indices, inferenceMode));
+		Map<Argument, Double> result = new HashMap<>();
+		for (int i = 0; i < n; i++)
+			result.put(args[i], probabilities[i]);
+		return result;
+	}
+
+	/**
+	 * Returns the evaluator for the acceptance of the given arguments.
+	 * @param args some arguments
+	 * @param indices the indices of the arguments in the frozen PAF (-1 for arguments not in the PAF)
+	 * @param inferenceMode the inference mode
+	 * @return an evaluator.
+	 */
+	private TrialEvaluator getEvaluator(Argument[] args, int[] indices, InferenceMode inferenceMode) {
+		Semantics semantics = this.getSemantics();
+		if (semantics == Semantics.GR || (semantics == Semantics.CO && inferenceMode == InferenceMode.SKEPTICAL))
+			return (sample, hits) -> {
+				long[] grounded = sample.getGroundedExtension();
+				for (int q = 0; q < indices.length; q++)
+					if (indices[q] >= 0 && CompactDungTheory.contains(grounded, indices[q]))
+						hits[q]++;
+			};
+		AbstractExtensionReasoner r = AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics);
+		return (sample, hits) -> {
+			DungTheory sub = sample.toDungTheory();
+			for (int q = 0; q < indices.length; q++)
+				if (r.query(sub, args[q], inferenceMode))
+					hits[q]++;
+		};
+	}
+
+	/**
+	 * Runs the trials.
+	 * @param frozen the frozen PAF
+	 * @param queries the number of estimated probabilities
+	 * @param evaluator the evaluator of a single trial
+	 * @return the estimated probabilities.
+	 */
+	private double[] run(FrozenPaf frozen, int queries, TrialEvaluator evaluator) {
+		SplittableRandom random = new SplittableRandom(this.seed);
+		ForkJoinPool pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+		long[] hits = new long[queries];
+		int trials = 0;
+		try {
+			do {
+				int batch = Math.min(BATCH_SIZE, this.maxTrials - trials);
+				int chunks = (batch + CHUNK_SIZE - 1) / CHUNK_SIZE;
+				SplittableRandom[] randoms = new SplittableRandom[chunks];
+				for (int c = 0; c < chunks; c++)
+					randoms[c] = random.split();
+				long[][] chunkHits = new long[chunks][];
+				IntConsumer chunk = c -> {
+					int size = Math.min(CHUNK_SIZE, batch - c * CHUNK_SIZE);
+					chunkHits[c] = ParallelMonteCarloPafReasoner.runChunk(frozen, queries, evaluator, randoms[c], size);
+				};
+				if (pool == null) {
+					for (int c = 0; c < chunks; c++)
+						chunk.accept(c);
+				} else
+					pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk)).get();
+				for (long[] h : chunkHits)
+					for (int q = 0; q < queries; q++)
+						hits[q] += h[q];
+				trials += batch;
+			} while (trials < this.maxTrials && !this.isPreciseEnough(hits, trials));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			if (pool != null)
+				pool.shutdown();
+		}
+		double[] result = new double[queries];
+		for (int q = 0; q < queries; q++)
+			result[q] = ((double) hits[q]) / trials;
+		return result;
+	}
+
+	/**
+	 * Runs the trials of a single chunk.
+	 * @param frozen the frozen PAF
+	 * @param queries the number of estimated probabilities
+	 * @param evaluator the evaluator of a single trial
+	 * @param random the random generator of the chunk
+	 * @param size the number of trials
+	 * @return the number of trials that satisfied each query.
+	 */
+	private static long[] runChunk(FrozenPaf frozen, int queries, TrialEvaluator evaluator, SplittableRandom random, int size) {
+		long[] hits = new long[queries];
+		Sample sample = new Sample(frozen);
+		for (int t = 0; t < size; t++) {
+			sample.draw(random);
+			evaluator.evaluate(sample, hits);
+		}
+		return hits;
+	}
+
+	/**
+	 * Checks whether the Wilson score intervals of all estimated probabilities are
+	 * at most as wide as requested.
+	 * @param hits the number of trials that satisfied each query
+	 * @param trials the number of trials
+	 * @return "true" iff no further trials are needed.
+	 */
+	private boolean isPreciseEnough(long[] hits, int trials) {
+		if (this.intervalWidth <= 0)
+			return false;
+		double z2 = this.z * this.z;
+		for (long h : hits) {
+			double p = ((double) h) / trials;
+			double width = 2 * this.z * Math.sqrt(p * (1 - p) / trials + z2 / (4d * trials * trials)) / (1 + z2 / trials);
+			if (width > this.intervalWidth)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the quantile function of the standard normal distribution using
+	 * the rational approximation of Acklam (relative error below 1.15e-9).
+	 * @param p some probability in (0,1)
+	 * @return the p-quantile of the standard normal distribution.
+	 */
+	private static double normalQuantile(double p) {
+		double[] a = { -3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02, 1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00 };
+		double[] b = { -5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02, 6.680131188771972e+01, -1.328068155288572e+01 };
+		double[] c = { -7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00, -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00 };
+		double[] d = { 7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00 };
+		if (p < 0.02425) {
+			double q = Math.sqrt(-2 * Math.log(p));
+			return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+		}
+		if (p > 1 - 0.02425)
+			return -ParallelMonteCarloPafReasoner.normalQuantile(1 - p);
+		double q = p - 0.5;
+		double r = q * q;
+		return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.commons.Reasoner#isInstalled()
+	 */
+	@Override
+	public boolean isInstalled() {
+		return true;
+	}
+
+	/**
+	 * Evaluates the queries on a single sampled subgraph.
+	 */
+	@FunctionalInterface
+	private interface TrialEvaluator {
+		/**
+		 * Increments the entries of the queries that are satisfied by the given sample.
+		 * @param sample some sample
+		 * @param hits the number of trials that satisfied each query
+		 */
+		void evaluate(Sample sample, long[] hits);
+	}
+
+	/**
+	 * An int-indexed snapshot of a PAF. Attacks are numbered in the order of the
+	 * attackers of the compact theory, i.e. attack <code>attackerOffsets[j]+k</code>
+	 * is the attack of <code>theory.getAttacker(j,k)</code> on j.
+	 */
+	private static class FrozenPaf {
+		/** The attack structure */
+		private CompactDungTheory theory;
+		/** The probabilities of the arguments */
+		private double[] argumentProbabilities;
+		/** attackerOffsets[j] is the number of the first attack on argument j */
+		private int[] attackerOffsets;
+		/** The probabilities of the attacks */
+		private double[] attackProbabilities;
+		/** outOffsets[i]..outOffsets[i+1]-1 are the positions of the attacks of argument i in outTargets and outAttacks */
+		private int[] outOffsets;
+		/** The arguments attacked by each argument */
+		private int[] outTargets;
+		/** The numbers of the attacks of each argument */
+		private int[] outAttacks;
+
+		/**
+		 * Freezes the given PAF.
+		 * @param paf some PAF
+		 */
+		private FrozenPaf(ProbabilisticArgumentationFramework paf) {
+			this.theory = new CompactDungTheory(paf);
+			int n = this.theory.getNumberOfArguments();
+			this.argumentProbabilities = new double[n];
+			this.attackerOffsets = new int[n + 1];
+			this.outOffsets = new int[n + 1];
+			for (int j = 0; j < n; j++) {
+				this.argumentProbabilities[j] = paf.getProbability(this.theory.getArgument(j)).doubleValue();
+				this.attackerOffsets[j + 1] = this.attackerOffsets[j] + this.theory.getNumberOfAttackers(j);
+				for (int k = 0; k < this.theory.getNumberOfAttackers(j); k++)
+					this.outOffsets[this.theory.getAttacker(j, k) + 1]++;
+			}
+			for (int i = 0; i < n; i++)
+				this.outOffsets[i + 1] += this.outOffsets[i];
+			int m = this.attackerOffsets[n];
+			this.attackProbabilities = new double[m];
+			this.outTargets = new int[m];
+			this.outAttacks = new int[m];
+			int[] pos = Arrays.copyOf(this.outOffsets, n);
+			for (int j = 0; j < n; j++)
+				for (int k = 0; k < this.theory.getNumberOfAttackers(j); k++) {
+					int i = this.theory.getAttacker(j, k);
+					int att = this.attackerOffsets[j] + k;
+					this.attackProbabilities[att] = paf.getProbability(new Attack(this.theory.getArgument(i), this.theory.getArgument(j))).doubleValue();
+					this.outTargets[pos[i]] = j;
+					this.outAttacks[pos[i]++] = att;
+				}
+		}
+	}
+
+	/**
+	 * A sampled subgraph of a frozen PAF, represented by bitsets of the
+	 * present arguments and attacks. A sample is reused for all trials of
+	 * a chunk.
+	 */
+	private static class Sample {
+		/** The frozen PAF */
+		private FrozenPaf paf;
+		/** The present arguments */
+		private long[] arguments;
+		/** The present attacks (only attacks between present arguments) */
+		private long[] attacks;
+		/** Scratch arrays for the grounded extension */
+		private int[] undefeated, queue;
+		/** Scratch array for the arguments attacked by a set */
+		private boolean[] defeated;
+
+		/**
+		 * Creates a new (empty) sample of the given frozen PAF.
+		 * @param paf some frozen PAF
+		 */
+		private Sample(FrozenPaf paf) {
+			this.paf = paf;
+			int n = paf.argumentProbabilities.length;
+			this.arguments = paf.theory.newBitSet();
+			this.attacks = new long[(paf.attackProbabilities.length + 63) / 64];
+			this.undefeated = new int[n];
+			this.queue = new int[n];
+			this.defeated = new boolean[n];
+		}
+
+		/**
+		 * Samples a new subgraph.
+		 * @param random some random generator
+		 */
+		private void draw(SplittableRandom random) {
+			Arrays.fill(this.arguments, 0);
+			Arrays.fill(this.attacks, 0);
+			int n = this.paf.argumentProbabilities.length;
+			for (int i = 0; i < n; i++)
+				if (random.nextDouble() < this.paf.argumentProbabilities[i])
+					CompactDungTheory.add(this.arguments, i);
+			for (int j = 0; j < n; j++) {
+				if (!this.containsArgument(j))
+					continue;
+				for (int att = this.paf.attackerOffsets[j]; att < this.paf.attackerOffsets[j + 1]; att++)
+					if (this.containsArgument(this.paf.theory.getAttacker(j, att - this.paf.attackerOffsets[j])) && random.nextDouble() < this.paf.attackProbabilities[att])
+						CompactDungTheory.add(this.attacks, att);
+			}
+		}
+
+		/**
+		 * Checks whether the given argument is present.
+		 * @param i the index of some argument
+		 * @return "true" iff argument i is present.
+		 */
+		private boolean containsArgument(int i) {
+			return CompactDungTheory.contains(this.arguments, i);
+		}
+
+		/**
+		 * Returns the Dung theory of this sample.
+		 * @return the Dung theory of this sample.
+		 */
+		private DungTheory toDungTheory() {
+			DungTheory theory = new DungTheory();
+			CompactDungTheory t = this.paf.theory;
+			for (int j = 0; j < t.getNumberOfArguments(); j++)
+				if (this.containsArgument(j))
+					theory.add(t.getArgument(j));
+			for (int j = 0; j < t.getNumberOfArguments(); j++)
+				for (int k = 0; k < t.getNumberOfAttackers(j); k++)
+					if (CompactDungTheory.contains(this.attacks, this.paf.attackerOffsets[j] + k))
+						theory.add(new Attack(t.getArgument(t.getAttacker(j, k)), t.getArgument(j)));
+			return theory;
+		}
+
+		/**
+		 * Computes the grounded extension of this sample by counting the
+		 * undefeated attackers of every argument.
+		 * @return the bitset of the grounded extension.
+		 */
+		private long[] getGroundedExtension() {
+			FrozenPaf p = this.paf;
+			int n = p.argumentProbabilities.length;
+			long[] in = p.theory.newBitSet();
+			Arrays.fill(this.defeated, false);
+			int head = 0, tail = 0;
+			for (int j = 0; j < n; j++) {
+				if (!this.containsArgument(j))
+					continue;
+				this.undefeated[j] = 0;
+				for (int att = p.attackerOffsets[j]; att < p.attackerOffsets[j + 1]; att++)
+					if (CompactDungTheory.contains(this.attacks, att))
+						this.undefeated[j]++;
+				if (this.undefeated[j] == 0)
+					this.queue[tail++] = j;
+			}
+			while (head < tail) {
+				int i = this.queue[head++];
+				CompactDungTheory.add(in, i);
+				for (int l = p.outOffsets[i]; l < p.outOffsets[i + 1]; l++) {
+					int j = p.outTargets[l];
+					if (this.defeated[j] || !CompactDungTheory.contains(this.attacks, p.outAttacks[l]))
+						continue;
+					this.defeated[j] = true;
+					// all arguments attacked by j lose one undefeated attacker
+					for (int l2 = p.outOffsets[j]; l2 < p.outOffsets[j + 1]; l2++) {
+						int c = p.outTargets[l2];
+						if (CompactDungTheory.contains(this.attacks, p.outAttacks[l2]) && --this.undefeated[c] == 0 && !this.defeated[c])
+							this.queue[tail++] = c;
+					}
+				}
+			}
+			return in;
+		}
+
+		/**
+		 * Checks whether the given set is a conflict-free set of this sample.
+		 * @param set some bitset
+		 * @return "true" iff the set is conflict-free.
+		 */
+		private boolean isConflictFree(long[] set) {
+			FrozenPaf p = this.paf;
+			for (int j = 0; j < p.argumentProbabilities.length; j++) {
+				if (!CompactDungTheory.contains(set, j))
+					continue;
+				if (!this.containsArgument(j))
+					return false;
+				for (int att = p.attackerOffsets[j]; att < p.attackerOffsets[j + 1]; att++)
+					if (CompactDungTheory.contains(this.attacks, att) && CompactDungTheory.contains(set, p.theory.getAttacker(j, att - p.attackerOffsets[j])))
+						return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Marks all arguments that are attacked by the given set.
+		 * @param set some bitset
+		 */
+		private void computeDefeated(long[] set) {
+			FrozenPaf p = this.paf;
+			Arrays.fill(this.defeated, false);
+			for (int i = 0; i < p.argumentProbabilities.length; i++)
+				if (CompactDungTheory.contains(set, i))
+					for (int l = p.outOffsets[i]; l < p.outOffsets[i + 1]; l++)
+						if (CompactDungTheory.contains(this.attacks, p.outAttacks[l]))
+							this.defeated[p.outTargets[l]] = true;
+		}
+
+		/**
+		 * Checks whether all present attackers of argument j are attacked by the set
+		 * whose attacked arguments have been computed by computeDefeated().
+		 * @param j the index of some argument
+		 * @return "true" iff j is defended.
+		 */
+		private boolean isDefended(int j) {
+			FrozenPaf p = this.paf;
+			for (int att = p.attackerOffsets[j]; att < p.attackerOffsets[j + 1]; att++)
+				if (CompactDungTheory.contains(this.attacks, att) && !this.defeated[p.theory.getAttacker(j, att - p.attackerOffsets[j])])
+					return false;
+			return true;
+		}
+
+		/**
+		 * Checks whether the given set is an admissible set of this sample.
+		 * @param set some bitset
+		 * @return "true" iff the set is admissible.
+		 */
+		private boolean isAdmissible(long[] set) {
+			if (!this.isConflictFree(set))
+				return false;
+			this.computeDefeated(set);
+			for (int j = 0; j < this.paf.argumentProbabilities.length; j++)
+				if (CompactDungTheory.contains(set, j) && !this.isDefended(j))
+					return false;
+			return true;
+		}
+
+		/**
+		 * Checks whether the given set is a complete extension of this sample.
+		 * @param set some bitset
+		 * @return "true" iff the set is a complete extension.
+		 */
+		private boolean isComplete(long[] set) {
+			if (!this.isAdmissible(set))
+				return false;
+			for (int j = 0; j < this.paf.argumentProbabilities.length; j++)
+				if (this.containsArgument(j) && !CompactDungTheory.contains(set, j) && this.isDefended(j))
+					return false;
+			return true;
+		}
+
+		/**
+		 * Checks whether the given set is a stable extension of this sample.
+		 * @param set some bitset
+		 * @return "true" iff the set is a stable extension.
+		 */
+		private boolean isStable(long[] set) {
+			if (!this.isConflictFree(set))
+				return false;
+			this.computeDefeated(set);
+			for (int j = 0; j < this.paf.argumentProbabilities.length; j++)
+				if (this.containsArgument(j) && !CompactDungTheory.contains(set, j) && !this.defeated[j])
+					return false;
+			return true;
+		}
+	}
+}
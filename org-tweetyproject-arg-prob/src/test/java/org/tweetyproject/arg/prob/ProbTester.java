@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.tweetyproject.arg.dung.divisions.Division;
@@ -33,6 +34,11 @@ import org.tweetyproject.arg.dung.syntax.DungTheory;
 import org.tweetyproject.arg.prob.lotteries.ArgumentationLottery;
 import org.tweetyproject.arg.prob.lotteries.SubgraphProbabilityFunction;
 import org.tweetyproject.arg.prob.lotteries.UtilityFunction;
+import org.tweetyproject.arg.prob.reasoner.ParallelMonteCarloPafReasoner;
+import org.tweetyproject.arg.prob.reasoner.SimplePafReasoner;
+import org.tweetyproject.arg.prob.syntax.ProbabilisticArgumentationFramework;
+import org.tweetyproject.commons.InferenceMode;
+import org.tweetyproject.math.probability.Probability;
 
 /**
  * 
@@ -131,4 +137,38 @@ public class ProbTester {
 		assertEquals(util.getExpectedUtility(lottery), 1.7894736842105263, 0.01);
 	}
 
+	@Test
+	public void parallelMonteCarloTest(){
+		ProbabilisticArgumentationFramework paf = new ProbabilisticArgumentationFramework();
+		Argument a = new Argument("a");
+		Argument b = new Argument("b");
+		Argument c = new Argument("c");
+		paf.add(a, new Probability(0.8));
+		paf.add(b, new Probability(0.6));
+		paf.add(c, new Probability(0.5));
+		paf.add(new Attack(a,b), new Probability(0.5));
+		paf.add(new Attack(b,a), new Probability(0.7));
+		paf.add(new Attack(c,b), new Probability(0.9));
+		
+		SimplePafReasoner exact = new SimplePafReasoner(Semantics.GR);
+		ParallelMonteCarloPafReasoner mc = new ParallelMonteCarloPafReasoner(Semantics.GR, 100000, 0, 0.95, 4, 42);
+		ParallelMonteCarloPafReasoner mcSequential = new ParallelMonteCarloPafReasoner(Semantics.GR, 100000, 0, 0.95, 1, 42);
+		Map<Argument,Double> all = mc.queryAll(paf, InferenceMode.SKEPTICAL);
+		for(Argument arg: paf){
+			double p = mc.query(paf, arg, InferenceMode.SKEPTICAL);
+			assertEquals(exact.query(paf, arg, InferenceMode.SKEPTICAL), p, 0.01);
+			assertEquals(p, all.get(arg), 0.01);
+			// the result only depends on the seed
+			assertEquals(p, mcSequential.query(paf, arg, InferenceMode.SKEPTICAL).doubleValue());
+		}
+		Extension<ProbabilisticArgumentationFramework> ext = new Extension<>();
+		ext.add(a);
+		ext.add(c);
+		assertEquals(new SimplePafReasoner(Semantics.CO).query(paf, ext), new ParallelMonteCarloPafReasoner(Semantics.CO, 100000, 0, 0.95, 4, 42).query(paf, ext), 0.01);
+		
+		// stops once the confidence interval is narrow enough
+		ParallelMonteCarloPafReasoner adaptive = new ParallelMonteCarloPafReasoner(Semantics.GR, 100000000, 0.01, 0.95);
+		assertEquals(exact.query(paf, a, InferenceMode.SKEPTICAL), adaptive.query(paf, a, InferenceMode.SKEPTICAL), 0.02);
+	}
+
 }
@@ -18,16 +18,18 @@
  */
 package org.tweetyproject.arg.rankings.reasoner;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 import org.tweetyproject.comparator.LatticePartialOrder;
 import org.tweetyproject.arg.rankings.util.LexicographicDoubleTupleComparator;
+import org.tweetyproject.arg.rankings.util.SparseFixpointEngine;
 
 /**
  * This class implements the "Burden-based" argument semantics approach as
@@ -38,6 +40,9 @@ import org.tweetyproject.arg.rankings.util.LexicographicDoubleTupleComparator;
  */
 public class BurdenBasedRankingReasoner extends AbstractRankingReasoner<LatticePartialOrder<Argument, DungTheory>> {
 
+	/** The engine used for computing the burden numbers */
+	private SparseFixpointEngine engine;
+
 	@Override
 	public Collection<LatticePartialOrder<Argument, DungTheory>> getModels(DungTheory bbase) {
 		Collection<LatticePartialOrder<Argument, DungTheory>> ranks = new HashSet<LatticePartialOrder<Argument, DungTheory>>();
@@ -49,29 +54,24 @@ public class BurdenBasedRankingReasoner extends AbstractRankingReasoner<LatticeP
 	public LatticePartialOrder<Argument, DungTheory> getModel(DungTheory base) {
 		// Number of steps
 		int iMax = 6;
-		// Map for storing burden numbers of previous steps
-		Map<Argument, double[]> burdenNumbers = new HashMap<Argument, double[]>();
-
-		// Initialize burden numbers array
-		for (Argument a : (DungTheory) base) {
-			double[] initialNumbers = new double[iMax + 1];
-			initialNumbers[0] = 1.0; // burden number for step 0 is 1.0 for all arguments
-			burdenNumbers.put(a, initialNumbers);
-		}
-
+		CompactDungTheory theory = new CompactDungTheory(base);
+		// burden number for step 0 is 1.0 for all arguments
+		double[] initialNumbers = new double[theory.getNumberOfArguments()];
+		Arrays.fill(initialNumbers, 1.0);
 		// Compute burden numbers for all steps i
-		for (int i = 1; i <= iMax; i++) {
-			for (Argument a : (DungTheory) base) {
-				Set<Argument> attackers = ( (DungTheory) base).getAttackers(a);
-				double newBurden = 1.0;
-				for (Argument b : attackers) {
-					double[] attackerBurdenNumbers = burdenNumbers.get(b);
-					newBurden += 1.0 / (attackerBurdenNumbers[i - 1]);
-				}
-				double[] burdenNumbersTemp = burdenNumbers.get(a);
-				burdenNumbersTemp[i] = newBurden;
-				burdenNumbers.put(a, burdenNumbersTemp);
-			}
+		double[][] steps = this.engine.iterate(theory, initialNumbers, (t, j, v) -> {
+			double newBurden = 1.0;
+			for (int k = 0; k < t.getNumberOfAttackers(j); k++)
+				newBurden += 1.0 / v[t.getAttacker(j, k)];
+			return newBurden;
+		}, iMax);
+		// Map for storing the burden numbers of all steps
+		Map<Argument, double[]> burdenNumbers = new HashMap<Argument, double[]>();
+		for (int j = 0; j < theory.getNumberOfArguments(); j++) {
+			double[] numbers = new double[iMax + 1];
+			for (int i = 0; i <= iMax; i++)
+				numbers[i] = steps[i][j];
+			burdenNumbers.put(theory.getArgument(j), numbers);
 		}
 
 		// Use the lexicographical order of the burden numbers as ranking
@@ -104,5 +104,15 @@ public class BurdenBasedRankingReasoner extends AbstractRankingReasoner<LatticeP
 
 
     /** Default Constructor */
-    public BurdenBasedRankingReasoner(){}
+    public BurdenBasedRankingReasoner(){
+    	this(new SparseFixpointEngine());
+    }
+
+    /**
+     * Creates a new reasoner that computes the burden numbers with the given engine.
+     * @param engine the engine used for computing the burden numbers (e.g. with several threads)
+     */
+    public BurdenBasedRankingReasoner(SparseFixpointEngine engine){
+    	this.engine = engine;
+    }
 }
@@ -22,9 +22,10 @@ import java.util.Collection;
 import java.util.HashSet;
 
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.arg.rankings.util.SparseFixpointEngine;
 import org.tweetyproject.comparator.NumericalPartialOrder;
-import org.tweetyproject.math.matrix.Matrix;
 
 /**
  * This class implements the "h-categorizer" argument ranking approach that was 
@@ -40,13 +41,16 @@ import org.tweetyproject.math.matrix.Matrix;
 public class CategorizerRankingReasoner extends AbstractRankingReasoner<NumericalPartialOrder<Argument, DungTheory>> {
 	
 	private double epsilon;
+
+	/** The engine used for computing the fixpoint */
+	private SparseFixpointEngine engine;
 	
 	/**
 	 * Create a new CountingRankingReasoner with default
 	 * parameters.
 	 */
 	public CategorizerRankingReasoner() {
-		this.epsilon = 0.001;
+		this(0.001);
 	}
 	
 	/**
@@ -56,7 +60,20 @@ public class CategorizerRankingReasoner extends AbstractRankingReasoner<Numerica
 	 * @param epsilon TODO add description
 	 */
 	public CategorizerRankingReasoner(double epsilon) {
+		this(epsilon, new SparseFixpointEngine());
+	}
+
+	/**
+	 * Create a new CategorizerRankingReasoner with the given
+	 * parameters.
+	 * 
+	 * @param epsilon the algorithm terminates when the change between two iterations is below this value
+	 * @param engine the engine used for computing the fixpoint (e.g. with Gauss-Seidel
+	 * 	updates or several threads)
+	 */
+	public CategorizerRankingReasoner(double epsilon, SparseFixpointEngine engine) {
 		this.epsilon = epsilon;
+		this.engine = engine;
 	}
 	
 	@Override
@@ -69,56 +86,29 @@ public class CategorizerRankingReasoner extends AbstractRankingReasoner<Numerica
 
 	@Override
 	public NumericalPartialOrder<Argument, DungTheory> getModel(DungTheory base) {
-		Matrix directAttackMatrix = ((DungTheory)base).getAdjacencyMatrix().transpose(); //The matrix of direct attackers
-		int n = directAttackMatrix.getXDimension();
-		double valuations[] = new double[n];	 //Stores valuations of the current iteration
-		double valuationsOld[] = new double[n]; //Stores valuations of the last iteration
-		
+		CompactDungTheory theory = new CompactDungTheory(base);
 		//Keep computing valuations until the values stop changing much or converge 
-		do {
-			valuationsOld = valuations.clone();
-			for (int i = 0; i < n; i++) 
-				valuations[i] = calculateCategorizerFunction(valuationsOld,directAttackMatrix,i);
-		} while (getDistance(valuationsOld, valuations) > this.epsilon);
+		double valuations[] = this.engine.iterate(theory, new double[theory.getNumberOfArguments()], 
+				CategorizerRankingReasoner::calculateCategorizerFunction, this.epsilon);
 	
 		//Use computed valuations as values for argument ranking
 		//Note: The order of valuations v[i] is the same as the order of DungTheory.iterator()
 		NumericalPartialOrder<Argument, DungTheory> ranking = new NumericalPartialOrder<Argument, DungTheory>();
 		ranking.setSortingType(NumericalPartialOrder.SortingType.DESCENDING);
-		int i = 0;
-		for (Argument a : ((DungTheory)base)) 
-			ranking.put(a, valuations[i++]);
+		for (int i = 0; i < valuations.length; i++) 
+			ranking.put(theory.getArgument(i), valuations[i]);
 		return ranking;
 	}
 
 	/**
 	 * Computes the h-Categorizer function.
-	 * @param vOld array of double valuations that were computed in the previous iteration
-	 * @param directAttackMatrix complete matrix of direct attacks
-	 * @param i row of the attack matrix that will be used in the calculation
+	 * @param theory the theory
+	 * @param i index of the argument whose valuation is computed
+	 * @param v array of double valuations of the current iteration
 	 * @return categorizer valuation
 	 */
-	private double calculateCategorizerFunction(double[] vOld, Matrix directAttackMatrix, int i) {
-		double c = 1.0;
-		for (int j = 0; j < directAttackMatrix.getXDimension(); j++) {
-			c += vOld[j] * directAttackMatrix.getEntry(i,j).doubleValue();
-		}
-		return (1.0 / c);
-		
-	}
-
-	/**
-	 * Computes the Euclidean distance between to the given arrays.
-	 * @param vOld first array
-	 * @param v second array
-	 * @return distance between v and vOld
-	 */
-	private double getDistance(double[] vOld, double[] v) {
-		double sum = 0.0;
-		for (int i = 0; i < v.length; i++) {
-			sum += Math.pow(v[i]-vOld[i],2.0);
-		}
-		return Math.sqrt(sum);
+	private static double calculateCategorizerFunction(CompactDungTheory theory, int i, double[] v) {
+		return 1.0 / (1.0 + SparseFixpointEngine.sumOfAttackers(theory, i, v));
 	}
 	
 	/**natively installed*/
@@ -18,14 +18,15 @@
  */
 package org.tweetyproject.arg.rankings.reasoner;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
+import org.tweetyproject.arg.rankings.util.SparseFixpointEngine;
 import org.tweetyproject.comparator.NumericalPartialOrder;
-import org.tweetyproject.math.matrix.Matrix;
-import org.tweetyproject.math.term.FloatConstant;
 
 /**
  * This class implements the argument ranking approach of [Pu, Zhang, G.Luo,
@@ -54,12 +55,14 @@ public class CountingRankingReasoner extends AbstractRankingReasoner<NumericalPa
 	 */
 	double epsilon;
 
+	/** The engine used for computing the fixpoint */
+	private SparseFixpointEngine engine;
+
 	/**
 	 * Create a new CountingRankingReasoner with default parameters.
 	 */
 	public CountingRankingReasoner() {
-		this.dampingFactor = 0.9;
-		this.epsilon = 0.001;
+		this(0.9, 0.001);
 	}
 
 	/**
@@ -69,8 +72,21 @@ public class CountingRankingReasoner extends AbstractRankingReasoner<NumericalPa
 	 * @param epsilon TODO add description
 	 */
 	public CountingRankingReasoner(double damping_factor, double epsilon) {
+		this(damping_factor, epsilon, new SparseFixpointEngine());
+	}
+
+	/**
+	 * Create a new CountingRankingReasoner with the given parameters.
+	 * 
+	 * @param damping_factor must be in (0,1)
+	 * @param epsilon the algorithm terminates when the change between two iterations is below this value
+	 * @param engine the engine used for computing the fixpoint (e.g. with Gauss-Seidel
+	 * 	updates or several threads)
+	 */
+	public CountingRankingReasoner(double damping_factor, double epsilon, SparseFixpointEngine engine) {
 		this.dampingFactor = damping_factor;
 		this.epsilon = epsilon;
+		this.engine = engine;
 	}
 	
 	/**
@@ -79,8 +95,7 @@ public class CountingRankingReasoner extends AbstractRankingReasoner<NumericalPa
 	 * @param damping_factor must be in (0,1)
 	 */
 	public CountingRankingReasoner(double damping_factor) {
-		this.dampingFactor = damping_factor;
-		this.epsilon = 0.001;
+		this(damping_factor, 0.001);
 	}
 
 	@Override
@@ -92,71 +107,40 @@ public class CountingRankingReasoner extends AbstractRankingReasoner<NumericalPa
 
 	@Override
 	public NumericalPartialOrder<Argument, DungTheory> getModel(DungTheory kb) {
-		Matrix adjacencyMatrix = ((DungTheory)kb).getAdjacencyMatrix();
+		CompactDungTheory theory = new CompactDungTheory(kb);
+		int n = theory.getNumberOfArguments();
 		
 		// Apply matrix norm to guarantee that the argument strength scale is bounded
-		adjacencyMatrix = adjacencyMatrix.mult((1.0 / getInfiniteNormalizationFactor(adjacencyMatrix)));
-
-		// Apply damping factor
-		adjacencyMatrix = adjacencyMatrix.mult(this.dampingFactor).simplify();
-		
-		int n = ((DungTheory)kb).getNumberOfNodes();
-		Matrix valuations = new Matrix(1, n); // Stores values of the current iteration
-		Matrix valuationsOld = new Matrix(1, n); // Stores values of the last iteration
+		// and apply damping factor
+		int norm = getInfiniteNormalizationFactor(theory);
+		double factor = norm == 0 ? 0 : this.dampingFactor / norm;
 		
-		Matrix e = new Matrix(1, n); // column vector of all ones
-		for (int i = 0; i < n; i++) {
-			e.setEntry(0, i, new FloatConstant(1.0)); 
-		}
 		// the ranking for step 0 is 1.0 for all arguments
-		valuations = e; 
-		
-		do {
-			valuationsOld = valuations;
-			valuations = e.minus(adjacencyMatrix.mult(valuationsOld)).simplify();
-		} while (getDistance(valuationsOld, valuations) > epsilon);
+		double[] e = new double[n];
+		Arrays.fill(e, 1.0);
+		double[] valuations = this.engine.iterate(theory, e, 
+				(t, i, v) -> 1.0 - factor * SparseFixpointEngine.sumOfAttackers(t, i, v), this.epsilon);
 		
 		NumericalPartialOrder<Argument, DungTheory> ranking = new NumericalPartialOrder<Argument, DungTheory>();
 		ranking.setSortingType(NumericalPartialOrder.SortingType.DESCENDING);
-		int i = 0;
-		for (Argument a : ((DungTheory)kb)) 
-			ranking.put(a, valuations.getEntry(0, i++).doubleValue());
+		for (int i = 0; i < n; i++) 
+			ranking.put(theory.getArgument(i), valuations[i]);
 
 		return ranking;
 	}
 
 	/**
-	 * Calculates the infinite matrix norm of the given matrix (i.e. the maximum
-	 * absolute row sum).
-	 * 
-	 * @param matrix
-	 * @return infinite matrix norm of the matrix
-	 */
-	private double getInfiniteNormalizationFactor(Matrix matrix) {
-		double maxSum = 0.0;
-		for (int y = 0; y < matrix.getXDimension(); y++) {
-			double sum = 0.0;
-			for (int x = 0; x < matrix.getYDimension(); x++)
-				sum += matrix.getEntry(x, y).doubleValue();
-			if (sum > maxSum)
-				maxSum = sum;
-		}
-		return maxSum;
-	}
-
-	/**
-	 * Computes the Euclidean distance between to the given column vectors.
+	 * Calculates the infinite matrix norm of the attack matrix of the given theory
+	 * (i.e. the maximum number of attackers of an argument).
 	 * 
-	 * @param vOld first column vector
-	 * @param v     second column vector
-	 * @return distance between v and v_old
+	 * @param theory some theory
+	 * @return infinite matrix norm of the attack matrix
 	 */
-	private double getDistance(Matrix vOld, Matrix v) {
-		double sum = 0.0;
-		for (int i = 0; i < v.getYDimension(); i++) {
-			sum += Math.pow(v.getEntry(0, i).doubleValue() - vOld.getEntry(0, i).doubleValue(), 2.0);
-		}
-		return Math.sqrt(sum);
+	private int getInfiniteNormalizationFactor(CompactDungTheory theory) {
+		int max = 0;
+		for (int i = 0; i < theory.getNumberOfArguments(); i++)
+			max = Math.max(max, theory.getNumberOfAttackers(i));
+		return max;
 	}
 	
 	/**natively installed*/
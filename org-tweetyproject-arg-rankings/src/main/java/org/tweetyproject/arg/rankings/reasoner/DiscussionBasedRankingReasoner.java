@@ -19,16 +19,19 @@
 package org.tweetyproject.arg.rankings.reasoner;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 
 import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
 import org.tweetyproject.arg.dung.syntax.DungTheory;
 import org.tweetyproject.comparator.LatticePartialOrder;
 import org.tweetyproject.comparator.NumericalPartialOrder;
 import org.tweetyproject.arg.rankings.util.RankingTools;
+import org.tweetyproject.arg.rankings.util.SparseFixpointEngine;
 
 /**
  * This class implements the "Discussion-based" argument semantics approach as
@@ -42,6 +45,9 @@ import org.tweetyproject.arg.rankings.util.RankingTools;
  */
 public class DiscussionBasedRankingReasoner extends AbstractRankingReasoner<LatticePartialOrder<Argument, DungTheory>> {
 
+	/** The engine used for counting the linear discussions */
+	private SparseFixpointEngine engine;
+
 	@Override
 	public Collection<LatticePartialOrder<Argument, DungTheory>> getModels(DungTheory bbase) {
 		Collection<LatticePartialOrder<Argument, DungTheory>> ranks = new HashSet<LatticePartialOrder<Argument, DungTheory>>();
@@ -53,10 +59,18 @@ public class DiscussionBasedRankingReasoner extends AbstractRankingReasoner<Latt
 	public LatticePartialOrder<Argument, DungTheory> getModel(DungTheory kb) {
 		int iMax = 6; // Treshold for maximum length of linear discussions (paths)
 
+		// The number of linear discussions of length i of an argument is the sum of the numbers of 
+		// linear discussions of length i-1 of its attackers (there is one discussion of length 1)
+		CompactDungTheory theory = new CompactDungTheory(kb);
+		double[] ones = new double[theory.getNumberOfArguments()];
+		Arrays.fill(ones, 1.0);
+		double[][] pathCounts = this.engine.iterate(theory, ones, SparseFixpointEngine::sumOfAttackers, iMax);
+
 		Map<Argument, ArrayList<Double>> discussionCounts = new HashMap<Argument, ArrayList<Double>>();
 		for (int i = 2; i <= iMax+1; i++) { //Start with paths of length i=2 (discussion_count for length 1 would be -1 for all arguments)
-			for (Argument a : (DungTheory) kb) {
-				double discussionCount = getNumberOfPathsOfLength((DungTheory) kb, a, i);
+			for (int j = 0; j < theory.getNumberOfArguments(); j++) {
+				Argument a = theory.getArgument(j);
+				double discussionCount = pathCounts[i-1][j];
 				if ((i & 1) != 0)
 					discussionCount = -discussionCount; // odd value => negative discussion count
 				ArrayList<Double> argumentDiscussionCounts = discussionCounts.get(a);
@@ -133,5 +147,15 @@ public class DiscussionBasedRankingReasoner extends AbstractRankingReasoner<Latt
 
 
     /** Default Constructor */
-    public DiscussionBasedRankingReasoner(){}
+    public DiscussionBasedRankingReasoner(){
+    	this(new SparseFixpointEngine());
+    }
+
+    /**
+     * Creates a new reasoner that counts the linear discussions with the given engine.
+     * @param engine the engine used for counting the linear discussions (e.g. with several threads)
+     */
+    public DiscussionBasedRankingReasoner(SparseFixpointEngine engine){
+    	this.engine = engine;
+    }
 }
@@ -0,0 +1,253 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.arg.rankings.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.tweetyproject.arg.dung.syntax.CompactDungTheory;
+
+/**
+ * An iteration engine for gradual semantics, i.e., for semantics that assign
+ * every argument a value that is computed from the values of its direct
+ * attackers. Values are stored in a <code>double[]</code> indexed like the
+ * arguments of a {@link CompactDungTheory} (i.e. in the order of the iterator of
+ * the original theory) and the update of an argument only walks over the
+ * attacker list of the argument, so no adjacency matrix is needed.<br>
+ * <br>
+ * The engine supports two update schemes:
+ * <ul>
+ * <li> JACOBI: every sweep computes the new values only from the values of the
+ * 	previous sweep. Sweeps can be distributed over several threads.
+ * <li> GAUSS_SEIDEL: the values are updated in place, so an update already sees the
+ * 	new values of the arguments with smaller index. This usually needs fewer
+ * 	sweeps, but sweeps are always sequential.
+ * </ul>
+ *
+ * @author The TweetyProject Team
+ */
+public class SparseFixpointEngine {
+
+	/**
+	 * The update schemes of the engine.
+	 */
+	public enum UpdateMode {
+		/** new values are computed from the values of the previous sweep */
+		JACOBI,
+		/** values are updated in place */
+		GAUSS_SEIDEL
+	}
+
+	/**
+	 * The update function of a gradual semantics.
+	 */
+	@FunctionalInterface
+	public interface UpdateFunction {
+		/**
+		 * Computes the new value of the given argument.
+		 * @param theory some compact theory
+		 * @param i the index of some argument
+		 * @param values the current values of all arguments
+		 * @return the new value of argument i.
+		 */
+		public double update(CompactDungTheory theory, int i, double[] values);
+	}
+
+	/** The update scheme */
+	private UpdateMode mode;
+
+	/** The number of threads used for Jacobi sweeps */
+	private int threads;
+
+	/**
+	 * Creates a new sequential engine with Jacobi updates.
+	 */
+	public SparseFixpointEngine() {
+		this(UpdateMode.JACOBI, 1);
+	}
+
+	/**
+	 * Creates a new engine.
+	 * @param mode the update scheme
+	 * @param threads the number of threads used for Jacobi sweeps (ignored for
+	 * 	Gauss-Seidel updates)
+	 */
+	public SparseFixpointEngine(UpdateMode mode, int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException("The number of threads must be positive.");
+		this.mode = mode;
+		this.threads = threads;
+	}
+
+	/**
+	 * Returns the update scheme of this engine.
+	 * @return the update scheme of this engine.
+	 */
+	public UpdateMode getUpdateMode() {
+		return this.mode;
+	}
+
+	/**
+	 * Returns the number of threads used for Jacobi sweeps.
+	 * @return the number of threads used for Jacobi sweeps.
+	 */
+	public int getNumberOfThreads() {
+		return this.threads;
+	}
+
+	/**
+	 * Applies the update function until the Euclidean distance between the values
+	 * of two consecutive sweeps is at most epsilon.
+	 * @param theory some compact theory
+	 * @param initial the initial values (not modified)
+	 * @param function the update function
+	 * @param epsilon the tolerance
+	 * @return the values after the last sweep.
+	 */
+	public double[] iterate(CompactDungTheory theory, double[] initial, UpdateFunction function, double epsilon) {
+		ForkJoinPool pool = this.createPool();
+		try {
+			double[] values = initial.clone();
+			double[] next = new double[values.length];
+			double distance;
+			do {
+				if (this.mode == UpdateMode.GAUSS_SEIDEL) {
+					distance = SparseFixpointEngine.sweepInPlace(theory, values, function);
+				} else {
+					this.sweep(pool, theory, values, next, function);
+					distance = SparseFixpointEngine.getDistance(values, next);
+					double[] tmp = values;
+					values = next;
+					next = tmp;
+				}
+			} while (distance > epsilon);
+			return values;
+		} finally {
+			if (pool != null)
+				pool.shutdown();
+		}
+	}
+
+	/**
+	 * Applies the update function the given number of times with Jacobi updates
+	 * (independently of the update scheme of the engine) and records all
+	 * intermediate values.
+	 * @param theory some compact theory
+	 * @param initial the initial values
+	 * @param function the update function
+	 * @param steps the number of sweeps
+	 * @return an array of length steps+1 whose i-th entry holds the values
+	 * 	after i sweeps (the 0-th entry is the initial array).
+	 */
+	public double[][] iterate(CompactDungTheory theory, double[] initial, UpdateFunction function, int steps) {
+		ForkJoinPool pool = this.createPool();
+		try {
+			double[][] result = new double[steps + 1][];
+			result[0] = initial;
+			for (int i = 1; i <= steps; i++) {
+				result[i] = new double[initial.length];
+				this.sweep(pool, theory, result[i - 1], result[i], function);
+			}
+			return result;
+		} finally {
+			if (pool != null)
+				pool.shutdown();
+		}
+	}
+
+	/**
+	 * Creates the pool for parallel sweeps.
+	 * @return a pool or null if sweeps are sequential.
+	 */
+	private ForkJoinPool createPool() {
+		return this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+	}
+
+	/**
+	 * Performs a single Jacobi sweep.
+	 * @param pool the pool for parallel sweeps (or null)
+	 * @param theory some compact theory
+	 * @param values the current values
+	 * @param next the array the new values are written to
+	 * @param function the update function
+	 */
+	private void sweep(ForkJoinPool pool, CompactDungTheory theory, double[] values, double[] next, UpdateFunction function) {
+		if (pool == null) {
+			for (int i = 0; i < values.length; i++)
+				next[i] = function.update(theory, i, values);
+			return;
+		}
+		try {
+			pool.submit(() -> IntStream.range(0, values.length).parallel()
+					.forEach(i -> next[i] = function.update(theory, i, values))).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Performs a single Gauss-Seidel sweep.
+	 * @param theory some compact theory
+	 * @param values the current values, which are updated in place
+	 * @param function the update function
+	 * @return the Euclidean distance between the values before and after the sweep.
+	 */
+	private static double sweepInPlace(CompactDungTheory theory, double[] values, UpdateFunction function) {
+		double sum = 0;
+		for (int i = 0; i < values.length; i++) {
+			double value = function.update(theory, i, values);
+			sum += (value - values[i]) * (value - values[i]);
+			values[i] = value;
+		}
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Computes the Euclidean distance between the given arrays.
+	 * @param v1 some array
+	 * @param v2 some array of the same length
+	 * @return the distance between v1 and v2
+	 */
+	public static double getDistance(double[] v1, double[] v2) {
+		double sum = 0;
+		for (int i = 0; i < v1.length; i++)
+			sum += (v1[i] - v2[i]) * (v1[i] - v2[i]);
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Returns the sum of the values of the attackers of the given argument.
+	 * @param theory some compact theory
+	 * @param i the index of some argument
+	 * @param values the values of all arguments
+	 * @return the sum of the values of the attackers of i.
+	 */
+	public static double sumOfAttackers(CompactDungTheory theory, int i, double[] values) {
+		double sum = 0;
+		for (int k = 0; k < theory.getNumberOfAttackers(i); k++)
+			sum += values[theory.getAttacker(i, k)];
+		return sum;
+	}
+}
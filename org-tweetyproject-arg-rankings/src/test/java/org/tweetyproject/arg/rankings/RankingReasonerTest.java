@@ -18,6 +18,7 @@
  */
 package org.tweetyproject.arg.rankings;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -31,7 +32,9 @@ import org.tweetyproject.arg.rankings.reasoner.StrategyBasedRankingReasoner;
 import org.tweetyproject.arg.rankings.reasoner.TuplesRankingReasoner;
 import org.tweetyproject.arg.rankings.reasoner.BurdenBasedRankingReasoner;
 import org.tweetyproject.arg.rankings.reasoner.CategorizerRankingReasoner;
+import org.tweetyproject.arg.rankings.reasoner.CountingRankingReasoner;
 import org.tweetyproject.arg.rankings.reasoner.DiscussionBasedRankingReasoner;
+import org.tweetyproject.arg.rankings.util.SparseFixpointEngine;
 import org.tweetyproject.comparator.LatticePartialOrder;
 import org.tweetyproject.comparator.NumericalPartialOrder;
 
@@ -223,5 +226,37 @@ public class RankingReasonerTest {
 		assertTrue(ranking_burden.isStrictlyMoreAcceptableThan(a, b));
 		assertFalse(ranking_discussion.isStrictlyMoreAcceptableThan(a,b));
 	}
+
+	@Test(timeout = DEFAULT_TIMEOUT)
+	//Gauss-Seidel and parallel sweeps compute the same gradual valuations as sequential Jacobi sweeps
+	public void SparseFixpointEngineTest() throws Exception {
+		DungTheory dt = new DungTheory();
+		Argument[] args = new Argument[50];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = new Argument("a" + i);
+			dt.add(args[i]);
+		}
+		for (int i = 0; i < args.length; i++) {
+			dt.add(new Attack(args[i], args[(i + 1) % args.length]));
+			dt.add(new Attack(args[i], args[(i * 7) % args.length]));
+		}
+		SparseFixpointEngine gaussSeidel = new SparseFixpointEngine(SparseFixpointEngine.UpdateMode.GAUSS_SEIDEL, 1);
+		SparseFixpointEngine parallel = new SparseFixpointEngine(SparseFixpointEngine.UpdateMode.JACOBI, 4);
+		NumericalPartialOrder<Argument, DungTheory> cat1 = new CategorizerRankingReasoner(0.000001).getModel(dt);
+		NumericalPartialOrder<Argument, DungTheory> cat2 = new CategorizerRankingReasoner(0.000001, gaussSeidel).getModel(dt);
+		NumericalPartialOrder<Argument, DungTheory> cat3 = new CategorizerRankingReasoner(0.000001, parallel).getModel(dt);
+		NumericalPartialOrder<Argument, DungTheory> count1 = new CountingRankingReasoner(0.9, 0.000001).getModel(dt);
+		NumericalPartialOrder<Argument, DungTheory> count2 = new CountingRankingReasoner(0.9, 0.000001, gaussSeidel).getModel(dt);
+		for (Argument a : args) {
+			assertEquals(cat1.get(a), cat2.get(a), 0.0001);
+			assertEquals(cat1.get(a), cat3.get(a), 0.0);
+			assertEquals(count1.get(a), count2.get(a), 0.0001);
+		}
+		LatticePartialOrder<Argument, DungTheory> burden1 = new BurdenBasedRankingReasoner().getModel(dt);
+		LatticePartialOrder<Argument, DungTheory> burden2 = new BurdenBasedRankingReasoner(parallel).getModel(dt);
+		for (Argument a : args)
+			for (Argument b : args)
+				assertEquals(burden1.isStrictlyLessOrEquallyAcceptableThan(a, b), burden2.isStrictlyLessOrEquallyAcceptableThan(a, b));
+	}
 	
 }
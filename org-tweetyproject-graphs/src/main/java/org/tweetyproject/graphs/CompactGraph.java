@@ -0,0 +1,214 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, int-indexed snapshot of a graph in compressed sparse row (CSR)
+ * format. Every node is assigned an index in 0..n-1 and the children and parents
+ * of each node are stored in contiguous ranges of flat int arrays. This
+ * representation is meant for read-heavy algorithms (centralities, rankings,
+ * component analysis) that would otherwise repeatedly query the neighborhoods of
+ * nodes through the object-based <code>Graph</code> interface.<br>
+ * <br>
+ * Undirected edges are represented by a child and a parent entry in both
+ * directions, so the snapshot agrees with <code>Graph.getChildren()</code> and
+ * <code>Graph.getParents()</code> of the original graph.
+ *
+ * @author The TweetyProject Team
+ *
+ * @param <T> The type of the node.
+ */
+public class CompactGraph<T extends Node> {
+
+	/** The nodes, position i holds the node with index i */
+	private List<T> nodes;
+
+	/** Maps nodes to their indices */
+	private Map<T, Integer> index;
+
+	/** childOffsets[i]..childOffsets[i+1]-1 are the positions of the children of node i in children */
+	private int[] childOffsets;
+
+	/** The indices of the children of all nodes */
+	private int[] children;
+
+	/** parentOffsets[i]..parentOffsets[i+1]-1 are the positions of the parents of node i in parents */
+	private int[] parentOffsets;
+
+	/** The indices of the parents of all nodes */
+	private int[] parents;
+
+	/**
+	 * Creates a compact snapshot of the given graph.
+	 * @param graph some graph
+	 */
+	public CompactGraph(Graph<T> graph) {
+		int n = graph.getNumberOfNodes();
+		this.nodes = new ArrayList<T>(n);
+		this.index = new HashMap<T, Integer>();
+		for (T node : graph) {
+			this.index.put(node, this.nodes.size());
+			this.nodes.add(node);
+		}
+		int[][] childLists = new int[n][];
+		int[][] parentLists = new int[n][];
+		for (int i = 0; i < n; i++) {
+			childLists[i] = this.toIndices(graph.getChildren(this.nodes.get(i)));
+			parentLists[i] = this.toIndices(graph.getParents(this.nodes.get(i)));
+		}
+		this.childOffsets = new int[n + 1];
+		this.children = CompactGraph.flatten(childLists, this.childOffsets);
+		this.parentOffsets = new int[n + 1];
+		this.parents = CompactGraph.flatten(parentLists, this.parentOffsets);
+	}
+
+	/**
+	 * Maps the given nodes to their (sorted) indices.
+	 * @param ns some nodes of the graph
+	 * @return the sorted indices of the nodes.
+	 */
+	private int[] toIndices(Collection<T> ns) {
+		int[] result = new int[ns.size()];
+		int i = 0;
+		for (T node : ns)
+			result[i++] = this.index.get(node);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Concatenates the given lists and records the start position of each list.
+	 * @param lists some int lists
+	 * @param offsets an array of length lists.length+1 that is filled with the
+	 * 	start positions of the lists.
+	 * @return the concatenation of the lists.
+	 */
+	private static int[] flatten(int[][] lists, int[] offsets) {
+		int size = 0;
+		for (int i = 0; i < lists.length; i++) {
+			offsets[i] = size;
+			size += lists[i].length;
+		}
+		offsets[lists.length] = size;
+		int[] result = new int[size];
+		for (int i = 0; i < lists.length; i++)
+			System.arraycopy(lists[i], 0, result, offsets[i], lists[i].length);
+		return result;
+	}
+
+	/**
+	 * Returns the number of nodes.
+	 * @return the number of nodes.
+	 */
+	public int getNumberOfNodes() {
+		return this.nodes.size();
+	}
+
+	/**
+	 * Returns the node with the given index.
+	 * @param i some index in 0..n-1
+	 * @return the node with index i.
+	 */
+	public T getNode(int i) {
+		return this.nodes.get(i);
+	}
+
+	/**
+	 * Returns the index of the given node.
+	 * @param node some node
+	 * @return the index of the node or -1 if the node is not in this graph.
+	 */
+	public int getIndex(T node) {
+		Integer i = this.index.get(node);
+		return i == null ? -1 : i;
+	}
+
+	/**
+	 * Returns the number of children of the node with index i.
+	 * @param i some node index
+	 * @return the number of children of node i.
+	 */
+	public int getNumberOfChildren(int i) {
+		return this.childOffsets[i + 1] - this.childOffsets[i];
+	}
+
+	/**
+	 * Returns the k-th child (in ascending index order) of the node with index i.
+	 * @param i some node index
+	 * @param k some number in 0..getNumberOfChildren(i)-1
+	 * @return the index of the k-th child of node i.
+	 */
+	public int getChild(int i, int k) {
+		return this.children[this.childOffsets[i] + k];
+	}
+
+	/**
+	 * Returns the indices of the children of the node with index i.
+	 * @param i some node index
+	 * @return a new array containing the sorted indices of the children of node i.
+	 */
+	public int[] getChildren(int i) {
+		return Arrays.copyOfRange(this.children, this.childOffsets[i], this.childOffsets[i + 1]);
+	}
+
+	/**
+	 * Returns the number of parents of the node with index i.
+	 * @param i some node index
+	 * @return the number of parents of node i.
+	 */
+	public int getNumberOfParents(int i) {
+		return this.parentOffsets[i + 1] - this.parentOffsets[i];
+	}
+
+	/**
+	 * Returns the k-th parent (in ascending index order) of the node with index i.
+	 * @param i some node index
+	 * @param k some number in 0..getNumberOfParents(i)-1
+	 * @return the index of the k-th parent of node i.
+	 */
+	public int getParent(int i, int k) {
+		return this.parents[this.parentOffsets[i] + k];
+	}
+
+	/**
+	 * Returns the indices of the parents of the node with index i.
+	 * @param i some node index
+	 * @return a new array containing the sorted indices of the parents of node i.
+	 */
+	public int[] getParents(int i) {
+		return Arrays.copyOfRange(this.parents, this.parentOffsets[i], this.parentOffsets[i + 1]);
+	}
+
+	/**
+	 * Checks whether there is an edge from node i to node j.
+	 * @param i some node index
+	 * @param j some node index
+	 * @return "true" if j is a child of i.
+	 */
+	public boolean isChild(int i, int j) {
+		return Arrays.binarySearch(this.children, this.childOffsets[i], this.childOffsets[i + 1], j) >= 0;
+	}
+}
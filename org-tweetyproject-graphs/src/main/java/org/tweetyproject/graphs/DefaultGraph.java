@@ -40,12 +40,203 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 	/** The set of edges */
 	protected Set<Edge<T>> edges;
 
+	/** For each node the edges starting in that node */
+	private Map<T, Set<Edge<T>>> outgoing;
+
+	/** For each node the edges ending in that node */
+	private Map<T, Set<Edge<T>>> incoming;
+
+	/** The number of modifications of the nodes and edges of this graph */
+	private long modCount = 0;
+
 	/**
 	 * Creates an empty graph.
 	 */
 	public DefaultGraph() {
-		this.nodes = new HashSet<T>();
-		this.edges = new HashSet<Edge<T>>();
+		this.nodes = new NodeSet();
+		this.outgoing = new HashMap<T, Set<Edge<T>>>();
+		this.incoming = new HashMap<T, Set<Edge<T>>>();
+		this.edges = new IndexedEdgeSet();
+	}
+
+	/**
+	 * The node set of a graph, counts every modification (also through
+	 * <code>getNodes()</code> or its iterator).
+	 */
+	private class NodeSet extends AbstractSet<T> {
+		/** The actual nodes */
+		private Set<T> set = new HashSet<T>();
+
+		@Override
+		public boolean add(T node) {
+			if (!this.set.add(node))
+				return false;
+			modCount++;
+			return true;
+		}
+
+		@Override
+		public boolean remove(Object obj) {
+			if (!this.set.remove(obj))
+				return false;
+			modCount++;
+			return true;
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			return this.set.contains(obj);
+		}
+
+		@Override
+		public void clear() {
+			this.set.clear();
+			modCount++;
+		}
+
+		@Override
+		public int size() {
+			return this.set.size();
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			Iterator<T> it = this.set.iterator();
+			return new Iterator<T>() {
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return it.next();
+				}
+
+				@Override
+				public void remove() {
+					it.remove();
+					modCount++;
+				}
+			};
+		}
+	}
+
+	/**
+	 * The edge set of a graph. Every modification of the set (also through
+	 * <code>getEdges()</code> or its iterator) updates the outgoing and incoming
+	 * edge indexes of the nodes, so that neighborhood queries
+	 * only need to look at the edges incident to a node.
+	 */
+	private class IndexedEdgeSet extends AbstractSet<Edge<T>> {
+		/** The actual edges */
+		private Set<Edge<T>> set = new HashSet<Edge<T>>();
+
+		@Override
+		public boolean add(Edge<T> edge) {
+			if (!this.set.add(edge))
+				return false;
+			outgoing.computeIfAbsent(edge.getNodeA(), n -> new HashSet<Edge<T>>()).add(edge);
+			incoming.computeIfAbsent(edge.getNodeB(), n -> new HashSet<Edge<T>>()).add(edge);
+			modCount++;
+			return true;
+		}
+
+		@Override
+		public boolean remove(Object obj) {
+			if (!this.set.remove(obj))
+				return false;
+			this.unindex((Edge<?>) obj);
+			return true;
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			return this.set.contains(obj);
+		}
+
+		@Override
+		public void clear() {
+			this.set.clear();
+			outgoing.clear();
+			incoming.clear();
+			modCount++;
+		}
+
+		@Override
+		public int size() {
+			return this.set.size();
+		}
+
+		@Override
+		public Iterator<Edge<T>> iterator() {
+			Iterator<Edge<T>> it = this.set.iterator();
+			return new Iterator<Edge<T>>() {
+				private Edge<T> current;
+
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+
+				@Override
+				public Edge<T> next() {
+					this.current = it.next();
+					return this.current;
+				}
+
+				@Override
+				public void remove() {
+					it.remove();
+					unindex(this.current);
+				}
+			};
+		}
+
+		/**
+		 * Removes the given edge from the node indexes.
+		 * @param edge some edge
+		 */
+		private void unindex(Edge<?> edge) {
+			DefaultGraph.unindex(outgoing, edge.getNodeA(), edge);
+			DefaultGraph.unindex(incoming, edge.getNodeB(), edge);
+			modCount++;
+		}
+	}
+
+	/**
+	 * Removes the given edge from the edge set of the given node in the given index
+	 * and drops the node from the index if it has no more edges.
+	 * @param <S> the type of nodes
+	 * @param index some edge index
+	 * @param node some node
+	 * @param edge some edge
+	 */
+	private static <S extends Node> void unindex(Map<S, Set<Edge<S>>> index, Object node, Edge<?> edge) {
+		Set<Edge<S>> nodeEdges = index.get(node);
+		if (nodeEdges != null) {
+			nodeEdges.remove(edge);
+			if (nodeEdges.isEmpty())
+				index.remove(node);
+		}
+	}
+
+	/**
+	 * Returns the edges starting in the given node.
+	 * @param node some node
+	 * @return the (possibly empty) set of edges starting in the node.
+	 */
+	private Set<Edge<T>> getOutgoingEdges(Object node) {
+		return this.outgoing.getOrDefault(node, Collections.emptySet());
+	}
+
+	/**
+	 * Returns the edges ending in the given node.
+	 * @param node some node
+	 * @return the (possibly empty) set of edges ending in the node.
+	 */
+	private Set<Edge<T>> getIncomingEdges(Object node) {
+		return this.incoming.getOrDefault(node, Collections.emptySet());
 	}
 
 	/*
@@ -98,6 +289,11 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 		return this.edges.size();
 	}
 
+	@Override
+	public long getModificationCount() {
+		return this.modCount;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -135,12 +331,10 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 		if (!this.nodes.contains(node))
 			throw new IllegalArgumentException("The node is not in this graph.");
 		Set<T> neighbors = new HashSet<T>();
-		for (Edge<T> edge : this.edges) {
-			if (edge.getNodeA() == node)
-				neighbors.add(edge.getNodeB());
-			else if (edge.getNodeB() == node)
-				neighbors.add(edge.getNodeA());
-		}
+		for (Edge<T> edge : this.getOutgoingEdges(node))
+			neighbors.add(edge.getNodeB());
+		for (Edge<T> edge : this.getIncomingEdges(node))
+			neighbors.add(edge.getNodeA());
 		return neighbors;
 	}
 
@@ -153,12 +347,11 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 		if (!this.nodes.contains(node))
 			throw new IllegalArgumentException("The node is not in this graph.");
 		Set<T> children = new HashSet<T>();
-		for (Edge<T> edge : this.edges) {
-			if (edge.getNodeA() == node)
-				children.add(edge.getNodeB());
-			else if (edge.getNodeB() == node && (edge instanceof UndirectedEdge))
+		for (Edge<T> edge : this.getOutgoingEdges(node))
+			children.add(edge.getNodeB());
+		for (Edge<T> edge : this.getIncomingEdges(node))
+			if (edge instanceof UndirectedEdge)
 				children.add(edge.getNodeA());
-		}
 		return children;
 	}
 
@@ -171,12 +364,11 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 		if (!this.nodes.contains(node))
 			throw new IllegalArgumentException("The node is not in this graph.");
 		Set<T> parents = new HashSet<T>();
-		for (Edge<T> edge : this.edges) {
-			if (edge.getNodeB() == node)
-				parents.add(edge.getNodeA());
-			else if (edge.getNodeA() == node && (edge instanceof UndirectedEdge))
+		for (Edge<T> edge : this.getIncomingEdges(node))
+			parents.add(edge.getNodeA());
+		for (Edge<T> edge : this.getOutgoingEdges(node))
+			if (edge instanceof UndirectedEdge)
 				parents.add(edge.getNodeB());
-		}
 		return parents;
 	}
 
@@ -198,14 +390,28 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 	 */
 	@Override
 	public Edge<T> getEdge(T a, T b) {
-		for (Edge<T> edge : this.edges) {
-			if (edge.getNodeA().equals(a) || (edge instanceof UndirectedEdge && edge.getNodeB().equals(a)))
-				if (edge.getNodeB().equals(b) || (edge instanceof UndirectedEdge && edge.getNodeA().equals(b)))
+		for (Edge<T> edge : this.getOutgoingEdges(a)) {
+			if (edge.getNodeB().equals(b) || (edge instanceof UndirectedEdge && edge.getNodeA().equals(b)))
+				return edge;
+		}
+		for (Edge<T> edge : this.getIncomingEdges(a)) {
+			if (edge instanceof UndirectedEdge)
+				if (edge.getNodeB().equals(b) || edge.getNodeA().equals(b))
 					return edge;
 		}
 		return null;
 	}
 
+	/**
+	 * Returns a compact, int-indexed snapshot of this graph, see {@link CompactGraph}.
+	 * Later modifications of this graph are not reflected in the snapshot.
+	 *
+	 * @return a compact snapshot of this graph.
+	 */
+	public CompactGraph<T> getCompactGraph() {
+		return new CompactGraph<T>(this);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -317,6 +523,7 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 	 * @param idx     the current node index
 	 * @param v       the current node
 	 * @param stack   the stack of nodes that need to be visited
+	 * @param onStack the nodes currently on the stack
 	 * @param sccs    the set of SCCs that is computed
 	 * @param g       the graph
 	 * @param index   an index map for the vertices
@@ -324,16 +531,17 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 	 * @return the updated idx
 	 */
 	private static <S extends Node> int getStronglyConnectedComponentsRec(int idx, S v, Stack<S> stack,
-			Collection<Collection<S>> sccs, Graph<S> g, Map<S, Integer> index, Map<S, Integer> lowlink) {
+			Set<S> onStack, Collection<Collection<S>> sccs, Graph<S> g, Map<S, Integer> index, Map<S, Integer> lowlink) {
 		index.put(v, idx);
 		lowlink.put(v, idx);
 		idx++;
 		stack.push(v);
+		onStack.add(v);
 		for (S w : g.getChildren(v)) {
 			if (!index.containsKey(w)) {
-				idx = getStronglyConnectedComponentsRec(idx, w, stack, sccs, g, index, lowlink);
+				idx = getStronglyConnectedComponentsRec(idx, w, stack, onStack, sccs, g, index, lowlink);
 				lowlink.put(v, Math.min(lowlink.get(v), lowlink.get(w)));
-			} else if (stack.contains(w)) {
+			} else if (onStack.contains(w)) {
 				lowlink.put(v, Math.min(lowlink.get(v), index.get(w)));
 			}
 		}
@@ -342,6 +550,7 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 			S w;
 			do {
 				w = stack.pop();
+				onStack.remove(w);
 				scc.add(w);
 			} while (!v.equals(w));
 			sccs.add(scc);
@@ -397,9 +606,10 @@ public class DefaultGraph<T extends Node> implements Graph<T> {
 		Collection<Collection<S>> sccs = new HashSet<Collection<S>>();
 		Map<S, Integer> index = new HashMap<S, Integer>();
 		Map<S, Integer> lowlink = new HashMap<S, Integer>();
+		Set<S> onStack = new HashSet<S>();
 		for (S v : g) {
 			if (!index.containsKey(v))
-				idx = getStronglyConnectedComponentsRec(idx, v, stack, sccs, g, index, lowlink);
+				idx = getStronglyConnectedComponentsRec(idx, v, stack, onStack, sccs, g, index, lowlink);
 		}
 		return sccs;
 	}
@@ -130,6 +130,17 @@ public interface Graph<T extends Node> extends GeneralGraph<T>{
 	 */
 	public Collection<T> getParents(Node node);
 
+	/**
+	 * Returns the modification count of this graph, i.e. a number that changes
+	 * whenever a node or an edge is added to or removed from this graph. This
+	 * allows caching results of expensive computations on the graph.
+	 * @return the modification count of this graph or -1 if this graph does not
+	 * track its modifications.
+	 */
+	public default long getModificationCount() {
+		return -1;
+	}
+
 	/**
 	 * Returns the ancestors (nodes connected via an undirected or directed path
 	 * where the given node is the descendant) of the given node.
@@ -19,10 +19,12 @@
 package org.tweetyproject.graphs.util;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 import Jama.EigenvalueDecomposition;
 import org.tweetyproject.commons.util.MapTools;
 import org.tweetyproject.commons.util.Pair;
+import org.tweetyproject.graphs.CompactGraph;
 import org.tweetyproject.graphs.DirectedEdge;
 import org.tweetyproject.graphs.Graph;
 import org.tweetyproject.graphs.Node;
@@ -43,15 +45,133 @@ public abstract class GraphUtil {
 		//default
 	}
 
-	/** For archiving page rank values. */
-	private static Map<Graph<? extends Node>,Map<Double,Map<Double,Map<Node,Double>>>> archivePageRank = new HashMap<Graph<? extends Node>,Map<Double,Map<Double,Map<Node,Double>>>>();
+	/** The maximal number of results kept in the ranking cache. */
+	private static final int RANKING_CACHE_SIZE = 64;
 
-	/** For archiving HITS rank values. */
-	private static Map<Graph<? extends Node>,Map<Double,Map<Node,Double>>> archiveHITSAuthRank = new HashMap<Graph<? extends Node>,Map<Double,Map<Node,Double>>>();
-	private static Map<Graph<? extends Node>,Map<Double,Map<Node,Double>>> archiveHITSHubRank = new HashMap<Graph<? extends Node>,Map<Double,Map<Node,Double>>>();
+	/** Caches the results of PageRank, HITS and betweenness centrality computations, least recently
+	 * used results are evicted first. */
+	private static Map<RankingKey,RankingEntry> rankingCache = new LinkedHashMap<RankingKey,RankingEntry>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<RankingKey,RankingEntry> eldest) {
+			return this.size() > GraphUtil.RANKING_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * The key of a cached ranking, graphs are compared by identity.
+	 */
+	private static class RankingKey {
+		/** The graph */
+		private Graph<?> graph;
+		/** The type of ranking */
+		private String type;
+		/** The parameters of the ranking */
+		private double[] params;
+
+		/**
+		 * Creates a new key.
+		 * @param graph some graph
+		 * @param type the type of ranking
+		 * @param params the parameters of the ranking
+		 */
+		private RankingKey(Graph<?> graph, String type, double... params) {
+			this.graph = graph;
+			this.type = type;
+			this.params = params;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(this.graph) + this.type.hashCode()) + Arrays.hashCode(this.params);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof RankingKey))
+				return false;
+			RankingKey other = (RankingKey) obj;
+			return this.graph == other.graph && this.type.equals(other.type) && Arrays.equals(this.params, other.params);
+		}
+	}
 
 	/**
-	 * Computes the PageRank of the given node in the given graph.
+	 * A cached ranking together with the modification count of the graph it has been computed for.
+	 */
+	private static class RankingEntry {
+		/** The modification count of the graph */
+		private long modCount;
+		/** The ranking */
+		private Map<? extends Node,Double> ranks;
+
+		/**
+		 * Creates a new entry.
+		 * @param modCount the modification count of the graph
+		 * @param ranks the ranking
+		 */
+		private RankingEntry(long modCount, Map<? extends Node,Double> ranks) {
+			this.modCount = modCount;
+			this.ranks = ranks;
+		}
+	}
+
+	/**
+	 * Returns the cached ranking for the given key if the graph has not been modified since
+	 * the ranking has been computed.
+	 * @param <T> the type of nodes
+	 * @param key some key
+	 * @return the cached ranking or null if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends Node> Map<T,Double> getCachedRanking(RankingKey key) {
+		long modCount = key.graph.getModificationCount();
+		if(modCount < 0)
+			return null;
+		synchronized(GraphUtil.rankingCache) {
+			RankingEntry entry = GraphUtil.rankingCache.get(key);
+			if(entry == null)
+				return null;
+			if(entry.modCount != modCount) {
+				GraphUtil.rankingCache.remove(key);
+				return null;
+			}
+			return (Map<T,Double>) entry.ranks;
+		}
+	}
+
+	/**
+	 * Caches the given ranking if the graph of the key tracks its modifications.
+	 * @param key some key
+	 * @param ranks the ranking
+	 */
+	private static void cacheRanking(RankingKey key, Map<? extends Node,Double> ranks) {
+		long modCount = key.graph.getModificationCount();
+		if(modCount < 0)
+			return;
+		synchronized(GraphUtil.rankingCache) {
+			GraphUtil.rankingCache.put(key, new RankingEntry(modCount, ranks));
+		}
+	}
+
+	/**
+	 * Maps the nodes of the given compact graph to the values of their indices.
+	 * @param <T> the type of nodes
+	 * @param g some compact graph
+	 * @param values an array with one value per node index
+	 * @return an unmodifiable map from the nodes to their values.
+	 */
+	private static <T extends Node> Map<T,Double> toMap(CompactGraph<T> g, double[] values) {
+		Map<T,Double> result = new HashMap<T,Double>();
+		for(int i = 0; i < values.length; i++)
+			result.put(g.getNode(i), values[i]);
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Computes the PageRank of the given node in the given graph. The PageRanks of all
+	 * nodes are computed at once and cached until the graph is modified (if the graph tracks
+	 * its modifications, see <code>Graph.getModificationCount()</code>).
 	 * @param g a graph
 	 * @param n a node
 	 * @param dampingFactor the damping factor for PageRank
@@ -59,48 +179,81 @@ public abstract class GraphUtil {
 	 * @return the PageRank of the given node in the given graph.
 	 */
 	public static Double pageRank(Graph<? extends Node> g, Node n, double dampingFactor, double precision){
-		if(GraphUtil.archivePageRank.containsKey(g) &&
-				GraphUtil.archivePageRank.get(g).containsKey(dampingFactor) &&
-				GraphUtil.archivePageRank.get(g).get(dampingFactor).containsKey(precision))
-			return GraphUtil.archivePageRank.get(g).get(dampingFactor).get(precision).get(n);
-		Map<Node,Double> pageRanks = new HashMap<Node,Double>();
-		// init
-		double m = g.getNodes().size();
-		Set<Node> sinks = new HashSet<Node>();
-		for(Node v: g){
-			pageRanks.put(v,1/m);
-			if(g.getChildren(v).isEmpty())
-				sinks.add(v);
+		return GraphUtil.pageRanks(g, dampingFactor, precision).get(n);
+	}
+
+	/**
+	 * Computes the PageRanks of all nodes in the given graph. The result is cached
+	 * until the graph is modified (if the graph tracks its modifications, see
+	 * <code>Graph.getModificationCount()</code>).
+	 * @param <T> the type of nodes
+	 * @param g a graph
+	 * @param dampingFactor the damping factor for PageRank
+	 * @param precision the precision (smaller values mean higher precision)
+	 * @return an unmodifiable map from the nodes to their PageRanks.
+	 */
+	public static <T extends Node> Map<T,Double> pageRanks(Graph<T> g, double dampingFactor, double precision){
+		RankingKey key = new RankingKey(g, "pagerank", dampingFactor, precision);
+		Map<T,Double> result = GraphUtil.getCachedRanking(key);
+		if(result != null)
+			return result;
+		CompactGraph<T> cg = new CompactGraph<T>(g);
+		result = GraphUtil.toMap(cg, GraphUtil.pageRank(cg, dampingFactor, precision));
+		GraphUtil.cacheRanking(key, result);
+		return result;
+	}
+
+	/**
+	 * Computes the PageRanks of all nodes of the given compact graph by power iteration.
+	 * The rank of sinks is distributed evenly among all nodes.
+	 * @param g a compact graph
+	 * @param dampingFactor the damping factor for PageRank
+	 * @param precision the precision (smaller values mean higher precision)
+	 * @return an array containing the PageRank of node i at position i.
+	 */
+	public static double[] pageRank(CompactGraph<?> g, double dampingFactor, double precision){
+		int n = g.getNumberOfNodes();
+		double m = n;
+		double[] ranks = new double[n];
+		double[] ranks_tmp = new double[n];
+		// the reciprocal of the number of children of each node (0 for sinks)
+		double[] share = new double[n];
+		for(int v = 0; v < n; v++){
+			ranks[v] = 1/m;
+			if(g.getNumberOfChildren(v) > 0)
+				share[v] = 1d/g.getNumberOfChildren(v);
 		}
 		// iterate
 		double maxDiff;
 		double sum;
-		Map<Node,Double> pageRanks_tmp;
+		double sinks;
 		do{
 			maxDiff = 0;
-			pageRanks_tmp = new HashMap<Node,Double>();
-			for(Node v: g){
+			sinks = 0;
+			for(int w = 0; w < n; w++)
+				if(share[w] == 0)
+					sinks += ranks[w];
+			for(int v = 0; v < n; v++){
 				sum = 0;
-				for(Node w: g.getParents(v)){
-					sum += pageRanks.get(w)/g.getChildren(w).size();
+				for(int k = 0; k < g.getNumberOfParents(v); k++){
+					int w = g.getParent(v, k);
+					sum += ranks[w] * share[w];
 				}
-				for(Node w: sinks)
-					sum += pageRanks.get(w)/m;
-				pageRanks_tmp.put(v, ((1-dampingFactor)/m) + (dampingFactor * sum));
-				maxDiff = Math.max(maxDiff, Math.abs(pageRanks.get(v)-pageRanks_tmp.get(v)));
+				sum += sinks/m;
+				ranks_tmp[v] = ((1-dampingFactor)/m) + (dampingFactor * sum);
+				maxDiff = Math.max(maxDiff, Math.abs(ranks[v]-ranks_tmp[v]));
 			}
-			pageRanks = pageRanks_tmp;
+			double[] swap = ranks;
+			ranks = ranks_tmp;
+			ranks_tmp = swap;
 		}while(maxDiff > precision);
-		if(!GraphUtil.archivePageRank.containsKey(g))
-			GraphUtil.archivePageRank.put(g, new HashMap<Double,Map<Double,Map<Node,Double>>>());
-		if(!GraphUtil.archivePageRank.get(g).containsKey(dampingFactor))
-			GraphUtil.archivePageRank.get(g).put(dampingFactor, new HashMap<Double,Map<Node,Double>>());
-		GraphUtil.archivePageRank.get(g).get(dampingFactor).put(precision, pageRanks);
-		return pageRanks.get(n);
+		return ranks;
 	}
 
 	/**
-	 * Computes the HITS rank of the given node in the given graph.
+	 * Computes the HITS rank of the given node in the given graph. The HITS ranks of all
+	 * nodes are computed at once and cached until the graph is modified (if the graph tracks
+	 * its modifications, see <code>Graph.getModificationCount()</code>).
 	 * @param g a graph
 	 * @param n a node
 	 * @param precision the precision (smaller values mean higher precision)
@@ -108,67 +261,90 @@ public abstract class GraphUtil {
 	 * @return the HITS rank of the given node in the given graph.
 	 */
 	public static Double hitsRank(Graph<? extends Node> g, Node n, double precision, boolean getAuth){
-		if(getAuth){
-			if(GraphUtil.archiveHITSAuthRank.containsKey(g) &&
-					GraphUtil.archiveHITSAuthRank.get(g).containsKey(precision))
-				return GraphUtil.archiveHITSAuthRank.get(g).get(precision).get(n);
-		}else{
-			if(GraphUtil.archiveHITSHubRank.containsKey(g) &&
-					GraphUtil.archiveHITSHubRank.get(g).containsKey(precision))
-				return GraphUtil.archiveHITSHubRank.get(g).get(precision).get(n);
-		}
-		Map<Node,Double> auth = new HashMap<Node,Double>();
-		Map<Node,Double> hub = new HashMap<Node,Double>();
-		// init
-		for(Node v: g){
-			auth.put(v,1d);
-			hub.put(v,1d);
-		}
+		return GraphUtil.hitsRanks(g, precision, getAuth).get(n);
+	}
+
+	/**
+	 * Computes the HITS ranks of all nodes in the given graph. The result is cached
+	 * until the graph is modified (if the graph tracks its modifications, see
+	 * <code>Graph.getModificationCount()</code>).
+	 * @param <T> the type of nodes
+	 * @param g a graph
+	 * @param precision the precision (smaller values mean higher precision)
+	 * @param getAuth whether to use Auth (instead of Hub)
+	 * @return an unmodifiable map from the nodes to their HITS ranks.
+	 */
+	public static <T extends Node> Map<T,Double> hitsRanks(Graph<T> g, double precision, boolean getAuth){
+		RankingKey authKey = new RankingKey(g, "hits-auth", precision);
+		RankingKey hubKey = new RankingKey(g, "hits-hub", precision);
+		Map<T,Double> result = GraphUtil.getCachedRanking(getAuth ? authKey : hubKey);
+		if(result != null)
+			return result;
+		CompactGraph<T> cg = new CompactGraph<T>(g);
+		double[][] ranks = GraphUtil.hitsRank(cg, precision);
+		Map<T,Double> auth = GraphUtil.toMap(cg, ranks[0]);
+		Map<T,Double> hub = GraphUtil.toMap(cg, ranks[1]);
+		GraphUtil.cacheRanking(authKey, auth);
+		GraphUtil.cacheRanking(hubKey, hub);
+		return getAuth ? auth : hub;
+	}
+
+	/**
+	 * Computes the HITS ranks of all nodes of the given compact graph.
+	 * @param g a compact graph
+	 * @param precision the precision (smaller values mean higher precision)
+	 * @return an array of two arrays, the first one contains the Auth rank
+	 * 	and the second one the Hub rank of node i at position i.
+	 */
+	public static double[][] hitsRank(CompactGraph<?> g, double precision){
+		int n = g.getNumberOfNodes();
+		double[] auth = new double[n];
+		double[] hub = new double[n];
+		double[] auth_tmp = new double[n];
+		double[] hub_tmp = new double[n];
+		Arrays.fill(auth, 1d);
+		Arrays.fill(hub, 1d);
 		// iterate
 		double maxDiff;
 		double sum;
 		double norm;
-		Map<Node,Double> auth_tmp, hub_tmp;
 		do{
 			maxDiff = 0;
 			norm = 0;
-			auth_tmp = new HashMap<Node,Double>();
-			for(Node v: g){
+			for(int v = 0; v < n; v++){
 				sum = 0;
-				for(Node w: g.getParents(v))
-					sum += hub.get(w);
-				auth_tmp.put(v, sum);
-				norm += Math.pow(sum, 2);
+				for(int k = 0; k < g.getNumberOfParents(v); k++)
+					sum += hub[g.getParent(v, k)];
+				auth_tmp[v] = sum;
+				norm += sum * sum;
 			}
 			norm = Math.sqrt(norm);
-			for(Node v: g){
-				auth_tmp.put(v, auth_tmp.get(v) / norm);
-				maxDiff = Math.max(maxDiff, Math.abs(auth.get(v)-auth_tmp.get(v)));
+			for(int v = 0; v < n; v++){
+				auth_tmp[v] = auth_tmp[v] / norm;
+				maxDiff = Math.max(maxDiff, Math.abs(auth[v]-auth_tmp[v]));
 			}
+			// the hub ranks are computed from the new auth ranks, otherwise the ranks oscillate
 			norm = 0;
-			hub_tmp = new HashMap<Node,Double>();
-			for(Node v: g){
+			for(int v = 0; v < n; v++){
 				sum = 0;
-				for(Node w: g.getChildren(v))
-					sum += auth.get(w);
-				hub_tmp.put(v, sum);
-				norm += Math.pow(sum, 2);
+				for(int k = 0; k < g.getNumberOfChildren(v); k++)
+					sum += auth_tmp[g.getChild(v, k)];
+				hub_tmp[v] = sum;
+				norm += sum * sum;
 			}
 			norm = Math.sqrt(norm);
-			for(Node v: g){
-				hub_tmp.put(v, hub_tmp.get(v) / norm);
-				maxDiff = Math.max(maxDiff, Math.abs(hub.get(v)-hub_tmp.get(v)));
+			for(int v = 0; v < n; v++){
+				hub_tmp[v] = hub_tmp[v] / norm;
+				maxDiff = Math.max(maxDiff, Math.abs(hub[v]-hub_tmp[v]));
 			}
+			double[] swap = auth;
 			auth = auth_tmp;
+			auth_tmp = swap;
+			swap = hub;
 			hub = hub_tmp;
+			hub_tmp = swap;
 		}while(maxDiff > precision);
-		if(!GraphUtil.archiveHITSHubRank.containsKey(g))
-			GraphUtil.archiveHITSHubRank.put(g, new HashMap<Double,Map<Node,Double>>());
-		GraphUtil.archiveHITSHubRank.get(g).put(precision,hub);
-		if(!GraphUtil.archiveHITSAuthRank.containsKey(g))
-			GraphUtil.archiveHITSAuthRank.put(g, new HashMap<Double,Map<Node,Double>>());
-		GraphUtil.archiveHITSAuthRank.get(g).put(precision,auth);
-		return getAuth ? auth.get(n) : hub.get(n);
+		return new double[][] {auth, hub};
 	}
 
 	/**
@@ -361,76 +537,150 @@ public abstract class GraphUtil {
 	/**
 	 * Computes the normalised betweenness centrality of all nodes, i.e. the number of shortest paths
 	 * going through each node. The value is normalised by subtracting the minimum number (min) of such shortest
-	 * paths and dividing by (max-min).
+	 * paths and dividing by (max-min). The result is cached until the graph is modified (if the graph tracks
+	 * its modifications, see <code>Graph.getModificationCount()</code>).
 	 *
 	 * @param <T> a Node
 	 * @param graph some graph
 	 * @return a map mapping each node to its betweenness centrality.
 	 */
 	public static <T extends Node> Map<T,Double> betweennessCentralityNormalised(Graph<T> graph){
-		// we use iterated modified BFS (in the end O(n^4) runtime), this could be optimised
-		Map<T,Double> result = new HashMap<T,Double>();
-		for(T node: graph)
-			result.put(node, 0d);
-		Queue<T> q = new LinkedList<T>();
-		Map<T,Set<T>> pred = new HashMap<T,Set<T>>();
-		Map<T,Integer> dist = new HashMap<T,Integer>();
-		LinkedList<List<T>> paths = new LinkedList<List<T>>();
-		for(T node: graph) {
-			pred.clear();
-			dist.clear();
-			q.add(node);
-			dist.put(node, 0);
-			while(!q.isEmpty()) {
-				T node2 = q.poll();
-				for(T node3: graph.getChildren(node2)) {
-					if(dist.containsKey(node3)) {
-						if(dist.get(node3) == dist.get(node2) +1) {
-							pred.get(node3).add(node2);
-						}
-					}else {
-						dist.put(node3, dist.get(node2)+1);
-						pred.put(node3, new HashSet<T>());
-						pred.get(node3).add(node2);
-						q.add(node3);
+		return GraphUtil.betweennessCentralityNormalised(graph, false);
+	}
+
+	/**
+	 * Computes the normalised betweenness centrality of all nodes, see
+	 * <code>betweennessCentralityNormalised(Graph)</code>.
+	 *
+	 * @param <T> a Node
+	 * @param graph some graph
+	 * @param parallel whether the shortest paths from different source nodes should be
+	 * 	counted in parallel
+	 * @return a map mapping each node to its betweenness centrality.
+	 */
+	public static <T extends Node> Map<T,Double> betweennessCentralityNormalised(Graph<T> graph, boolean parallel){
+		RankingKey key = new RankingKey(graph, "betweenness");
+		Map<T,Double> result = GraphUtil.getCachedRanking(key);
+		if(result == null) {
+			CompactGraph<T> cg = new CompactGraph<T>(graph);
+			double[] values = GraphUtil.betweennessCentrality(cg, parallel);
+			// normalise
+			double min = Double.MAX_VALUE, max = 0;
+			for(double value: values) {
+				if(value < min)
+					min = value;
+				if(value > max)
+					max = value;
+			}
+			//special case max=min
+			if(max != min)
+				for(int i = 0; i < values.length; i++)
+					values[i] = (values[i]-min)/(max-min);
+			result = GraphUtil.toMap(cg, values);
+			GraphUtil.cacheRanking(key, result);
+		}
+		return new HashMap<T,Double>(result);
+	}
+
+	/**
+	 * Computes the (unnormalised) betweenness centrality of all nodes of the given compact
+	 * graph, i.e. for every node the number of shortest paths between two other nodes that
+	 * go through this node. Uses one breadth-first search per source node and accumulates
+	 * the numbers of paths backwards (similar to Brandes' algorithm), which needs
+	 * O(nm) time.
+	 * @param g a compact graph
+	 * @param parallel whether the shortest paths from different source nodes should be
+	 * 	counted in parallel
+	 * @return an array containing the betweenness centrality of node i at position i.
+	 */
+	public static double[] betweennessCentrality(CompactGraph<?> g, boolean parallel){
+		int n = g.getNumberOfNodes();
+		if(parallel)
+			return IntStream.range(0, n).parallel().collect(() -> new ShortestPathCounter(g),
+					ShortestPathCounter::count, ShortestPathCounter::add).result;
+		ShortestPathCounter counter = new ShortestPathCounter(g);
+		for(int s = 0; s < n; s++)
+			counter.count(s);
+		return counter.result;
+	}
+
+	/**
+	 * Counts for every node the number of shortest paths from given source nodes
+	 * that go through the node.
+	 */
+	private static class ShortestPathCounter {
+		/** The graph */
+		private CompactGraph<?> g;
+		/** The accumulated numbers of shortest paths through each node */
+		private double[] result;
+		/** The distance of each node from the current source (-1 if not reachable) */
+		private int[] dist;
+		/** The number of shortest paths from the current source to each node */
+		private double[] sigma;
+		/** The number of shortest paths from each node to other nodes within the shortest path DAG of the current source */
+		private double[] tau;
+		/** The nodes in the order they have been visited by the breadth-first search */
+		private int[] order;
+
+		/**
+		 * Creates a new counter for the given graph.
+		 * @param g a compact graph
+		 */
+		private ShortestPathCounter(CompactGraph<?> g) {
+			int n = g.getNumberOfNodes();
+			this.g = g;
+			this.result = new double[n];
+			this.dist = new int[n];
+			this.sigma = new double[n];
+			this.tau = new double[n];
+			this.order = new int[n];
+		}
+
+		/**
+		 * Adds the numbers of shortest paths starting in the given source node.
+		 * @param s the index of some node
+		 */
+		private void count(int s) {
+			Arrays.fill(this.dist, -1);
+			this.dist[s] = 0;
+			this.sigma[s] = 1;
+			this.order[0] = s;
+			int head = 0, tail = 1;
+			while(head < tail) {
+				int v = this.order[head++];
+				for(int k = 0; k < this.g.getNumberOfChildren(v); k++) {
+					int w = this.g.getChild(v, k);
+					if(this.dist[w] < 0) {
+						this.dist[w] = this.dist[v] + 1;
+						this.sigma[w] = 0;
+						this.order[tail++] = w;
 					}
+					if(this.dist[w] == this.dist[v] + 1)
+						this.sigma[w] += this.sigma[v];
 				}
 			}
-			for(T node2: pred.keySet()) {
-				List<T> path = new LinkedList<T>();
-				path.add(node2);
-				paths.add(path);
-				while(!paths.isEmpty()) {
-					path = paths.poll();
-					if(path.get(0) == node) {
-						for(T node3: path)
-							if(node3 != node && node3 != node2) {
-								result.put(node3, result.get(node3)+1);
-							}
-					}else {
-						for(T node3: pred.get(path.get(0))) {
-							List<T> newPath = new LinkedList<T>(path);
-							newPath.add(0, node3);
-							paths.add(0,newPath);
-						}
-					}
+			// a node v lies on sigma[v]*tau[v] shortest paths from s to other nodes
+			for(int i = tail - 1; i >= 0; i--) {
+				int v = this.order[i];
+				this.tau[v] = 0;
+				for(int k = 0; k < this.g.getNumberOfChildren(v); k++) {
+					int w = this.g.getChild(v, k);
+					if(this.dist[w] == this.dist[v] + 1)
+						this.tau[v] += 1 + this.tau[w];
 				}
+				if(v != s)
+					this.result[v] += this.sigma[v] * this.tau[v];
 			}
 		}
-		// normalise
-		double min = Double.MAX_VALUE, max = 0;
-		for(T node: result.keySet()) {
-			if(result.get(node) < min)
-				min = result.get(node);
-			if(result.get(node) > max)
-				max = result.get(node);
+
+		/**
+		 * Adds the counts of the given counter to this counter.
+		 * @param other some counter for the same graph
+		 */
+		private void add(ShortestPathCounter other) {
+			for(int i = 0; i < this.result.length; i++)
+				this.result[i] += other.result[i];
 		}
-		//special case max=min
-		if(max == min)
-			return result;
-		for(T node: result.keySet())
-			result.put(node, (result.get(node)-min)/(max-min));
-		return result;
 	}
 
 	/**
@@ -126,4 +126,56 @@ public class GraphTest {
         assertEquals(3, ancestors.size());
         assertEquals(Set.of(nodeA, nodeB, nodeD), ancestors);
     }
+
+    @Test
+    public void neighborhoodsAfterEdgeRemoval() {
+        var graph = new SimpleGraph<SimpleNode>();
+        var nodeA = new SimpleNode("a");
+        var nodeB = new SimpleNode("b");
+        var nodeC = new SimpleNode("c");
+        graph.addAll(List.of(nodeA, nodeB, nodeC));
+        graph.addAllEdges(List.of(
+                new DirectedEdge<>(nodeA, nodeB),
+                new DirectedEdge<>(nodeA, nodeC),
+                new UndirectedEdge<>(nodeB, nodeC))
+        );
+
+        assertEquals(Set.of(nodeB, nodeC), graph.getChildren(nodeA));
+        assertEquals(Set.of(nodeA, nodeB), graph.getParents(nodeC));
+        assertEquals(Set.of(nodeC), graph.getChildren(nodeB));
+
+        graph.remove(new DirectedEdge<>(nodeA, nodeC));
+        graph.remove(nodeB);
+
+        assertEquals(Set.of(), graph.getChildren(nodeA));
+        assertEquals(Set.of(), graph.getParents(nodeC));
+        assertEquals(null, graph.getEdge(nodeA, nodeC));
+    }
+
+    @Test
+    public void compactGraph() {
+        var graph = new SimpleGraph<SimpleNode>();
+        var nodeA = new SimpleNode("a");
+        var nodeB = new SimpleNode("b");
+        var nodeC = new SimpleNode("c");
+        graph.addAll(List.of(nodeA, nodeB, nodeC));
+        graph.addAllEdges(List.of(
+                new DirectedEdge<>(nodeA, nodeB),
+                new DirectedEdge<>(nodeA, nodeC),
+                new DirectedEdge<>(nodeC, nodeA))
+        );
+
+        var compact = graph.getCompactGraph();
+        int a = compact.getIndex(nodeA);
+        int b = compact.getIndex(nodeB);
+        int c = compact.getIndex(nodeC);
+
+        assertEquals(3, compact.getNumberOfNodes());
+        assertEquals(2, compact.getNumberOfChildren(a));
+        assertEquals(0, compact.getNumberOfChildren(b));
+        assertEquals(Set.of(a), Set.of(compact.getParent(b, 0)));
+        assertEquals(true, compact.isChild(c, a));
+        assertEquals(false, compact.isChild(b, a));
+        assertEquals(nodeC, compact.getNode(c));
+    }
 }
\ No newline at end of file
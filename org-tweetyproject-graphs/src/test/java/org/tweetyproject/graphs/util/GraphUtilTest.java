@@ -19,6 +19,9 @@
 package org.tweetyproject.graphs.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -55,4 +58,42 @@ public class GraphUtilTest {
 		assertEquals(GraphUtil.enumerateChordlessCircuits(g).size(),4);
 		
 	}
+
+	@Test
+	public void testPageRankCache() {
+		Graph<SimpleNode> g = new DefaultGraph<SimpleNode>();
+		SimpleNode[] nodes = new SimpleNode[4];
+		for(int i = 0; i < 4; i++){
+			nodes[i] = new SimpleNode("a"+i);
+			g.add(nodes[i]);
+		}
+		g.add(new DirectedEdge<SimpleNode>(nodes[0], nodes[1]));
+		g.add(new DirectedEdge<SimpleNode>(nodes[1], nodes[2]));
+		g.add(new DirectedEdge<SimpleNode>(nodes[2], nodes[0]));
+		double sum = 0;
+		for(SimpleNode n: g)
+			sum += GraphUtil.pageRank(g, n, 0.85, 0.00001);
+		assertEquals(1d, sum, 0.001);
+		double rank = GraphUtil.pageRank(g, nodes[3], 0.85, 0.00001);
+		// the cached ranks must not be used after the graph has been modified
+		g.add(new DirectedEdge<SimpleNode>(nodes[0], nodes[3]));
+		assertNotEquals(rank, GraphUtil.pageRank(g, nodes[3], 0.85, 0.00001), 0.001);
+	}
+
+	@Test
+	public void testBetweennessCentrality() {
+		Graph<SimpleNode> g = new DefaultGraph<SimpleNode>();
+		SimpleNode[] nodes = new SimpleNode[3];
+		for(int i = 0; i < 3; i++){
+			nodes[i] = new SimpleNode("a"+i);
+			g.add(nodes[i]);
+		}
+		g.add(new DirectedEdge<SimpleNode>(nodes[0], nodes[1]));
+		g.add(new DirectedEdge<SimpleNode>(nodes[1], nodes[2]));
+		Map<SimpleNode,Double> centrality = GraphUtil.betweennessCentralityNormalised(g);
+		assertEquals(0d, centrality.get(nodes[0]), 0.001);
+		assertEquals(1d, centrality.get(nodes[1]), 0.001);
+		assertEquals(0d, centrality.get(nodes[2]), 0.001);
+		assertEquals(centrality, GraphUtil.betweennessCentralityNormalised(g, true));
+	}
 }
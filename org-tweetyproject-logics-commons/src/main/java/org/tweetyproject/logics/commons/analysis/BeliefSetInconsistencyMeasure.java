@@ -46,4 +46,17 @@ public abstract class BeliefSetInconsistencyMeasure<S extends Formula> implement
 	 * @return a Double indicating the degree of inconsistency.
 	 */
 	public abstract Double inconsistencyMeasure(Collection<S> formulas);
+
+	/**
+	 * This method measures the inconsistency of the given set of formulas and may
+	 * use (and extend) the results memoized in the given analysis context. The
+	 * default implementation ignores the context.
+	 * @param formulas a collection of formulas, usually the knowledge base of
+	 * 	the context or a subset of it.
+	 * @param context an analysis context.
+	 * @return a Double indicating the degree of inconsistency.
+	 */
+	public Double inconsistencyMeasure(Collection<S> formulas, InconsistencyAnalysisContext<S> context) {
+		return this.inconsistencyMeasure(formulas);
+	}
 }
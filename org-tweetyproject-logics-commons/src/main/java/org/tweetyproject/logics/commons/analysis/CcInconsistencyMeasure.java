@@ -67,7 +67,15 @@ public class CcInconsistencyMeasure<S extends Formula> extends BeliefSetInconsis
 	 * @see org.tweetyproject.logics.commons.analysis.BeliefSetInconsistencyMeasure#inconsistencyMeasure(java.util.Collection)
 	 */
 	public Double inconsistencyMeasure(Collection<S> formulas) {
-		Collection<Collection<S>> mises = this.enumerator.minimalInconsistentSubsets(formulas);
+		return this.inconsistencyMeasure(formulas, new InconsistencyAnalysisContext<S>(formulas));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.BeliefSetInconsistencyMeasure#inconsistencyMeasure(java.util.Collection, org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext)
+	 */
+	@Override
+	public Double inconsistencyMeasure(Collection<S> formulas, InconsistencyAnalysisContext<S> context) {
+		Collection<Collection<S>> mises = context.minimalInconsistentSubsets(formulas, this.enumerator);
 		// special case of consistent set		
 		if(mises.isEmpty())
 			return 0d;
@@ -50,6 +50,15 @@ public class DrasticInconsistencyMeasure<S extends Formula> extends BeliefSetInc
 		return 1d;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.BeliefSetInconsistencyMeasure#inconsistencyMeasure(java.util.Collection, org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext)
+	 */
+	@Override
+	public Double inconsistencyMeasure(Collection<S> formulas, InconsistencyAnalysisContext<S> context) {
+		if(context.isConsistent(formulas, this.consTester)) return 0d;
+		return 1d;
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
@@ -0,0 +1,171 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.commons.analysis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.tweetyproject.commons.Formula;
+import org.tweetyproject.commons.util.Pair;
+
+/**
+ * A pure-Java enumerator of minimal inconsistent subsets (MUSes) and minimal
+ * correction subsets (MCSes) following the MARCO algorithm of [Liffiton, Previti,
+ * Malik, Marques-Silva. Fast, flexible MUS enumeration. Constraints 21(2), 2016].<br>
+ * <br>
+ * A map solver keeps track of the subsets that have not been explored yet. Every
+ * unexplored subset (seed) is checked for consistency: consistent seeds are grown
+ * to a maximal consistent subset, whose complement is an MCS, and all its subsets
+ * are blocked; inconsistent seeds are shrunk to an MUS by deletion, and all its
+ * supersets are blocked. As MUSes and MCSes are enumerated together, MCSes and
+ * maximal consistent subsets are not computed as hitting sets of the MUSes.<br>
+ * <br>
+ * All consistency checks of one enumeration are done in a single session of a
+ * {@link SubsetConsistencyTester}, so incremental testers (e.g. with selector
+ * literals on an incremental SAT session) only have to process every formula once.
+ *
+ * @author The TweetyProject Team
+ *
+ * @param <S> the type of formulas
+ */
+public class DualityMusEnumerator<S extends Formula> extends AbstractMusEnumerator<S> {
+
+	/** The tester used for checking subsets */
+	private SubsetConsistencyTester<S> tester;
+
+	/**
+	 * Creates a new enumerator that uses the given subset consistency tester.
+	 * @param tester some subset consistency tester
+	 */
+	public DualityMusEnumerator(SubsetConsistencyTester<S> tester) {
+		this.tester = tester;
+	}
+
+	/**
+	 * Creates a new enumerator that passes every subset to the given consistency tester.
+	 * @param tester some consistency tester
+	 */
+	public DualityMusEnumerator(BeliefSetConsistencyTester<S> tester) {
+		this(SubsetConsistencyTester.of(tester));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.AbstractMusEnumerator#minimalInconsistentSubsets(java.util.Collection)
+	 */
+	@Override
+	public Collection<Collection<S>> minimalInconsistentSubsets(Collection<S> formulas) {
+		return this.enumerate(formulas).getFirst();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.AbstractMusEnumerator#minimalCorrectionSubsets(java.util.Collection)
+	 */
+	@Override
+	public Set<Set<S>> minimalCorrectionSubsets(Collection<S> formulas) {
+		Pair<Collection<Collection<S>>, Set<Set<S>>> result = this.enumerate(formulas);
+		// as for the hitting set computation of AbstractMusEnumerator, a consistent
+		// set of formulas has no minimal correction subsets
+		if (result.getFirst().isEmpty())
+			return new HashSet<Set<S>>();
+		return result.getSecond();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.AbstractMusEnumerator#isConsistent(java.util.Collection)
+	 */
+	@Override
+	public boolean isConsistent(Collection<S> formulas) {
+		List<S> list = new ArrayList<S>(new LinkedHashSet<S>(formulas));
+		BitSet all = new BitSet();
+		all.set(0, list.size());
+		try (SubsetConsistencyTester.Session session = this.tester.open(list)) {
+			return session.isConsistent(all);
+		}
+	}
+
+	/**
+	 * Enumerates all minimal inconsistent subsets and all minimal correction subsets
+	 * of the given formulas.
+	 * @param formulas some formulas
+	 * @return the minimal inconsistent subsets and the minimal correction subsets.
+	 */
+	public Pair<Collection<Collection<S>>, Set<Set<S>>> enumerate(Collection<S> formulas) {
+		List<S> list = new ArrayList<S>(new LinkedHashSet<S>(formulas));
+		int n = list.size();
+		Collection<Collection<S>> mus = new HashSet<Collection<S>>();
+		Set<Set<S>> mcs = new HashSet<Set<S>>();
+		MapSolver map = new MapSolver(n);
+		try (SubsetConsistencyTester.Session session = this.tester.open(list)) {
+			BitSet seed;
+			while ((seed = map.solve()) != null) {
+				if (session.isConsistent(seed)) {
+					// grow to a maximal consistent subset
+					for (int i = 0; i < n; i++)
+						if (!seed.get(i)) {
+							seed.set(i);
+							if (!session.isConsistent(seed))
+								seed.clear(i);
+						}
+					BitSet correction = new BitSet(n);
+					correction.set(0, n);
+					correction.andNot(seed);
+					mcs.add(DualityMusEnumerator.toSet(list, correction));
+					map.addClause(correction, true);
+				} else {
+					// shrink to a minimal inconsistent subset by deletion
+					for (int i = seed.nextSetBit(0); i >= 0; i = seed.nextSetBit(i + 1)) {
+						seed.clear(i);
+						if (session.isConsistent(seed))
+							seed.set(i);
+					}
+					mus.add(DualityMusEnumerator.toSet(list, seed));
+					map.addClause(seed, false);
+				}
+			}
+		}
+		return new Pair<Collection<Collection<S>>, Set<Set<S>>>(mus, mcs);
+	}
+
+	/**
+	 * Returns the formulas with the given indices.
+	 * @param <S> the type of formulas
+	 * @param formulas a list of formulas
+	 * @param indices some indices
+	 * @return the set of formulas with the given indices.
+	 */
+	private static <S extends Formula> Set<S> toSet(List<S> formulas, BitSet indices) {
+		Set<S> result = new HashSet<S>();
+		for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1))
+			result.add(formulas.get(i));
+		return result;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.commons.Reasoner#isInstalled()
+	 */
+	@Override
+	public boolean isInstalled() {
+		return true;
+	}
+}
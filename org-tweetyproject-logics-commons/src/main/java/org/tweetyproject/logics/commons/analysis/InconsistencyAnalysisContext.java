@@ -0,0 +1,195 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.commons.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.tweetyproject.commons.Formula;
+
+/**
+ * Memoizes the results of the analysis of a single knowledge base, i.e., its
+ * minimal inconsistent subsets, its minimal correction subsets and consistency
+ * checks, so that several measures evaluated on the same knowledge base (see
+ * {@link InconsistencyMeasureEvaluator}) only compute them once.<br>
+ * <br>
+ * Questions about subsets of the knowledge base are answered from the results
+ * on the knowledge base whenever possible: the minimal inconsistent subsets of a
+ * subset K' of K are exactly the minimal inconsistent subsets of K that are
+ * contained in K', and K' is consistent iff it contains none of them. This allows
+ * e.g. {@link ShapleyCulpabilityMeasure} to evaluate its inconsistency measure on
+ * all subsets of a knowledge base with a single MUS enumeration.<br>
+ * <br>
+ * Results do not depend on the enumerator or consistency tester that computed them,
+ * so a context may be shared by measures that use different (correct) enumerators.
+ * All methods are thread-safe. Every result is computed by the first thread asking
+ * for it (and the time is spent by that thread), other threads asking for the same
+ * result in the meantime wait for it. Waiting can be interrupted, in which case a
+ * {@link CancellationException} is thrown and the result is still computed by the
+ * first thread.
+ *
+ * @author The TweetyProject Team
+ *
+ * @param <S> the type of formulas
+ */
+public class InconsistencyAnalysisContext<S extends Formula> {
+
+	/** The knowledge base */
+	private Set<S> formulas;
+
+	/** The minimal inconsistent subsets of the knowledge base and of sets of formulas that are no subsets of it */
+	private ConcurrentHashMap<Set<S>,CompletableFuture<Collection<Collection<S>>>> mis = new ConcurrentHashMap<Set<S>,CompletableFuture<Collection<Collection<S>>>>();
+
+	/** The minimal correction subsets of sets of formulas */
+	private ConcurrentHashMap<Set<S>,CompletableFuture<Set<Set<S>>>> mcs = new ConcurrentHashMap<Set<S>,CompletableFuture<Set<Set<S>>>>();
+
+	/** Consistency checks that could not be answered from the minimal inconsistent subsets */
+	private ConcurrentHashMap<Set<S>,CompletableFuture<Boolean>> consistency = new ConcurrentHashMap<Set<S>,CompletableFuture<Boolean>>();
+
+	/**
+	 * Creates a new context for the given knowledge base.
+	 * @param formulas some knowledge base
+	 */
+	public InconsistencyAnalysisContext(Collection<S> formulas) {
+		this.formulas = new HashSet<S>(formulas);
+	}
+
+	/**
+	 * Returns the knowledge base of this context.
+	 * @return the knowledge base of this context.
+	 */
+	public Set<S> getFormulas() {
+		return this.formulas;
+	}
+
+	/**
+	 * Returns the memoized result for the given key, computing it in the current thread
+	 * if no other thread has started to compute it yet. No lock is held during the computation.
+	 * @param <K> the type of the keys
+	 * @param <R> the type of the results
+	 * @param results the memoized results
+	 * @param key some key
+	 * @param computation computes the result for the key
+	 * @return the result for the key
+	 * @throws CancellationException if the current thread is interrupted while waiting for another thread
+	 */
+	private static <K,R> R memoize(ConcurrentHashMap<K,CompletableFuture<R>> results, K key, Supplier<R> computation) {
+		CompletableFuture<R> future = new CompletableFuture<R>();
+		CompletableFuture<R> existing = results.putIfAbsent(key, future);
+		if (existing == null) {
+			R result;
+			try {
+				result = computation.get();
+			} catch (RuntimeException | Error e) {
+				// do not memoize failures, waiting threads fail as well
+				results.remove(key, future);
+				future.completeExceptionally(e);
+				throw e;
+			}
+			future.complete(result);
+			return result;
+		}
+		try {
+			return existing.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while waiting for the analysis of another measure.");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Returns the minimal inconsistent subsets of the knowledge base if they have already been computed.
+	 * @return the minimal inconsistent subsets of the knowledge base or null.
+	 */
+	private Collection<Collection<S>> knownMinimalInconsistentSubsets() {
+		CompletableFuture<Collection<Collection<S>>> future = this.mis.get(this.formulas);
+		if (future == null || !future.isDone() || future.isCompletedExceptionally())
+			return null;
+		return future.join();
+	}
+
+	/**
+	 * Returns the minimal inconsistent subsets of the given formulas. If the formulas are
+	 * a subset of the knowledge base, the minimal inconsistent subsets of the knowledge base
+	 * are computed (once) with the given enumerator.
+	 * @param formulas some formulas
+	 * @param enumerator the enumerator used if the minimal inconsistent subsets have not been computed yet
+	 * @return the minimal inconsistent subsets of the given formulas.
+	 */
+	public Collection<Collection<S>> minimalInconsistentSubsets(Collection<S> formulas, MusEnumerator<S> enumerator) {
+		if (this.formulas.containsAll(formulas)) {
+			Collection<Collection<S>> all = memoize(this.mis, this.formulas, () -> enumerator.minimalInconsistentSubsets(this.formulas));
+			// the formulas may contain duplicates, so compare them as a set
+			Set<S> subset = new HashSet<S>(formulas);
+			if (subset.size() == this.formulas.size())
+				return all;
+			Collection<Collection<S>> result = new ArrayList<Collection<S>>();
+			for (Collection<S> m : all)
+				if (subset.containsAll(m))
+					result.add(m);
+			return result;
+		}
+		Set<S> key = new HashSet<S>(formulas);
+		return memoize(this.mis, key, () -> enumerator.minimalInconsistentSubsets(key));
+	}
+
+	/**
+	 * Returns the minimal correction subsets of the given formulas.
+	 * @param formulas some formulas
+	 * @param enumerator the enumerator used if the minimal correction subsets have not been computed yet
+	 * @return the minimal correction subsets of the given formulas.
+	 */
+	public Set<Set<S>> minimalCorrectionSubsets(Collection<S> formulas, MusEnumerator<S> enumerator) {
+		Set<S> key = new HashSet<S>(formulas);
+		return memoize(this.mcs, key, () -> enumerator.minimalCorrectionSubsets(key));
+	}
+
+	/**
+	 * Checks whether the given formulas are consistent. If the minimal inconsistent subsets
+	 * of the knowledge base are already known and the formulas are a subset of the knowledge base,
+	 * the tester is not used.
+	 * @param formulas some formulas
+	 * @param tester the tester used if the consistency of the formulas is not known yet
+	 * @return "true" iff the formulas are consistent.
+	 */
+	public boolean isConsistent(Collection<S> formulas, BeliefSetConsistencyTester<S> tester) {
+		Set<S> key = new HashSet<S>(formulas);
+		Collection<Collection<S>> all = this.knownMinimalInconsistentSubsets();
+		if (all != null && this.formulas.containsAll(key)) {
+			for (Collection<S> m : all)
+				if (key.containsAll(m))
+					return false;
+			return true;
+		}
+		return memoize(this.consistency, key, () -> tester.isConsistent(key));
+	}
+}
@@ -22,11 +22,13 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -74,6 +76,17 @@ public class InconsistencyMeasureEvaluator<T extends Formula, U extends BeliefSe
 	 */
 	private long TIMEOUT = 60000;
 
+	/**
+	 * Number of knowledge bases that are evaluated in parallel.
+	 */
+	private int threads = 1;
+
+	/**
+	 * Whether all measures evaluated on the same knowledge base share one
+	 * {@link InconsistencyAnalysisContext}.
+	 */
+	private boolean shareContext = false;
+
 	/**
 	 * Time function used to measure time.
 	 */
@@ -157,6 +170,31 @@ public class InconsistencyMeasureEvaluator<T extends Formula, U extends BeliefSe
 			this.TIMEOUT = timeout;
 	}
 	
+	/**
+	 * Sets the number of knowledge bases that are evaluated in parallel (default
+	 * is 1). Elapsed times measured with more than one thread may be affected by
+	 * the other knowledge bases evaluated at the same time.
+	 * 
+	 * @param threads the number of threads, must be positive
+	 */
+	public void setNumberOfThreads(int threads) {
+		if (threads > 0)
+			this.threads = threads;
+	}
+
+	/**
+	 * Sets whether all measures evaluated on the same knowledge base share one
+	 * {@link InconsistencyAnalysisContext} (default is false), so that e.g. minimal
+	 * inconsistent subsets are only enumerated once per knowledge base. Then the
+	 * time of a shared computation is attributed to the first measure needing it,
+	 * and subsequent measures are faster than on their own.
+	 * 
+	 * @param shareContext whether measures share the analysis of a knowledge base
+	 */
+	public void setShareContext(boolean shareContext) {
+		this.shareContext = shareContext;
+	}
+	
 	/**
 	 * Adds the given knowledge base to the testing dataset.
 	 * 
@@ -230,49 +268,85 @@ public class InconsistencyMeasureEvaluator<T extends Formula, U extends BeliefSe
 
 	/**
 	 * Computes inconsistency values for all belief bases in the dataset using all
-	 * inconsistency measures and returns a report of the results.
+	 * inconsistency measures and returns a report of the results. Knowledge bases
+	 * may be evaluated in parallel (see {@link #setNumberOfThreads(int)}) and measures
+	 * may share their analysis of a knowledge base (see {@link #setShareContext(boolean)}).
+	 * The timeout applies to every measure individually, a measure that fails with an
+	 * exception gets a result with status ERROR that carries the exception.
 	 * 
 	 * @return InconsistencyMeasureReport 
+	 * @throws CancellationException if the calling thread is interrupted, its interrupt
+	 * 		status is kept
 	 */
 	public InconsistencyMeasureReport<T,U> compareMeasures() {
 		if (dataset.isEmpty())
 			throw new IllegalArgumentException("Test dataset is empty.");
 
-		Map<String, List<InconsistencyMeasureResult>> list_of_results = new HashMap<String, List<InconsistencyMeasureResult>>();
-		for (BeliefSetInconsistencyMeasure<T> i : inconsistency_measures) {
-			List<InconsistencyMeasureResult> results = new ArrayList<InconsistencyMeasureResult>();
-			list_of_results.put(i.toString(), results);
-		}
-
+		InconsistencyMeasureResult[][] all_results = new InconsistencyMeasureResult[inconsistency_measures.size()][this.dataset.size()];
+		ExecutorService kbService = Executors.newFixedThreadPool(Math.min(this.threads, this.dataset.size()));
+		List<Future<?>> kbTasks = new ArrayList<Future<?>>();
 		for (int j = 0; j < this.dataset.size(); j++) {
-			U kb = this.dataset.get(j);
-			for (BeliefSetInconsistencyMeasure<T> i : inconsistency_measures) {
-				ExecutorService executorService = Executors.newSingleThreadExecutor();
-				InconsistencyMeasureResult result = null;
-				long startTime = time.get();
-				Future<InconsistencyMeasureResult> task = executorService.submit(() -> InconsistencyMeasureResult.ok(i.inconsistencyMeasure(kb)));
-				try {
-					result = task.get(this.TIMEOUT, TimeUnit.MILLISECONDS);
-				} catch (TimeoutException e) {
-					result = InconsistencyMeasureResult.timeout();
-					task.cancel(true);
-				}  catch (InterruptedException | ExecutionException e) {
-					e.printStackTrace();
-					task.cancel(true);
-				}
-				long elapsedTime = time.get() - startTime;
-				result.setElapsedTime(elapsedTime);
-				List<InconsistencyMeasureResult> results = list_of_results.get(i.toString());
-				results.add(result);
-				list_of_results.put(i.toString(), results);
-				executorService.shutdownNow();
-			}
-			
+			int kbIndex = j;
+			kbTasks.add(kbService.submit(() -> this.evaluateKnowledgeBase(kbIndex, all_results)));
+		}
+		try {
+			for (Future<?> kbTask : kbTasks)
+				kbTask.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Evaluation of the measures interrupted.");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			kbService.shutdownNow();
 		}
+
+		Map<String, List<InconsistencyMeasureResult>> list_of_results = new HashMap<String, List<InconsistencyMeasureResult>>();
+		for (int m = 0; m < inconsistency_measures.size(); m++)
+			list_of_results.put(inconsistency_measures.get(m).toString(), new ArrayList<InconsistencyMeasureResult>(Arrays.asList(all_results[m])));
 		
 		List<String> measureNames = inconsistency_measures.stream().map( e -> e.toString() ).collect( Collectors.toList() );
 		return new InconsistencyMeasureReport<T,U>(measureNames, this.dataset, this.dataset_names, list_of_results);
 	}
+
+	/**
+	 * Evaluates all inconsistency measures on the knowledge base with the given index
+	 * and stores the results.
+	 * 
+	 * @param j the index of some knowledge base of the dataset
+	 * @param all_results the results, indexed by measure and knowledge base
+	 */
+	private void evaluateKnowledgeBase(int j, InconsistencyMeasureResult[][] all_results) {
+		U kb = this.dataset.get(j);
+		InconsistencyAnalysisContext<T> shared = this.shareContext ? new InconsistencyAnalysisContext<T>(kb) : null;
+		for (int m = 0; m < inconsistency_measures.size(); m++) {
+			BeliefSetInconsistencyMeasure<T> i = inconsistency_measures.get(m);
+			InconsistencyAnalysisContext<T> context = shared != null ? shared : new InconsistencyAnalysisContext<T>(kb);
+			ExecutorService executorService = Executors.newSingleThreadExecutor();
+			InconsistencyMeasureResult result = null;
+			long startTime = time.get();
+			Future<InconsistencyMeasureResult> task = executorService.submit(() -> InconsistencyMeasureResult.ok(i.inconsistencyMeasure(kb, context)));
+			try {
+				result = task.get(this.TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				result = InconsistencyMeasureResult.timeout();
+				task.cancel(true);
+			} catch (InterruptedException e) {
+				task.cancel(true);
+				executorService.shutdownNow();
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Evaluation of the measures interrupted.");
+			} catch (ExecutionException e) {
+				result = InconsistencyMeasureResult.error(e.getCause());
+			}
+			long elapsedTime = time.get() - startTime;
+			result.setElapsedTime(elapsedTime);
+			all_results[m][j] = result;
+			executorService.shutdownNow();
+		}
+	}
 	
 	/**
 	 * @return the dataset of this evaluator
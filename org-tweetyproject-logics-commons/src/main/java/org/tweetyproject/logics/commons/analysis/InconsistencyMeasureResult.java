@@ -32,13 +32,16 @@ public class InconsistencyMeasureResult {
      * <ul>
      * <li>{@code OK}: Indicates that an inconsistency value has been successfully computed.</li>
      * <li>{@code TIMEOUT}: Indicates that the computation timed out before an inconsistency value could be determined.</li>
+     * <li>{@code ERROR}: Indicates that the computation failed with an exception.</li>
      * </ul>
      */
     public enum Status {
         /** OK */
         OK,
         /** TIMEOUT */
-        TIMEOUT
+        TIMEOUT,
+        /** ERROR */
+        ERROR
     }
 
     /** The computed inconsistency value, if available. */
@@ -50,6 +53,9 @@ public class InconsistencyMeasureResult {
     /** The time elapsed during the computation in milliseconds. */
     private long elapsedTime;
 
+    /** The exception the computation failed with, if any. */
+    private Throwable cause;
+
     /**
      * Private constructor to create an {@code InconsistencyMeasureResult}.
      *
@@ -71,6 +77,18 @@ public class InconsistencyMeasureResult {
         return new InconsistencyMeasureResult(-1.0, Status.TIMEOUT);
     }
 
+    /**
+     * Creates an {@code InconsistencyMeasureResult} indicating a failed computation.
+     *
+     * @param cause the exception the computation failed with.
+     * @return an {@code InconsistencyMeasureResult} with {@code Status.ERROR}.
+     */
+    public static InconsistencyMeasureResult error(Throwable cause) {
+        InconsistencyMeasureResult result = new InconsistencyMeasureResult(-1.0, Status.ERROR);
+        result.cause = cause;
+        return result;
+    }
+
     /**
      * Creates an {@code InconsistencyMeasureResult} with the given inconsistency value.
      *
@@ -84,7 +102,7 @@ public class InconsistencyMeasureResult {
     /**
      * Returns the status of the inconsistency measure result.
      *
-     * @return the status, either {@code OK} or {@code TIMEOUT}.
+     * @return the status, either {@code OK}, {@code TIMEOUT}, or {@code ERROR}.
      */
     public Status getStatus() {
         return timeoutStatus;
@@ -93,7 +111,7 @@ public class InconsistencyMeasureResult {
     /**
      * Returns the computed inconsistency value.
      *
-     * <p>If the status is {@code TIMEOUT}, this value will be -1.0.</p>
+     * <p>If the status is {@code TIMEOUT} or {@code ERROR}, this value will be -1.0.</p>
      *
      * @return the inconsistency value.
      */
@@ -101,6 +119,15 @@ public class InconsistencyMeasureResult {
         return inconsistencyValue;
     }
 
+    /**
+     * Returns the exception the computation failed with.
+     *
+     * @return the exception if the status is {@code ERROR}, null otherwise.
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
     /**
      * Returns the time elapsed during the computation, in milliseconds.
      *
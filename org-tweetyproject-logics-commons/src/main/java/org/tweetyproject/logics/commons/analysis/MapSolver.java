@@ -0,0 +1,203 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.commons.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The map solver of the MARCO algorithm, i.e., a small DPLL solver over one
+ * variable per formula whose clauses are either purely negative (blocking all
+ * supersets of a minimal inconsistent subset) or purely positive (blocking all
+ * subsets of a maximal consistent subset). Every model of the clauses is a subset
+ * of formulas that has not been explored yet. Decisions always try "true" first,
+ * so models tend to be large.
+ *
+ * @author The TweetyProject Team
+ */
+class MapSolver {
+
+	/** The number of variables */
+	private int n;
+
+	/** The clauses, every clause is a list of variables */
+	private List<int[]> clauses;
+
+	/** Whether the clause at the same position is positive */
+	private List<Boolean> positive;
+
+	/** For every variable the clauses in which it occurs */
+	private List<List<Integer>> occurrences;
+
+	/** The current assignment (0 unassigned, 1 true, -1 false) */
+	private int[] value;
+
+	/** The assigned variables in assignment order */
+	private int[] trail;
+
+	/** The size of the trail */
+	private int trailSize;
+
+	/** Whether the variable is a decision whose other value has not been tried yet */
+	private boolean[] decision;
+
+	/** Whether an empty clause has been added */
+	private boolean unsat;
+
+	/**
+	 * Creates a new map solver for the given number of variables.
+	 * @param n the number of variables
+	 */
+	MapSolver(int n) {
+		this.n = n;
+		this.clauses = new ArrayList<int[]>();
+		this.positive = new ArrayList<Boolean>();
+		this.occurrences = new ArrayList<List<Integer>>(n);
+		for (int i = 0; i < n; i++)
+			this.occurrences.add(new ArrayList<Integer>());
+		this.value = new int[n];
+		this.trail = new int[n];
+		this.decision = new boolean[n];
+		this.unsat = false;
+	}
+
+	/**
+	 * Adds the clause that at least one variable of the given set is true
+	 * (if positive) resp. false (if not positive).
+	 * @param vars some variables
+	 * @param positive the polarity of the clause
+	 */
+	void addClause(BitSet vars, boolean positive) {
+		if (vars.isEmpty()) {
+			this.unsat = true;
+			return;
+		}
+		int[] clause = vars.stream().toArray();
+		for (int v : clause)
+			this.occurrences.get(v).add(this.clauses.size());
+		this.clauses.add(clause);
+		this.positive.add(positive);
+	}
+
+	/**
+	 * Returns some model of the clauses.
+	 * @return the set of true variables of some model, or null if the clauses
+	 * 	are unsatisfiable.
+	 */
+	BitSet solve() {
+		if (this.unsat)
+			return null;
+		Arrays.fill(this.value, 0);
+		this.trailSize = 0;
+		// initial unit clauses
+		for (int c = 0; c < this.clauses.size(); c++) {
+			int[] clause = this.clauses.get(c);
+			if (clause.length == 1) {
+				int val = this.positive.get(c) ? 1 : -1;
+				if (this.value[clause[0]] == -val)
+					return null;
+				if (this.value[clause[0]] == 0)
+					this.assign(clause[0], val, false);
+			}
+		}
+		if (!this.propagate(0))
+			return null;
+		int next = 0;
+		while (true) {
+			while (next < this.n && this.value[next] != 0)
+				next++;
+			if (next == this.n)
+				break;
+			int start = this.trailSize;
+			this.assign(next, 1, true);
+			while (!this.propagate(start)) {
+				// backtrack to the last decision that has an untried value
+				int v = -1;
+				while (this.trailSize > 0) {
+					v = this.trail[--this.trailSize];
+					boolean d = this.decision[v];
+					this.value[v] = 0;
+					this.decision[v] = false;
+					if (d)
+						break;
+					v = -1;
+				}
+				if (v < 0)
+					return null;
+				start = this.trailSize;
+				this.assign(v, -1, false);
+				next = 0;
+			}
+		}
+		BitSet model = new BitSet(this.n);
+		for (int i = 0; i < this.n; i++)
+			if (this.value[i] == 1)
+				model.set(i);
+		return model;
+	}
+
+	/**
+	 * Assigns the given value to the given variable.
+	 * @param v some variable
+	 * @param val 1 or -1
+	 * @param isDecision whether this is a decision
+	 */
+	private void assign(int v, int val, boolean isDecision) {
+		this.value[v] = val;
+		this.decision[v] = isDecision;
+		this.trail[this.trailSize++] = v;
+	}
+
+	/**
+	 * Performs unit propagation for all assignments on the trail from the given position on.
+	 * @param start some position of the trail
+	 * @return "false" iff a conflict occurred.
+	 */
+	private boolean propagate(int start) {
+		for (int t = start; t < this.trailSize; t++) {
+			int v = this.trail[t];
+			for (int c : this.occurrences.get(v)) {
+				int lit = this.positive.get(c) ? 1 : -1;
+				// only clauses whose literal of v has become false are affected
+				if (this.value[v] == lit)
+					continue;
+				int unassigned = -1, numUnassigned = 0;
+				boolean satisfied = false;
+				for (int w : this.clauses.get(c)) {
+					if (this.value[w] == lit) {
+						satisfied = true;
+						break;
+					}
+					if (this.value[w] == 0) {
+						unassigned = w;
+						numUnassigned++;
+					}
+				}
+				if (satisfied || numUnassigned > 1)
+					continue;
+				if (numUnassigned == 0)
+					return false;
+				this.assign(unassigned, lit, false);
+			}
+		}
+		return true;
+	}
+}
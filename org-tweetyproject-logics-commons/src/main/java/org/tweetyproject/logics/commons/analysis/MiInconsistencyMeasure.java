@@ -46,7 +46,15 @@ public class MiInconsistencyMeasure<S extends Formula> extends BeliefSetInconsis
 	 */
 	@Override
 	public Double inconsistencyMeasure(Collection<S> formulas) {
-		return ((double)this.enumerator.minimalInconsistentSubsets(formulas).size());
+		return this.inconsistencyMeasure(formulas, new InconsistencyAnalysisContext<S>(formulas));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.BeliefSetInconsistencyMeasure#inconsistencyMeasure(java.util.Collection, org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext)
+	 */
+	@Override
+	public Double inconsistencyMeasure(Collection<S> formulas, InconsistencyAnalysisContext<S> context) {
+		return ((double)context.minimalInconsistentSubsets(formulas, this.enumerator).size());
 	}
 
 	/* (non-Javadoc)
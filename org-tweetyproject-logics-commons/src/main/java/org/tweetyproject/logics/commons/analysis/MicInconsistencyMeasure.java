@@ -46,8 +46,16 @@ public class MicInconsistencyMeasure<S extends Formula> extends BeliefSetInconsi
 	 */
 	@Override
 	public Double inconsistencyMeasure(Collection<S> formulas) {
+		return this.inconsistencyMeasure(formulas, new InconsistencyAnalysisContext<S>(formulas));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.BeliefSetInconsistencyMeasure#inconsistencyMeasure(java.util.Collection, org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext)
+	 */
+	@Override
+	public Double inconsistencyMeasure(Collection<S> formulas, InconsistencyAnalysisContext<S> context) {
 		double value = 0; 
-		for(Collection<S> minInconSet: this.enumerator.minimalInconsistentSubsets(formulas)){			
+		for(Collection<S> minInconSet: context.minimalInconsistentSubsets(formulas, this.enumerator)){			
 			value += ( 1 / ((double)minInconSet.size()) );
 		}
 		return value;
@@ -40,11 +40,11 @@ public class NormalizedMiInconsistencyMeasure<S extends Formula> extends MiIncon
 	}
 
 	/* (non-Javadoc)
-	 * @see org.tweetyproject.logics.commons.analysis.MiInconsistencyMeasure#inconsistencyMeasure(java.util.Collection)
+	 * @see org.tweetyproject.logics.commons.analysis.MiInconsistencyMeasure#inconsistencyMeasure(java.util.Collection, org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext)
 	 */
 	@Override
-	public Double inconsistencyMeasure(Collection<S> beliefSet) {
-		Double value = super.inconsistencyMeasure(beliefSet);
+	public Double inconsistencyMeasure(Collection<S> beliefSet, InconsistencyAnalysisContext<S> context) {
+		Double value = super.inconsistencyMeasure(beliefSet, context);
 		if (value == 0) return value;
 
 		double normFactor = MathTools.binomial(beliefSet.size(), Double.valueOf(Math.ceil(Double.valueOf(beliefSet.size()) / 2)).intValue());
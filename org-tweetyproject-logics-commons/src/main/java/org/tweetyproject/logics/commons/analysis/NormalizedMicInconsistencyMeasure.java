@@ -41,11 +41,11 @@ public class NormalizedMicInconsistencyMeasure<S extends Formula> extends MicInc
 
 
 	/* (non-Javadoc)
-	 * @see org.tweetyproject.logics.commons.analysis.MicInconsistencyMeasure#inconsistencyMeasure(java.util.Collection)
+	 * @see org.tweetyproject.logics.commons.analysis.MicInconsistencyMeasure#inconsistencyMeasure(java.util.Collection, org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext)
 	 */
 	@Override
-	public Double inconsistencyMeasure(Collection<S> beliefSet) {
-		double value = super.inconsistencyMeasure(beliefSet);
+	public Double inconsistencyMeasure(Collection<S> beliefSet, InconsistencyAnalysisContext<S> context) {
+		double value = super.inconsistencyMeasure(beliefSet, context);
 		if(value == 0) return value;
 		@SuppressWarnings("deprecation")
 		double normFactor = ((double)MathTools.binomial(beliefSet.size(), new Double(Math.ceil(((double)beliefSet.size()) / 2)).intValue())) / 2;
@@ -56,14 +56,28 @@ public class ShapleyCulpabilityMeasure<S extends Formula, T extends BeliefSet<S,
 	 */
 	@Override
 	public Double culpabilityMeasure(T beliefSet, S formula) {
+		return this.culpabilityMeasure(beliefSet, formula, new InconsistencyAnalysisContext<S>(beliefSet));
+	}
+
+	/**
+	 * Computes the culpability of the given formula in the given belief set. The
+	 * inconsistency measure is evaluated on all subsets of the belief set with the
+	 * given analysis context, so e.g. MUS-based measures only enumerate the
+	 * minimal inconsistent subsets of the belief set once.
+	 * @param beliefSet a belief set.
+	 * @param formula some formula of the belief set.
+	 * @param context an analysis context for the belief set.
+	 * @return the culpability of the formula.
+	 */
+	public Double culpabilityMeasure(T beliefSet, S formula, InconsistencyAnalysisContext<S> context) {
 		if(this.archive.containsKey(new Pair<T,S>(beliefSet,formula)))
 			return this.archive.get(new Pair<T,S>(beliefSet,formula)); 
 		Set<Pair<Collection<S>,Collection<S>>> subbases = this.getSubsets(beliefSet, formula);		
 		Double result = 0d;
 		for(Pair<Collection<S>,Collection<S>> pair : subbases){
 			Double v1,v2;
-			v1 = this.inconsistencyMeasure.inconsistencyMeasure(pair.getFirst());
-			v2 = this.inconsistencyMeasure.inconsistencyMeasure(pair.getSecond());			
+			v1 = this.inconsistencyMeasure.inconsistencyMeasure(pair.getFirst(), context);
+			v2 = this.inconsistencyMeasure.inconsistencyMeasure(pair.getSecond(), context);			
 			Double temp =  v1 - v2;
 			temp *= MathTools.faculty(pair.getSecond().size());
 			temp *= MathTools.faculty(beliefSet.size()-pair.getFirst().size());
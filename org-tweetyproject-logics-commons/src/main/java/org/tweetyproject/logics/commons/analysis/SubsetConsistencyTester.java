@@ -0,0 +1,85 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.commons.analysis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import org.tweetyproject.commons.Formula;
+
+/**
+ * Checks the consistency of many subsets of a fixed list of formulas. Implementations
+ * can prepare the formulas once, e.g., by adding every formula guarded by a
+ * selector literal to an incremental SAT session, and then check every subset by
+ * only passing the selector literals of the subset as assumptions.
+ *
+ * @author The TweetyProject Team
+ *
+ * @param <S> the type of formulas
+ */
+public interface SubsetConsistencyTester<S extends Formula> {
+
+	/**
+	 * A session for checking subsets of a fixed list of formulas.
+	 */
+	public interface Session extends AutoCloseable {
+		/**
+		 * Checks whether the formulas with the given indices are consistent.
+		 * @param subset the indices of some formulas of the session
+		 * @return "true" iff the formulas are consistent.
+		 */
+		public boolean isConsistent(BitSet subset);
+
+		@Override
+		public void close();
+	}
+
+	/**
+	 * Opens a session for checking subsets of the given formulas.
+	 * @param formulas a list of formulas, the formula at position i
+	 * 	has index i in the session
+	 * @return a session, which should be closed after usage.
+	 */
+	public Session open(List<S> formulas);
+
+	/**
+	 * Returns a (non-incremental) subset consistency tester that passes every
+	 * subset to the given consistency tester.
+	 * @param <S> the type of formulas
+	 * @param tester some consistency tester
+	 * @return a subset consistency tester.
+	 */
+	public static <S extends Formula> SubsetConsistencyTester<S> of(BeliefSetConsistencyTester<S> tester) {
+		return formulas -> new Session() {
+			@Override
+			public boolean isConsistent(BitSet subset) {
+				Collection<S> c = new ArrayList<S>(subset.cardinality());
+				for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1))
+					c.add(formulas.get(i));
+				return tester.isConsistent(c);
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+}
@@ -20,6 +20,7 @@ package org.tweetyproject.logics.commons.syntax;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -144,6 +145,15 @@ public class AssociativeFormulaSupport<T extends SimpleLogicalFormula> extends C
 		return reval;
 	}
 
+	/**
+	 * Makes the inner formulas unmodifiable, afterwards every method that
+	 * changes the inner formulas throws an UnsupportedOperationException.
+	 * This is used for formulas that are shared between several owners.
+	 */
+	public void freeze() {
+		this.formulas = Collections.unmodifiableList(new ArrayList<T>(this.formulas));
+	}
+
 	// -------------------------------------------------------------------------
 	// SIMPLE AND ASSOCIATIVE METHODS
 	// -------------------------------------------------------------------------
@@ -0,0 +1,921 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.mln.reasoner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.tweetyproject.commons.util.Pair;
+import org.tweetyproject.logics.commons.syntax.Predicate;
+import org.tweetyproject.logics.commons.syntax.RelationalFormula;
+import org.tweetyproject.logics.commons.syntax.Sort;
+import org.tweetyproject.logics.commons.syntax.Variable;
+import org.tweetyproject.logics.commons.syntax.interfaces.Term;
+import org.tweetyproject.logics.fol.syntax.AssociativeFolFormula;
+import org.tweetyproject.logics.fol.syntax.Conjunction;
+import org.tweetyproject.logics.fol.syntax.Contradiction;
+import org.tweetyproject.logics.fol.syntax.Disjunction;
+import org.tweetyproject.logics.fol.syntax.EqualityPredicate;
+import org.tweetyproject.logics.fol.syntax.Equivalence;
+import org.tweetyproject.logics.fol.syntax.ExclusiveDisjunction;
+import org.tweetyproject.logics.fol.syntax.ExistsQuantifiedFormula;
+import org.tweetyproject.logics.fol.syntax.FolAtom;
+import org.tweetyproject.logics.fol.syntax.FolFormula;
+import org.tweetyproject.logics.fol.syntax.FolSignature;
+import org.tweetyproject.logics.fol.syntax.ForallQuantifiedFormula;
+import org.tweetyproject.logics.fol.syntax.Implication;
+import org.tweetyproject.logics.fol.syntax.InequalityPredicate;
+import org.tweetyproject.logics.fol.syntax.Negation;
+import org.tweetyproject.logics.fol.syntax.Tautology;
+import org.tweetyproject.logics.mln.syntax.MarkovLogicNetwork;
+import org.tweetyproject.logics.mln.syntax.MlnFormula;
+
+/**
+ * This MLN reasoner implements the MC-SAT algorithm, cf. [Poon, Domingos. Sound
+ * and Efficient Inference with Probabilistic and Deterministic Dependencies. AAAI 2006].<br>
+ * <br>
+ * The MLN is grounded lazily, starting from the atoms of the query: grounding an
+ * atom instantiates exactly those ground formulas that contain it, found by matching
+ * the atom with the atoms of the MLN formulas, and the atoms of these formulas are
+ * grounded in turn. As the distribution of the MLN factorizes over the connected
+ * parts of the ground network, sampling only the part connected to the query yields
+ * the same probability, while ground formulas of other parts are never instantiated
+ * (strict formulas there are thus not checked for satisfiability). The grounding is
+ * kept and extended by further queries on the same MLN and signature. Formulas with
+ * functors are grounded completely. Ground atoms are only materialized when they occur
+ * in some ground formula or the query, i.e., the Herbrand base is never enumerated,
+ * and every ground formula is compiled into a tree over atom indices. An index from
+ * atoms to the ground formulas they occur in allows to compute the effect of flipping
+ * an atom by only re-evaluating the formulas of that atom.<br>
+ * <br>
+ * The initial state satisfying all strict formulas is found with WalkSAT. In every
+ * step of MC-SAT, each ground formula satisfied by the current state is selected
+ * with probability 1-exp(-w) (strict formulas are always selected) and the next
+ * state is sampled from the states satisfying all selected formulas. Instead of
+ * SampleSAT, whose samples are not uniform, Metropolis-Hastings moves flipping one
+ * atom (or two atoms, if the first flip violates a selected formula) are used that
+ * leave the uniform distribution on these states invariant, so the chain converges
+ * to the distribution of the MLN. Several independent chains are run in parallel
+ * and the probability of the query is the fraction of samples satisfying it. For
+ * reproducible results, see {@link #setSeed(long)}.
+ *
+ * @author The TweetyProject Team
+ */
+public class McSatMlnReasoner extends AbstractMlnReasoner {
+
+	/** The number of samples taken per chain. */
+	private int numberOfSamples;
+	/** The number of steps per chain before samples are taken. */
+	private int burnIn;
+	/** The number of independent chains. */
+	private int numberOfChains;
+	/** The maximal number of flips of WalkSAT for finding the initial state. */
+	private int maxFlips = 100000;
+	/** The probability of a random WalkSAT move (instead of a greedy one). */
+	private double walkProbability = 0.5;
+	/** The number of moves per atom in one step. */
+	private int movesPerStep = 1;
+	/** The seed of the random number generators of the chains, null for random seeds. */
+	private Long seed = null;
+
+	/** The grounding of the last queries, reused and extended when the MLN and signature do not change. */
+	private Grounding grounding = null;
+
+	/**
+	 * Creates a new reasoner that takes the given number of samples
+	 * using one chain per available processor.
+	 * @param numberOfSamples the total number of samples
+	 */
+	public McSatMlnReasoner(int numberOfSamples) {
+		this(numberOfSamples, numberOfSamples / 10, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new reasoner.
+	 * @param numberOfSamples the total number of samples (divided among the chains)
+	 * @param burnIn the number of steps of each chain before samples are taken
+	 * @param numberOfChains the number of independent chains, run in parallel
+	 */
+	public McSatMlnReasoner(int numberOfSamples, int burnIn, int numberOfChains) {
+		if (numberOfSamples < 1 || burnIn < 0 || numberOfChains < 1)
+			throw new IllegalArgumentException("Number of samples and chains must be positive and burn-in must not be negative.");
+		this.numberOfChains = Math.min(numberOfChains, numberOfSamples);
+		this.numberOfSamples = (numberOfSamples + this.numberOfChains - 1) / this.numberOfChains;
+		this.burnIn = burnIn;
+	}
+
+	/**
+	 * Sets the maximal number of flips of WalkSAT when looking for an initial state
+	 * satisfying all strict formulas.
+	 * @param maxFlips the maximal number of flips
+	 */
+	public void setMaxFlips(int maxFlips) {
+		this.maxFlips = maxFlips;
+	}
+
+	/**
+	 * Sets the probability of a random (instead of a greedy) WalkSAT move.
+	 * @param walkProbability some probability
+	 */
+	public void setWalkProbability(double walkProbability) {
+		this.walkProbability = walkProbability;
+	}
+
+	/**
+	 * Sets the number of moves per atom within one step, i.e., how thoroughly the
+	 * states satisfying the selected formulas are sampled.
+	 * @param movesPerStep the number of moves per atom
+	 */
+	public void setMovesPerStep(int movesPerStep) {
+		this.movesPerStep = movesPerStep;
+	}
+
+	/**
+	 * Sets the seed of the random number generators, so that every query yields the
+	 * same result regardless of the scheduling of the chains (the i-th chain uses
+	 * seed+i).
+	 * @param seed some seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.mln.reasoner.AbstractMlnReasoner#doQuery(org.tweetyproject.logics.mln.syntax.MarkovLogicNetwork, org.tweetyproject.logics.fol.syntax.FolFormula, org.tweetyproject.logics.fol.syntax.FolSignature)
+	 */
+	@Override
+	protected double doQuery(MarkovLogicNetwork mln, FolFormula query, FolSignature signature) {
+		Network network = this.getNetwork(mln, query, signature);
+		if (network.inconsistent)
+			return 0;
+		long hits = IntStream.range(0, this.numberOfChains).parallel()
+				.mapToLong(i -> new Chain(network, this.seed == null ? new Random() : new Random(this.seed + i)).run())
+				.sum();
+		return hits / (double) (this.numberOfChains * (long) this.numberOfSamples);
+	}
+
+	/**
+	 * Returns the ground formulas of the given MLN wrt. the given signature that the
+	 * given query depends on, grounding them if necessary.
+	 * @param mln some MLN
+	 * @param query some query
+	 * @param signature some signature
+	 * @return the ground network of the query
+	 */
+	private synchronized Network getNetwork(MarkovLogicNetwork mln, FolFormula query, FolSignature signature) {
+		if (this.grounding == null || !this.grounding.mln.equals(mln) || !this.grounding.signature.equals(signature))
+			this.grounding = new Grounding(mln, signature);
+		return this.grounding.network(query);
+	}
+
+	/**
+	 * Returns the number of ground formulas instantiated so far for the MLN and
+	 * signature of the last query.
+	 * @return the number of ground formulas
+	 */
+	public synchronized int getNumberOfGroundFormulas() {
+		return this.grounding == null ? 0 : this.grounding.formulas.size();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.commons.Reasoner#isInstalled()
+	 */
+	@Override
+	public boolean isInstalled() {
+		return true;
+	}
+
+	/**
+	 * A ground formula compiled over atom indices.
+	 */
+	private static final class GroundFormula {
+		private static final int TRUE = 0, FALSE = 1, ATOM = 2, NOT = 3, AND = 4, OR = 5, XOR = 6, IMPLIES = 7, EQUIVALENT = 8, CLAUSE = 9;
+		private static final GroundFormula VERUM = new GroundFormula(TRUE, -1);
+		private static final GroundFormula FALSUM = new GroundFormula(FALSE, -1);
+
+		private final int type;
+		private final int atom;
+		private final GroundFormula[] children;
+		/** The literals of a clause, atom+1 for positive and -(atom+1) for negative ones */
+		private final int[] literals;
+
+		private GroundFormula(int type, int atom, GroundFormula... children) {
+			this.type = type;
+			this.atom = atom;
+			this.children = children;
+			this.literals = null;
+		}
+
+		private GroundFormula(int[] literals) {
+			this.type = CLAUSE;
+			this.atom = -1;
+			this.children = new GroundFormula[0];
+			this.literals = literals;
+		}
+
+		/**
+		 * Returns the conjunction (or disjunction) of the given formulas, simplifying
+		 * constant ones.
+		 */
+		private static GroundFormula junction(boolean and, List<GroundFormula> formulas) {
+			List<GroundFormula> children = new ArrayList<>();
+			for (GroundFormula c : formulas) {
+				if (c.isConstant()) {
+					// a false conjunct or true disjunct decides the formula
+					if ((c.type == TRUE) != and)
+						return c;
+					continue;
+				}
+				children.add(c);
+			}
+			if (children.isEmpty())
+				return and ? VERUM : FALSUM;
+			if (children.size() == 1)
+				return children.get(0);
+			if (!and) {
+				// disjunctions of literals are evaluated without recursion
+				int[] literals = new int[children.size()];
+				for (int i = 0; i < literals.length; i++) {
+					GroundFormula c = children.get(i);
+					if (c.type == ATOM)
+						literals[i] = c.atom + 1;
+					else if (c.type == NOT && c.children[0].type == ATOM)
+						literals[i] = -c.children[0].atom - 1;
+					else
+						return new GroundFormula(OR, -1, children.toArray(new GroundFormula[0]));
+				}
+				return new GroundFormula(literals);
+			}
+			return new GroundFormula(and ? AND : OR, -1, children.toArray(new GroundFormula[0]));
+		}
+
+		private boolean isConstant() {
+			return this.type == TRUE || this.type == FALSE;
+		}
+
+		private boolean evaluate(boolean[] state) {
+			switch (this.type) {
+			case TRUE: return true;
+			case FALSE: return false;
+			case ATOM: return state[this.atom];
+			case NOT: return !this.children[0].evaluate(state);
+			case AND:
+				for (GroundFormula c : this.children)
+					if (!c.evaluate(state))
+						return false;
+				return true;
+			case OR:
+				for (GroundFormula c : this.children)
+					if (c.evaluate(state))
+						return true;
+				return false;
+			case XOR:
+				boolean parity = false;
+				for (GroundFormula c : this.children)
+					parity ^= c.evaluate(state);
+				return parity;
+			case CLAUSE:
+				for (int l : this.literals)
+					if (l > 0 ? state[l - 1] : !state[-l - 1])
+						return true;
+				return false;
+			case IMPLIES: return !this.children[0].evaluate(state) || this.children[1].evaluate(state);
+			default: return this.children[0].evaluate(state) == this.children[1].evaluate(state);
+			}
+		}
+
+		private void collectAtoms(Set<Integer> atoms) {
+			if (this.type == ATOM)
+				atoms.add(this.atom);
+			if (this.type == CLAUSE)
+				for (int l : this.literals)
+					atoms.add(Math.abs(l) - 1);
+			for (GroundFormula c : this.children)
+				c.collectAtoms(atoms);
+		}
+	}
+
+	/**
+	 * An occurrence of an atom in an MLN formula. Variables bound by some quantifier
+	 * around the atom match every constant, all other variables are unbound variables
+	 * of the formula.
+	 */
+	private static final class Occurrence {
+		/** The index of the MLN formula */
+		private final int formula;
+		private final FolAtom atom;
+		/** The variables bound by quantifiers at this occurrence */
+		private final Set<Variable> bound;
+
+		private Occurrence(int formula, FolAtom atom, Set<Variable> bound) {
+			this.formula = formula;
+			this.atom = atom;
+			this.bound = bound;
+		}
+	}
+
+	/**
+	 * The lazily grown grounding of an MLN: the ground atoms, the ground formulas and
+	 * the index from atoms to ground formulas. An atom is expanded by grounding all
+	 * instances of MLN formulas containing it; a query is answered on the ground
+	 * formulas connected to its atoms, which are all expanded before.
+	 */
+	private static final class Grounding {
+		private final MarkovLogicNetwork mln;
+		private final FolSignature signature;
+		private final Map<Sort, Set<Term<?>>> terms;
+
+		/** The MLN formulas with non-zero weight */
+		private final List<MlnFormula> mlnFormulas = new ArrayList<>();
+		/** The unbound variables of every MLN formula */
+		private final List<List<Variable>> variables = new ArrayList<>();
+		/** The atom occurrences of the (not eagerly grounded) MLN formulas by predicate */
+		private final Map<Predicate, List<Occurrence>> occurrencesByPredicate = new HashMap<>();
+		/** The instances grounded so far, as the index of the MLN formula followed by the substituted terms */
+		private final Set<List<Object>> instances = new HashSet<>();
+
+		private final Map<FolAtom, Integer> atomIndex = new HashMap<>();
+		private final List<FolAtom> atoms = new ArrayList<>();
+		/** The atoms whose ground formulas are complete */
+		private final BitSet expanded = new BitSet();
+		/** The ground formulas of each atom */
+		private final List<List<Integer>> occurrences = new ArrayList<>();
+		private final List<GroundFormula> formulas = new ArrayList<>();
+		/** The atoms of each ground formula */
+		private final List<int[]> formulaAtoms = new ArrayList<>();
+		/** The MLN formula of each ground formula */
+		private final List<Integer> source = new ArrayList<>();
+		/** Set if some ground instance of a strict formula is unsatisfiable */
+		private boolean inconsistent = false;
+
+		/**
+		 * Creates the grounding. Only formulas with functors or without atoms (other than
+		 * equalities) are grounded right away.
+		 */
+		private Grounding(MarkovLogicNetwork mln, FolSignature signature) {
+			this.mln = new MarkovLogicNetwork(mln);
+			this.signature = signature.clone();
+			this.terms = Sort.sortTerms(this.signature.getConstants());
+			for (MlnFormula f : mln) {
+				if (!f.isStrict() && f.getWeight() == 0)
+					continue;
+				int k = this.mlnFormulas.size();
+				this.mlnFormulas.add(f);
+				this.variables.add(new ArrayList<>(f.getFormula().getUnboundVariables()));
+				List<Occurrence> occ = new ArrayList<>();
+				if (f.getFormula().getFunctors().isEmpty())
+					this.collectOccurrences(k, f.getFormula(), new HashSet<>(), occ);
+				if (occ.isEmpty()) {
+					this.groundAll(k);
+					continue;
+				}
+				for (Occurrence o : occ)
+					this.occurrencesByPredicate.computeIfAbsent(o.atom.getPredicate(), p -> new ArrayList<>()).add(o);
+			}
+		}
+
+		/**
+		 * Collects the occurrences of atoms (other than equalities) in the given formula.
+		 */
+		private void collectOccurrences(int k, FolFormula f, Set<Variable> bound, List<Occurrence> result) {
+			if (f instanceof FolAtom) {
+				Predicate p = ((FolAtom) f).getPredicate();
+				if (!(p instanceof EqualityPredicate || p instanceof InequalityPredicate))
+					result.add(new Occurrence(k, (FolAtom) f, bound));
+			} else if (f instanceof Negation)
+				this.collectOccurrences(k, ((Negation) f).getFormula(), bound, result);
+			else if (f instanceof Conjunction || f instanceof Disjunction || f instanceof ExclusiveDisjunction) {
+				for (RelationalFormula rf : ((AssociativeFolFormula) f).getFormulas())
+					this.collectOccurrences(k, (FolFormula) rf, bound, result);
+			} else if (f instanceof Implication || f instanceof Equivalence) {
+				Pair<RelationalFormula, RelationalFormula> p = f instanceof Implication ? ((Implication) f).getFormulas() : ((Equivalence) f).getFormulas();
+				this.collectOccurrences(k, (FolFormula) p.getFirst(), bound, result);
+				this.collectOccurrences(k, (FolFormula) p.getSecond(), bound, result);
+			} else if (f instanceof ForallQuantifiedFormula || f instanceof ExistsQuantifiedFormula) {
+				Set<Variable> inner = new HashSet<>(bound);
+				inner.addAll(f instanceof ForallQuantifiedFormula ? ((ForallQuantifiedFormula) f).getQuantifierVariables() : ((ExistsQuantifiedFormula) f).getQuantifierVariables());
+				this.collectOccurrences(k, f instanceof ForallQuantifiedFormula ? ((ForallQuantifiedFormula) f).getFormula() : ((ExistsQuantifiedFormula) f).getFormula(), inner, result);
+			}
+		}
+
+		/**
+		 * Grounds all instances of the given MLN formula.
+		 */
+		private void groundAll(int k) {
+			FolFormula f = this.mlnFormulas.get(k).getFormula();
+			if (!f.getFunctors().isEmpty()) {
+				for (RelationalFormula rf : f.allGroundInstances(this.signature.getConstants()))
+					this.add(k, this.compile((FolFormula) rf, new HashMap<>()));
+				return;
+			}
+			this.forEachSubstitution(k, new HashMap<>(), theta -> this.add(k, this.compile(f, theta)));
+		}
+
+		/**
+		 * Extends the given substitution by all combinations of terms for the remaining
+		 * unbound variables of the given MLN formula and passes each to the consumer. The
+		 * substitution passed is changed afterwards.
+		 */
+		private void forEachSubstitution(int k, Map<Variable, Term<?>> theta, Consumer<Map<Variable, Term<?>>> consumer) {
+			List<Variable> remaining = new ArrayList<>();
+			List<List<Term<?>>> domains = new ArrayList<>();
+			for (Variable v : this.variables.get(k)) {
+				if (theta.containsKey(v))
+					continue;
+				if (!this.terms.containsKey(v.getSort()))
+					throw new IllegalArgumentException("There is no term of sort " + v.getSort() + " to substitute.");
+				remaining.add(v);
+				domains.add(new ArrayList<>(this.terms.get(v.getSort())));
+			}
+			// enumerate all substitutions like an odometer
+			int[] counter = new int[remaining.size()];
+			while (true) {
+				for (int i = 0; i < counter.length; i++)
+					theta.put(remaining.get(i), domains.get(i).get(counter[i]));
+				consumer.accept(theta);
+				int i = 0;
+				while (i < counter.length && ++counter[i] == domains.get(i).size())
+					counter[i++] = 0;
+				if (i == counter.length)
+					return;
+			}
+		}
+
+		/**
+		 * Adds a ground instance of the given MLN formula.
+		 */
+		private void add(int k, GroundFormula gf) {
+			if (gf.isConstant()) {
+				// constant formulas affect all states alike, except violated strict ones
+				if (this.mlnFormulas.get(k).isStrict() && gf.type == GroundFormula.FALSE)
+					this.inconsistent = true;
+				return;
+			}
+			int index = this.formulas.size();
+			this.formulas.add(gf);
+			this.source.add(k);
+			Set<Integer> as = new LinkedHashSet<>();
+			gf.collectAtoms(as);
+			int[] atoms = as.stream().mapToInt(Integer::intValue).toArray();
+			this.formulaAtoms.add(atoms);
+			for (int a : atoms)
+				this.occurrences.get(a).add(index);
+		}
+
+		/**
+		 * Grounds all instances of MLN formulas containing the given atom.
+		 */
+		private void expand(int atom) {
+			FolAtom ground = this.atoms.get(atom);
+			List<Term<?>> args = ground.getArguments();
+			for (Occurrence o : this.occurrencesByPredicate.getOrDefault(ground.getPredicate(), new ArrayList<>())) {
+				// match the occurrence with the atom
+				Map<Variable, Term<?>> theta = new HashMap<>();
+				List<Term<?>> pattern = o.atom.getArguments();
+				boolean match = true;
+				for (int i = 0; i < pattern.size() && match; i++) {
+					Term<?> t = pattern.get(i);
+					if (t instanceof Variable) {
+						if (o.bound.contains(t))
+							continue;
+						Term<?> old = theta.put((Variable) t, args.get(i));
+						match = (old == null || old.equals(args.get(i))) && this.terms.getOrDefault(((Variable) t).getSort(), new HashSet<>()).contains(args.get(i));
+					} else
+						match = t.equals(args.get(i));
+				}
+				if (!match)
+					continue;
+				FolFormula f = this.mlnFormulas.get(o.formula).getFormula();
+				this.forEachSubstitution(o.formula, theta, s -> {
+					List<Object> key = new ArrayList<>();
+					key.add(o.formula);
+					for (Variable v : this.variables.get(o.formula))
+						key.add(s.get(v));
+					if (this.instances.add(key))
+						this.add(o.formula, this.compile(f, s));
+				});
+			}
+		}
+
+		/**
+		 * Returns the part of the grounding the given query depends on, i.e., the ground
+		 * formulas connected to the atoms of the query. The atoms reached are expanded first.
+		 */
+		private Network network(FolFormula query) {
+			GroundFormula q = this.compile(query, new HashMap<>());
+			Set<Integer> queryAtoms = new LinkedHashSet<>();
+			q.collectAtoms(queryAtoms);
+			Deque<Integer> queue = new ArrayDeque<>(queryAtoms);
+			BitSet reached = new BitSet();
+			for (int a : queryAtoms)
+				reached.set(a);
+			List<Integer> atoms = new ArrayList<>();
+			Map<Integer, Integer> formulas = new LinkedHashMap<>();
+			while (!queue.isEmpty()) {
+				int a = queue.poll();
+				atoms.add(a);
+				if (!this.expanded.get(a)) {
+					this.expanded.set(a);
+					this.expand(a);
+				}
+				for (int f : this.occurrences.get(a)) {
+					if (formulas.containsKey(f))
+						continue;
+					formulas.put(f, formulas.size());
+					for (int b : this.formulaAtoms.get(f))
+						if (!reached.get(b)) {
+							reached.set(b);
+							queue.add(b);
+						}
+				}
+			}
+			return new Network(this, q, atoms, formulas);
+		}
+
+		/**
+		 * Compiles the given formula under the substitution <code>theta</code>, which
+		 * has to bind all unbound variables of the formula. Atoms not in the grounding
+		 * are added to it.
+		 */
+		private GroundFormula compile(FolFormula f, Map<Variable, Term<?>> theta) {
+			if (f instanceof Tautology)
+				return GroundFormula.VERUM;
+			if (f instanceof Contradiction)
+				return GroundFormula.FALSUM;
+			if (f instanceof FolAtom) {
+				FolAtom atom = (FolAtom) f;
+				Predicate p = atom.getPredicate();
+				List<Term<?>> terms = atom.getArguments();
+				if (!theta.isEmpty()) {
+					terms = new ArrayList<>(terms);
+					for (int i = 0; i < terms.size(); i++)
+						if (theta.containsKey(terms.get(i)))
+							terms.set(i, theta.get(terms.get(i)));
+				}
+				if (p instanceof EqualityPredicate || p instanceof InequalityPredicate) {
+					return terms.get(0).equals(terms.get(1)) == (p instanceof EqualityPredicate) ? GroundFormula.VERUM : GroundFormula.FALSUM;
+				}
+				if (!theta.isEmpty())
+					atom = new FolAtom(p, terms);
+				Integer idx = this.atomIndex.get(atom);
+				if (idx == null) {
+					idx = this.atoms.size();
+					this.atoms.add(atom);
+					this.atomIndex.put(atom, idx);
+					this.occurrences.add(new ArrayList<>());
+				}
+				return new GroundFormula(GroundFormula.ATOM, idx);
+			}
+			if (f instanceof Negation) {
+				GroundFormula c = this.compile(((Negation) f).getFormula(), theta);
+				if (c.isConstant())
+					return c.type == GroundFormula.TRUE ? GroundFormula.FALSUM : GroundFormula.VERUM;
+				return new GroundFormula(GroundFormula.NOT, -1, c);
+			}
+			if (f instanceof Conjunction || f instanceof Disjunction) {
+				boolean and = f instanceof Conjunction;
+				List<GroundFormula> children = new ArrayList<>();
+				for (RelationalFormula rf : (and ? ((Conjunction) f).getFormulas() : ((Disjunction) f).getFormulas()))
+					children.add(this.compile((FolFormula) rf, theta));
+				return GroundFormula.junction(and, children);
+			}
+			if (f instanceof ExclusiveDisjunction) {
+				List<GroundFormula> children = new ArrayList<>();
+				boolean parity = false;
+				for (RelationalFormula rf : ((ExclusiveDisjunction) f).getFormulas()) {
+					GroundFormula c = this.compile((FolFormula) rf, theta);
+					if (c.isConstant())
+						parity ^= c.type == GroundFormula.TRUE;
+					else
+						children.add(c);
+				}
+				if (parity)
+					children.add(GroundFormula.VERUM);
+				if (children.isEmpty())
+					return GroundFormula.FALSUM;
+				return new GroundFormula(GroundFormula.XOR, -1, children.toArray(new GroundFormula[0]));
+			}
+			if (f instanceof Implication || f instanceof Equivalence) {
+				Pair<RelationalFormula, RelationalFormula> p = f instanceof Implication ? ((Implication) f).getFormulas() : ((Equivalence) f).getFormulas();
+				GroundFormula first = this.compile((FolFormula) p.getFirst(), theta);
+				GroundFormula second = this.compile((FolFormula) p.getSecond(), theta);
+				return new GroundFormula(f instanceof Implication ? GroundFormula.IMPLIES : GroundFormula.EQUIVALENT, -1, first, second);
+			}
+			if (f instanceof ForallQuantifiedFormula || f instanceof ExistsQuantifiedFormula) {
+				boolean forall = f instanceof ForallQuantifiedFormula;
+				FolFormula inner = forall ? ((ForallQuantifiedFormula) f).getFormula() : ((ExistsQuantifiedFormula) f).getFormula();
+				Set<Variable> variables = forall ? ((ForallQuantifiedFormula) f).getQuantifierVariables() : ((ExistsQuantifiedFormula) f).getQuantifierVariables();
+				// expand the quantifier over the terms of the signature of the sorts of its variables
+				List<Map<Variable, Term<?>>> substitutions = new ArrayList<>();
+				substitutions.add(theta);
+				for (Variable v : variables) {
+					List<Map<Variable, Term<?>>> next = new ArrayList<>();
+					for (Map<Variable, Term<?>> s : substitutions)
+						for (Term<?> c : this.terms.getOrDefault(v.getSort(), new HashSet<>())) {
+							Map<Variable, Term<?>> t = new HashMap<>(s);
+							t.put(v, c);
+							next.add(t);
+						}
+					substitutions = next;
+				}
+				List<GroundFormula> children = new ArrayList<>();
+				for (Map<Variable, Term<?>> s : substitutions)
+					children.add(this.compile(inner, s));
+				return GroundFormula.junction(forall, children);
+			}
+			throw new IllegalArgumentException("FolFormula " + f + " is of unknown type.");
+		}
+	}
+
+	/**
+	 * The ground formulas a query depends on, indexed from 0, with the atoms they contain.
+	 */
+	private static final class Network {
+		private final GroundFormula query;
+		/** The number of atoms of the grounding */
+		private final int numberOfAtoms;
+		/** The atoms of the network */
+		private final int[] atoms;
+		private final GroundFormula[] formulas;
+		/** The atoms of each ground formula */
+		private final int[][] formulaAtoms;
+		/** The ground formulas of each atom of the network */
+		private final int[][] occurrences;
+		/** 1-exp(-|w|) for each ground formula, or 1 for strict formulas */
+		private final double[] selectionProbability;
+		/** Whether a formula with negative weight is represented, i.e., its negation has to be satisfied */
+		private final boolean[] negated;
+		private final boolean[] strict;
+		private final boolean inconsistent;
+
+		/**
+		 * Creates the network of the given atoms and ground formulas (each mapped to its
+		 * index in the network) of the grounding.
+		 */
+		private Network(Grounding g, GroundFormula query, List<Integer> atoms, Map<Integer, Integer> formulas) {
+			this.query = query;
+			this.numberOfAtoms = g.atoms.size();
+			this.atoms = atoms.stream().mapToInt(Integer::intValue).toArray();
+			int n = formulas.size();
+			this.formulas = new GroundFormula[n];
+			this.formulaAtoms = new int[n][];
+			this.selectionProbability = new double[n];
+			this.negated = new boolean[n];
+			this.strict = new boolean[n];
+			for (Map.Entry<Integer, Integer> e : formulas.entrySet()) {
+				int i = e.getValue();
+				MlnFormula f = g.mlnFormulas.get(g.source.get(e.getKey()));
+				this.formulas[i] = g.formulas.get(e.getKey());
+				this.formulaAtoms[i] = g.formulaAtoms.get(e.getKey());
+				this.strict[i] = f.isStrict();
+				this.negated[i] = !f.isStrict() && f.getWeight() < 0;
+				this.selectionProbability[i] = f.isStrict() ? 1 : 1 - Math.exp(-Math.abs(f.getWeight()));
+			}
+			this.occurrences = new int[this.numberOfAtoms][];
+			for (int a : this.atoms)
+				this.occurrences[a] = g.occurrences.get(a).stream().mapToInt(formulas::get).toArray();
+			this.inconsistent = g.inconsistent;
+		}
+	}
+
+	/**
+	 * A single MC-SAT chain.
+	 */
+	private final class Chain {
+		private final Network g;
+		private final Random rand;
+
+		/** The current state */
+		private boolean[] state;
+		/** Whether each ground formula is selected in the current step */
+		private boolean[] selected;
+		/** Whether each selected ground formula is satisfied (with respect to its sign) in the current state */
+		private boolean[] satisfied;
+		/** The selected formulas that are not satisfied, and the position of each formula in this list */
+		private int[] unsatisfied;
+		private int numberOfUnsatisfied = 0;
+		private int[] position;
+		/** Marks atoms already collected in {@link #repairs(int)} */
+		private int[] mark;
+		private int currentMark = 0;
+
+		private Chain(Network g, Random rand) {
+			this.g = g;
+			this.rand = rand;
+			int n = g.formulas.length;
+			this.state = new boolean[g.numberOfAtoms];
+			this.selected = new boolean[n];
+			this.satisfied = new boolean[n];
+			this.unsatisfied = new int[n];
+			this.position = new int[n];
+			this.mark = new int[g.numberOfAtoms];
+		}
+
+		/**
+		 * Runs the chain and returns the number of samples satisfying the query.
+		 */
+		private long run() {
+			// start with a state satisfying the strict formulas
+			for (int i = 0; i < this.selected.length; i++)
+				this.selected[i] = this.g.strict[i];
+			if (!this.walkSat())
+				throw new IllegalStateException("Could not find a state satisfying all strict formulas.");
+			long hits = 0;
+			for (int step = 0; step < burnIn + numberOfSamples; step++) {
+				// the current state satisfies all selected formulas
+				for (int i = 0; i < this.selected.length; i++) {
+					this.selected[i] = this.g.strict[i] || (this.rand.nextDouble() < this.g.selectionProbability[i] && this.isSatisfied(i));
+					this.satisfied[i] = this.selected[i];
+				}
+				this.sampleState();
+				if (step >= burnIn && this.g.query.evaluate(this.state))
+					hits++;
+			}
+			return hits;
+		}
+
+		private boolean isSatisfied(int formula) {
+			return this.g.formulas[formula].evaluate(this.state) != this.g.negated[formula];
+		}
+
+		/**
+		 * Finds a state satisfying the selected formulas with WalkSAT, starting from
+		 * a random state.
+		 * @return "true" iff such a state has been found within the maximal number of flips.
+		 */
+		private boolean walkSat() {
+			for (int a : this.g.atoms)
+				this.state[a] = this.rand.nextBoolean();
+			this.numberOfUnsatisfied = 0;
+			for (int i = 0; i < this.selected.length; i++) {
+				this.satisfied[i] = this.selected[i] && this.isSatisfied(i);
+				if (this.selected[i] && !this.satisfied[i])
+					this.addUnsatisfied(i);
+			}
+			for (int flips = 0; this.numberOfUnsatisfied > 0 && flips < maxFlips; flips++) {
+				int[] atoms = this.g.formulaAtoms[this.unsatisfied[this.rand.nextInt(this.numberOfUnsatisfied)]];
+				if (this.rand.nextDouble() < walkProbability) {
+					this.flip(atoms[this.rand.nextInt(atoms.length)]);
+				} else {
+					int best = -1, bestDelta = Integer.MAX_VALUE, ties = 0;
+					for (int atom : atoms) {
+						int delta = this.delta(atom);
+						if (delta < bestDelta) {
+							best = atom;
+							bestDelta = delta;
+							ties = 1;
+						} else if (delta == bestDelta && this.rand.nextInt(++ties) == 0)
+							best = atom;
+					}
+					this.flip(best);
+				}
+			}
+			return this.numberOfUnsatisfied == 0;
+		}
+
+		/**
+		 * Moves to a new state satisfying the selected formulas, given that the current
+		 * state satisfies them. A Metropolis-Hastings move either flips a single atom
+		 * or, if this violates some selected formula, additionally flips an atom of a
+		 * violated formula; moves are accepted such that the uniform distribution on the
+		 * states satisfying the selected formulas is invariant.
+		 */
+		private void sampleState() {
+			int n = this.g.atoms.length;
+			for (int i = 0; i < movesPerStep * n; i++) {
+				int a = this.g.atoms[this.rand.nextInt(n)];
+				int[] repairs = this.repairs(a);
+				if (repairs == null) {
+					// all selected formulas stay satisfied
+					this.state[a] = !this.state[a];
+					continue;
+				}
+				if (repairs.length == 0)
+					continue;
+				int b = repairs[this.rand.nextInt(repairs.length)];
+				double forward = 1d / repairs.length + this.proposal(b, a);
+				this.flip(a);
+				this.flip(b);
+				if (this.numberOfUnsatisfied > 0 || this.rand.nextDouble() * forward >= this.proposal(a, b) + this.proposal(b, a)) {
+					this.flip(b);
+					this.flip(a);
+				}
+			}
+		}
+
+		/**
+		 * Returns the atoms (except the given one) of the selected formulas that are
+		 * violated by flipping the given atom, or null if there are none. The current
+		 * state has to satisfy all selected formulas.
+		 */
+		private int[] repairs(int atom) {
+			int[] result = null;
+			int size = 0;
+			this.state[atom] = !this.state[atom];
+			this.currentMark++;
+			this.mark[atom] = this.currentMark;
+			for (int f : this.g.occurrences[atom]) {
+				if (!this.selected[f] || this.isSatisfied(f))
+					continue;
+				if (result == null)
+					result = new int[4];
+				for (int a : this.g.formulaAtoms[f])
+					if (this.mark[a] != this.currentMark) {
+						this.mark[a] = this.currentMark;
+						if (size == result.length)
+							result = Arrays.copyOf(result, 2 * size);
+						result[size++] = a;
+					}
+			}
+			this.state[atom] = !this.state[atom];
+			return result == null ? null : Arrays.copyOf(result, size);
+		}
+
+		/**
+		 * The probability (times the number of atoms) that a two-atom move from the
+		 * current state first flips <code>first</code> and then <code>second</code>.
+		 */
+		private double proposal(int first, int second) {
+			int[] repairs = this.repairs(first);
+			if (repairs == null)
+				return 0;
+			for (int a : repairs)
+				if (a == second)
+					return 1d / repairs.length;
+			return 0;
+		}
+
+		/**
+		 * Computes the change of the number of unsatisfied selected formulas
+		 * when flipping the given atom.
+		 */
+		private int delta(int atom) {
+			int delta = 0;
+			this.state[atom] = !this.state[atom];
+			for (int f : this.g.occurrences[atom])
+				if (this.selected[f] && this.isSatisfied(f) != this.satisfied[f])
+					delta += this.satisfied[f] ? 1 : -1;
+			this.state[atom] = !this.state[atom];
+			return delta;
+		}
+
+		/**
+		 * Flips the given atom and updates the selected formulas it occurs in.
+		 */
+		private void flip(int atom) {
+			this.state[atom] = !this.state[atom];
+			for (int f : this.g.occurrences[atom]) {
+				if (!this.selected[f])
+					continue;
+				boolean sat = this.isSatisfied(f);
+				if (sat == this.satisfied[f])
+					continue;
+				this.satisfied[f] = sat;
+				if (sat)
+					this.removeUnsatisfied(f);
+				else
+					this.addUnsatisfied(f);
+			}
+		}
+
+		private void addUnsatisfied(int f) {
+			this.position[f] = this.numberOfUnsatisfied;
+			this.unsatisfied[this.numberOfUnsatisfied++] = f;
+		}
+
+		private void removeUnsatisfied(int f) {
+			int last = this.unsatisfied[--this.numberOfUnsatisfied];
+			this.unsatisfied[this.position[f]] = last;
+			this.position[last] = this.position[f];
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.mln.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import org.tweetyproject.commons.ParserException;
+import org.tweetyproject.commons.util.Pair;
+import org.tweetyproject.logics.commons.syntax.Constant;
+import org.tweetyproject.logics.commons.syntax.Predicate;
+import org.tweetyproject.logics.fol.parser.FolParser;
+import org.tweetyproject.logics.fol.syntax.FolFormula;
+import org.tweetyproject.logics.fol.syntax.FolSignature;
+import org.tweetyproject.logics.mln.examples.MlnExample;
+import org.tweetyproject.logics.mln.reasoner.McSatMlnReasoner;
+import org.tweetyproject.logics.mln.reasoner.SimpleMlnReasoner;
+import org.tweetyproject.logics.mln.syntax.MarkovLogicNetwork;
+import org.tweetyproject.logics.mln.syntax.MlnFormula;
+
+/**
+ * JUnit Test class for McSatMlnReasoner, comparing its estimates with the
+ * exact probabilities computed by SimpleMlnReasoner.
+ *
+ * @author The TweetyProject Team
+ */
+public class McSatMlnReasonerTest {
+
+	private static final double ACCURACY = 0.03;
+
+	private McSatMlnReasoner mcSat() {
+		McSatMlnReasoner reasoner = new McSatMlnReasoner(40000, 1000, 4);
+		reasoner.setSeed(42);
+		return reasoner;
+	}
+
+	private SimpleMlnReasoner exact() {
+		SimpleMlnReasoner reasoner = new SimpleMlnReasoner();
+		reasoner.setTempDirectory(System.getProperty("java.io.tmpdir"));
+		return reasoner;
+	}
+
+	private FolSignature signature(int constants) {
+		FolSignature sig = new FolSignature();
+		sig.add(new Predicate("a", 1));
+		sig.add(new Predicate("b", 1));
+		for (int i = 0; i < constants; i++)
+			sig.add(new Constant("d" + i));
+		return sig;
+	}
+
+	private FolFormula parse(FolSignature sig, String formula) throws ParserException, IOException {
+		FolParser parser = new FolParser();
+		parser.setSignature(sig);
+		return (FolFormula) parser.parseFormula(formula);
+	}
+
+	@Test
+	public void SmokersTest() throws ParserException, IOException {
+		Pair<MarkovLogicNetwork, FolSignature> example = MlnExample.SmokersExample(2);
+		MarkovLogicNetwork mln = example.getFirst();
+		FolSignature sig = example.getSecond();
+		McSatMlnReasoner mcSat = this.mcSat();
+		SimpleMlnReasoner exact = this.exact();
+		for (String query : new String[] { "cancer(d0)", "smokes(d1)", "friends(d0,d1)", "friends(d0,d0)", "smokes(d0) && smokes(d1)" }) {
+			FolFormula q = this.parse(sig, query);
+			assertEquals(query, exact.query(mln, q, sig), mcSat.query(mln, q, sig), ACCURACY);
+		}
+	}
+
+	@Test
+	public void StrictFormulaTest() throws ParserException, IOException {
+		FolSignature sig = this.signature(2);
+		MarkovLogicNetwork mln = new MarkovLogicNetwork();
+		mln.add(new MlnFormula(this.parse(sig, "a(d0)")));
+		mln.add(new MlnFormula(this.parse(sig, "!a(X) || b(X)")));
+		mln.add(new MlnFormula(this.parse(sig, "!b(X)"), 0.8));
+		McSatMlnReasoner mcSat = this.mcSat();
+		SimpleMlnReasoner exact = this.exact();
+		// strict formulas hold in every sample
+		assertEquals(1, mcSat.query(mln, this.parse(sig, "b(d0)"), sig), 0);
+		for (String query : new String[] { "a(d1)", "b(d1)" }) {
+			FolFormula q = this.parse(sig, query);
+			assertEquals(query, exact.query(mln, q, sig), mcSat.query(mln, q, sig), ACCURACY);
+		}
+	}
+
+	@Test
+	public void NegativeWeightTest() throws ParserException, IOException {
+		FolSignature sig = this.signature(2);
+		MarkovLogicNetwork mln = new MarkovLogicNetwork();
+		mln.add(new MlnFormula(this.parse(sig, "a(X)"), -1.2));
+		mln.add(new MlnFormula(this.parse(sig, "!a(X) || b(X)"), -0.5));
+		McSatMlnReasoner mcSat = this.mcSat();
+		SimpleMlnReasoner exact = this.exact();
+		for (String query : new String[] { "a(d0)", "b(d1)", "a(d0) && b(d0)" }) {
+			FolFormula q = this.parse(sig, query);
+			assertEquals(query, exact.query(mln, q, sig), mcSat.query(mln, q, sig), ACCURACY);
+		}
+	}
+
+	@Test
+	public void SeedTest() throws ParserException, IOException {
+		Pair<MarkovLogicNetwork, FolSignature> example = MlnExample.SmokersExample(2);
+		FolFormula q = this.parse(example.getSecond(), "cancer(d0)");
+		McSatMlnReasoner reasoner = new McSatMlnReasoner(2000, 100, 3);
+		reasoner.setSeed(7);
+		double first = reasoner.query(example.getFirst(), q, example.getSecond());
+		assertEquals(first, reasoner.query(example.getFirst(), q, example.getSecond()), 0);
+		McSatMlnReasoner other = new McSatMlnReasoner(2000, 100, 3);
+		other.setSeed(7);
+		assertEquals(first, other.query(example.getFirst(), q, example.getSecond()), 0);
+	}
+
+	@Test
+	public void LazyGroundingTest() throws ParserException, IOException {
+		FolSignature sig = this.signature(300);
+		MarkovLogicNetwork mln = new MarkovLogicNetwork();
+		mln.add(new MlnFormula(this.parse(sig, "!a(X) || b(X)"), 1.5));
+		McSatMlnReasoner mcSat = this.mcSat();
+		// three of the four states of a(d0), b(d0) satisfy the formula, two of them b(d0)
+		double e = Math.exp(1.5), a = (e + 1) / (3 * e + 1), b = 2 * e / (3 * e + 1);
+		assertEquals(b, mcSat.query(mln, this.parse(sig, "b(d0)"), sig), ACCURACY);
+		// only the ground formula of d0 is instantiated
+		assertEquals(1, mcSat.getNumberOfGroundFormulas());
+		// the ground formulas of d1 and d2 are added to the grounding
+		assertEquals(1 - (1 - a) * (1 - b), mcSat.query(mln, this.parse(sig, "a(d1) || b(d2)"), sig), ACCURACY);
+		assertEquals(3, mcSat.getNumberOfGroundFormulas());
+	}
+
+	@Test
+	public void QuantifiedLazyGroundingTest() throws ParserException, IOException {
+		FolSignature sig = this.signature(2);
+		MarkovLogicNetwork mln = new MarkovLogicNetwork();
+		mln.add(new MlnFormula(this.parse(sig, "a(X) || (exists Y: (b(Y)))"), 0.7));
+		mln.add(new MlnFormula(this.parse(sig, "b(X)"), -0.4));
+		McSatMlnReasoner mcSat = this.mcSat();
+		SimpleMlnReasoner exact = this.exact();
+		for (String query : new String[] { "a(d0)", "b(d1)" }) {
+			FolFormula q = this.parse(sig, query);
+			assertEquals(query, exact.query(mln, q, sig), mcSat.query(mln, q, sig), ACCURACY);
+		}
+	}
+}
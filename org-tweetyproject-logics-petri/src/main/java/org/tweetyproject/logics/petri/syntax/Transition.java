@@ -19,6 +19,7 @@
 package org.tweetyproject.logics.petri.syntax;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -73,6 +74,22 @@ public class Transition extends PetriNetNode {
 		this.outgoingArks.add(ark);
 	}
 
+	/**
+	 * Return the arks leading from the preset to this transition
+	 * @return the incoming arks
+	 */
+	public List<Ark> getIncomingArks() {
+		return Collections.unmodifiableList(this.incomingArks);
+	}
+
+	/**
+	 * Return the arks leading from this transition to its postset
+	 * @return the outgoing arks
+	 */
+	public List<Ark> getOutgoingArks() {
+		return Collections.unmodifiableList(this.outgoingArks);
+	}
+
 	/**
 	 * Return true if all incoming arks and all outgoing arks of this transition can fire
 	 * @return true if all incoming arks and all outgoing arks of this transition can fire
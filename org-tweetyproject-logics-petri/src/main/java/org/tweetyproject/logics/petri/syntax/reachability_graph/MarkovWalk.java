@@ -20,7 +20,6 @@ package org.tweetyproject.logics.petri.syntax.reachability_graph;
 
 import org.tweetyproject.math.matrix.Matrix;
 import org.tweetyproject.math.term.FloatConstant;
-import org.tweetyproject.math.term.Term;
 
 /**
  * A class to perform a stochastic walk on a reachability graph based on a probability function on that graph
@@ -33,29 +32,26 @@ public class MarkovWalk {
 	 */
 	private ReachabilityGraph graph;
 	/**
-	 * the |T|x|T| transition matrix of that graph, featuring the probabilities
+	 * the sparse |M|x|M| transition matrix and |T|x|M| control matrix of that graph, featuring the probabilities,
+	 * where |M| is the number of markings and |T| the number of transitions
 	 */
-	private Matrix transitionMatrix;
+	private SparseTransitionMatrix transitionMatrix;
 	/**
-	 * the |M|x|T| control matrix of that graph, where |M| is the number of markings
+	 * the |T| control vector of that graph
 	 */
-	private Matrix controlMatrix;
+	private double[] controlVector;
 	/**
-	 * the |1|x|T| control vector of that graph
+	 * the |T| normalized control vector of that graph
 	 */
-	private Matrix controlVector;
-	/**
-	 * the |1|x|T| normalized control vector of that graph
-	 */
-	private Matrix normalizedControlVector;
+	private double[] normalizedControlVector;
 	/**
 	 * the current state (probability distribution) during the stochastic walk
 	 */
-	private Matrix currentState;
+	private double[] currentState;
 	/**
 	 * the mean state (probability distribution) during the stochastic walk
 	 */
-	private Matrix currentMeanState;
+	private double[] currentMeanState;
 	/**
 	 * an upper limit of the number of discrete steps to take
 	 */
@@ -76,10 +72,10 @@ public class MarkovWalk {
 	/**
 	 * Initialize the walk by setting up an initial state that assigns equal probabilities
 	 * to each of the graph's initial markings
+	 * @throws IllegalStateException iff the probability function of the graph is invalid
 	 */
 	public void initializeWalk() {
-		this.transitionMatrix = graph.getTransitionMatrix();
-		this.controlMatrix = graph.getControlMatrix();
+		this.transitionMatrix = new SparseTransitionMatrix(graph);
 		setupInitialState();
 	}
 
@@ -88,29 +84,22 @@ public class MarkovWalk {
 	 * i.e. (mean) states and control vectors
 	 */
 	private void setupInitialState() {
-		this.currentState = new Matrix( graph.getNumberOfNodes(), 1);
-		this.currentMeanState = new Matrix(graph.getNumberOfNodes(), 1);
-		this.controlVector = new Matrix(graph.getPetriNet().getTransitions().size(), 1);
 		int numberOfInitialMarkings = graph.getInitialMarkings().size();
 		if(numberOfInitialMarkings == 0) {
 			throw new IllegalStateException("The number of designated initial markings in this graph is zero.");
 		}
-		Term probability = new FloatConstant(1/Float.valueOf(numberOfInitialMarkings));
+		this.currentState = new double[graph.getNumberOfNodes()];
+		this.controlVector = new double[graph.getPetriNet().getTransitions().size()];
+		this.normalizedControlVector = null;
+		double probability = 1/Double.valueOf(numberOfInitialMarkings);
 		int i = 0;
 		for(Marking marking : graph.getNodes()) {
 			if(graph.isInitial(marking)) {
-				currentState.setEntry(i,0, probability);
-				currentMeanState.setEntry(i,0, probability);
-			} else {
-				currentState.setEntry(i, 0, new FloatConstant(0));
-				currentMeanState.setEntry(i, 0, new FloatConstant(0));
+				currentState[i] = probability;
 			}
 			i++;
 		}
-		i = 0;
-		for(; i < controlVector.getXDimension(); i++) {
-			controlVector.setEntry(i, 0, new FloatConstant(0));
-		}
+		this.currentMeanState = currentState.clone();
 	}
 
 	/**
@@ -118,19 +107,7 @@ public class MarkovWalk {
 	 * This neglects control vectors
 	 */
 	public void performWalk() {
-		Matrix newState;
-		Matrix newMean;
-		long iteration = 0;
-		double delta = TOLERANCE + 1d;
-		while(iteration < MAX_ITERATIONS &&  delta > TOLERANCE) {
-			iteration++;
-			newState = currentState.mult(transitionMatrix).simplify();
-			// newMean = 1/(it+1)*(it*oldMean + newState)
-			newMean = (currentMeanState.mult(iteration).add(newState)).mult(1/(iteration+1d)).simplify();
-			delta = getVectorDelta(currentMeanState, newMean);
-			currentState = newState;
-			currentMeanState = newMean;
-		}
+		walk(false);
 	}
 
 	/**
@@ -138,42 +115,79 @@ public class MarkovWalk {
 	 * This also yields control vectors
 	 */
 	public void performShortCircuitWalk() {
-		Matrix newState;
-		Matrix newMean;
-		Matrix controlVectorDelta;
+		walk(true);
+	}
+
+	/**
+	 * Walk the network until the mean state changes less than the tolerance
+	 * @param control whether the control vectors are computed as well
+	 */
+	private void walk(boolean control) {
+		int n = currentState.length;
+		double[] newState = new double[n];
+		double[] controlVectorDelta = new double[controlVector.length];
 		long iteration = 0;
 		double delta = TOLERANCE + 1d;
 		while(iteration < MAX_ITERATIONS &&  delta > TOLERANCE) {
 			iteration++;
-			newState = currentState.mult(transitionMatrix).simplify();
+			transitionMatrix.multiply(currentState, newState);
 			// newMean = 1/(it+1)*(it*oldMean + newState)
-			newMean = (currentMeanState.mult(iteration).add(newState)).mult(1/(iteration+1d)).simplify();
-			delta = getVectorDelta(currentMeanState, newMean);
-			controlVectorDelta = currentState.mult(controlMatrix);
-			controlVector = controlVector.add(controlVectorDelta).simplify();
+			delta = 0;
+			for(int i = 0; i < n; i++) {
+				double newMean = (currentMeanState[i] * iteration + newState[i]) / (iteration + 1d);
+				delta += Math.abs(currentMeanState[i] - newMean);
+				currentMeanState[i] = newMean;
+			}
+			if(control) {
+				transitionMatrix.multiplyControl(currentState, controlVectorDelta);
+				for(int t = 0; t < controlVector.length; t++) {
+					controlVector[t] += controlVectorDelta[t];
+				}
+			}
+			double[] swap = currentState;
 			currentState = newState;
-			currentMeanState = newMean;
-			normalizedControlVector = controlVector.mult(1/(iteration+0d)).simplify();
+			newState = swap;
+		}
+		if(control && iteration > 0) {
+			normalizedControlVector = new double[controlVector.length];
+			for(int t = 0; t < controlVector.length; t++) {
+				normalizedControlVector[t] = controlVector[t] / iteration;
+			}
 		}
 	}
 
+	/**
+	 * Compute the stationary distribution of the graph directly by Gauss-Seidel iteration.
+	 * For irreducible graphs, e.g. those of short-circuited nets, this is the limit of the
+	 * mean state and is usually found much faster than by walking.
+	 * @return the stationary distribution
+	 */
+	public Matrix computeStationaryDistribution() {
+		return toMatrix(transitionMatrix.gaussSeidel(TOLERANCE * TOLERANCE, MAX_ITERATIONS));
+	}
 
 	/**
-	 * Calculate the distance between two vectors
-	 * @param stateA the first vector
-	 * @param stateB the second vector
-	 * @return the distance
+	 * Convert a vector into a |n|x|1| matrix
+	 * @param vector the vector
+	 * @return the matrix, or null if the vector is null
 	 */
-	private double getVectorDelta(Matrix stateA, Matrix stateB) {
-		Matrix diff = stateA.minus(stateB);
-		return diff.distanceToZero();
+	private Matrix toMatrix(double[] vector) {
+		if(vector == null) {
+			return null;
+		}
+		Matrix matrix = new Matrix(vector.length, 1);
+		for(int i = 0; i < vector.length; i++) {
+			matrix.setEntry(i, 0, new FloatConstant(vector[i]));
+		}
+		return matrix;
 	}
+
 	/**
 	 * Return the currentState
 	 * @return the currentState
 	 */
 	public Matrix getCurrentState() {
-		return currentState;
+		return toMatrix(currentState);
 	}
 
 	/**
@@ -181,7 +195,7 @@ public class MarkovWalk {
 	 * @return the mean state
 	 */
 	public Matrix getMeanState() {
-		return currentMeanState;
+		return toMatrix(currentMeanState);
 	}
 
 	/**
@@ -189,7 +203,7 @@ public class MarkovWalk {
 	 * @return the controlVector
 	 */
 	public Matrix getControlVector() {
-		return controlVector;
+		return toMatrix(controlVector);
 	}
 
 	/**
@@ -197,7 +211,7 @@ public class MarkovWalk {
 	 * @return the normalized control vector
 	 */
 	public Matrix getNormalizedControlVector() {
-		return normalizedControlVector;
+		return toMatrix(normalizedControlVector);
 	}
 
 
@@ -0,0 +1,295 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.petri.syntax.reachability_graph;
+
+import java.util.Arrays;
+
+/**
+ * A set of markings where every marking is a token vector packed into a fixed number
+ * of longs. Markings are numbered densely in the order of their insertion and found
+ * again via open addressing over the packed words. Places with a capacity get as many
+ * bits as the capacity needs, all other places share a width that is doubled (and the
+ * whole set repacked) whenever some token count does not fit anymore.
+ * <br>
+ * Lookups may run concurrently as long as no marking is added at the same time.
+ *
+ * @author The TweetyProject Team
+ */
+final class PackedMarkingSet {
+
+	/** The initial number of bits of places without capacity */
+	private static final int INITIAL_WIDTH = 4;
+
+	/** The number of places */
+	private final int places;
+	/** The capacities of the places, -1 for unbounded places */
+	private final int[] capacity;
+	/** The current number of bits of unbounded places */
+	private int width;
+	/** The number of bits of every place */
+	private int[] bits;
+	/** The word of every place */
+	private int[] word;
+	/** The offset of every place within its word */
+	private int[] offset;
+	/** The number of words per marking */
+	private int words;
+
+	/** The packed markings, one block of words per marking */
+	private long[] data;
+	/** The hash of every marking */
+	private int[] hashes;
+	/** The number of markings */
+	private int size;
+	/** The hash table of marking ids, shifted by one so that zero marks a free slot */
+	private int[] table;
+
+	/**
+	 * Creates a new empty set.
+	 * @param capacity the capacities of the places, -1 for unbounded places
+	 * @param initial some token vector that must fit without repacking, e.g. an initial marking
+	 */
+	PackedMarkingSet(int[] capacity, int[] initial) {
+		this.places = capacity.length;
+		this.capacity = capacity;
+		int w = INITIAL_WIDTH;
+		for (int p = 0; p < this.places; p++)
+			if (capacity[p] < 0)
+				while (w < 32 && initial[p] >>> w != 0)
+					w *= 2;
+		this.layout(w, initial);
+		this.data = new long[16 * this.words];
+		this.hashes = new int[16];
+		this.table = new int[32];
+	}
+
+	/**
+	 * Computes the bits and positions of all places for the given width of unbounded places.
+	 * @param w the width of unbounded places
+	 * @param initial some token vector that must fit
+	 */
+	private void layout(int w, int[] initial) {
+		this.width = w;
+		this.bits = new int[this.places];
+		this.word = new int[this.places];
+		this.offset = new int[this.places];
+		int current = 0, used = 0;
+		for (int p = 0; p < this.places; p++) {
+			int b = this.capacity[p] < 0 ? w : Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(this.capacity[p], initial[p])));
+			if (used + b > 64) {
+				current++;
+				used = 0;
+			}
+			this.bits[p] = b;
+			this.word[p] = current;
+			this.offset[p] = used;
+			used += b;
+		}
+		this.words = this.places == 0 ? 1 : current + 1;
+	}
+
+	/**
+	 * Checks whether the given token vector can be packed with the current layout.
+	 * @param tokens a token vector
+	 * @return true iff every token count fits into the bits of its place
+	 */
+	private boolean fits(int[] tokens) {
+		for (int p = 0; p < this.places; p++)
+			if (this.bits[p] < 32 && tokens[p] >>> this.bits[p] != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Packs the given token vector.
+	 * @param tokens a token vector that fits the current layout
+	 * @param packed the words to write to
+	 */
+	private void pack(int[] tokens, long[] packed) {
+		Arrays.fill(packed, 0L);
+		for (int p = 0; p < this.places; p++)
+			packed[this.word[p]] |= (tokens[p] & 0xFFFFFFFFL) << this.offset[p];
+	}
+
+	/**
+	 * Computes the hash of some packed marking.
+	 * @param packed the words of the marking
+	 * @return the hash
+	 */
+	private int hash(long[] packed) {
+		long h = 0x9E3779B97F4A7C15L;
+		for (int i = 0; i < this.words; i++) {
+			h ^= packed[i];
+			h *= 0xFF51AFD7ED558CCDL;
+			h ^= h >>> 32;
+		}
+		return (int) (h ^ (h >>> 29));
+	}
+
+	/**
+	 * Looks up the packed marking in the hash table.
+	 * @param packed the words of the marking
+	 * @param h the hash of the marking
+	 * @return the slot of the marking, or the free slot where it would be inserted
+	 */
+	private int slot(long[] packed, int h) {
+		int mask = this.table.length - 1;
+		for (int i = h & mask;; i = (i + 1) & mask) {
+			int id = this.table[i] - 1;
+			if (id < 0)
+				return i;
+			if (this.hashes[id] == h && this.equals(id, packed))
+				return i;
+		}
+	}
+
+	/**
+	 * Compares a stored marking with a packed one.
+	 * @param id some marking
+	 * @param packed the words of a marking
+	 * @return true iff both are the same
+	 */
+	private boolean equals(int id, long[] packed) {
+		int from = id * this.words;
+		for (int i = 0; i < this.words; i++)
+			if (this.data[from + i] != packed[i])
+				return false;
+		return true;
+	}
+
+	/**
+	 * Returns the id of the given token vector.
+	 * @param tokens a token vector
+	 * @return the id of the marking, or -1 if it is not in this set
+	 */
+	int find(int[] tokens) {
+		if (!this.fits(tokens))
+			return -1;
+		long[] packed = new long[this.words];
+		this.pack(tokens, packed);
+		return this.table[this.slot(packed, this.hash(packed))] - 1;
+	}
+
+	/**
+	 * Adds the given token vector unless it is already contained.
+	 * @param tokens a token vector
+	 * @return the id of the new marking, or -(id+1) if the marking was already contained
+	 */
+	int add(int[] tokens) {
+		if (!this.fits(tokens))
+			this.widen(tokens);
+		long[] packed = new long[this.words];
+		this.pack(tokens, packed);
+		int h = this.hash(packed);
+		int s = this.slot(packed, h);
+		if (this.table[s] != 0)
+			return -this.table[s];
+		if ((long) (this.size + 1) * this.words > this.data.length) {
+			if ((long) (this.size + 1) * this.words > Integer.MAX_VALUE - 8)
+				throw new IllegalStateException("Too many markings.");
+			this.data = Arrays.copyOf(this.data, (int) Math.min(Integer.MAX_VALUE - 8, 2L * this.data.length));
+			this.hashes = Arrays.copyOf(this.hashes, this.data.length / this.words);
+		}
+		int id = this.size++;
+		System.arraycopy(packed, 0, this.data, id * this.words, this.words);
+		this.hashes[id] = h;
+		this.table[s] = id + 1;
+		if (2 * this.size > this.table.length)
+			this.rehash(2 * this.table.length);
+		return id;
+	}
+
+	/**
+	 * Rebuilds the hash table with the given number of slots.
+	 * @param slots a power of two
+	 */
+	private void rehash(int slots) {
+		this.table = new int[slots];
+		int mask = slots - 1;
+		for (int id = 0; id < this.size; id++) {
+			int i = this.hashes[id] & mask;
+			while (this.table[i] != 0)
+				i = (i + 1) & mask;
+			this.table[i] = id + 1;
+		}
+	}
+
+	/**
+	 * Widens the unbounded places until the given token vector fits and repacks all markings.
+	 * @param tokens a token vector
+	 */
+	private void widen(int[] tokens) {
+		int w = this.width;
+		for (int p = 0; p < this.places; p++)
+			if (this.capacity[p] < 0)
+				while (w < 32 && tokens[p] >>> w != 0)
+					w *= 2;
+		int[] initial = new int[this.places];
+		for (int p = 0; p < this.places; p++)
+			if (this.capacity[p] >= 0)
+				initial[p] = Math.max(tokens[p], (int) ((1L << this.bits[p]) - 1));
+		int oldWords = this.words;
+		int[] oldBits = this.bits, oldWord = this.word, oldOffset = this.offset;
+		long[] oldData = this.data;
+		this.layout(w, initial);
+		long length = (long) Math.max(16, this.hashes.length) * this.words;
+		if (length > Integer.MAX_VALUE - 8)
+			throw new IllegalStateException("Too many markings.");
+		this.data = new long[(int) length];
+		int[] unpacked = new int[this.places];
+		long[] packed = new long[this.words];
+		for (int id = 0; id < this.size; id++) {
+			for (int p = 0; p < this.places; p++)
+				unpacked[p] = (int) ((oldData[id * oldWords + oldWord[p]] >>> oldOffset[p]) & ((1L << oldBits[p]) - 1));
+			this.pack(unpacked, packed);
+			System.arraycopy(packed, 0, this.data, id * this.words, this.words);
+			this.hashes[id] = this.hash(packed);
+		}
+		this.rehash(this.table.length);
+	}
+
+	/**
+	 * Returns the number of markings in this set.
+	 * @return the number of markings
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the number of tokens at some place in some marking.
+	 * @param id some marking
+	 * @param place the index of some place
+	 * @return the number of tokens
+	 */
+	int get(int id, int place) {
+		long w = this.data[id * this.words + this.word[place]] >>> this.offset[place];
+		return (int) (w & ((1L << this.bits[place]) - 1));
+	}
+
+	/**
+	 * Unpacks some marking.
+	 * @param id some marking
+	 * @param tokens the token vector to write to
+	 */
+	void get(int id, int[] tokens) {
+		for (int p = 0; p < this.places; p++)
+			tokens[p] = this.get(id, p);
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.petri.syntax.reachability_graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.tweetyproject.logics.petri.syntax.Transition;
+import org.tweetyproject.math.probability.Probability;
+import org.tweetyproject.math.probability.ProbabilityFunction;
+
+/**
+ * The transition matrix and the control matrix of a reachability graph with a probability
+ * function, stored in compressed sparse row format over primitive doubles.
+ * <br>
+ * Markings are indexed as the nodes of the graph and transitions as the transitions of
+ * the Petri net. Row j of the transition matrix holds the probabilities of the edges
+ * leading to marking j, so multiplying a distribution over markings with the matrix
+ * pulls the probability mass of every marking from its predecessors; this is the
+ * sparse counterpart of {@link ReachabilityGraph#getTransitionMatrix()}. As there,
+ * edges between the same markings are equal and thus count once. Row t of the control
+ * matrix holds the probabilities of the edges labelled with transition t.
+ * <br>
+ * The rows of large matrices are multiplied in parallel. Every row is summed up
+ * sequentially, so the results do not depend on the parallelism.
+ *
+ * @author The TweetyProject Team
+ */
+public class SparseTransitionMatrix {
+
+	/** The number of entries from which on rows are multiplied in parallel by default */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+	/** The number of rows multiplied by one parallel task */
+	private static final int BLOCK = 1 << 10;
+	/** The tolerance for the probabilities of the outgoing edges of a marking to sum up to one */
+	private static final double PRECISION = 1e-9;
+
+	/** The number of markings */
+	private int n;
+	/** The start of every row of the transition matrix */
+	private int[] rowStart;
+	/** The source marking of every entry of the transition matrix */
+	private int[] source;
+	/** The probability of every entry of the transition matrix */
+	private double[] probability;
+	/** The number of transitions */
+	private int m;
+	/** The start of every row of the control matrix */
+	private int[] controlStart;
+	/** The marking of every entry of the control matrix */
+	private int[] controlMarking;
+	/** The probability of every entry of the control matrix */
+	private double[] controlProbability;
+	/** Whether rows are multiplied in parallel */
+	private boolean parallel;
+
+	/**
+	 * Creates the matrices of the given graph wrt. its probability function.
+	 * @param graph some reachability graph
+	 * @throws IllegalStateException iff the probability function of the graph is invalid
+	 */
+	public SparseTransitionMatrix(ReachabilityGraph graph) throws IllegalStateException {
+		this(graph, graph.getProbabilityFunction());
+	}
+
+	/**
+	 * Creates the matrices of the given graph wrt. the given probability function.
+	 * @param graph some reachability graph
+	 * @param probabilityFunction a probability function over the edges of the graph
+	 * @throws IllegalStateException iff the probability function is invalid, i.e. if some edge
+	 * 		has no probability or the probabilities of the outgoing edges of some marking do not sum up to one
+	 */
+	public SparseTransitionMatrix(ReachabilityGraph graph, ProbabilityFunction<MarkingEdge> probabilityFunction) throws IllegalStateException {
+		if (probabilityFunction == null)
+			throw new IllegalStateException("The probability function of this graph is invalid.");
+		List<Marking> markings = graph.getNodes();
+		List<Transition> transitions = graph.getPetriNet().getTransitions();
+		this.n = markings.size();
+		this.m = transitions.size();
+		Map<Marking, Integer> markingIndex = new HashMap<>();
+		for (int i = 0; i < this.n; i++)
+			markingIndex.putIfAbsent(markings.get(i), i);
+		Map<Transition, Integer> transitionIndex = new HashMap<>();
+		for (int t = 0; t < this.m; t++)
+			transitionIndex.putIfAbsent(transitions.get(t), t);
+		// collect (target, source) and (transition, marking) entries
+		List<MarkingEdge> edges = graph.getEdges();
+		int k = edges.size();
+		long[] entries = new long[k];
+		long[] controlEntries = new long[k];
+		double[] p = new double[k];
+		for (int e = 0; e < k; e++) {
+			MarkingEdge edge = edges.get(e);
+			Integer i = markingIndex.get(edge.getNodeA()), j = markingIndex.get(edge.getNodeB());
+			Integer t = transitionIndex.get(edge.getTransition());
+			Probability probability = probabilityFunction.get(edge);
+			if (i == null || j == null || t == null)
+				throw new IllegalArgumentException("The edge " + edge + " does not belong to the graph.");
+			if (probability == null)
+				throw new IllegalStateException("The probability function of this graph is invalid.");
+			p[e] = probability.getValue();
+			entries[e] = ((long) j << 32) | i;
+			controlEntries[e] = ((long) t << 32) | i;
+		}
+		Integer[] order = new Integer[k];
+		for (int e = 0; e < k; e++)
+			order[e] = e;
+		// transition matrix, parallel edges count once
+		Arrays.sort(order, (e1, e2) -> Long.compare(entries[e1], entries[e2]));
+		this.rowStart = new int[this.n + 1];
+		this.source = new int[k];
+		this.probability = new double[k];
+		double[] outgoing = new double[this.n];
+		int size = 0;
+		for (int r = 0; r < k; r++) {
+			int e = order[r];
+			if (r > 0 && entries[order[r - 1]] == entries[e])
+				continue;
+			this.rowStart[(int) (entries[e] >>> 32) + 1]++;
+			this.source[size] = (int) entries[e];
+			this.probability[size++] = p[e];
+			outgoing[(int) entries[e]] += p[e];
+		}
+		this.source = Arrays.copyOf(this.source, size);
+		this.probability = Arrays.copyOf(this.probability, size);
+		for (int j = 0; j < this.n; j++)
+			this.rowStart[j + 1] += this.rowStart[j];
+		for (int i = 0; i < this.n; i++)
+			if (Math.abs(outgoing[i] - 1) > PRECISION)
+				throw new IllegalStateException("The probability function of this graph is invalid.");
+		// control matrix
+		Arrays.sort(order, (e1, e2) -> Long.compare(controlEntries[e1], controlEntries[e2]));
+		this.controlStart = new int[this.m + 1];
+		this.controlMarking = new int[k];
+		this.controlProbability = new double[k];
+		for (int r = 0; r < k; r++) {
+			int e = order[r];
+			this.controlStart[(int) (controlEntries[e] >>> 32) + 1]++;
+			this.controlMarking[r] = (int) controlEntries[e];
+			this.controlProbability[r] = p[e];
+		}
+		for (int t = 0; t < this.m; t++)
+			this.controlStart[t + 1] += this.controlStart[t];
+		this.parallel = size >= PARALLEL_THRESHOLD;
+	}
+
+	/**
+	 * Sets whether rows are multiplied in parallel. By default, this is the case for
+	 * matrices with many entries.
+	 * @param parallel whether rows are multiplied in parallel
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns the number of markings, i.e. the dimension of the transition matrix.
+	 * @return the number of markings
+	 */
+	public int getNumberOfMarkings() {
+		return this.n;
+	}
+
+	/**
+	 * Returns the number of transitions, i.e. the number of rows of the control matrix.
+	 * @return the number of transitions
+	 */
+	public int getNumberOfTransitions() {
+		return this.m;
+	}
+
+	/**
+	 * Returns the number of non-zero entries of the transition matrix.
+	 * @return the number of entries
+	 */
+	public int getNumberOfEntries() {
+		return this.source.length;
+	}
+
+	/**
+	 * Returns the probability to switch from one marking to another.
+	 * @param from the index of some marking
+	 * @param to the index of some marking
+	 * @return the probability
+	 */
+	public double getProbability(int from, int to) {
+		for (int e = this.rowStart[to]; e < this.rowStart[to + 1]; e++)
+			if (this.source[e] == from)
+				return this.probability[e];
+		return 0;
+	}
+
+	/**
+	 * Applies the given row operation to all rows.
+	 * @param rows the number of rows
+	 * @param row the operation
+	 */
+	private void forEachRow(int rows, IntConsumer row) {
+		if (this.parallel && rows > BLOCK)
+			IntStream.range(0, (rows + BLOCK - 1) / BLOCK).parallel().forEach(b -> {
+				for (int j = b * BLOCK; j < Math.min(rows, (b + 1) * BLOCK); j++)
+					row.accept(j);
+			});
+		else
+			for (int j = 0; j < rows; j++)
+				row.accept(j);
+	}
+
+	/**
+	 * Performs one step of the walk, i.e. computes the distribution over markings
+	 * after one transition from the given distribution.
+	 * @param state a distribution over markings
+	 * @param next the array to write the resulting distribution to
+	 */
+	public void multiply(double[] state, double[] next) {
+		this.forEachRow(this.n, j -> {
+			double sum = 0;
+			for (int e = this.rowStart[j]; e < this.rowStart[j + 1]; e++)
+				sum += state[this.source[e]] * this.probability[e];
+			next[j] = sum;
+		});
+	}
+
+	/**
+	 * Computes how likely every transition fires in the next step from the given distribution.
+	 * @param state a distribution over markings
+	 * @param control the array to write the probabilities of the transitions to
+	 */
+	public void multiplyControl(double[] state, double[] control) {
+		this.forEachRow(this.m, t -> {
+			double sum = 0;
+			for (int e = this.controlStart[t]; e < this.controlStart[t + 1]; e++)
+				sum += state[this.controlMarking[e]] * this.controlProbability[e];
+			control[t] = sum;
+		});
+	}
+
+	/**
+	 * Computes a stationary distribution by power iteration, i.e. by repeated steps from the
+	 * given distribution until the L1 distance of two subsequent distributions is at most
+	 * the given tolerance. This converges for aperiodic chains.
+	 * @param initial some distribution over markings
+	 * @param tolerance the tolerance
+	 * @param maxIterations the maximal number of steps
+	 * @return the distribution after the last step
+	 */
+	public double[] powerIteration(double[] initial, double tolerance, long maxIterations) {
+		double[] state = initial.clone(), next = new double[this.n];
+		for (long iteration = 0; iteration < maxIterations; iteration++) {
+			this.multiply(state, next);
+			double delta = 0;
+			for (int i = 0; i < this.n; i++)
+				delta += Math.abs(next[i] - state[i]);
+			double[] swap = state;
+			state = next;
+			next = swap;
+			if (delta <= tolerance)
+				break;
+		}
+		return state;
+	}
+
+	/**
+	 * Computes a stationary distribution by Gauss-Seidel iteration on the equations
+	 * x_j = sum_i x_i P(i,j), starting from the uniform distribution and normalizing the
+	 * distribution after every sweep, until the L1 distance of two subsequent sweeps is at
+	 * most the given tolerance. This does not depend on periodicity and usually needs far
+	 * fewer sweeps than power iteration needs steps. If the chain is irreducible (e.g. the
+	 * reachability graph of a short-circuited net), the result is its unique stationary
+	 * distribution; otherwise, the probabilities of markings whose only successor is the
+	 * marking itself are not updated.
+	 * @param tolerance the tolerance
+	 * @param maxIterations the maximal number of sweeps
+	 * @return the stationary distribution
+	 */
+	public double[] gaussSeidel(double tolerance, long maxIterations) {
+		double[] x = new double[this.n], previous = new double[this.n];
+		Arrays.fill(x, 1d / this.n);
+		for (long iteration = 0; iteration < maxIterations; iteration++) {
+			System.arraycopy(x, 0, previous, 0, this.n);
+			for (int j = 0; j < this.n; j++) {
+				double sum = 0, loop = 0;
+				for (int e = this.rowStart[j]; e < this.rowStart[j + 1]; e++)
+					if (this.source[e] == j)
+						loop += this.probability[e];
+					else
+						sum += x[this.source[e]] * this.probability[e];
+				if (1 - loop > PRECISION)
+					x[j] = sum / (1 - loop);
+			}
+			double total = 0;
+			for (int j = 0; j < this.n; j++)
+				total += x[j];
+			if (total <= 0)
+				break;
+			double delta = 0;
+			for (int j = 0; j < this.n; j++) {
+				x[j] /= total;
+				delta += Math.abs(x[j] - previous[j]);
+			}
+			if (delta <= tolerance)
+				break;
+		}
+		return x;
+	}
+}
@@ -0,0 +1,614 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.petri.syntax.reachability_graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.tweetyproject.logics.petri.syntax.Ark;
+import org.tweetyproject.logics.petri.syntax.PetriNet;
+import org.tweetyproject.logics.petri.syntax.Place;
+import org.tweetyproject.logics.petri.syntax.Transition;
+
+/**
+ * Explores the markings reachable from the initial markings of a Petri net by an
+ * iterative breadth-first search. In contrast to the {@link ReachabilityGraphParser},
+ * the net is not modified during the search: the arks of all transitions are compiled
+ * once into index arrays and markings are kept as packed token vectors in a hash set,
+ * so markings are identified by consecutive integers in the order of their discovery.
+ * <br>
+ * The markings of one search level are expanded in batches, and the successors of a
+ * batch may be computed by several threads; the successors are then numbered
+ * sequentially, so the result does not depend on the number of threads.
+ * <br>
+ * Besides the markings, the explorer records dead markings, transitions that never
+ * fire, the maximal number of tokens at every place and the search tree. The edges of
+ * the reachability graph are only stored on demand, see {@link #setStoreEdges(boolean)},
+ * and the search can be bounded by a maximal number of markings, see
+ * {@link #setMaxMarkings(int)}.
+ *
+ * @author The TweetyProject Team
+ */
+public class StateSpaceExplorer {
+
+	/** The maximal number of markings expanded before the successors are numbered */
+	private static final int BATCH = 1 << 14;
+	/** The number of markings expanded by one parallel task */
+	private static final int CHUNK = 1 << 8;
+
+	/** The explored Petri net */
+	private PetriNet petriNet;
+	/** The places of the net */
+	private List<Place> places;
+	/** The index of every place */
+	private Map<Place, Integer> placeIndex = new HashMap<>();
+	/** The transitions of the net at the time of construction */
+	private List<Transition> transitions;
+	/** The capacities of the places, -1 for unbounded places */
+	private int[] capacity;
+	/** The places and weights of the incoming arks of every transition */
+	private int[][] inPlace, inWeight;
+	/** The places and weights of the outgoing arks of every transition */
+	private int[][] outPlace, outWeight;
+	/** The number of threads */
+	private int threads;
+	/** The maximal number of markings to explore */
+	private int maxMarkings = Integer.MAX_VALUE;
+	/** Whether the edges of the reachability graph are stored */
+	private boolean storeEdges = true;
+
+	/** The explored markings */
+	private PackedMarkingSet markings;
+	/** The initial markings of the net by their id */
+	private Map<Integer, Marking> initialMarkings;
+	/** The predecessor of every marking in the search tree, -1 for initial markings */
+	private int[] parent;
+	/** The transition leading from the predecessor to every marking */
+	private int[] parentTransition;
+	/** The edges as triples of source, target, and transition */
+	private int[] edges;
+	/** The number of edges */
+	private long numberOfEdges;
+	/** The markings without enabled transitions */
+	private BitSet dead;
+	/** The transitions that fired at some explored marking */
+	private boolean[] fired;
+	/** The maximal number of tokens at every place */
+	private int[] bound;
+	/** The largest distance of an explored marking from the initial markings */
+	private int depth;
+	/** The level of the markings currently expanded */
+	private int level;
+	/** Whether all reachable markings have been explored */
+	private boolean complete;
+	/** The property searched for, or null */
+	private Predicate<int[]> target;
+	/** The first marking satisfying the property, or -1 */
+	private int found;
+
+	/**
+	 * Creates a new explorer that uses a single thread.
+	 * @param petriNet a Petri net with some designated initial markings
+	 */
+	public StateSpaceExplorer(PetriNet petriNet) {
+		this(petriNet, 1);
+	}
+
+	/**
+	 * Creates a new explorer.
+	 * @param petriNet a Petri net with some designated initial markings
+	 * @param threads the number of threads used to expand markings
+	 */
+	public StateSpaceExplorer(PetriNet petriNet, int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException("The number of threads must be positive.");
+		this.petriNet = petriNet;
+		this.threads = threads;
+		this.places = new ArrayList<>(petriNet.getPlaces());
+		this.capacity = new int[this.places.size()];
+		for (int p = 0; p < this.places.size(); p++) {
+			this.placeIndex.put(this.places.get(p), p);
+			this.capacity[p] = this.places.get(p).getMaxtokens();
+		}
+		this.transitions = new ArrayList<>(petriNet.getTransitions());
+		int m = this.transitions.size();
+		this.inPlace = new int[m][];
+		this.inWeight = new int[m][];
+		this.outPlace = new int[m][];
+		this.outWeight = new int[m][];
+		for (int t = 0; t < m; t++) {
+			List<Ark> in = this.transitions.get(t).getIncomingArks();
+			List<Ark> out = this.transitions.get(t).getOutgoingArks();
+			this.inPlace[t] = in.stream().mapToInt(ark -> this.getPlaceIndex(ark.getPlace())).toArray();
+			this.inWeight[t] = in.stream().mapToInt(Ark::getWeight).toArray();
+			this.outPlace[t] = out.stream().mapToInt(ark -> this.getPlaceIndex(ark.getPlace())).toArray();
+			this.outWeight[t] = out.stream().mapToInt(Ark::getWeight).toArray();
+		}
+	}
+
+	/**
+	 * Sets the maximal number of markings to explore. If more markings are reachable,
+	 * the exploration stops adding markings but still expands all added ones, so
+	 * all properties refer to the explored part of the state space.
+	 * @param maxMarkings the maximal number of markings
+	 */
+	public void setMaxMarkings(int maxMarkings) {
+		if (maxMarkings < 1)
+			throw new IllegalArgumentException("The maximal number of markings must be positive.");
+		this.maxMarkings = maxMarkings;
+	}
+
+	/**
+	 * Sets whether the edges between markings are stored. Without edges, properties
+	 * are computed on the fly but no reachability graph can be retrieved afterwards.
+	 * Edges are stored by default.
+	 * @param storeEdges whether edges are stored
+	 */
+	public void setStoreEdges(boolean storeEdges) {
+		this.storeEdges = storeEdges;
+	}
+
+	/**
+	 * Explores all reachable markings (up to the maximal number of markings).
+	 * @return true iff all reachable markings have been explored
+	 */
+	public boolean explore() {
+		this.run(null);
+		return this.complete;
+	}
+
+	/**
+	 * Explores the reachable markings until one of them satisfies the given property.
+	 * The property is tested on the token vector of every new marking, indexed as the
+	 * places of the net, see {@link #getPlaceIndex(Place)}; it must not modify the vector.
+	 * Since markings are discovered in breadth-first order, {@link #getTrace(int)}
+	 * yields a shortest firing sequence leading to the returned marking.
+	 * @param property some property of markings
+	 * @return the first marking satisfying the property, or -1 if no explored marking does
+	 */
+	public int explore(Predicate<int[]> property) {
+		this.run(property);
+		return this.found;
+	}
+
+	/**
+	 * Performs the breadth-first search.
+	 * @param property the property searched for, or null
+	 */
+	private void run(Predicate<int[]> property) {
+		List<Marking> initial = new ArrayList<>(this.petriNet.getInitialMarkings());
+		if (initial.isEmpty())
+			throw new IllegalStateException("The Petri net has no designated initial marking.");
+		int n = this.places.size();
+		int[] tokens = new int[n];
+		this.toTokens(initial.get(0), tokens);
+		this.markings = new PackedMarkingSet(this.capacity, tokens);
+		this.initialMarkings = new HashMap<>();
+		this.parent = new int[16];
+		this.parentTransition = new int[16];
+		this.edges = this.storeEdges ? new int[48] : null;
+		this.numberOfEdges = 0;
+		this.dead = new BitSet();
+		this.fired = new boolean[this.transitions.size()];
+		this.bound = new int[n];
+		this.depth = 0;
+		this.level = -1;
+		this.complete = true;
+		this.target = property;
+		this.found = -1;
+		for (Marking marking : initial) {
+			this.toTokens(marking, tokens);
+			int id = this.insert(tokens, -1, -1);
+			if (id >= 0)
+				this.initialMarkings.putIfAbsent(id, marking);
+		}
+		ForkJoinPool pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+		try {
+			int head = 0, levelEnd = this.markings.size();
+			this.level = 0;
+			while (head < this.markings.size() && this.found < 0) {
+				if (head == levelEnd) {
+					this.level++;
+					levelEnd = this.markings.size();
+				}
+				int from = head, to = Math.min(levelEnd, head + BATCH);
+				int[][] successors = new int[(to - from + CHUNK - 1) / CHUNK][];
+				if (pool == null || successors.length == 1) {
+					for (int c = 0; c < successors.length; c++)
+						successors[c] = this.expand(from + c * CHUNK, Math.min(to, from + (c + 1) * CHUNK));
+				} else {
+					pool.submit(() -> IntStream.range(0, successors.length).parallel()
+							.forEach(c -> successors[c] = this.expand(from + c * CHUNK, Math.min(to, from + (c + 1) * CHUNK))))
+							.get();
+				}
+				for (int c = 0; c < successors.length && this.found < 0; c++)
+					this.merge(successors[c]);
+				head = to;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			if (pool != null)
+				pool.shutdown();
+			this.target = null;
+		}
+	}
+
+	/**
+	 * Computes the successors of the given markings. This only reads the set of
+	 * markings and may thus run concurrently for disjoint ranges. Every marking
+	 * without successors yields the record (marking, -1), every successor yields
+	 * the record (marking, transition, id), where id is -1 if the successor
+	 * has not been explored yet, followed by its token vector in that case.
+	 * @param from the first marking
+	 * @param to the marking after the last one
+	 * @return the records
+	 */
+	private int[] expand(int from, int to) {
+		int n = this.places.size();
+		int[] tokens = new int[n], next = new int[n];
+		int[] records = new int[(to - from) * (3 + n)];
+		int size = 0;
+		for (int id = from; id < to; id++) {
+			this.markings.get(id, tokens);
+			boolean enabled = false;
+			for (int t = 0; t < this.transitions.size(); t++) {
+				if (!this.canFire(t, tokens) || !this.fire(t, tokens, next))
+					continue;
+				enabled = true;
+				int known = this.markings.find(next);
+				if (size + 3 + n > records.length)
+					records = Arrays.copyOf(records, 2 * records.length + 3 + n);
+				records[size++] = id;
+				records[size++] = t;
+				records[size++] = known;
+				if (known < 0) {
+					System.arraycopy(next, 0, records, size, n);
+					size += n;
+				}
+			}
+			if (!enabled) {
+				if (size + 2 > records.length)
+					records = Arrays.copyOf(records, 2 * records.length + 2);
+				records[size++] = id;
+				records[size++] = -1;
+			}
+		}
+		return Arrays.copyOf(records, size);
+	}
+
+	/**
+	 * Numbers the successors described by the given records and records the edges.
+	 * @param records the records computed by {@link #expand(int, int)}
+	 */
+	private void merge(int[] records) {
+		int n = this.places.size();
+		int[] next = new int[n];
+		int i = 0;
+		while (i < records.length && this.found < 0) {
+			int source = records[i++];
+			int t = records[i++];
+			if (t < 0) {
+				this.dead.set(source);
+				continue;
+			}
+			int id = records[i++];
+			if (id < 0) {
+				System.arraycopy(records, i, next, 0, n);
+				i += n;
+				id = this.insert(next, source, t);
+			}
+			this.fired[t] = true;
+			if (id < 0)
+				continue;
+			if (this.storeEdges) {
+				if (3 * (this.numberOfEdges + 1) > this.edges.length) {
+					if (3 * (this.numberOfEdges + 1) > Integer.MAX_VALUE - 8)
+						throw new IllegalStateException("Too many edges to store.");
+					this.edges = Arrays.copyOf(this.edges, (int) Math.min(Integer.MAX_VALUE - 8, 2L * this.edges.length));
+				}
+				int e = (int) (3 * this.numberOfEdges);
+				this.edges[e] = source;
+				this.edges[e + 1] = id;
+				this.edges[e + 2] = t;
+			}
+			this.numberOfEdges++;
+		}
+	}
+
+	/**
+	 * Adds the given token vector as a marking reached from the given marking.
+	 * @param tokens a token vector
+	 * @param source the marking it is reached from, or -1 for initial markings
+	 * @param transition the transition leading to it, or -1 for initial markings
+	 * @return the id of the marking, or -1 if it is new but the maximal number of markings has been reached
+	 */
+	private int insert(int[] tokens, int source, int transition) {
+		if (this.markings.size() >= this.maxMarkings) {
+			int id = this.markings.find(tokens);
+			if (id < 0)
+				this.complete = false;
+			return id;
+		}
+		int id = this.markings.add(tokens);
+		if (id < 0)
+			return -id - 1;
+		if (id == this.parent.length) {
+			this.parent = Arrays.copyOf(this.parent, 2 * id);
+			this.parentTransition = Arrays.copyOf(this.parentTransition, 2 * id);
+		}
+		this.parent[id] = source;
+		this.parentTransition[id] = transition;
+		this.depth = Math.max(this.depth, this.level + 1);
+		for (int p = 0; p < tokens.length; p++)
+			this.bound[p] = Math.max(this.bound[p], tokens[p]);
+		if (this.target != null && this.found < 0 && this.target.test(tokens))
+			this.found = id;
+		return id;
+	}
+
+	/**
+	 * Checks whether the given transition is enabled, in the same way as
+	 * {@link Transition#canFire()}: every incoming ark must find enough tokens and every
+	 * outgoing ark must respect the capacity of its place.
+	 * @param t some transition
+	 * @param tokens a token vector
+	 * @return true iff the transition can fire
+	 */
+	private boolean canFire(int t, int[] tokens) {
+		for (int k = 0; k < this.inPlace[t].length; k++)
+			if (tokens[this.inPlace[t][k]] < this.inWeight[t][k])
+				return false;
+		for (int k = 0; k < this.outPlace[t].length; k++) {
+			int p = this.outPlace[t][k];
+			if (this.capacity[p] >= 0 && tokens[p] + this.outWeight[t][k] > this.capacity[p])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Fires the given transition. Several arks between the transition and the same
+	 * place may together remove more tokens than available or exceed the capacity
+	 * although each of them can fire on its own; {@link Transition#fire()} fails in
+	 * that case and so does this method.
+	 * @param t some enabled transition
+	 * @param tokens a token vector
+	 * @param next the token vector to write the result to
+	 * @return true iff the resulting token vector is valid
+	 */
+	private boolean fire(int t, int[] tokens, int[] next) {
+		System.arraycopy(tokens, 0, next, 0, tokens.length);
+		for (int k = 0; k < this.inPlace[t].length; k++)
+			if ((next[this.inPlace[t][k]] -= this.inWeight[t][k]) < 0)
+				return false;
+		for (int k = 0; k < this.outPlace[t].length; k++) {
+			int p = this.outPlace[t][k];
+			if ((next[p] += this.outWeight[t][k]) > this.capacity[p] && this.capacity[p] >= 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the token vector of the given marking.
+	 * @param marking some marking of the net
+	 * @param tokens the token vector to write to
+	 */
+	private void toTokens(Marking marking, int[] tokens) {
+		for (int p = 0; p < tokens.length; p++)
+			tokens[p] = marking.getTokens(this.places.get(p));
+	}
+
+	/**
+	 * Checks that the state space has been explored.
+	 */
+	private void checkExplored() {
+		if (this.markings == null)
+			throw new IllegalStateException("The state space has not been explored yet.");
+	}
+
+	/**
+	 * Returns the index of the given place in token vectors.
+	 * @param place some place of the net
+	 * @return the index of the place
+	 */
+	public int getPlaceIndex(Place place) {
+		Integer p = this.placeIndex.get(place);
+		if (p == null)
+			throw new IllegalArgumentException("The place " + place + " does not belong to the Petri net.");
+		return p;
+	}
+
+	/**
+	 * Returns the number of explored markings.
+	 * @return the number of explored markings
+	 */
+	public int getNumberOfMarkings() {
+		this.checkExplored();
+		return this.markings.size();
+	}
+
+	/**
+	 * Returns the number of edges between explored markings, whether they are stored or not.
+	 * @return the number of edges
+	 */
+	public long getNumberOfEdges() {
+		this.checkExplored();
+		return this.numberOfEdges;
+	}
+
+	/**
+	 * Checks whether all reachable markings have been explored, i.e. whether the
+	 * maximal number of markings has not been exceeded.
+	 * @return true iff the exploration is complete
+	 */
+	public boolean isComplete() {
+		this.checkExplored();
+		return this.complete;
+	}
+
+	/**
+	 * Returns the largest distance of an explored marking from the initial markings.
+	 * @return the depth of the search
+	 */
+	public int getDepth() {
+		this.checkExplored();
+		return this.depth;
+	}
+
+	/**
+	 * Checks whether no transition is enabled at the given marking.
+	 * @param marking some explored marking
+	 * @return true iff the marking is dead
+	 */
+	public boolean isDead(int marking) {
+		this.checkExplored();
+		return this.dead.get(marking);
+	}
+
+	/**
+	 * Returns the number of explored markings at which no transition is enabled.
+	 * @return the number of dead markings
+	 */
+	public int getNumberOfDeadMarkings() {
+		this.checkExplored();
+		return this.dead.cardinality();
+	}
+
+	/**
+	 * Returns the transitions that are not enabled at any explored marking.
+	 * @return the dead transitions
+	 */
+	public Set<Transition> getDeadTransitions() {
+		this.checkExplored();
+		Set<Transition> result = new HashSet<>();
+		for (int t = 0; t < this.transitions.size(); t++)
+			if (!this.fired[t])
+				result.add(this.transitions.get(t));
+		return result;
+	}
+
+	/**
+	 * Returns the maximal number of tokens at the given place in any explored marking.
+	 * @param place some place of the net
+	 * @return the bound of the place
+	 */
+	public int getBound(Place place) {
+		this.checkExplored();
+		return this.bound[this.getPlaceIndex(place)];
+	}
+
+	/**
+	 * Returns the number of tokens at the given place at the given marking.
+	 * @param marking some explored marking
+	 * @param place some place of the net
+	 * @return the number of tokens
+	 */
+	public int getTokens(int marking, Place place) {
+		this.checkExplored();
+		return this.markings.get(marking, this.getPlaceIndex(place));
+	}
+
+	/**
+	 * Returns the given explored marking as a {@link Marking} over the places of the net.
+	 * @param marking some explored marking
+	 * @return the marking
+	 */
+	public Marking getMarking(int marking) {
+		this.checkExplored();
+		if (marking < 0 || marking >= this.markings.size())
+			throw new IllegalArgumentException("No explored marking " + marking + ".");
+		Marking result = new Marking();
+		for (int p = 0; p < this.places.size(); p++)
+			result.putTokens(this.places.get(p), this.markings.get(marking, p));
+		return result;
+	}
+
+	/**
+	 * Returns the id of the given marking.
+	 * @param marking some marking of the net
+	 * @return its id, or -1 if it has not been explored
+	 */
+	public int getId(Marking marking) {
+		this.checkExplored();
+		int[] tokens = new int[this.places.size()];
+		this.toTokens(marking, tokens);
+		return this.markings.find(tokens);
+	}
+
+	/**
+	 * Returns the transitions fired on the way from an initial marking to the given
+	 * marking in the search tree, i.e. a shortest firing sequence reaching the marking.
+	 * @param marking some explored marking
+	 * @return a firing sequence
+	 */
+	public List<Transition> getTrace(int marking) {
+		this.checkExplored();
+		if (marking < 0 || marking >= this.markings.size())
+			throw new IllegalArgumentException("No explored marking " + marking + ".");
+		List<Transition> trace = new ArrayList<>();
+		for (int id = marking; this.parent[id] >= 0; id = this.parent[id])
+			trace.add(this.transitions.get(this.parentTransition[id]));
+		Collections.reverse(trace);
+		return trace;
+	}
+
+	/**
+	 * Builds the reachability graph of the explored markings. As with the
+	 * {@link ReachabilityGraphParser}, every dead marking gets a self-loop
+	 * with a silent transition that is added to the Petri net, and the
+	 * designated initial markings of the net are nodes of the graph.
+	 * @return the reachability graph
+	 * @throws IllegalStateException if the edges have not been stored during exploration
+	 */
+	public ReachabilityGraph toReachabilityGraph() throws IllegalStateException {
+		this.checkExplored();
+		if (this.edges == null)
+			throw new IllegalStateException("The edges have not been stored during exploration.");
+		ReachabilityGraph graph = new ReachabilityGraph(this.petriNet);
+		Marking[] nodes = new Marking[this.markings.size()];
+		for (int id = 0; id < nodes.length; id++) {
+			nodes[id] = this.initialMarkings.containsKey(id) ? this.initialMarkings.get(id) : this.getMarking(id);
+			graph.add(nodes[id]);
+		}
+		for (int e = 0; e < 3 * this.numberOfEdges; e += 3)
+			graph.add(new MarkingEdge(nodes[this.edges[e]], nodes[this.edges[e + 1]], this.transitions.get(this.edges[e + 2])));
+		for (int id = this.dead.nextSetBit(0); id >= 0; id = this.dead.nextSetBit(id + 1))
+			graph.add(new MarkingEdge(nodes[id], nodes[id], this.petriNet.createEmptyTransition(nodes[id])));
+		graph.sortMarkings();
+		return graph;
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.petri.syntax.reachability_graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.tweetyproject.logics.petri.syntax.Ark;
+import org.tweetyproject.logics.petri.syntax.PetriNet;
+import org.tweetyproject.logics.petri.syntax.Place;
+import org.tweetyproject.logics.petri.syntax.Transition;
+import org.tweetyproject.math.matrix.Matrix;
+import org.tweetyproject.math.probability.Probability;
+import org.tweetyproject.math.probability.ProbabilityFunction;
+import org.tweetyproject.math.term.FloatConstant;
+
+/**
+ * JUnit Test class for MarkovWalk and SparseTransitionMatrix.
+ *
+ * @author The TweetyProject Team
+ */
+public class MarkovWalkTest {
+
+	/** Tolerance for distributions */
+	public static final double ACCURACY = 1e-4;
+
+	/**
+	 * Adds a transition moving one token from one place to another.
+	 */
+	private void move(PetriNet net, String id, Place from, Place to) {
+		Transition t = new Transition(id);
+		net.add(t);
+		Ark in = new Ark(from, t), out = new Ark(t, to);
+		t.addIncomingArk(in);
+		t.addOutgoingArk(out);
+		net.add(in);
+		net.add(out);
+	}
+
+	/**
+	 * Creates the reachability graph of a net with a token at a. Both t1 and t2 move it
+	 * to b (parallel edges), t3 moves it back, and t4 and t5 move it to the dead places
+	 * c and d, whose markings get silent self-loops.
+	 */
+	private ReachabilityGraph smallGraph() {
+		PetriNet net = new PetriNet();
+		List<Place> places = new ArrayList<>();
+		for (String id : new String[] { "a", "b", "c", "d" }) {
+			Place p = new Place(id);
+			places.add(p);
+			net.add(p);
+		}
+		this.move(net, "t1", places.get(0), places.get(1));
+		this.move(net, "t2", places.get(0), places.get(1));
+		this.move(net, "t3", places.get(1), places.get(0));
+		this.move(net, "t4", places.get(1), places.get(2));
+		this.move(net, "t5", places.get(0), places.get(3));
+		Marking initial = new Marking(places);
+		initial.putTokens(places.get(0), 1);
+		net.addInitialMarking(initial);
+		StateSpaceExplorer explorer = new StateSpaceExplorer(net);
+		assertTrue(explorer.explore());
+		return explorer.toReachabilityGraph();
+	}
+
+	/**
+	 * Creates the reachability graph of a cycle of six places with two tokens, where
+	 * every token moves one or two places ahead; the graph is irreducible and aperiodic.
+	 */
+	private ReachabilityGraph cycleGraph() {
+		int k = 6;
+		PetriNet net = new PetriNet();
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < k; i++) {
+			Place p = new Place("c" + i);
+			places.add(p);
+			net.add(p);
+		}
+		for (int i = 0; i < k; i++) {
+			this.move(net, "t" + i, places.get(i), places.get((i + 1) % k));
+			this.move(net, "u" + i, places.get(i), places.get((i + 2) % k));
+		}
+		Marking initial = new Marking(places);
+		initial.putTokens(places.get(0), 1);
+		initial.putTokens(places.get(3), 1);
+		net.addInitialMarking(initial);
+		StateSpaceExplorer explorer = new StateSpaceExplorer(net);
+		assertTrue(explorer.explore());
+		return explorer.toReachabilityGraph();
+	}
+
+	/**
+	 * Sets a random probability function with the given seed; parallel edges are equal
+	 * and thus share their probability. The probabilities are multiples of 1/1024 so that
+	 * they sum up to exactly one as the dense matrices require.
+	 */
+	private void randomProbabilityFunction(ReachabilityGraph graph, long seed) {
+		Random rand = new Random(seed);
+		ProbabilityFunction<MarkingEdge> function = new ProbabilityFunction<>();
+		for (Marking marking : graph.getNodes()) {
+			List<MarkingEdge> edges = new ArrayList<>(graph.getOutgoing(marking));
+			int remaining = 1024;
+			for (int i = 0; i < edges.size(); i++) {
+				int weight = i + 1 < edges.size() ? 1 + rand.nextInt(remaining / 2) : remaining;
+				remaining -= weight;
+				function.put(edges.get(i), new Probability(weight / 1024d));
+			}
+		}
+		graph.setProbabilityFunction(function);
+	}
+
+	/**
+	 * The short-circuit walk over the dense matrices of the graph as MarkovWalk did before
+	 * it used sparse matrices.
+	 * @return the mean state, the control vector and the normalized control vector
+	 */
+	private Matrix[] denseWalk(ReachabilityGraph graph) {
+		Matrix transitionMatrix = graph.getTransitionMatrix();
+		Matrix controlMatrix = graph.getControlMatrix();
+		int n = graph.getNumberOfNodes(), m = graph.getPetriNet().getTransitions().size();
+		Matrix state = new Matrix(n, 1), mean = new Matrix(n, 1), control = new Matrix(m, 1), normalized = null;
+		FloatConstant probability = new FloatConstant(1d / graph.getInitialMarkings().size());
+		for (int i = 0; i < n; i++) {
+			FloatConstant entry = graph.isInitial(graph.getNodes().get(i)) ? probability : new FloatConstant(0);
+			state.setEntry(i, 0, entry);
+			mean.setEntry(i, 0, entry);
+		}
+		for (int t = 0; t < m; t++)
+			control.setEntry(t, 0, new FloatConstant(0));
+		long iteration = 0;
+		double delta = 1;
+		while (iteration < 1000000 && delta > 0.0001) {
+			iteration++;
+			Matrix next = state.mult(transitionMatrix).simplify();
+			Matrix nextMean = mean.mult(iteration).add(next).mult(1 / (iteration + 1d)).simplify();
+			delta = mean.minus(nextMean).distanceToZero();
+			control = control.add(state.mult(controlMatrix)).simplify();
+			state = next;
+			mean = nextMean;
+			normalized = control.mult(1 / (iteration + 0d)).simplify();
+		}
+		return new Matrix[] { mean, control, normalized };
+	}
+
+	private void assertVectorEquals(Matrix expected, Matrix actual, double accuracy) {
+		assertEquals(expected.getXDimension(), actual.getXDimension());
+		for (int i = 0; i < expected.getXDimension(); i++)
+			assertEquals(expected.getEntry(i, 0).doubleValue(), actual.getEntry(i, 0).doubleValue(), accuracy);
+	}
+
+	private double distance(double[] a, double[] b) {
+		double result = 0;
+		for (int i = 0; i < a.length; i++)
+			result += Math.abs(a[i] - b[i]);
+		return result;
+	}
+
+	@Test
+	public void sparseMatchesDenseMatrices() {
+		for (long seed = 0; seed < 5; seed++) {
+			ReachabilityGraph graph = seed == 0 ? this.smallGraph() : this.cycleGraph();
+			if (seed == 0)
+				graph.initializeDefaultProbabilityFunction();
+			else
+				this.randomProbabilityFunction(graph, seed);
+			SparseTransitionMatrix sparse = new SparseTransitionMatrix(graph);
+			Matrix dense = graph.getTransitionMatrix(), control = graph.getControlMatrix();
+			int n = graph.getNumberOfNodes(), m = graph.getPetriNet().getTransitions().size();
+			assertEquals(n, sparse.getNumberOfMarkings());
+			assertEquals(m, sparse.getNumberOfTransitions());
+			for (int i = 0; i < n; i++)
+				for (int j = 0; j < n; j++)
+					assertEquals(dense.getEntry(j, i).doubleValue(), sparse.getProbability(i, j), ACCURACY);
+			// column i of the control matrix is the control of the distribution concentrated at i
+			for (int i = 0; i < n; i++) {
+				double[] state = new double[n], expected = new double[m];
+				state[i] = 1;
+				sparse.multiplyControl(state, expected);
+				for (int t = 0; t < m; t++)
+					assertEquals(control.getEntry(t, i).doubleValue(), expected[t], ACCURACY);
+			}
+		}
+	}
+
+	@Test
+	public void walkMatchesDenseWalk() {
+		ReachabilityGraph graph = this.smallGraph();
+		// a, b, c, d
+		assertEquals(4, graph.getNumberOfNodes());
+		// five transitions and two silent ones of the dead markings
+		assertEquals(7, graph.getNumberOfEdges());
+		for (long seed = 0; seed < 3; seed++) {
+			if (seed == 0)
+				graph.initializeDefaultProbabilityFunction();
+			else
+				this.randomProbabilityFunction(graph, seed);
+			Matrix[] expected = this.denseWalk(graph);
+			MarkovWalk walk = new MarkovWalk(graph);
+			walk.initializeWalk();
+			walk.performShortCircuitWalk();
+			this.assertVectorEquals(expected[0], walk.getMeanState(), ACCURACY);
+			this.assertVectorEquals(expected[1], walk.getControlVector(), 100 * ACCURACY);
+			this.assertVectorEquals(expected[2], walk.getNormalizedControlVector(), ACCURACY);
+			walk.initializeWalk();
+			walk.performWalk();
+			this.assertVectorEquals(expected[0], walk.getMeanState(), ACCURACY);
+		}
+	}
+
+	@Test
+	public void gaussSeidelMatchesPowerIteration() {
+		ReachabilityGraph graph = this.cycleGraph();
+		// two distinct or equal places out of six
+		assertEquals(21, graph.getNumberOfNodes());
+		for (long seed = 1; seed < 4; seed++) {
+			this.randomProbabilityFunction(graph, seed);
+			SparseTransitionMatrix matrix = new SparseTransitionMatrix(graph);
+			int n = matrix.getNumberOfMarkings();
+			double[] stationary = matrix.gaussSeidel(1e-12, 100000);
+			double[] next = new double[n];
+			matrix.multiply(stationary, next);
+			assertEquals(0, this.distance(stationary, next), 1e-9);
+			double[] initial = new double[n];
+			for (int i = 0; i < n; i++)
+				if (graph.isInitial(graph.getNodes().get(i)))
+					initial[i] = 1;
+			assertEquals(0, this.distance(stationary, matrix.powerIteration(initial, 1e-13, 10000000)), 1e-8);
+			MarkovWalk walk = new MarkovWalk(graph);
+			walk.initializeWalk();
+			Matrix distribution = walk.computeStationaryDistribution();
+			for (int i = 0; i < n; i++)
+				assertEquals(stationary[i], distribution.getEntry(i, 0).doubleValue(), 1e-8);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.petri.syntax.reachability_graph;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * JUnit Test class for PackedMarkingSet.
+ *
+ * @author The TweetyProject Team
+ */
+public class PackedMarkingSetTest {
+
+	/**
+	 * Adds the given token vectors to the set and checks the ids, lookups and
+	 * unpacked vectors against a hash map.
+	 */
+	private void check(PackedMarkingSet set, List<int[]> vectors) {
+		Map<List<Integer>,Integer> expected = new HashMap<>();
+		List<int[]> byId = new ArrayList<>();
+		for (int[] tokens : vectors) {
+			List<Integer> key = new ArrayList<>();
+			for (int t : tokens)
+				key.add(t);
+			Integer known = expected.get(key);
+			int id = set.add(tokens);
+			if (known == null) {
+				assertEquals(expected.size(), id);
+				expected.put(key, id);
+				byId.add(tokens.clone());
+			} else {
+				assertEquals(-known - 1, id);
+			}
+		}
+		assertEquals(expected.size(), set.size());
+		int[] unpacked = new int[vectors.get(0).length];
+		for (int id = 0; id < byId.size(); id++) {
+			assertEquals(id, set.find(byId.get(id)));
+			set.get(id, unpacked);
+			assertArrayEquals(byId.get(id), unpacked);
+			for (int p = 0; p < unpacked.length; p++)
+				assertEquals(byId.get(id)[p], set.get(id, p));
+		}
+	}
+
+	@Test
+	public void addAndFind() {
+		PackedMarkingSet set = new PackedMarkingSet(new int[] { 3, -1, 1 }, new int[] { 0, 0, 0 });
+		assertEquals(0, set.add(new int[] { 1, 2, 0 }));
+		assertEquals(1, set.add(new int[] { 3, 2, 1 }));
+		assertEquals(-1, set.add(new int[] { 1, 2, 0 }));
+		assertEquals(-2, set.add(new int[] { 3, 2, 1 }));
+		assertEquals(2, set.size());
+		assertEquals(1, set.find(new int[] { 3, 2, 1 }));
+		assertEquals(-1, set.find(new int[] { 0, 2, 1 }));
+		// token counts that do not fit are not contained
+		assertEquals(-1, set.find(new int[] { 1, 1000, 0 }));
+	}
+
+	@Test
+	public void widenUnboundedPlaces() {
+		PackedMarkingSet set = new PackedMarkingSet(new int[] { -1, 2, -1 }, new int[] { 0, 0, 0 });
+		List<int[]> vectors = new ArrayList<>();
+		for (int i = 0; i < 300; i++)
+			vectors.add(new int[] { i, i % 3, 299 - i });
+		// forces widths of 8, 16 and 32 bits
+		vectors.add(new int[] { 70000, 1, 0 });
+		vectors.add(new int[] { Integer.MAX_VALUE, 2, 5 });
+		vectors.add(new int[] { 5, 0, 294 });
+		this.check(set, vectors);
+	}
+
+	@Test
+	public void capacityPlaces() {
+		// the capacity determines the bits, unless the initial marking exceeds it
+		PackedMarkingSet set = new PackedMarkingSet(new int[] { 5, 1, 0 }, new int[] { 0, 3, 0 });
+		List<int[]> vectors = new ArrayList<>();
+		for (int a = 0; a <= 5; a++)
+			for (int b = 0; b <= 3; b++)
+				vectors.add(new int[] { a, b, 0 });
+		this.check(set, vectors);
+		assertEquals(-1, set.find(new int[] { 8, 0, 0 }));
+	}
+
+	@Test
+	public void rehash() {
+		PackedMarkingSet set = new PackedMarkingSet(new int[] { -1, -1 }, new int[] { 0, 0 });
+		List<int[]> vectors = new ArrayList<>();
+		for (int i = 0; i < 200; i++)
+			for (int j = 0; j < 100; j++)
+				vectors.add(new int[] { i, j });
+		this.check(set, vectors);
+	}
+
+	@Test
+	public void multiWordMarkings() {
+		Random rand = new Random(3);
+		int[] capacity = new int[40];
+		for (int p = 0; p < capacity.length; p++)
+			capacity[p] = p % 3 == 0 ? rand.nextInt(100) : -1;
+		PackedMarkingSet set = new PackedMarkingSet(capacity, new int[capacity.length]);
+		List<int[]> vectors = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			int[] tokens = new int[capacity.length];
+			for (int p = 0; p < tokens.length; p++)
+				tokens[p] = rand.nextInt(capacity[p] < 0 ? (i < 2500 ? 4 : 600) : capacity[p] + 1);
+			vectors.add(tokens);
+			// revisit some vectors
+			if (i % 7 == 0)
+				vectors.add(vectors.get(rand.nextInt(vectors.size())).clone());
+		}
+		this.check(set, vectors);
+		assertEquals(-1, set.find(Arrays.copyOf(new int[] { 1000000 }, capacity.length)));
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.petri.syntax.reachability_graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.tweetyproject.logics.petri.syntax.Ark;
+import org.tweetyproject.logics.petri.syntax.PetriNet;
+import org.tweetyproject.logics.petri.syntax.Place;
+import org.tweetyproject.logics.petri.syntax.Transition;
+
+/**
+ * JUnit Test class for StateSpaceExplorer.
+ *
+ * @author The TweetyProject Team
+ */
+public class StateSpaceExplorerTest {
+
+	/**
+	 * Creates a random net whose places all have a capacity.
+	 */
+	private PetriNet randomNet(long seed) {
+		Random rand = new Random(seed);
+		int numberOfPlaces = 2 + rand.nextInt(4), numberOfTransitions = 1 + rand.nextInt(5);
+		PetriNet net = new PetriNet();
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < numberOfPlaces; i++) {
+			Place p = new Place("p" + i);
+			p.setMaxtokens(1 + rand.nextInt(3));
+			places.add(p);
+			net.add(p);
+		}
+		for (int j = 0; j < numberOfTransitions; j++) {
+			Transition t = new Transition("t" + j);
+			net.add(t);
+			// distinct places per direction
+			List<Place> shuffled = new ArrayList<>(places);
+			Collections.shuffle(shuffled, rand);
+			for (int k = 0; k < 1 + rand.nextInt(2); k++) {
+				Ark ark = new Ark(shuffled.get(k), t, 1 + rand.nextInt(2));
+				t.addIncomingArk(ark);
+				net.add(ark);
+			}
+			Collections.shuffle(shuffled, rand);
+			for (int k = 0; k < 1 + rand.nextInt(2); k++) {
+				Ark ark = new Ark(t, shuffled.get(k), 1 + rand.nextInt(2));
+				t.addOutgoingArk(ark);
+				net.add(ark);
+			}
+		}
+		Marking initial = new Marking(places);
+		for (Place p : places)
+			initial.putTokens(p, rand.nextInt(2));
+		net.addInitialMarking(initial);
+		return net;
+	}
+
+	/**
+	 * Creates a net of n independent components, each moving a token between
+	 * two places x_i and y_i; it has 2^n markings.
+	 */
+	private PetriNet switches(int n) {
+		PetriNet net = new PetriNet();
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			Place x = new Place("x" + i), y = new Place("y" + i);
+			places.add(x);
+			places.add(y);
+			net.add(x);
+			net.add(y);
+			Transition forth = new Transition("f" + i), back = new Transition("b" + i);
+			net.add(forth);
+			net.add(back);
+			Ark[] arks = { new Ark(x, forth), new Ark(forth, y), new Ark(y, back), new Ark(back, x) };
+			forth.addIncomingArk(arks[0]);
+			forth.addOutgoingArk(arks[1]);
+			back.addIncomingArk(arks[2]);
+			back.addOutgoingArk(arks[3]);
+			for (Ark ark : arks)
+				net.add(ark);
+		}
+		Marking initial = new Marking(places);
+		for (int i = 0; i < n; i++)
+			initial.putTokens(places.get(2 * i), 1);
+		net.addInitialMarking(initial);
+		return net;
+	}
+
+	/**
+	 * Returns the edges of the given graph as strings over place ids and transition names.
+	 */
+	private Set<String> edges(ReachabilityGraph graph, List<Place> places) {
+		Set<String> result = new HashSet<>();
+		for (MarkingEdge e : graph.getEdges())
+			result.add(this.tokens(e.getNodeA(), places) + " " + ("eps".equals(e.getTransition().getName()) ? "eps" : e.getTransition().getId()) + " " + this.tokens(e.getNodeB(), places));
+		return result;
+	}
+
+	private String tokens(Marking marking, List<Place> places) {
+		StringBuilder result = new StringBuilder();
+		for (Place p : places)
+			result.append(p.getId()).append('=').append(marking.getTokens(p)).append(';');
+		return result.toString();
+	}
+
+	@Test
+	public void agreesWithReachabilityGraphParser() {
+		for (long seed = 0; seed < 100; seed++) {
+			// the parser and the explorer both add silent transitions, so each gets its own net
+			PetriNet net = this.randomNet(seed), other = this.randomNet(seed);
+			StateSpaceExplorer explorer = new StateSpaceExplorer(net);
+			assertTrue(explorer.explore());
+			ReachabilityGraph explored = explorer.toReachabilityGraph();
+			ReachabilityGraphParser parser = new ReachabilityGraphParser(other);
+			parser.construct();
+			ReachabilityGraph parsed = parser.get();
+			assertEquals(parsed.getNumberOfNodes(), explored.getNumberOfNodes());
+			Set<String> parsedEdges = this.edges(parsed, other.getPlaces()), exploredEdges = this.edges(explored, net.getPlaces());
+			assertEquals(explorer.getNumberOfEdges() + explorer.getNumberOfDeadMarkings(), exploredEdges.size());
+			// the parser also adds silent self-loops to markings visited after the first dead
+			// marking (its silent transitions have no arks and are thus always enabled)
+			assertTrue(parsedEdges.containsAll(exploredEdges));
+			for (String e : parsedEdges)
+				assertTrue(e.contains(" eps ") || exploredEdges.contains(e));
+			for (Marking m : net.getInitialMarkings())
+				assertTrue(explored.isInitial(m));
+		}
+	}
+
+	@Test
+	public void breadthFirstOrder() {
+		StateSpaceExplorer explorer = new StateSpaceExplorer(this.switches(6));
+		assertTrue(explorer.explore());
+		assertEquals(64, explorer.getNumberOfMarkings());
+		assertEquals(6, explorer.getDepth());
+		assertEquals(0, explorer.getTrace(0).size());
+		for (int id = 0; id + 1 < explorer.getNumberOfMarkings(); id++)
+			assertTrue(explorer.getTrace(id).size() <= explorer.getTrace(id + 1).size());
+		for (int id = 0; id < explorer.getNumberOfMarkings(); id++) {
+			// the distance of a marking is the number of switched components
+			int switched = 0;
+			for (Place p : explorer.getMarking(id).getPlaces())
+				if (p.getId().startsWith("y"))
+					switched += explorer.getMarking(id).getTokens(p);
+			assertEquals(switched, explorer.getTrace(id).size());
+			assertEquals(id, explorer.getId(explorer.getMarking(id)));
+		}
+		assertEquals(0, explorer.getNumberOfDeadMarkings());
+		assertTrue(explorer.getDeadTransitions().isEmpty());
+	}
+
+	@Test
+	public void sameResultWithSeveralThreads() {
+		PetriNet net = this.switches(14);
+		StateSpaceExplorer single = new StateSpaceExplorer(net);
+		StateSpaceExplorer parallel = new StateSpaceExplorer(net, 4);
+		single.explore();
+		parallel.explore();
+		assertEquals(1 << 14, single.getNumberOfMarkings());
+		assertEquals(single.getNumberOfMarkings(), parallel.getNumberOfMarkings());
+		assertEquals(single.getNumberOfEdges(), parallel.getNumberOfEdges());
+		assertEquals(14L << 14, single.getNumberOfEdges());
+		for (int id = 0; id < single.getNumberOfMarkings(); id += 97)
+			assertTrue(single.getMarking(id).equals(parallel.getMarking(id)));
+		for (long seed = 0; seed < 30; seed++) {
+			StateSpaceExplorer a = new StateSpaceExplorer(this.randomNet(seed)), b = new StateSpaceExplorer(this.randomNet(seed), 3);
+			a.explore();
+			b.explore();
+			assertEquals(a.getNumberOfMarkings(), b.getNumberOfMarkings());
+			assertEquals(a.getNumberOfEdges(), b.getNumberOfEdges());
+			assertEquals(a.getNumberOfDeadMarkings(), b.getNumberOfDeadMarkings());
+		}
+	}
+
+	@Test
+	public void maxMarkings() {
+		StateSpaceExplorer explorer = new StateSpaceExplorer(this.switches(12), 2);
+		explorer.setMaxMarkings(1000);
+		assertFalse(explorer.explore());
+		assertFalse(explorer.isComplete());
+		assertEquals(1000, explorer.getNumberOfMarkings());
+		// edges only lead to explored markings
+		for (MarkingEdge e : explorer.toReachabilityGraph().getEdges())
+			assertTrue(explorer.getId(e.getNodeB()) >= 0);
+	}
+
+	@Test
+	public void exploreUntilProperty() {
+		int n = 8;
+		PetriNet net = this.switches(n);
+		StateSpaceExplorer explorer = new StateSpaceExplorer(net, 2);
+		explorer.setStoreEdges(false);
+		// all tokens at the places y_i
+		int found = explorer.explore(tokens -> {
+			for (int i = 0; i < n; i++)
+				if (tokens[2 * i + 1] == 0)
+					return false;
+			return true;
+		});
+		assertTrue(found >= 0);
+		List<Transition> trace = explorer.getTrace(found);
+		assertEquals(n, trace.size());
+		Set<String> names = new HashSet<>();
+		for (Transition t : trace)
+			names.add(t.getId());
+		for (int i = 0; i < n; i++)
+			assertTrue(names.contains("f" + i));
+		for (Place p : net.getPlaces())
+			assertEquals(p.getId().startsWith("y") ? 1 : 0, explorer.getTokens(found, p));
+		assertEquals(-1, new StateSpaceExplorer(net).explore(tokens -> tokens[0] > 1));
+	}
+
+	@Test
+	public void widenUnboundedPlaces() {
+		// t consumes one token at p and produces three at q, u produces a token at p
+		PetriNet net = new PetriNet();
+		Place p = new Place("p"), q = new Place("q");
+		net.add(p);
+		net.add(q);
+		Transition t = new Transition("t"), u = new Transition("u");
+		net.add(t);
+		net.add(u);
+		Ark[] arks = { new Ark(p, t), new Ark(t, q, 3), new Ark(u, p) };
+		t.addIncomingArk(arks[0]);
+		t.addOutgoingArk(arks[1]);
+		u.addOutgoingArk(arks[2]);
+		for (Ark ark : arks)
+			net.add(ark);
+		net.addInitialMarking(new Marking(net.getPlaces()));
+		StateSpaceExplorer explorer = new StateSpaceExplorer(net);
+		explorer.setMaxMarkings(50000);
+		assertFalse(explorer.explore());
+		assertEquals(50000, explorer.getNumberOfMarkings());
+		assertTrue(explorer.getBound(q) > 255);
+		assertTrue(explorer.getBound(p) > 15);
+		for (int id = 0; id < explorer.getNumberOfMarkings(); id += 113) {
+			Marking m = explorer.getMarking(id);
+			assertEquals(id, explorer.getId(m));
+			// every marking (i,3j) is reached by firing u i+j times and t j times
+			assertEquals(0, m.getTokens(q) % 3);
+			assertEquals(m.getTokens(p) + m.getTokens(q) / 3 * 2, explorer.getTrace(id).size());
+		}
+	}
+}
@@ -18,7 +18,14 @@
  */
 package org.tweetyproject.logics.pl.analysis;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.tweetyproject.commons.util.Pair;
+import org.tweetyproject.logics.pl.semantics.CompiledPlFormula;
 import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
 import org.tweetyproject.logics.pl.syntax.Proposition;
 import org.tweetyproject.logics.pl.syntax.PlSignature;
 
@@ -26,12 +33,18 @@ import org.tweetyproject.logics.pl.syntax.PlSignature;
  * This class models the dalal distance measure between possible worlds,
  * see e.g. [Grant, Hunter. Distance-based Measures of Inconsistency, ECSQARU'13].
  * It returns the number of propositions two possible possible worlds differ.
+ * The distance between a formula and a world is computed on the bit-parallel
+ * evaluation of the formula (see {@link CompiledPlFormula}), the models of every
+ * formula are computed only once.
  * 
  * @author Matthias Thimm
  *
  */
 public class DalalDistance extends PossibleWorldDistance {
 
+	/** The compiled formulas and their models */
+	private Map<PlFormula,Pair<CompiledPlFormula,long[]>> models = Collections.synchronizedMap(new WeakHashMap<PlFormula,Pair<CompiledPlFormula,long[]>>());
+
 	/* (non-Javadoc)
 	 * @see org.tweetyproject.logics.pl.analysis.PossibleWorldDistance#distance(org.tweetyproject.logics.pl.semantics.PossibleWorld, org.tweetyproject.logics.pl.semantics.PossibleWorld)
 	 */
@@ -50,6 +63,28 @@ public class DalalDistance extends PossibleWorldDistance {
 		return n;
 	}	
 
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.pl.analysis.PossibleWorldDistance#distance(org.tweetyproject.logics.pl.syntax.PlFormula, org.tweetyproject.logics.pl.semantics.PossibleWorld)
+	 */
+	@Override
+	public double distance(PlFormula f, PossibleWorld b) {
+		if(!CompiledPlFormula.isCompilable(f))
+			return super.distance(f, b);
+		Pair<CompiledPlFormula,long[]> m = this.models.computeIfAbsent(f, g -> {
+			CompiledPlFormula c = new CompiledPlFormula(g);
+			return new Pair<CompiledPlFormula,long[]>(c, c.getModelMask());
+		});
+		// the distance is the minimal number of differing bits of a model and b
+		long world = m.getFirst().getIndex(b);
+		long[] mask = m.getSecond();
+		int dist = Integer.MAX_VALUE;
+		for(int block = 0; block < mask.length && dist > 0; block++)
+			for(long bits = mask[block]; bits != 0; bits &= bits - 1)
+				dist = Math.min(dist, Long.bitCount((64L * block + Long.numberOfTrailingZeros(bits)) ^ world));
+		// Note that the distance is maximal if there is no model.
+		return dist == Integer.MAX_VALUE ? Double.POSITIVE_INFINITY : dist;
+	}
+
     /** Default Constructor */
     public DalalDistance(){}
 }
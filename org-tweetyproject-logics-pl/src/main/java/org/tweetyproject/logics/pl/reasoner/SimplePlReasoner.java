@@ -20,13 +20,17 @@ package org.tweetyproject.logics.pl.reasoner;
 
 import java.util.Set;
 
+import org.tweetyproject.logics.pl.semantics.CompiledPlFormula;
 import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Conjunction;
 import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
 import org.tweetyproject.logics.pl.syntax.PlFormula;
 import org.tweetyproject.logics.pl.syntax.PlSignature;
 
 /**
  * Naive classical inference  (checks all interpretations for satisfiability).
+ * For signatures of at most {@link CompiledPlFormula#MAX_ATOMS} propositions,
+ * the interpretations are checked bit-parallel (see {@link CompiledPlFormula}).
  * 
  * @author Matthias Thimm
  */
@@ -41,6 +45,8 @@ public class SimplePlReasoner extends AbstractPlReasoner {
 		for(PlFormula f: beliefbase)
 			signature.addAll(f.getAtoms());
 		signature.addAll(formula.getAtoms());
+		if(signature.size() <= CompiledPlFormula.MAX_ATOMS && CompiledPlFormula.isCompilable(new Conjunction(beliefbase)) && CompiledPlFormula.isCompilable(formula))
+			return CompiledPlFormula.entails(beliefbase, formula);
 		Set<PossibleWorld> possibleWorlds = PossibleWorld.getAllPossibleWorlds(signature);
 		for(PossibleWorld w: possibleWorlds)
 			if(w.satisfies((PlBeliefSet)beliefbase))
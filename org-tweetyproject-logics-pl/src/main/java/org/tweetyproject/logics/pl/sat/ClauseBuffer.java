@@ -0,0 +1,601 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.sat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.AssociativePlFormula;
+import org.tweetyproject.logics.pl.syntax.Conjunction;
+import org.tweetyproject.logics.pl.syntax.Contradiction;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Equivalence;
+import org.tweetyproject.logics.pl.syntax.ExclusiveDisjunction;
+import org.tweetyproject.logics.pl.syntax.Implication;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.PlFormulaFactory;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+import org.tweetyproject.logics.pl.syntax.Tautology;
+
+/**
+ * A set of clauses in Dimacs representation. All clauses are packed into
+ * a single int array where every clause is a sequence of non-zero literals
+ * terminated by 0, propositions are mapped to the variables 1,2,3,...
+ * Formulas are converted to CNF once when they are added, afterwards the
+ * clauses can be passed to a solver or written in Dimacs format without
+ * creating any intermediate strings.
+ *
+ * @author The TweetyProject Team
+ */
+public class ClauseBuffer {
+
+	/** The literals of all clauses, every clause is terminated by 0. */
+	int[] literals;
+	/** The number of used positions in literals. */
+	int size;
+	/** The number of clauses. */
+	private int numClauses;
+	/** The largest variable in use. */
+	private int numVariables;
+	/** Maps propositions to variables. */
+	private Map<Proposition,Integer> prop_index;
+	/** Position i holds the proposition of variable i (position 0 is unused). */
+	private Proposition[] propositions;
+	/** Whether an empty clause has been added. */
+	private boolean contradictory;
+	/** The transformation used for converting formulas to CNF. */
+	private CnfMode cnfMode;
+	/** Maps (interned) subformulas to their auxiliary variable and the polarities it has been defined for. */
+	private Map<PlFormula,int[]> definitions;
+	/** Interns subformulas so that lookups in definitions do not recurse over the subformulas. */
+	private PlFormulaFactory factory;
+	/** The auxiliary variable that is always true (or 0 if not yet needed). */
+	private int top;
+
+	/** Polarity of a subformula that is only required to imply its auxiliary variable. */
+	private static final int POSITIVE = 1;
+	/** Polarity of a subformula that is only required to be implied by its auxiliary variable. */
+	private static final int NEGATIVE = 2;
+	/** Polarity of a subformula that is required to be equivalent to its auxiliary variable. */
+	private static final int BOTH = 3;
+
+	/**
+	 * Creates a new empty clause buffer.
+	 */
+	public ClauseBuffer() {
+		this.literals = new int[64];
+		this.size = 0;
+		this.numClauses = 0;
+		this.numVariables = 0;
+		this.prop_index = new HashMap<>();
+		this.propositions = new Proposition[16];
+		this.contradictory = false;
+		this.cnfMode = CnfMode.DISTRIBUTIVE;
+		this.definitions = new HashMap<>();
+		this.factory = new PlFormulaFactory();
+		this.top = 0;
+	}
+
+	/**
+	 * Creates a new clause buffer that uses the given variables for the given
+	 * propositions. Propositions not in the map get fresh variables larger than
+	 * all variables of the map.
+	 * @param prop_index maps propositions to variables (natural numbers &gt; 0).
+	 */
+	public ClauseBuffer(Map<Proposition,Integer> prop_index) {
+		this();
+		for(Map.Entry<Proposition,Integer> e: prop_index.entrySet()) {
+			if(e.getValue() <= 0)
+				throw new IllegalArgumentException("Variable of proposition " + e.getKey() + " has to be positive but is " + e.getValue());
+			this.assign(e.getKey(), e.getValue());
+		}
+	}
+
+	/**
+	 * Creates a new clause buffer containing the clauses of the given formulas.
+	 * @param formulas a collection of formulas
+	 */
+	public ClauseBuffer(Collection<? extends PlFormula> formulas) {
+		this();
+		this.addAll(formulas);
+	}
+
+	/**
+	 * Maps the given proposition to the given variable.
+	 * @param p some proposition
+	 * @param var some variable
+	 */
+	private void assign(Proposition p, int var) {
+		if(var >= this.propositions.length)
+			this.propositions = Arrays.copyOf(this.propositions, Math.max(var + 1, 2 * this.propositions.length));
+		this.propositions[var] = p;
+		this.prop_index.put(p, var);
+		if(var > this.numVariables)
+			this.numVariables = var;
+	}
+
+	/**
+	 * Returns the variable of the given proposition, a new variable is
+	 * allocated if the proposition has not been seen before.
+	 * @param p some proposition
+	 * @return the variable of the proposition.
+	 */
+	public int getVariable(Proposition p) {
+		Integer var = this.prop_index.get(p);
+		if(var == null) {
+			var = this.numVariables + 1;
+			this.assign(p, var);
+		}
+		return var;
+	}
+
+	/**
+	 * Allocates a new auxiliary variable that has no proposition.
+	 * @return a new variable.
+	 */
+	private int newVariable() {
+		return ++this.numVariables;
+	}
+
+	/**
+	 * Sets the transformation used for converting formulas that are added
+	 * afterwards to CNF. With the definitional transformations, auxiliary
+	 * variables are introduced and definitions of subformulas are shared between
+	 * all formulas added to this buffer. Auxiliary variables have no proposition,
+	 * i.e., they do not appear in possible worlds returned by
+	 * <code>toPossibleWorld</code>.
+	 * @param cnfMode some CNF transformation
+	 */
+	public void setCnfMode(CnfMode cnfMode) {
+		this.cnfMode = cnfMode;
+	}
+
+	/**
+	 * Returns the transformation used for converting formulas to CNF.
+	 * @return the transformation used for converting formulas to CNF.
+	 */
+	public CnfMode getCnfMode() {
+		return this.cnfMode;
+	}
+
+	/**
+	 * Returns the proposition of the given variable.
+	 * @param var some variable
+	 * @return the proposition of the variable or null if it has none.
+	 */
+	public Proposition getProposition(int var) {
+		if(var <= 0 || var >= this.propositions.length)
+			return null;
+		return this.propositions[var];
+	}
+
+	/**
+	 * Returns the proposition of the given variable or, if the variable has
+	 * been used in a clause added by <code>addClause</code> only, an auxiliary
+	 * proposition "_x" + var.
+	 * @param var some variable
+	 * @return a proposition for the variable.
+	 */
+	Proposition getPropositionOrAuxiliary(int var) {
+		Proposition p = this.getProposition(var);
+		return p != null ? p : new Proposition("_x" + var);
+	}
+
+	/**
+	 * Ensures that at least the given number of further literals fit into the buffer.
+	 * @param n some number of literals
+	 */
+	private void ensureCapacity(int n) {
+		if(this.size + n > this.literals.length)
+			this.literals = Arrays.copyOf(this.literals, Math.max(this.size + n, 2 * this.literals.length));
+	}
+
+	/**
+	 * Adds the clauses of the given formulas.
+	 * @param formulas a collection of formulas
+	 */
+	public void addAll(Collection<? extends PlFormula> formulas) {
+		for(PlFormula f: formulas)
+			this.add(f);
+	}
+
+	/**
+	 * Adds the clauses of the CNF of the given formula (according to the CNF
+	 * mode of this buffer). Tautological clauses are skipped and contradictions
+	 * are removed from clauses.
+	 * @param formula some formula
+	 */
+	public void add(PlFormula formula) {
+		// note that ExclusiveDisjunction.isClause() also holds for exclusive disjunctions of literals
+		boolean clause = formula instanceof Disjunction && formula.isClause();
+		if(this.cnfMode != CnfMode.DISTRIBUTIVE && !clause)
+			this.addDefinitional(formula);
+		else this.addDistributive(formula);
+	}
+
+	/**
+	 * Adds the clauses of the CNF of the given formula obtained by distributive
+	 * expansion.
+	 * @param formula some formula
+	 */
+	private void addDistributive(PlFormula formula) {
+		Conjunction conj;
+		if(formula instanceof Disjunction && formula.isClause()) {
+			conj = new Conjunction();
+			conj.add(formula);
+		}else conj = formula.toCnf();
+		for(PlFormula f: conj) {
+			// as conj is in CNF all formulas should be disjunctions
+			Disjunction disj = (Disjunction) f;
+			this.ensureCapacity(disj.size() + 1);
+			int start = this.size;
+			boolean taut = false;
+			for(PlFormula lit: disj) {
+				if(lit instanceof Proposition)
+					this.literals[this.size++] = this.getVariable((Proposition) lit);
+				else if(lit instanceof Negation && ((Negation)lit).getFormula() instanceof Proposition)
+					this.literals[this.size++] = - this.getVariable((Proposition)((Negation)lit).getFormula());
+				else if(lit instanceof Tautology) {
+					taut = true;
+					break;
+				}else if(!(lit instanceof Contradiction))
+					throw new IllegalArgumentException("Unexpected formula type in conjunctive normal form: " + lit.getClass());
+			}
+			if(taut) {
+				this.size = start;
+				continue;
+			}
+			this.close(start);
+		}
+	}
+
+	/**
+	 * Adds the given formula using auxiliary variables for its compound
+	 * subformulas. Top-level conjunctions and disjunctions are kept as they are.
+	 * @param formula some formula
+	 */
+	private void addDefinitional(PlFormula formula) {
+		if(formula instanceof Conjunction) {
+			for(PlFormula f: (Conjunction) formula)
+				this.add(f);
+		}else if(formula instanceof Disjunction) {
+			int[] clause = new int[((Disjunction) formula).size()];
+			int i = 0;
+			for(PlFormula f: (Disjunction) formula)
+				clause[i++] = this.encode(f, ClauseBuffer.POSITIVE);
+			this.addClause(clause);
+		}else if(!(formula instanceof Tautology))
+			this.addClause(this.encode(formula, ClauseBuffer.POSITIVE));
+	}
+
+	/**
+	 * Returns a literal for the given formula and adds the definitions
+	 * of the auxiliary variables needed for the given polarity.
+	 * @param formula some formula
+	 * @param polarity the polarity of the occurrence of the formula
+	 * @return a literal that represents the formula.
+	 */
+	private int encode(PlFormula formula, int polarity) {
+		if(this.cnfMode == CnfMode.TSEITIN)
+			polarity = ClauseBuffer.BOTH;
+		if(formula instanceof Proposition)
+			return this.getVariable((Proposition) formula);
+		if(formula instanceof Negation)
+			return - this.encode(((Negation) formula).getFormula(), ClauseBuffer.flip(polarity));
+		if(formula instanceof Tautology)
+			return this.top();
+		if(formula instanceof Contradiction)
+			return - this.top();
+		formula = this.factory.intern(formula);
+		int[] def = this.definitions.get(formula);
+		if(def == null) {
+			def = new int[] {this.newVariable(), 0};
+			this.definitions.put(formula, def);
+		}
+		int missing = polarity & ~def[1];
+		if(missing != 0) {
+			def[1] |= missing;
+			this.define(formula, def[0], missing);
+		}
+		return def[0];
+	}
+
+	/**
+	 * Adds the clauses defining the given auxiliary variable for the given formula.
+	 * @param formula some compound formula
+	 * @param x the auxiliary variable of the formula
+	 * @param polarity the directions of the definition to be added
+	 */
+	private void define(PlFormula formula, int x, int polarity) {
+		boolean pos = (polarity & ClauseBuffer.POSITIVE) != 0;
+		boolean neg = (polarity & ClauseBuffer.NEGATIVE) != 0;
+		if(formula instanceof Conjunction || formula instanceof Disjunction) {
+			boolean and = formula instanceof Conjunction;
+			List<PlFormula> children = ((AssociativePlFormula) formula).getFormulas();
+			int[] lits = new int[children.size()];
+			int i = 0;
+			for(PlFormula f: children)
+				lits[i++] = this.encode(f, polarity);
+			// x -> l1 & ... & ln resp. l1 | ... | ln -> x
+			if(and ? pos : neg)
+				for(int l: lits)
+					this.addClause(and ? -x : x, and ? l : -l);
+			// l1 & ... & ln -> x resp. x -> l1 | ... | ln
+			if(and ? neg : pos) {
+				int[] clause = new int[lits.length + 1];
+				clause[0] = and ? x : -x;
+				for(i = 0; i < lits.length; i++)
+					clause[i+1] = and ? -lits[i] : lits[i];
+				this.addClause(clause);
+			}
+		}else if(formula instanceof Implication) {
+			int a = this.encode(((Implication) formula).getFirstFormula(), ClauseBuffer.flip(polarity));
+			int b = this.encode(((Implication) formula).getSecondFormula(), polarity);
+			if(pos)
+				this.addClause(-x, -a, b);
+			if(neg) {
+				this.addClause(x, a);
+				this.addClause(x, -b);
+			}
+		}else if(formula instanceof Equivalence) {
+			int a = this.encode(((Equivalence) formula).getFormulas().getFirst(), ClauseBuffer.BOTH);
+			int b = this.encode(((Equivalence) formula).getFormulas().getSecond(), ClauseBuffer.BOTH);
+			this.defineXor(-x, a, b, ClauseBuffer.flip(polarity));
+		}else if(formula instanceof ExclusiveDisjunction) {
+			List<PlFormula> children = ((ExclusiveDisjunction) formula).getFormulas();
+			if(children.isEmpty()) {
+				this.defineXor(x, this.top(), this.top(), polarity);
+				return;
+			}
+			int t = this.encode(children.get(0), ClauseBuffer.BOTH);
+			if(children.size() == 1) {
+				this.defineXor(x, t, -this.top(), polarity);
+				return;
+			}
+			for(int i = 1; i < children.size() - 1; i++) {
+				int y = this.newVariable();
+				this.defineXor(y, t, this.encode(children.get(i), ClauseBuffer.BOTH), ClauseBuffer.BOTH);
+				t = y;
+			}
+			this.defineXor(x, t, this.encode(children.get(children.size()-1), ClauseBuffer.BOTH), polarity);
+		}else
+			this.define(formula.toCnf(), x, polarity);
+	}
+
+	/**
+	 * Adds the clauses defining x as the exclusive disjunction of a and b.
+	 * @param x some literal
+	 * @param a some literal
+	 * @param b some literal
+	 * @param polarity the directions of the definition to be added
+	 */
+	private void defineXor(int x, int a, int b, int polarity) {
+		if((polarity & ClauseBuffer.POSITIVE) != 0) {
+			this.addClause(-x, a, b);
+			this.addClause(-x, -a, -b);
+		}
+		if((polarity & ClauseBuffer.NEGATIVE) != 0) {
+			this.addClause(x, -a, b);
+			this.addClause(x, a, -b);
+		}
+	}
+
+	/**
+	 * Returns the auxiliary variable that is always true.
+	 * @return the auxiliary variable that is always true.
+	 */
+	private int top() {
+		if(this.top == 0) {
+			this.top = this.newVariable();
+			this.addClause(this.top);
+		}
+		return this.top;
+	}
+
+	/**
+	 * Returns the opposite polarity.
+	 * @param polarity some polarity
+	 * @return the opposite polarity.
+	 */
+	private static int flip(int polarity) {
+		return ((polarity & ClauseBuffer.POSITIVE) << 1) | ((polarity & ClauseBuffer.NEGATIVE) >> 1);
+	}
+
+	/**
+	 * Adds the given clause.
+	 * @param clause some non-zero literals
+	 */
+	public void addClause(int... clause) {
+		this.ensureCapacity(clause.length + 1);
+		int start = this.size;
+		for(int lit: clause) {
+			if(lit == 0)
+				throw new IllegalArgumentException("Literals of a clause must not be 0.");
+			this.literals[this.size++] = lit;
+			if(Math.abs(lit) > this.numVariables)
+				this.numVariables = Math.abs(lit);
+		}
+		this.close(start);
+	}
+
+	/**
+	 * Terminates the clause starting at the given position.
+	 * @param start the position of the first literal of the clause
+	 */
+	private void close(int start) {
+		if(this.size == start)
+			this.contradictory = true;
+		this.literals[this.size++] = 0;
+		this.numClauses++;
+	}
+
+	/**
+	 * Removes all clauses from this buffer but keeps the variables of
+	 * propositions and the definitions of auxiliary variables. This is used
+	 * by incremental solvers after the clauses have been passed to the solver.
+	 */
+	void discardClauses() {
+		this.size = 0;
+		this.numClauses = 0;
+		this.contradictory = false;
+	}
+
+	/**
+	 * Returns the number of clauses.
+	 * @return the number of clauses.
+	 */
+	public int getNumberOfClauses() {
+		return this.numClauses;
+	}
+
+	/**
+	 * Returns the largest variable in use.
+	 * @return the number of variables.
+	 */
+	public int getNumberOfVariables() {
+		return this.numVariables;
+	}
+
+	/**
+	 * Returns "true" if an empty clause has been added, i.e. the clauses are
+	 * trivially unsatisfiable.
+	 * @return "true" if an empty clause has been added.
+	 */
+	public boolean isContradictory() {
+		return this.contradictory;
+	}
+
+	/**
+	 * Returns the clauses of this buffer as formulas.
+	 * @return a collection of disjunctions.
+	 */
+	public Collection<PlFormula> toFormulas() {
+		List<PlFormula> result = new LinkedList<>();
+		Disjunction disj = new Disjunction();
+		for(int i = 0; i < this.size; i++) {
+			int lit = this.literals[i];
+			if(lit == 0) {
+				result.add(disj.isEmpty() ? new Contradiction() : disj);
+				disj = new Disjunction();
+			}else {
+				Proposition p = this.getPropositionOrAuxiliary(Math.abs(lit));
+				disj.add(lit > 0 ? p : new Negation(p));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the possible world consisting of the propositions of all positive
+	 * literals of the given model.
+	 * @param model some literals in Dimacs representation
+	 * @param length the number of literals of the model to consider
+	 * @return a possible world.
+	 */
+	public PossibleWorld toPossibleWorld(int[] model, int length) {
+		PossibleWorld w = new PossibleWorld();
+		for(int i = 0; i < length; i++)
+			if(model[i] > 0) {
+				Proposition p = this.getProposition(model[i]);
+				if(p != null)
+					w.add(p);
+			}
+		return w;
+	}
+
+	/**
+	 * Writes the clauses in Dimacs CNF to the given stream. The stream is not
+	 * closed. If the buffer contains an empty clause, the trivially
+	 * unsatisfiable instance "1 0, -1 0" is written instead.
+	 * @param out some output stream
+	 * @throws IOException if writing fails.
+	 */
+	public void writeDimacs(OutputStream out) throws IOException {
+		if(this.contradictory) {
+			out.write("p cnf 1 2\n1 0\n-1 0\n".getBytes(StandardCharsets.US_ASCII));
+			return;
+		}
+		byte[] buf = new byte[1 << 16];
+		int pos = ClauseBuffer.write("p cnf ", buf, 0);
+		pos = ClauseBuffer.write(this.numVariables, buf, pos);
+		buf[pos++] = ' ';
+		pos = ClauseBuffer.write(this.numClauses, buf, pos);
+		buf[pos++] = '\n';
+		for(int i = 0; i < this.size; i++) {
+			// a literal takes at most 12 bytes including the separator
+			if(pos > buf.length - 12) {
+				out.write(buf, 0, pos);
+				pos = 0;
+			}
+			int lit = this.literals[i];
+			pos = ClauseBuffer.write(lit, buf, pos);
+			buf[pos++] = (byte) (lit == 0 ? '\n' : ' ');
+		}
+		out.write(buf, 0, pos);
+	}
+
+	/**
+	 * Writes the given ASCII string into the byte array.
+	 * @param s some string
+	 * @param buf some byte array
+	 * @param pos the position to start writing
+	 * @return the position after the string.
+	 */
+	private static int write(String s, byte[] buf, int pos) {
+		for(int i = 0; i < s.length(); i++)
+			buf[pos++] = (byte) s.charAt(i);
+		return pos;
+	}
+
+	/**
+	 * Writes the decimal representation of the given number into the byte array.
+	 * @param n some number
+	 * @param buf some byte array
+	 * @param pos the position to start writing
+	 * @return the position after the number.
+	 */
+	private static int write(int n, byte[] buf, int pos) {
+		long v = n;
+		if(v < 0) {
+			buf[pos++] = '-';
+			v = -v;
+		}
+		int end = pos;
+		long t = v;
+		do {
+			end++;
+			t /= 10;
+		}while(t > 0);
+		int p = end;
+		do {
+			buf[--p] = (byte) ('0' + v % 10);
+			v /= 10;
+		}while(v > 0);
+		return end;
+	}
+}
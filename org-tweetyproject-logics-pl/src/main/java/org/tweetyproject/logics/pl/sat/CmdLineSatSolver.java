@@ -18,15 +18,21 @@
  */
 package org.tweetyproject.logics.pl.sat;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 
 import org.tweetyproject.commons.Interpretation;
 import org.tweetyproject.commons.util.NativeShell;
+import org.tweetyproject.commons.util.Pair;
 import org.tweetyproject.logics.pl.semantics.PossibleWorld;
 import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
 import org.tweetyproject.logics.pl.syntax.PlFormula;
@@ -45,6 +51,10 @@ import org.tweetyproject.logics.pl.syntax.Proposition;
  * <li>Slime 3.1.1 <a href="https://github.com/maxtuno/slime-sat-solver">https://github.com/maxtuno/slime-sat-solver</a></li>
  * </ul>
  * 
+ * By default, the instance is written to a temporary file whose path is passed
+ * to the solver, see {@link #setPipeInput(boolean)} for writing it to the
+ * standard input of solvers that support this.
+ * 
  * @author Anna Gessler
  *
  */
@@ -60,6 +70,12 @@ public class CmdLineSatSolver extends DimacsSatSolver {
 	 */
 	private String options = "";
 
+	/**
+	 * Whether the Dimacs instance is written to the standard input of the solver
+	 * instead of a temporary file.
+	 */
+	private boolean pipeInput = false;
+
 	/**
 	 * Creates a new SAT solver based on the given binary location.
 	 * 
@@ -72,53 +88,133 @@ public class CmdLineSatSolver extends DimacsSatSolver {
 
 	@Override
 	public Interpretation<PlBeliefSet, PlFormula> getWitness(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, Map<Integer,Proposition> prop_inverted_index, List<String> additional_clauses) {
-		try {			
-			// create temporary file in Dimacs CNF format.
-			File f = DimacsSatSolver.createTmpDimacsFile(formulas, prop_index, additional_clauses);
-			String output = NativeShell
-					.invokeExecutable(this.binaryLocation + " " + options + " " + f.getAbsolutePath());
-			f.delete();
-			if (output.indexOf("UNSATISFIABLE") != -1)
-				return null;
-			// parse the model by looking for dimacs output string ("v -1 2 3 0")
-			if (output.indexOf("\nv") > -1) {
-				String model = output.substring(output.indexOf("\nv")+1);
-				model = model.substring(0, model.indexOf(" 0")).trim();
-				model = model.replaceAll("v", "");				
-				StringTokenizer tokenizer = new StringTokenizer(model, " ");
-				PossibleWorld w = new PossibleWorld();
-				while (tokenizer.hasMoreTokens()) {
-					String s = tokenizer.nextToken().trim();
-					Integer i = Integer.parseInt(s);
-					if (i > 0) {
-						w.add(prop_inverted_index.get(i));
-					}else if(i == 0)
-						break;
-				}
-				return w;
-			} else
-				throw new IllegalArgumentException(
-						"Unable to find witness in solver output. Depending on your solver, you may need to add a cmd line option like --W to enable it.");
-		} catch (InterruptedException | IOException e) {
-			throw new RuntimeException(e);
-		}
+		return this.getWitness(DimacsSatSolver.toClauseBuffer(formulas, prop_index, additional_clauses, this.getCnfMode()));
 	}
 
 	@Override
 	public boolean isSatisfiable(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, List<String> additional_clauses) {
-		try {			
-			// create temporary file in Dimacs CNF format.
-			File f = DimacsSatSolver.createTmpDimacsFile(formulas, prop_index, additional_clauses);
-			String output = NativeShell
-					.invokeExecutable(this.binaryLocation + " " + options + " " + f.getAbsolutePath());
-			// delete file
-			f.delete();
-			return (output.indexOf("UNSATISFIABLE") == -1);
+		return this.isSatisfiable(DimacsSatSolver.toClauseBuffer(formulas, prop_index, additional_clauses, this.getCnfMode()));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.pl.sat.DimacsSatSolver#getWitness(org.tweetyproject.logics.pl.sat.ClauseBuffer)
+	 */
+	@Override
+	public PossibleWorld getWitness(ClauseBuffer clauses) {
+		Pair<Boolean,int[]> result = this.solve(clauses);
+		if(!result.getFirst())
+			return null;
+		if(result.getSecond() == null)
+			throw new IllegalArgumentException(
+					"Unable to find witness in solver output. Depending on your solver, you may need to add a cmd line option like --W to enable it.");
+		return clauses.toPossibleWorld(result.getSecond(), result.getSecond().length);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.pl.sat.DimacsSatSolver#isSatisfiable(org.tweetyproject.logics.pl.sat.ClauseBuffer)
+	 */
+	@Override
+	public boolean isSatisfiable(ClauseBuffer clauses) {
+		return this.solve(clauses).getFirst();
+	}
+
+	/**
+	 * Runs the solver on the given clauses. The clauses are written in Dimacs
+	 * format to the standard input of the solver (or to a temporary file if
+	 * pipe input is disabled) and the output of the solver is read line by line.
+	 * @param clauses some clauses
+	 * @return whether the clauses are satisfiable and the literals of the
+	 * 	"v" lines of the output (or null if there are none).
+	 */
+	private Pair<Boolean,int[]> solve(ClauseBuffer clauses) {
+		List<String> command = new LinkedList<>();
+		StringTokenizer tokenizer = new StringTokenizer(this.binaryLocation + " " + this.options);
+		while(tokenizer.hasMoreTokens())
+			command.add(tokenizer.nextToken());
+		File f = null;
+		Process child = null;
+		try {
+			if(!this.pipeInput) {
+				f = DimacsSatSolver.createTmpDimacsFile(clauses);
+				command.add(f.getAbsolutePath());
+			}
+			child = new ProcessBuilder(command).redirectErrorStream(true).start();
+			if(this.pipeInput)
+				CmdLineSatSolver.feed(child, clauses);
+			else child.getOutputStream().close();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(child.getInputStream()));
+			Boolean sat = null;
+			int[] model = null;
+			int size = 0;
+			StringBuilder other = new StringBuilder();
+			String line;
+			while((line = reader.readLine()) != null) {
+				if(line.startsWith("v")) {
+					// parse the model from Dimacs output lines ("v -1 2 3 0")
+					if(model == null)
+						model = new int[Math.max(16, clauses.getNumberOfVariables())];
+					tokenizer = new StringTokenizer(line.substring(1));
+					while(tokenizer.hasMoreTokens()) {
+						int lit = Integer.parseInt(tokenizer.nextToken());
+						if(lit == 0)
+							break;
+						if(size == model.length)
+							model = Arrays.copyOf(model, 2 * size);
+						model[size++] = lit;
+					}
+				}else if(line.indexOf("UNSATISFIABLE") != -1)
+					sat = false;
+				else if(line.indexOf("SATISFIABLE") != -1)
+					sat = true;
+				else if(!line.startsWith("c") && other.length() < 1000)
+					other.append(line).append("\n");
+			}
+			reader.close();
+			child.waitFor();
+			if(sat == null)
+				throw new IOException("Unable to determine satisfiability from solver output: " + other);
+			return new Pair<Boolean,int[]>(sat, model == null ? null : Arrays.copyOf(model, size));
 		} catch (InterruptedException | IOException e) {
 			throw new RuntimeException(e);
+		} finally {
+			if(child != null)
+				child.destroy();
+			if(f != null)
+				f.delete();
 		}
 	}
 
+	/**
+	 * Writes the given clauses to the standard input of the given process. This is
+	 * done in a separate thread so that the solver cannot block on a full output
+	 * pipe while the input is still being written.
+	 * @param child some process
+	 * @param clauses some clauses
+	 */
+	private static void feed(Process child, ClauseBuffer clauses) {
+		Thread feeder = new Thread(() -> {
+			try(OutputStream in = child.getOutputStream()){
+				clauses.writeDimacs(in);
+			}catch(IOException e) {
+				// the solver terminated before reading all of its input,
+				// this is reported when reading its output
+			}
+		}, "tweety-sat-input");
+		feeder.setDaemon(true);
+		feeder.start();
+	}
+
+	/**
+	 * Sets whether the Dimacs instance is written to the standard input of the
+	 * solver or to a temporary file whose path is passed as the last command
+	 * line argument (the default). Only enable this for solvers that read
+	 * the instance from standard input when no file is given.
+	 * @param pipeInput whether to write the instance to the standard input of the solver.
+	 */
+	public void setPipeInput(boolean pipeInput) {
+		this.pipeInput = pipeInput;
+	}
+
 	/**
 	 * Adds a single command line parameter. Needs to be in the correct format,
 	 * usually in the form "--opt". Note: Available options can be found in the
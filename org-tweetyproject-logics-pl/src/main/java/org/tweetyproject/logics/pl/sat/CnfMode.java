@@ -0,0 +1,47 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.sat;
+
+/**
+ * The transformations used for converting formulas to conjunctive normal form
+ * before they are passed to a SAT solver.
+ *
+ * @author The TweetyProject Team
+ */
+public enum CnfMode {
+	/**
+	 * Equivalence preserving transformation by distributing disjunctions
+	 * over conjunctions (see <code>PlFormula.toCnf()</code>). The result may be
+	 * exponentially larger than the formula.
+	 */
+	DISTRIBUTIVE,
+	/**
+	 * Tseitin transformation, every compound subformula is replaced by an
+	 * auxiliary variable that is defined to be equivalent to it. The result
+	 * is linear in the size of the formula and equisatisfiable to it.
+	 */
+	TSEITIN,
+	/**
+	 * Plaisted-Greenbaum transformation, like the Tseitin transformation but
+	 * auxiliary variables are only defined in the direction(s) required by the
+	 * polarity of the occurrences of the subformula, which roughly halves the
+	 * number of clauses.
+	 */
+	PLAISTED_GREENBAUM;
+}
@@ -19,16 +19,20 @@
 package org.tweetyproject.logics.pl.sat;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.StringTokenizer;
 
 import org.tweetyproject.commons.Interpretation;
 import org.tweetyproject.commons.util.Pair;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
 import org.tweetyproject.logics.pl.syntax.Conjunction;
 import org.tweetyproject.logics.pl.syntax.Contradiction;
 import org.tweetyproject.logics.pl.syntax.Disjunction;
@@ -158,16 +162,56 @@ public abstract class DimacsSatSolver extends SatSolver{
 	 */
 	protected static File createTmpDimacsFile(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, List<String> additional_clauses)
 			throws IOException {
-		List<String> r = DimacsSatSolver.convertToDimacs(formulas, prop_index, additional_clauses);
+		return DimacsSatSolver.createTmpDimacsFile(DimacsSatSolver.toClauseBuffer(formulas, prop_index, additional_clauses, CnfMode.DISTRIBUTIVE));
+	}
+
+	/**
+	 * Creates a temporary file in Dimacs format containing the given clauses.
+	 *
+	 * @param clauses some clauses
+	 * @return the file handler.
+	 * @throws IOException if something went wrong while creating a temporary file.
+	 */
+	protected static File createTmpDimacsFile(ClauseBuffer clauses) throws IOException {
 		File f = File.createTempFile("tweety-sat", ".cnf", DimacsSatSolver.tempFolder);
 		f.deleteOnExit();
-		PrintWriter writer = new PrintWriter(f, "UTF-8");
-		for(String s: r)
-			writer.println(s);
-		writer.close();
+		try(OutputStream out = new FileOutputStream(f)){
+			clauses.writeDimacs(out);
+		}
 		return f;
 	}
 
+	/**
+	 * Creates a clause buffer with the given proposition2variable mapping containing
+	 * the clauses of the given formulas and the additional clauses.
+	 *
+	 * @param formulas a collection of formulas
+	 * @param prop_index a map mapping propositions (=signature) to the indices that are
+	 *                 used for the clauses.
+	 * @param additional_clauses additional clauses in text form to be added (already correctly formatted in CNF!)
+	 * @param cnfMode the transformation used for converting the formulas to CNF
+	 * @return a clause buffer.
+	 */
+	protected static ClauseBuffer toClauseBuffer(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, List<String> additional_clauses, CnfMode cnfMode) {
+		ClauseBuffer clauses = new ClauseBuffer(prop_index);
+		clauses.setCnfMode(cnfMode);
+		// additional clauses first as they may use variables beyond prop_index
+		for(String clause: additional_clauses) {
+			StringTokenizer tokenizer = new StringTokenizer(clause);
+			int[] lits = new int[tokenizer.countTokens()];
+			int i = 0;
+			while(tokenizer.hasMoreTokens()) {
+				int lit = Integer.parseInt(tokenizer.nextToken());
+				if(lit == 0)
+					break;
+				lits[i++] = lit;
+			}
+			clauses.addClause(i == lits.length ? lits : Arrays.copyOf(lits, i));
+		}
+		clauses.addAll(formulas);
+		return clauses;
+	}
+
 	/**
 	 * Creates the default index and inverted index for the propositions
 	 * appearing in the given set of formulas
@@ -231,6 +275,47 @@ public abstract class DimacsSatSolver extends SatSolver{
 	 */
 	public abstract boolean isSatisfiable(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, List<String> additional_clauses);
 
+	/**
+	 * If the given clauses are satisfiable this method returns some model of
+	 * them or, if they are unsatisfiable, null. Solvers that are able to work
+	 * on the packed clauses directly should override this method, the default
+	 * implementation converts the clauses back to formulas.
+	 *
+	 * @param clauses some clauses
+	 * @return some model of the clauses or null.
+	 */
+	public PossibleWorld getWitness(ClauseBuffer clauses) {
+		Map<Proposition,Integer> prop_index = new HashMap<>();
+		Map<Integer,Proposition> prop_inverted_index = new HashMap<>();
+		for(int var = 1; var <= clauses.getNumberOfVariables(); var++) {
+			Proposition p = clauses.getPropositionOrAuxiliary(var);
+			prop_index.put(p, var);
+			prop_inverted_index.put(var, p);
+		}
+		Interpretation<PlBeliefSet,PlFormula> w = this.getWitness(clauses.toFormulas(), prop_index, prop_inverted_index, new LinkedList<String>());
+		if(w == null)
+			return null;
+		PossibleWorld result = new PossibleWorld();
+		for(Proposition p: (PossibleWorld) w) {
+			Integer var = prop_index.get(p);
+			if(var != null && clauses.getProposition(var) != null)
+				result.add(p);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the given clauses are satisfiable. Solvers that are able
+	 * to work on the packed clauses directly should override this method, the
+	 * default implementation converts the clauses back to formulas.
+	 *
+	 * @param clauses some clauses
+	 * @return "true" if the clauses are satisfiable.
+	 */
+	public boolean isSatisfiable(ClauseBuffer clauses) {
+		return this.getWitness(clauses) != null;
+	}
+
 	@Override
 	public abstract boolean isInstalled();
 
@@ -27,7 +27,7 @@ import java.util.List;
 
 import org.tweetyproject.commons.util.Pair;
 import org.tweetyproject.logics.commons.analysis.AbstractMusEnumerator;
-import org.tweetyproject.logics.commons.analysis.NaiveMusEnumerator;
+import org.tweetyproject.logics.commons.analysis.DualityMusEnumerator;
 import org.tweetyproject.logics.pl.syntax.Conjunction;
 import org.tweetyproject.logics.pl.syntax.Contradiction;
 import org.tweetyproject.logics.pl.syntax.Disjunction;
@@ -165,7 +165,7 @@ public abstract class PlMusEnumerator extends AbstractMusEnumerator<PlFormula>{
 	 * Returns the default MUS enumerator.<br><br>
 	 * If a default MUS enumerator has been configured this enumerator
 	 * is returned by this method. If no default  MUS enumerator is 
-	 * configured, a naive enumerator based on the default SAT solver
+	 * configured, a {@link DualityMusEnumerator} based on the default SAT solver
 	 * is returned as a fallback and a message is
 	 * printed to stderr pointing out that no default MUS enumerator is configured.
 	 * @return the default MUS enumerator.
@@ -174,11 +174,11 @@ public abstract class PlMusEnumerator extends AbstractMusEnumerator<PlFormula>{
 		if(PlMusEnumerator.defaultEnumerator != null)
 			return PlMusEnumerator.defaultEnumerator;
 		System.err.println("No default MUS enumerator configured, using "
-				+ "naive enumerator based on default SAT solver as fallback. "
+				+ "MARCO-style enumerator based on default SAT solver as fallback. "
 				+ "It is strongly advised that a default MUS enumerator is manually configured, see "
 				+ "'http://tweetyproject.org/doc/mus-enumerators.html' "
 				+ "for more information.");
-		return new NaiveMusEnumerator<PlFormula>(SatSolver.getDefaultSolver());
+		return new DualityMusEnumerator<PlFormula>(new SatSubsetConsistencyTester(SatSolver.getDefaultSolver()));
 	}
 	
 	/* (non-Javadoc)
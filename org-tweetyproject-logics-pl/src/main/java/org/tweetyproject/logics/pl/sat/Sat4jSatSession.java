@@ -0,0 +1,145 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.sat;
+
+import java.util.Collection;
+
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.TimeoutException;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+/**
+ * An incremental SAT session on top of a single Sat4j solver instance. Clauses
+ * are added to the solver only once, learned clauses are kept between calls, and
+ * assumptions are passed to Sat4j's assumption interface.
+ *
+ * @author The TweetyProject Team
+ */
+public class Sat4jSatSession implements SatSession {
+
+	/** The underlying Sat4j solver. */
+	private ISolver solver;
+	/** Converts formulas to clauses, keeps the variables of propositions and auxiliary definitions. */
+	private ClauseBuffer clauses;
+	/** Whether the clauses added so far are already known to be unsatisfiable. */
+	private boolean inconsistent;
+
+	/**
+	 * Creates a new session.
+	 * @param maxvar Max number of variables for the solver.
+	 * @param nbclauses Max number of expected clauses for the solver.
+	 */
+	public Sat4jSatSession(int maxvar, int nbclauses) {
+		this(maxvar, nbclauses, CnfMode.DISTRIBUTIVE);
+	}
+
+	/**
+	 * Creates a new session.
+	 * @param maxvar Max number of variables for the solver.
+	 * @param nbclauses Max number of expected clauses for the solver.
+	 * @param cnfMode the transformation used for converting formulas to CNF.
+	 */
+	public Sat4jSatSession(int maxvar, int nbclauses, CnfMode cnfMode) {
+		this.solver = SolverFactory.newDefault();
+		this.solver.newVar(maxvar);
+		this.solver.setExpectedNumberOfClauses(nbclauses);
+		this.clauses = new ClauseBuffer();
+		this.clauses.setCnfMode(cnfMode);
+		this.inconsistent = false;
+	}
+
+	/**
+	 * Returns the Sat4j literal of the given propositional literal.
+	 * @param literal some proposition or negated proposition.
+	 * @return the Sat4j literal.
+	 */
+	private int getLiteral(PlFormula literal) {
+		if(literal instanceof Proposition)
+			return this.clauses.getVariable((Proposition) literal);
+		if(literal instanceof Negation && ((Negation)literal).getFormula() instanceof Proposition)
+			return - this.clauses.getVariable((Proposition)((Negation)literal).getFormula());
+		throw new IllegalArgumentException("Literal expected, but found " + literal);
+	}
+
+	@Override
+	public void add(PlFormula formula) {
+		if(this.inconsistent)
+			return;
+		this.clauses.add(formula);
+		if(this.clauses.isContradictory()) {
+			this.inconsistent = true;
+			return;
+		}
+		// pass the new clauses to the solver, the buffer only keeps the variables and definitions
+		try {
+			Sat4jSolver.addClauses(this.solver, this.clauses);
+		}catch(ContradictionException e) {
+			this.inconsistent = true;
+		}
+		this.clauses.discardClauses();
+	}
+
+	/**
+	 * Runs the solver with the given assumptions.
+	 * @param assumptions some literals
+	 * @return "true" if the session is satisfiable under the assumptions.
+	 */
+	private boolean solve(Collection<? extends PlFormula> assumptions) {
+		if(this.inconsistent)
+			return false;
+		int[] assumps = new int[assumptions.size()];
+		int i = 0;
+		for(PlFormula a: assumptions)
+			assumps[i++] = this.getLiteral(a);
+		try {
+			return this.solver.isSatisfiable(new VecInt(assumps));
+		} catch (TimeoutException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public boolean isSatisfiable(Collection<? extends PlFormula> assumptions) {
+		return this.solve(assumptions);
+	}
+
+	@Override
+	public PossibleWorld getWitness(Collection<? extends PlFormula> assumptions) {
+		if(!this.solve(assumptions))
+			return null;
+		PossibleWorld w = new PossibleWorld();
+		for(int var = 1; var <= this.clauses.getNumberOfVariables(); var++) {
+			Proposition p = this.clauses.getProposition(var);
+			if(p != null && this.solver.model(var))
+				w.add(p);
+		}
+		return w;
+	}
+
+	@Override
+	public void close() {
+		this.solver.reset();
+	}
+}
@@ -24,14 +24,9 @@ import java.util.Map;
 
 import org.tweetyproject.commons.Interpretation;
 import org.tweetyproject.logics.pl.semantics.PossibleWorld;
-import org.tweetyproject.logics.pl.syntax.Conjunction;
-import org.tweetyproject.logics.pl.syntax.Contradiction;
-import org.tweetyproject.logics.pl.syntax.Disjunction;
-import org.tweetyproject.logics.pl.syntax.Negation;
 import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
 import org.tweetyproject.logics.pl.syntax.Proposition;
 import org.tweetyproject.logics.pl.syntax.PlFormula;
-import org.tweetyproject.logics.pl.syntax.Tautology;
 
 import org.sat4j.core.VecInt;
 import org.sat4j.minisat.SolverFactory;
@@ -77,95 +72,99 @@ public class Sat4jSolver extends DimacsSatSolver{
 	public boolean isSatisfiable(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, List<String> additional_clauses) {
 		if(additional_clauses.size() > 0)
 			throw new IllegalArgumentException("Sat4j does not suppport additional clauses in text form due to native implementation.");
-		ISolver solver = SolverFactory.newDefault();
-		solver.newVar(this.maxvar);
-		solver.setExpectedNumberOfClauses(this.nbclauses);		
-		int i;		
-		try{
-			for(PlFormula f: formulas){
-				Conjunction conj;
-				if(f.isClause()) {
-					conj = new Conjunction();
-					conj.add(f);
-				}else conj = f.toCnf();
-				for(PlFormula f2: conj){
-					Disjunction disj = (Disjunction) f2;
-					// first remove contradictions
-					while(disj.remove(new Contradiction()));					
-					int[] clause = new int[disj.size()];
-					i = 0;
-					boolean taut = false;
-					for(PlFormula f3: disj){
-						if(f3 instanceof Proposition){
-							clause[i++] = prop_index.get(f3); 
-						}else if(f3 instanceof Negation){
-							clause[i++] = - prop_index.get(((Negation)f3).getFormula());
-						}else if(f3 instanceof Tautology){
-							taut = true;
-							break;
-						}else throw new RuntimeException("Unexpected formula type in conjunctive normal form: " + f3.getClass());
-					}
-					if(!taut) solver.addClause(new VecInt(clause));
-				}
-			}
-			return solver.isSatisfiable();
-		}catch(ContradictionException e){
-			return false;
-		} catch (TimeoutException e) {
-			throw new RuntimeException(e);
-		}
+		return this.isSatisfiable(DimacsSatSolver.toClauseBuffer(formulas, prop_index, additional_clauses, this.getCnfMode()));
 	}
 
 	@Override
 	public Interpretation<PlBeliefSet,PlFormula> getWitness(Collection<PlFormula> formulas, Map<Proposition,Integer> prop_index, Map<Integer,Proposition> prop_inverted_index, List<String> additional_clauses) {
 		if(additional_clauses.size() > 0)
 			throw new IllegalArgumentException("Sat4j does not suppport additional clauses in text form due to native implementation.");
+		return this.getWitness(DimacsSatSolver.toClauseBuffer(formulas, prop_index, additional_clauses, this.getCnfMode()));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.pl.sat.DimacsSatSolver#isSatisfiable(org.tweetyproject.logics.pl.sat.ClauseBuffer)
+	 */
+	@Override
+	public boolean isSatisfiable(ClauseBuffer clauses) {
+		ISolver solver = SolverFactory.newDefault();
+		try {
+			return this.solve(solver, clauses);
+		} finally {
+			solver.reset();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.pl.sat.DimacsSatSolver#getWitness(org.tweetyproject.logics.pl.sat.ClauseBuffer)
+	 */
+	@Override
+	public PossibleWorld getWitness(ClauseBuffer clauses) {
 		ISolver solver = SolverFactory.newLight();
-		solver.newVar(this.maxvar);
-		solver.setExpectedNumberOfClauses(this.nbclauses);		
-		int i = 0;		
-		try{
-			for(PlFormula f: formulas){
-				Conjunction conj;
-				if(f.isClause()) {
-					conj = new Conjunction();
-					conj.add(f);
-				}else conj = f.toCnf();
-				for(PlFormula f2: conj){
-					Disjunction disj = (Disjunction) f2;
-					// first remove contradictions
-					while(disj.remove(new Contradiction()));					
-					int[] clause = new int[disj.size()];
-					i = 0;
-					boolean taut = false;
-					for(PlFormula f3: disj){
-						if(f3 instanceof Proposition){
-							clause[i++] = prop_index.get(f3) + 1; 
-						}else if(f3 instanceof Negation){
-							clause[i++] = - prop_index.get(((Negation)f3).getFormula()) - 1;
-						}else if(f3 instanceof Tautology){
-							taut = true;
-							break;
-						}else throw new RuntimeException("Unexpected formula type in conjunctive normal form: " + f3.getClass());
-					}
-					if(!taut) solver.addClause(new VecInt(clause));
-				}
-			}
-			if(!solver.isSatisfiable())
+		try {
+			if(!this.solve(solver, clauses))
 				return null;
-			int[] model = solver.model();
 			PossibleWorld w = new PossibleWorld();
-			for(i = 0; i < model.length; i++)
-				if(model[i]>0)
-					w.add(prop_inverted_index.get(model[i]));				
+			for(int var = 1; var <= clauses.getNumberOfVariables(); var++) {
+				Proposition p = clauses.getProposition(var);
+				if(p != null && solver.model(var))
+					w.add(p);
+			}
 			return w;
+		} finally {
+			solver.reset();
+		}
+	}
+
+	/**
+	 * Adds the given clauses to the given solver and solves them.
+	 * @param solver some Sat4j solver
+	 * @param clauses some clauses
+	 * @return "true" if the clauses are satisfiable.
+	 */
+	private boolean solve(ISolver solver, ClauseBuffer clauses) {
+		if(clauses.isContradictory())
+			return false;
+		solver.newVar(Math.max(this.maxvar, clauses.getNumberOfVariables()));
+		solver.setExpectedNumberOfClauses(Math.max(this.nbclauses, clauses.getNumberOfClauses()));
+		try{
+			Sat4jSolver.addClauses(solver, clauses);
+			return solver.isSatisfiable();
 		}catch(ContradictionException e){
-			return null;
+			return false;
 		} catch (TimeoutException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Adds the given clauses to the given solver.
+	 * @param solver some Sat4j solver
+	 * @param clauses some clauses
+	 * @throws ContradictionException if the solver detects that the clauses are unsatisfiable.
+	 */
+	static void addClauses(ISolver solver, ClauseBuffer clauses) throws ContradictionException {
+		// the clause vector is reused, Sat4j copies the literals of each clause
+		VecInt clause = new VecInt();
+		int[] lits = clauses.literals;
+		for(int i = 0; i < clauses.size; i++) {
+			if(lits[i] != 0) {
+				clause.push(lits[i]);
+				continue;
+			}
+			solver.addClause(clause);
+			clause.clear();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.pl.sat.SatSolver#openSession()
+	 */
+	@Override
+	public SatSession openSession() {
+		return new Sat4jSatSession(this.maxvar, this.nbclauses, this.getCnfMode());
+	}
+
 	@Override
 	public boolean isInstalled() {
 		return true;
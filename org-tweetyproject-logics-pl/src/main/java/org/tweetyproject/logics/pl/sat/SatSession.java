@@ -0,0 +1,95 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.sat;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+
+/**
+ * An incremental SAT session: formulas are added once and kept by the
+ * underlying solver, and satisfiability can be checked repeatedly, possibly
+ * under a set of assumptions. Adding further formulas between two calls (such as
+ * blocking clauses during model enumeration) does not require re-adding the
+ * formulas of earlier calls.<br>
+ * <br>
+ * Sessions are obtained via {@link SatSolver#openSession()} and should be closed
+ * after usage in order to release the resources of the underlying solver.
+ *
+ * @author The TweetyProject Team
+ */
+public interface SatSession extends AutoCloseable {
+
+	/**
+	 * Adds the given formula to this session. The formula remains part
+	 * of the session until it is closed.
+	 * @param formula some formula
+	 */
+	void add(PlFormula formula);
+
+	/**
+	 * Adds all given formulas to this session.
+	 * @param formulas some formulas
+	 */
+	default void addAll(Collection<? extends PlFormula> formulas) {
+		for(PlFormula f: formulas)
+			this.add(f);
+	}
+
+	/**
+	 * Checks whether the formulas of this session are satisfiable under
+	 * the given assumptions.
+	 * @param assumptions a set of literals (propositions or negated propositions)
+	 * 	that are assumed to be true for this call only.
+	 * @return "true" if the formulas of this session together with the assumptions
+	 * 	are satisfiable.
+	 */
+	boolean isSatisfiable(Collection<? extends PlFormula> assumptions);
+
+	/**
+	 * Checks whether the formulas of this session are satisfiable.
+	 * @return "true" if the formulas of this session are satisfiable.
+	 */
+	default boolean isSatisfiable() {
+		return this.isSatisfiable(Collections.emptySet());
+	}
+
+	/**
+	 * Returns some model of the formulas of this session that also satisfies
+	 * the given assumptions, or null if there is no such model.
+	 * @param assumptions a set of literals (propositions or negated propositions)
+	 * 	that are assumed to be true for this call only.
+	 * @return some model or null.
+	 */
+	PossibleWorld getWitness(Collection<? extends PlFormula> assumptions);
+
+	/**
+	 * Returns some model of the formulas of this session, or null if
+	 * there is no such model.
+	 * @return some model or null.
+	 */
+	default PossibleWorld getWitness() {
+		return this.getWitness(Collections.emptySet());
+	}
+
+	@Override
+	void close();
+}
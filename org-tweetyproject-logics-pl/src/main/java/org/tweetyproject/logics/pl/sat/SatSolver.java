@@ -39,6 +39,9 @@ public abstract class SatSolver implements BeliefSetConsistencyTester<PlFormula>
 	/** The default SAT solver. */
 	private static SatSolver defaultSatSolver = null;
 
+	/** The transformation used for converting formulas to CNF. */
+	private CnfMode cnfMode = CnfMode.DISTRIBUTIVE;
+
 	/**
 	 * Sets the default SAT solver.
 	 *
@@ -158,6 +161,38 @@ public abstract class SatSolver implements BeliefSetConsistencyTester<PlFormula>
 		return this.getWitness((Collection<PlFormula>) bs);
 	}
 
+	/**
+	 * Opens a new incremental session for this solver, see {@link SatSession}.
+	 * The default implementation re-solves all formulas of the session on each
+	 * call; solvers with native incremental support override this method.
+	 *
+	 * @return a new SAT session.
+	 */
+	public SatSession openSession() {
+		return new SimpleSatSession(this);
+	}
+
+	/**
+	 * Sets the transformation used by this solver for converting formulas to
+	 * CNF. Definitional transformations introduce auxiliary variables, which
+	 * do not appear in witnesses. Solvers that do not work on clauses may
+	 * ignore this setting.
+	 *
+	 * @param cnfMode some CNF transformation
+	 */
+	public void setCnfMode(CnfMode cnfMode) {
+		this.cnfMode = cnfMode;
+	}
+
+	/**
+	 * Returns the transformation used by this solver for converting formulas to CNF.
+	 *
+	 * @return the transformation used by this solver for converting formulas to CNF.
+	 */
+	public CnfMode getCnfMode() {
+		return this.cnfMode;
+	}
+
 	/**
 	 *
 	 * Return whether the solve ris installed
@@ -0,0 +1,107 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.sat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.tweetyproject.logics.commons.analysis.SubsetConsistencyTester;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+/**
+ * Checks subsets of propositional formulas with selector literals on an
+ * incremental SAT session: every formula f<sub>i</sub> is added once as
+ * <code>!s<sub>i</sub> || f<sub>i</sub></code> for a fresh proposition
+ * s<sub>i</sub>, and a subset is checked by assuming the selectors of its
+ * formulas. With a solver that provides a native incremental session (such as
+ * {@link Sat4jSolver}) the formulas are only converted and passed to the solver
+ * once per session.
+ *
+ * @author The TweetyProject Team
+ */
+public class SatSubsetConsistencyTester implements SubsetConsistencyTester<PlFormula> {
+
+	/** The SAT solver */
+	private SatSolver solver;
+
+	/**
+	 * Creates a new tester that uses the given SAT solver.
+	 * @param solver some SAT solver
+	 */
+	public SatSubsetConsistencyTester(SatSolver solver) {
+		this.solver = solver;
+	}
+
+	/**
+	 * Creates a new tester that uses the default SAT solver.
+	 */
+	public SatSubsetConsistencyTester() {
+		this(SatSolver.getDefaultSolver());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.tweetyproject.logics.commons.analysis.SubsetConsistencyTester#open(java.util.List)
+	 */
+	@Override
+	public Session open(List<PlFormula> formulas) {
+		// choose a prefix for the selectors that is not the prefix of any proposition
+		Set<String> names = new HashSet<String>();
+		for (PlFormula f : formulas)
+			for (Proposition p : f.getAtoms())
+				names.add(p.getName());
+		String prefix = "_sel";
+		boolean clash;
+		do {
+			clash = false;
+			for (String name : names)
+				if (name.startsWith(prefix)) {
+					prefix = "_" + prefix;
+					clash = true;
+					break;
+				}
+		} while (clash);
+		List<Proposition> selectors = new ArrayList<Proposition>(formulas.size());
+		SatSession session = this.solver.openSession();
+		for (int i = 0; i < formulas.size(); i++) {
+			Proposition s = new Proposition(prefix + i);
+			selectors.add(s);
+			session.add(new Disjunction(new Negation(s), formulas.get(i)));
+		}
+		return new Session() {
+			@Override
+			public boolean isConsistent(BitSet subset) {
+				List<Proposition> assumptions = new ArrayList<Proposition>(subset.cardinality());
+				for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1))
+					assumptions.add(selectors.get(i));
+				return session.isSatisfiable(assumptions);
+			}
+
+			@Override
+			public void close() {
+				session.close();
+			}
+		};
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.sat;
+
+import java.util.Collection;
+
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+
+/**
+ * A non-incremental SAT session that collects all added formulas and
+ * delegates each call to the (stateless) methods of a {@link SatSolver}.
+ * This is the fallback for solvers that do not provide a native
+ * incremental interface.
+ *
+ * @author The TweetyProject Team
+ */
+public class SimpleSatSession implements SatSession {
+
+	/** The solver used for each call. */
+	private SatSolver solver;
+	/** The formulas of this session. */
+	private PlBeliefSet formulas;
+	/** Whether an empty clause has been added to this session. */
+	private boolean containsEmptyClause;
+
+	/**
+	 * Creates a new session for the given solver.
+	 * @param solver some SAT solver
+	 */
+	public SimpleSatSession(SatSolver solver) {
+		this.solver = solver;
+		this.formulas = new PlBeliefSet();
+		this.containsEmptyClause = false;
+	}
+
+	@Override
+	public void add(PlFormula formula) {
+		// empty clauses are skipped by the Dimacs conversion, so keep track of them here
+		if(formula instanceof Disjunction && ((Disjunction)formula).isEmpty())
+			this.containsEmptyClause = true;
+		else this.formulas.add(formula);
+	}
+
+	@Override
+	public boolean isSatisfiable(Collection<? extends PlFormula> assumptions) {
+		if(this.containsEmptyClause)
+			return false;
+		PlBeliefSet bs = new PlBeliefSet(this.formulas);
+		bs.addAll(assumptions);
+		return this.solver.isSatisfiable(bs);
+	}
+
+	@Override
+	public PossibleWorld getWitness(Collection<? extends PlFormula> assumptions) {
+		if(this.containsEmptyClause)
+			return null;
+		PlBeliefSet bs = new PlBeliefSet(this.formulas);
+		bs.addAll(assumptions);
+		return (PossibleWorld) this.solver.getWitness(bs);
+	}
+
+	@Override
+	public void close() {
+		this.formulas = null;
+	}
+}
@@ -0,0 +1,429 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.semantics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.tweetyproject.logics.pl.syntax.AssociativePlFormula;
+import org.tweetyproject.logics.pl.syntax.Conjunction;
+import org.tweetyproject.logics.pl.syntax.Contradiction;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Equivalence;
+import org.tweetyproject.logics.pl.syntax.ExclusiveDisjunction;
+import org.tweetyproject.logics.pl.syntax.Implication;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+import org.tweetyproject.logics.pl.syntax.Tautology;
+
+/**
+ * A propositional formula compiled for the bit-parallel evaluation on all possible
+ * worlds of a fixed signature (of at most {@link #MAX_ATOMS} propositions).<br>
+ * <br>
+ * The possible worlds of a signature p<sub>0</sub>,...,p<sub>n-1</sub> are numbered
+ * from 0 to 2<sup>n</sup>-1 such that p<sub>k</sub> is true in world i iff bit k of i is set.
+ * The formula is compiled into a flat list of instructions (with common subformulas
+ * shared), each of which computes a <code>long</code> whose bits are the truth values
+ * of a subformula in 64 consecutive worlds (a block). So one pass over the instructions
+ * evaluates the formula in 64 worlds, and large signatures are evaluated in parallel
+ * over blocks.
+ *
+ * @author The TweetyProject Team
+ */
+public class CompiledPlFormula {
+
+	/** The maximal number of propositions of a signature */
+	public static final int MAX_ATOMS = 30;
+
+	/** Instruction codes */
+	private static final int TRUE = 0, FALSE = 1, ATOM = 2, NOT = 3, AND = 4, OR = 5, XOR = 6, IMPLIES = 7, EQUIVALENT = 8;
+
+	/** The truth values of the first six propositions in the 64 worlds of a block */
+	private static final long[] PATTERNS = {
+			0xAAAAAAAAAAAAAAAAL, 0xCCCCCCCCCCCCCCCCL, 0xF0F0F0F0F0F0F0F0L,
+			0xFF00FF00FF00FF00L, 0xFFFF0000FFFF0000L, 0xFFFFFFFF00000000L };
+
+	/** The number of blocks evaluated by one task when evaluating in parallel */
+	private static final int BLOCKS_PER_TASK = 256;
+
+	/** The signature */
+	private List<Proposition> signature;
+
+	/** The instructions, three entries (code and two operands) per instruction */
+	private int[] code;
+
+	/** The number of instructions */
+	private int size;
+
+	/**
+	 * Compiles the given formula wrt. the given signature.
+	 * @param formula some formula
+	 * @param signature a list of at most {@link #MAX_ATOMS} propositions that contains all
+	 * 	propositions of the formula, the world numbering follows the order of the list
+	 */
+	public CompiledPlFormula(PlFormula formula, List<Proposition> signature) {
+		if (signature.size() > CompiledPlFormula.MAX_ATOMS)
+			throw new IllegalArgumentException("Signatures with more than " + CompiledPlFormula.MAX_ATOMS + " propositions are not supported.");
+		this.signature = new ArrayList<Proposition>(signature);
+		Map<Proposition,Integer> index = new HashMap<Proposition,Integer>();
+		for (int i = 0; i < this.signature.size(); i++)
+			index.put(this.signature.get(i), i);
+		this.code = new int[48];
+		this.size = 0;
+		this.compile(formula, index, new HashMap<PlFormula,Integer>());
+	}
+
+	/**
+	 * Compiles the given formula wrt. its own propositions.
+	 * @param formula some formula with at most {@link #MAX_ATOMS} propositions
+	 */
+	public CompiledPlFormula(PlFormula formula) {
+		this(formula, new ArrayList<Proposition>(formula.getAtoms()));
+	}
+
+	/**
+	 * Checks whether the given formula can be compiled, i.e., whether it only
+	 * consists of the connectives of classical propositional logic (and has
+	 * at most {@link #MAX_ATOMS} propositions).
+	 * @param formula some formula
+	 * @return "true" iff the formula can be compiled wrt. its own propositions.
+	 */
+	public static boolean isCompilable(PlFormula formula) {
+		return formula.getAtoms().size() <= CompiledPlFormula.MAX_ATOMS && CompiledPlFormula.hasClassicalConnectives(formula);
+	}
+
+	/**
+	 * Checks whether the given formula only consists of the connectives of
+	 * classical propositional logic.
+	 * @param formula some formula
+	 * @return "true" iff the formula only consists of classical connectives.
+	 */
+	private static boolean hasClassicalConnectives(PlFormula formula) {
+		if (formula instanceof Tautology || formula instanceof Contradiction || formula instanceof Proposition)
+			return true;
+		if (formula instanceof Negation)
+			return CompiledPlFormula.hasClassicalConnectives(((Negation) formula).getFormula());
+		if (formula instanceof Conjunction || formula instanceof Disjunction || formula instanceof ExclusiveDisjunction) {
+			for (PlFormula f : ((AssociativePlFormula) formula).getFormulas())
+				if (!CompiledPlFormula.hasClassicalConnectives(f))
+					return false;
+			return true;
+		}
+		if (formula instanceof Implication)
+			return CompiledPlFormula.hasClassicalConnectives(((Implication) formula).getFormulas().getFirst())
+					&& CompiledPlFormula.hasClassicalConnectives(((Implication) formula).getFormulas().getSecond());
+		if (formula instanceof Equivalence)
+			return CompiledPlFormula.hasClassicalConnectives(((Equivalence) formula).getFormulas().getFirst())
+					&& CompiledPlFormula.hasClassicalConnectives(((Equivalence) formula).getFormulas().getSecond());
+		return false;
+	}
+
+	/**
+	 * Adds the instructions for the given formula and returns the instruction
+	 * computing its value.
+	 * @param formula some formula
+	 * @param index the indices of the propositions
+	 * @param compiled the already compiled subformulas
+	 * @return the number of the instruction computing the value of the formula.
+	 */
+	private int compile(PlFormula formula, Map<Proposition,Integer> index, Map<PlFormula,Integer> compiled) {
+		Integer done = compiled.get(formula);
+		if (done != null)
+			return done;
+		int result;
+		if (formula instanceof Tautology)
+			result = this.add(TRUE, 0, 0);
+		else if (formula instanceof Contradiction)
+			result = this.add(FALSE, 0, 0);
+		else if (formula instanceof Proposition) {
+			Integer i = index.get(formula);
+			if (i == null)
+				throw new IllegalArgumentException("Proposition " + formula + " is not contained in the signature.");
+			result = this.add(ATOM, i, 0);
+		} else if (formula instanceof Negation)
+			result = this.add(NOT, this.compile(((Negation) formula).getFormula(), index, compiled), 0);
+		else if (formula instanceof Conjunction)
+			result = this.fold(AND, TRUE, ((Conjunction) formula).getFormulas(), index, compiled);
+		else if (formula instanceof Disjunction)
+			result = this.fold(OR, FALSE, ((Disjunction) formula).getFormulas(), index, compiled);
+		else if (formula instanceof ExclusiveDisjunction)
+			// as for PossibleWorld.satisfies(), the empty exclusive disjunction is true
+			result = this.fold(XOR, TRUE, ((ExclusiveDisjunction) formula).getFormulas(), index, compiled);
+		else if (formula instanceof Implication) {
+			Implication i = (Implication) formula;
+			int a = this.compile(i.getFormulas().getFirst(), index, compiled);
+			result = this.add(IMPLIES, a, this.compile(i.getFormulas().getSecond(), index, compiled));
+		} else if (formula instanceof Equivalence) {
+			Equivalence e = (Equivalence) formula;
+			int a = this.compile(e.getFormulas().getFirst(), index, compiled);
+			result = this.add(EQUIVALENT, a, this.compile(e.getFormulas().getSecond(), index, compiled));
+		} else
+			throw new IllegalArgumentException("Propositional formula " + formula + " is of unknown type.");
+		compiled.put(formula, result);
+		return result;
+	}
+
+	/**
+	 * Adds the instructions combining the given formulas with the given binary operation.
+	 * @param op some binary operation
+	 * @param empty the value of the empty combination
+	 * @param formulas some formulas
+	 * @param index the indices of the propositions
+	 * @param compiled the already compiled subformulas
+	 * @return the number of the instruction computing the combination.
+	 */
+	private int fold(int op, int empty, List<PlFormula> formulas, Map<Proposition,Integer> index, Map<PlFormula,Integer> compiled) {
+		if (formulas.isEmpty())
+			return this.add(empty, 0, 0);
+		int result = this.compile(formulas.get(0), index, compiled);
+		for (int i = 1; i < formulas.size(); i++)
+			result = this.add(op, result, this.compile(formulas.get(i), index, compiled));
+		return result;
+	}
+
+	/**
+	 * Adds the given instruction.
+	 * @param op the instruction code
+	 * @param x the first operand
+	 * @param y the second operand
+	 * @return the number of the instruction.
+	 */
+	private int add(int op, int x, int y) {
+		if (3 * this.size + 3 > this.code.length)
+			this.code = Arrays.copyOf(this.code, 2 * this.code.length);
+		this.code[3 * this.size] = op;
+		this.code[3 * this.size + 1] = x;
+		this.code[3 * this.size + 2] = y;
+		return this.size++;
+	}
+
+	/**
+	 * Returns the signature of this formula.
+	 * @return the signature of this formula, world i satisfies the k-th
+	 * 	proposition iff bit k of i is set.
+	 */
+	public List<Proposition> getSignature() {
+		return this.signature;
+	}
+
+	/**
+	 * Returns the number of possible worlds of the signature.
+	 * @return the number of possible worlds of the signature.
+	 */
+	public long numberOfWorlds() {
+		return 1L << this.signature.size();
+	}
+
+	/**
+	 * Returns the number of blocks of 64 worlds.
+	 * @return the number of blocks of 64 worlds.
+	 */
+	public long numberOfBlocks() {
+		return (this.numberOfWorlds() + 63) / 64;
+	}
+
+	/**
+	 * Evaluates the formula in the worlds 64*block,...,64*block+63.
+	 * @param block the index of some block
+	 * @return a long whose bit i is set iff world 64*block+i is a model.
+	 */
+	public long evaluate(long block) {
+		return this.evaluate(block, new long[this.size]);
+	}
+
+	/**
+	 * Evaluates the formula in the worlds of the given block using the given registers.
+	 * @param block the index of some block
+	 * @param reg an array of size at least the number of instructions
+	 * @return a long whose bit i is set iff world 64*block+i is a model.
+	 */
+	private long evaluate(long block, long[] reg) {
+		int[] code = this.code;
+		for (int i = 0, pc = 0; i < this.size; i++, pc += 3) {
+			switch (code[pc]) {
+			case TRUE:
+				reg[i] = -1L;
+				break;
+			case FALSE:
+				reg[i] = 0L;
+				break;
+			case ATOM:
+				int k = code[pc + 1];
+				reg[i] = k < 6 ? PATTERNS[k] : (((block >>> (k - 6)) & 1L) != 0 ? -1L : 0L);
+				break;
+			case NOT:
+				reg[i] = ~reg[code[pc + 1]];
+				break;
+			case AND:
+				reg[i] = reg[code[pc + 1]] & reg[code[pc + 2]];
+				break;
+			case OR:
+				reg[i] = reg[code[pc + 1]] | reg[code[pc + 2]];
+				break;
+			case XOR:
+				reg[i] = reg[code[pc + 1]] ^ reg[code[pc + 2]];
+				break;
+			case IMPLIES:
+				reg[i] = ~reg[code[pc + 1]] | reg[code[pc + 2]];
+				break;
+			default:
+				reg[i] = ~(reg[code[pc + 1]] ^ reg[code[pc + 2]]);
+			}
+		}
+		// for signatures with less than six propositions a block has less than 64 worlds
+		if (this.signature.size() < 6)
+			return reg[this.size - 1] & ((1L << (1 << this.signature.size())) - 1);
+		return reg[this.size - 1];
+	}
+
+	/**
+	 * Counts the models in the blocks of the given task.
+	 * @param task the index of some task
+	 * @return the number of models in the blocks of the task.
+	 */
+	private long countModels(long task) {
+		long[] reg = new long[this.size];
+		long count = 0;
+		long end = Math.min(this.numberOfBlocks(), (task + 1) * BLOCKS_PER_TASK);
+		for (long block = task * BLOCKS_PER_TASK; block < end; block++)
+			count += Long.bitCount(this.evaluate(block, reg));
+		return count;
+	}
+
+	/**
+	 * Checks whether the blocks of the given task contain a model.
+	 * @param task the index of some task
+	 * @return "true" iff the blocks of the task contain a model.
+	 */
+	private boolean hasModel(long task) {
+		long[] reg = new long[this.size];
+		long end = Math.min(this.numberOfBlocks(), (task + 1) * BLOCKS_PER_TASK);
+		for (long block = task * BLOCKS_PER_TASK; block < end; block++)
+			if (this.evaluate(block, reg) != 0)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Returns the tasks for evaluating all blocks, in parallel if there is more than one task.
+	 * @return the tasks for evaluating all blocks.
+	 */
+	private LongStream tasks() {
+		long tasks = (this.numberOfBlocks() + BLOCKS_PER_TASK - 1) / BLOCKS_PER_TASK;
+		LongStream stream = LongStream.range(0, tasks);
+		return tasks > 1 ? stream.parallel() : stream;
+	}
+
+	/**
+	 * Returns the number of models of the formula.
+	 * @return the number of models of the formula.
+	 */
+	public long countModels() {
+		return this.tasks().map(this::countModels).sum();
+	}
+
+	/**
+	 * Checks whether the formula has a model.
+	 * @return "true" iff the formula has a model.
+	 */
+	public boolean isSatisfiable() {
+		return this.tasks().anyMatch(this::hasModel);
+	}
+
+	/**
+	 * Returns the models of the formula as a bit set over the worlds.
+	 * @return a long array whose bit i (of word i/64) is set iff world i is a model.
+	 */
+	public long[] getModelMask() {
+		long[] mask = new long[(int) this.numberOfBlocks()];
+		this.tasks().forEach(task -> {
+			long[] reg = new long[this.size];
+			long end = Math.min(mask.length, (task + 1) * BLOCKS_PER_TASK);
+			for (long block = task * BLOCKS_PER_TASK; block < end; block++)
+				mask[(int) block] = this.evaluate(block, reg);
+		});
+		return mask;
+	}
+
+	/**
+	 * Returns the possible world with the given number.
+	 * @param world the number of some world
+	 * @return the possible world with the given number.
+	 */
+	public PossibleWorld getWorld(long world) {
+		PossibleWorld w = new PossibleWorld();
+		for (int k = 0; k < this.signature.size(); k++)
+			if (((world >>> k) & 1L) != 0)
+				w.add(this.signature.get(k));
+		return w;
+	}
+
+	/**
+	 * Returns the number of the given possible world.
+	 * @param world some possible world
+	 * @return the number of the world (propositions not in the signature are ignored).
+	 */
+	public long getIndex(PossibleWorld world) {
+		long index = 0;
+		for (int k = 0; k < this.signature.size(); k++)
+			if (world.contains(this.signature.get(k)))
+				index |= 1L << k;
+		return index;
+	}
+
+	/**
+	 * Returns the models of the formula.
+	 * @return the models of the formula.
+	 */
+	public Set<PossibleWorld> getModels() {
+		Set<PossibleWorld> models = new HashSet<PossibleWorld>();
+		long[] mask = this.getModelMask();
+		for (int block = 0; block < mask.length; block++)
+			for (long bits = mask[block]; bits != 0; bits &= bits - 1)
+				models.add(this.getWorld(64L * block + Long.numberOfTrailingZeros(bits)));
+		return models;
+	}
+
+	/**
+	 * Checks whether the given formulas classically entail the given formula by
+	 * bit-parallel evaluation of all possible worlds.
+	 * @param formulas some formulas
+	 * @param formula some formula
+	 * @return "true" iff every model of the formulas is a model of the formula.
+	 * @throws IllegalArgumentException if the formulas have more than {@link #MAX_ATOMS} propositions.
+	 */
+	public static boolean entails(Collection<PlFormula> formulas, PlFormula formula) {
+		Set<Proposition> atoms = new LinkedHashSet<Proposition>();
+		for (PlFormula f : formulas)
+			atoms.addAll(f.getAtoms());
+		atoms.addAll(formula.getAtoms());
+		Conjunction c = new Conjunction(formulas);
+		c.add(new Negation(formula));
+		return !new CompiledPlFormula((PlFormula) c, new ArrayList<Proposition>(atoms)).isSatisfiable();
+	}
+}
@@ -145,10 +145,12 @@ public abstract class AssociativePlFormula extends PlFormula
 	 */
 	@Override
 	public int hashCode() {
+		if (this.factory != null)
+			return this.hash;
 		final int prime = 31;
 		int result = 1;
 		result = prime * result
-				+ ((support == null) ? 0 : support.getFormulas().hashCode());
+				+ ((support == null) ? 0 : support.hashCode());
 		return result;
 	}
 
@@ -159,6 +161,8 @@ public abstract class AssociativePlFormula extends PlFormula
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
+		if (this.isInternedWith(obj))
+			return false;
 		if (obj == null)
 			return false;
 		if (getClass() != obj.getClass())
@@ -167,7 +171,7 @@ public abstract class AssociativePlFormula extends PlFormula
 		if (support == null) {
 			if (other.support != null)
 				return false;
-		} else if (!support.getFormulas().equals(other.support.getFormulas()))
+		} else if (!support.equals(other.support))
 			return false;
 		else if(support.size() != other.support.size())
 			return false;
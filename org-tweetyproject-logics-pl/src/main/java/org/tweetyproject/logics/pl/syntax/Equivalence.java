@@ -69,6 +69,7 @@ public class Equivalence extends PlFormula {
 	 * @param formulas the formulas
 	 */
 	public void setFormulas(Pair<PlFormula,PlFormula> formulas) {
+		this.checkMutable();
 		this.formulas = formulas;
 	}
 	
@@ -78,6 +79,7 @@ public class Equivalence extends PlFormula {
 	 * @param formula2 some formula
 	 */
 	public void setFormulas(PlFormula formula1, PlFormula formula2) {
+		this.checkMutable();
 		this.formulas = new Pair<PlFormula, PlFormula>(formula1, formula2);
 	}
 	
@@ -171,6 +173,8 @@ public class Equivalence extends PlFormula {
 	 */
 	@Override
 	public int hashCode() {
+		if (this.factory != null)
+			return this.hash;
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((formulas == null) ? 0 : formulas.hashCode());
@@ -184,6 +188,8 @@ public class Equivalence extends PlFormula {
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
+		if (this.isInternedWith(obj))
+			return false;
 		if (obj == null)
 			return false;
 		if (getClass() != obj.getClass())
@@ -199,7 +205,7 @@ public class Equivalence extends PlFormula {
 
 	@Override
 	public Equivalence clone() {
-		return new Equivalence(this.formulas);
+		return new Equivalence(this.formulas.getFirst(), this.formulas.getSecond());
 	}
 	
 	@Override
@@ -73,6 +73,7 @@ public class Implication extends PlFormula {
 	 * @param formulas the formulas
 	 */
 	public void setFormulas(Pair<PlFormula, PlFormula> formulas) {
+		this.checkMutable();
 		this.formulas = formulas;
 	}
 	
@@ -82,6 +83,7 @@ public class Implication extends PlFormula {
 	 * @param right  some formula
 	 */
 	public void setFormulas(PlFormula left, PlFormula right) {
+		this.checkMutable();
 		this.formulas = new Pair<PlFormula, PlFormula>(left, right);
 	}
 	
@@ -92,6 +94,7 @@ public class Implication extends PlFormula {
 	 * @param left formula
 	 */
 	public void setFirstFormula(PlFormula left) {
+		this.checkMutable();
 		this.formulas.setFirst(left);
 	}
 	
@@ -102,6 +105,7 @@ public class Implication extends PlFormula {
 	 * @param right formula.
 	 */
 	public void setSecondFormula(PlFormula right) {
+		this.checkMutable();
 		this.formulas.setSecond(right);
 	}
 	
@@ -215,6 +219,8 @@ public class Implication extends PlFormula {
 	 */
 	@Override
 	public int hashCode() {
+		if (this.factory != null)
+			return this.hash;
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((formulas == null) ? 0 : formulas.hashCode());
@@ -230,6 +236,8 @@ public class Implication extends PlFormula {
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
+		if (this.isInternedWith(obj))
+			return false;
 		if (obj == null)
 			return false;
 		if (getClass() != obj.getClass())
@@ -245,7 +253,7 @@ public class Implication extends PlFormula {
 
 	@Override
 	public Implication clone() {
-		return new Implication(this.formulas);
+		return new Implication(this.formulas.getFirst(), this.formulas.getSecond());
 	}
 	
 	@Override
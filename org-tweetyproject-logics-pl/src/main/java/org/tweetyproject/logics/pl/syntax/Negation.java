@@ -151,6 +151,8 @@ public class Negation extends PlFormula {
 	 */
 	@Override
 	public int hashCode() {
+		if (this.factory != null)
+			return this.hash;
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((formula == null) ? 0 : formula.hashCode());
@@ -166,6 +168,8 @@ public class Negation extends PlFormula {
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
+		if (this.isInternedWith(obj))
+			return false;
 		if (obj == null)
 			return false;
 		if (getClass() != obj.getClass())
@@ -30,6 +30,9 @@ import org.tweetyproject.commons.*;
  */
 public class PlBeliefSet extends BeliefSet<PlFormula,PlSignature> {
 
+	/** The factory used for interning added formulas (null if formulas are not interned). */
+	private PlFormulaFactory factory = null;
+
 	/**
 	 * Creates a new (empty) knowledge base.
 	 */
@@ -46,6 +49,33 @@ public class PlBeliefSet extends BeliefSet<PlFormula,PlSignature> {
 		super(formulas);
 	}
 
+	/**
+	 * Creates a new (empty) knowledge base that interns all added formulas
+	 * with the given factory. As interned formulas cache their hash codes and
+	 * are compared by identity, membership tests are cheap even for large formulas.
+	 * 
+	 * @param factory some formula factory.
+	 */
+	public PlBeliefSet(PlFormulaFactory factory) {
+		super();
+		this.factory = factory;
+	}
+
+	/**
+	 * Returns the factory used for interning added formulas.
+	 * 
+	 * @return the factory used for interning added formulas or null if
+	 * formulas are not interned.
+	 */
+	public PlFormulaFactory getFormulaFactory() {
+		return this.factory;
+	}
+
+	@Override
+	public boolean add(PlFormula f) {
+		return super.add(this.factory != null ? this.factory.intern(f) : f);
+	}
+
 	/**
 	 * This method returns this belief set in conjunctive normal form (CNF). A
 	 * formula is in CNF iff it is a conjunction of disjunctions and in NNF.
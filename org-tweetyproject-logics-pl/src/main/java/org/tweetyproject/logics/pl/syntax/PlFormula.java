@@ -26,6 +26,7 @@ import org.tweetyproject.commons.util.SetTools;
 import org.tweetyproject.logics.commons.syntax.interfaces.ClassicalFormula;
 import org.tweetyproject.logics.commons.syntax.interfaces.Conjunctable;
 import org.tweetyproject.logics.commons.syntax.interfaces.Disjunctable;
+import org.tweetyproject.logics.pl.semantics.CompiledPlFormula;
 import org.tweetyproject.logics.pl.semantics.PossibleWorld;
 import org.tweetyproject.math.probability.Probability;
 
@@ -37,6 +38,38 @@ import org.tweetyproject.math.probability.Probability;
  */
 public abstract class PlFormula implements ClassicalFormula {
 
+	/** The factory that interned this formula (null if this formula is not interned). */
+	PlFormulaFactory factory = null;
+	/** The hash code of this formula, only valid if this formula is interned. */
+	int hash;
+
+	/**
+	 * Returns "true" if this formula has been interned by some
+	 * <code>PlFormulaFactory</code>. Interned formulas are unmodifiable.
+	 * @return "true" if this formula has been interned.
+	 */
+	public boolean isInterned() {
+		return this.factory != null;
+	}
+
+	/**
+	 * Returns "true" if this formula and the given object have been interned by
+	 * the same factory. For such formulas, equality coincides with identity.
+	 * @param obj some object
+	 * @return "true" if this formula and obj have been interned by the same factory.
+	 */
+	boolean isInternedWith(Object obj) {
+		return this.factory != null && obj instanceof PlFormula && ((PlFormula) obj).factory == this.factory;
+	}
+
+	/**
+	 * Throws an UnsupportedOperationException if this formula is interned.
+	 */
+	void checkMutable() {
+		if(this.factory != null)
+			throw new UnsupportedOperationException("Interned formulas cannot be modified.");
+	}
+
 	@Override
 	public Class<PlPredicate> getPredicateCls() {
 		return PlPredicate.class;
@@ -107,6 +140,10 @@ public abstract class PlFormula implements ClassicalFormula {
 	 */
 	@Override
 	public Probability getUniformProbability() {
+		if (CompiledPlFormula.isCompilable(this)) {
+			CompiledPlFormula c = new CompiledPlFormula(this);
+			return new Probability(((double) c.countModels()) / ((double) c.numberOfWorlds()));
+		}
 		Set<PossibleWorld> worlds = PossibleWorld.getAllPossibleWorlds(this.getSignature());
 		int cnt = 0;
 		for (PossibleWorld world : worlds)
@@ -346,6 +383,8 @@ public abstract class PlFormula implements ClassicalFormula {
 	 *         the propositions appearing in this formula.
 	 */
 	public Set<PossibleWorld> getModels() {
+		if (CompiledPlFormula.isCompilable(this))
+			return new CompiledPlFormula(this).getModels();
 		return this.getModels(this.getSignature());
 	}
 
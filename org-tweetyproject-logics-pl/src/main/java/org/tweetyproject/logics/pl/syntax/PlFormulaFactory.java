@@ -0,0 +1,167 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.syntax;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A hash-consing factory for propositional formulas. For every formula, the factory
+ * returns a structurally equal formula that is unique among all formulas interned
+ * by this factory, i.e., two formulas interned by the same factory are equal
+ * iff they are identical. Interned formulas cache their hash code and cannot be
+ * modified (modifying methods throw an UnsupportedOperationException), all
+ * their subformulas are interned as well. Operations like <code>toCnf()</code>
+ * or <code>clone()</code> on interned formulas return ordinary (modifiable) formulas.<br>
+ * <br>
+ * Interned propositions are numbered densely in the order of their interning, so
+ * their ids can be used to index arrays, cf. {@link #getId(Proposition)} and
+ * {@link #getProposition(int)}.<br>
+ * <br>
+ * NOTE: the pair returned by <code>getFormulas()</code> of an interned implication
+ * or equivalence must not be modified.
+ *
+ * @author The TweetyProject Team
+ */
+public class PlFormulaFactory {
+
+	/** Maps every interned formula to itself. */
+	private Map<PlFormula,PlFormula> table;
+
+	/** The interned propositions, indexed by their ids. */
+	private List<Proposition> propositions;
+
+	/**
+	 * Creates a new empty factory.
+	 */
+	public PlFormulaFactory() {
+		this.table = new ConcurrentHashMap<>();
+		this.propositions = new ArrayList<>();
+	}
+
+	/**
+	 * Returns the unique formula of this factory that is equal to the given formula.
+	 * @param formula some formula
+	 * @return the interned version of the formula.
+	 */
+	public PlFormula intern(PlFormula formula) {
+		if(formula.factory == this)
+			return formula;
+		PlFormula candidate;
+		if(formula instanceof Proposition)
+			candidate = new Proposition(((Proposition) formula).getName());
+		else if(formula instanceof Negation)
+			candidate = new Negation(this.intern(((Negation) formula).getFormula()));
+		else if(formula instanceof AssociativePlFormula) {
+			AssociativePlFormula f = (AssociativePlFormula) ((AssociativePlFormula) formula).<PlFormula>createEmptyFormula();
+			for(PlFormula sub: (AssociativePlFormula) formula)
+				f.add(this.intern(sub));
+			candidate = f;
+		}else if(formula instanceof Implication)
+			candidate = new Implication(this.intern(((Implication) formula).getFirstFormula()), this.intern(((Implication) formula).getSecondFormula()));
+		else if(formula instanceof Equivalence)
+			candidate = new Equivalence(this.intern(((Equivalence) formula).getFormulas().getFirst()), this.intern(((Equivalence) formula).getFormulas().getSecond()));
+		else if(formula instanceof Tautology)
+			candidate = new Tautology();
+		else if(formula instanceof Contradiction)
+			candidate = new Contradiction();
+		else throw new IllegalArgumentException("Formula type " + formula.getClass() + " not supported.");
+		// the candidate is compared structurally, which is cheap as its subformulas are interned
+		return this.table.computeIfAbsent(candidate, f -> {
+			f.hash = f.hashCode();
+			if(f instanceof AssociativePlFormula)
+				((AssociativePlFormula) f).support.freeze();
+			if(f instanceof Proposition)
+				synchronized(this.propositions) {
+					((Proposition) f).id = this.propositions.size();
+					this.propositions.add((Proposition) f);
+				}
+			f.factory = this;
+			return f;
+		});
+	}
+
+	/**
+	 * Returns the interned versions of the given formulas.
+	 * @param formulas some formulas
+	 * @return a belief set containing the interned formulas.
+	 */
+	public PlBeliefSet internAll(Collection<? extends PlFormula> formulas) {
+		PlBeliefSet result = new PlBeliefSet(this);
+		result.addAll(formulas);
+		return result;
+	}
+
+	/**
+	 * Returns the interned proposition with the given name.
+	 * @param name the name of a proposition
+	 * @return the interned proposition with the given name.
+	 */
+	public Proposition getProposition(String name) {
+		return (Proposition) this.intern(new Proposition(name));
+	}
+
+	/**
+	 * Returns the id of the given proposition, i.e., the position of its interned
+	 * version in the order of interning. The proposition is not interned by this
+	 * method.
+	 * @param p some proposition
+	 * @return the id of the proposition, or -1 if it has not been interned by this factory.
+	 */
+	public int getId(Proposition p) {
+		if(p.factory == this)
+			return p.id;
+		PlFormula f = this.table.get(p);
+		return f == null ? -1 : ((Proposition) f).id;
+	}
+
+	/**
+	 * Returns the interned proposition with the given id.
+	 * @param id the id of some interned proposition
+	 * @return the interned proposition with the given id.
+	 * @throws IndexOutOfBoundsException if there is no proposition with the given id.
+	 */
+	public Proposition getProposition(int id) {
+		synchronized(this.propositions) {
+			return this.propositions.get(id);
+		}
+	}
+
+	/**
+	 * Returns the number of propositions interned by this factory, i.e., the
+	 * ids of interned propositions are 0,...,getNumberOfPropositions()-1.
+	 * @return the number of interned propositions.
+	 */
+	public int getNumberOfPropositions() {
+		synchronized(this.propositions) {
+			return this.propositions.size();
+		}
+	}
+
+	/**
+	 * Returns the number of formulas (including subformulas) interned by this factory.
+	 * @return the number of interned formulas.
+	 */
+	public int size() {
+		return this.table.size();
+	}
+}
@@ -42,6 +42,9 @@ public class Proposition extends PlFormula implements Atom, Comparable<Propositi
 	 */
 	private PlPredicate predicate;
 
+	/** The id of this proposition within its factory (only valid if this proposition is interned). */
+	int id = -1;
+
 	/** Default-Ctor for dynamic instantiation */
 	public Proposition() {}
 	
@@ -99,6 +102,8 @@ public class Proposition extends PlFormula implements Atom, Comparable<Propositi
 
 	@Override
 	public int hashCode() {
+		if (this.factory != null)
+			return this.hash;
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((predicate == null) ? 0 : predicate.hashCode());
@@ -109,6 +114,8 @@ public class Proposition extends PlFormula implements Atom, Comparable<Propositi
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
+		if (this.isInternedWith(obj))
+			return false;
 		if (obj == null)
 			return false;
 		if (getClass() != obj.getClass())
@@ -178,6 +185,7 @@ public class Proposition extends PlFormula implements Atom, Comparable<Propositi
 	
 	@Override
 	public RETURN_SET_PREDICATE setPredicate(Predicate predicate) {
+		this.checkMutable();
 		Predicate old = this.predicate;
 		this.predicate = (PlPredicate)predicate;
 		return AtomImpl.implSetPredicate(old, this.predicate, new LinkedList<Term<?>>());
@@ -0,0 +1,203 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.tweetyproject.logics.pl.sat.ClauseBuffer;
+import org.tweetyproject.logics.pl.sat.CnfMode;
+import org.tweetyproject.logics.pl.sat.Sat4jSolver;
+import org.tweetyproject.logics.pl.sat.SatSession;
+import org.tweetyproject.logics.pl.sat.SimpleDpllSolver;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Conjunction;
+import org.tweetyproject.logics.pl.syntax.Contradiction;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Equivalence;
+import org.tweetyproject.logics.pl.syntax.ExclusiveDisjunction;
+import org.tweetyproject.logics.pl.syntax.Implication;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+import org.tweetyproject.logics.pl.syntax.Tautology;
+
+public class ClauseBufferTest {
+
+	private Proposition a = new Proposition("a");
+	private Proposition b = new Proposition("b");
+	private Proposition c = new Proposition("c");
+
+	private String toDimacs(ClauseBuffer clauses) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		clauses.writeDimacs(out);
+		return out.toString("US-ASCII");
+	}
+
+	@Test
+	public void WriteDimacsTest() throws IOException {
+		ClauseBuffer clauses = new ClauseBuffer();
+		clauses.add(this.a.combineWithOr(new Negation(this.b)));
+		clauses.add(this.c);
+		clauses.addClause(-3, 12345678);
+		assertEquals(12345678, clauses.getNumberOfVariables());
+		assertEquals(3, clauses.getNumberOfClauses());
+		assertEquals("p cnf 12345678 3\n1 -2 0\n3 0\n-3 12345678 0\n", this.toDimacs(clauses));
+	}
+
+	@Test
+	public void TautologyAndContradictionTest() throws IOException {
+		ClauseBuffer clauses = new ClauseBuffer();
+		clauses.add(this.a.combineWithOr(new Tautology()));
+		clauses.add(this.b.combineWithOr(new Contradiction()));
+		assertEquals(1, clauses.getNumberOfClauses());
+		assertFalse(clauses.isContradictory());
+		assertEquals("p cnf 2 1\n2 0\n", this.toDimacs(clauses));
+		clauses.add(new Contradiction());
+		assertTrue(clauses.isContradictory());
+		assertEquals("p cnf 1 2\n1 0\n-1 0\n", this.toDimacs(clauses));
+	}
+
+	@Test
+	public void GivenIndexTest() {
+		Map<Proposition,Integer> prop_index = new HashMap<>();
+		prop_index.put(this.b, 5);
+		ClauseBuffer clauses = new ClauseBuffer(prop_index);
+		clauses.add(this.a.combineWithOr(this.b));
+		assertEquals(5, clauses.getVariable(this.b));
+		assertEquals(6, clauses.getVariable(this.a));
+		assertEquals(this.a, clauses.getProposition(6));
+		assertNull(clauses.getProposition(1));
+		PossibleWorld w = clauses.toPossibleWorld(new int[] {-5, 6, 1}, 3);
+		assertEquals(new PossibleWorld(Arrays.asList(this.a)), w);
+		assertEquals(1, clauses.toFormulas().size());
+	}
+
+	private PlFormula randomFormula(Random random, int depth) {
+		Proposition[] props = {this.a, this.b, this.c};
+		if(depth == 0 || random.nextInt(4) == 0)
+			return random.nextBoolean() ? props[random.nextInt(3)] : new Negation(props[random.nextInt(3)]);
+		PlFormula f1 = this.randomFormula(random, depth-1);
+		PlFormula f2 = this.randomFormula(random, depth-1);
+		switch(random.nextInt(7)) {
+			case 0: return new Conjunction(f1, f2);
+			case 1: return new Disjunction(f1, f2);
+			case 2: return new Implication(f1, f2);
+			case 3: return new Equivalence(f1, f2);
+			case 4: return new ExclusiveDisjunction(f1, f2);
+			case 5: return new Negation(new Conjunction(f1, f2));
+			default: return new Negation(new Disjunction(f1, new Tautology()));
+		}
+	}
+
+	private boolean isSatisfiable(PlFormula f) {
+		for(int i = 0; i < 8; i++) {
+			PossibleWorld w = new PossibleWorld();
+			if((i & 1) != 0) w.add(this.a);
+			if((i & 2) != 0) w.add(this.b);
+			if((i & 4) != 0) w.add(this.c);
+			if(w.satisfies(f))
+				return true;
+		}
+		return false;
+	}
+
+	@Test
+	public void DefinitionalCnfTest() {
+		Random random = new Random(42);
+		SimpleDpllSolver solver = new SimpleDpllSolver();
+		for(CnfMode mode: new CnfMode[] {CnfMode.TSEITIN, CnfMode.PLAISTED_GREENBAUM}) {
+			for(int i = 0; i < 200; i++) {
+				PlFormula f = this.randomFormula(random, 4);
+				ClauseBuffer clauses = new ClauseBuffer();
+				clauses.setCnfMode(mode);
+				clauses.add(f);
+				Collection<PlFormula> cnf = clauses.toFormulas();
+				assertEquals(f.toString(), this.isSatisfiable(f), solver.isSatisfiable(cnf));
+				PossibleWorld w = (PossibleWorld) solver.getWitness(cnf);
+				if(w != null) {
+					w.retainAll(f.getAtoms());
+					assertTrue(f.toString(), w.satisfies(f));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void DefinitionalCnfSizeTest() {
+		// (p1 & q1) | ... | (p30 & q30) has 2^30 clauses in distributive CNF
+		Disjunction dnf = new Disjunction();
+		for(int i = 0; i < 30; i++)
+			dnf.add(new Conjunction(new Proposition("p" + i), new Proposition("q" + i)));
+		ClauseBuffer clauses = new ClauseBuffer();
+		clauses.setCnfMode(CnfMode.PLAISTED_GREENBAUM);
+		clauses.add(dnf);
+		assertEquals(61, clauses.getNumberOfClauses());
+		assertEquals(90, clauses.getNumberOfVariables());
+		// definitions of shared subformulas are reused
+		clauses.add(new Negation(dnf.get(0)).combineWithOr(this.a));
+		assertEquals(62 + 1, clauses.getNumberOfClauses());
+		assertEquals(91, clauses.getNumberOfVariables());
+	}
+
+	@Test
+	public void Sat4jTest() {
+		ClauseBuffer clauses = new ClauseBuffer(Arrays.asList((PlFormula) this.a.combineWithOr(this.b), new Negation(this.a)));
+		Sat4jSolver solver = new Sat4jSolver();
+		assertTrue(solver.isSatisfiable(clauses));
+		PossibleWorld w = solver.getWitness(clauses);
+		assertNotNull(w);
+		assertTrue(w.contains(this.b));
+		assertFalse(w.contains(this.a));
+		clauses.add(new Negation(this.b));
+		assertFalse(solver.isSatisfiable(clauses));
+		assertNull(solver.getWitness(clauses));
+	}
+
+	@Test
+	public void EmptyClauseTest() {
+		ClauseBuffer clauses = new ClauseBuffer();
+		clauses.add(this.a);
+		clauses.add(new Disjunction());
+		assertTrue(clauses.isContradictory());
+		assertEquals(2, clauses.getNumberOfClauses());
+		Collection<PlFormula> formulas = Arrays.asList(this.a, new Disjunction());
+		assertFalse(new Sat4jSolver().isSatisfiable(formulas));
+		assertNull(new Sat4jSolver().getWitness(formulas));
+		try(SatSession session = new Sat4jSolver().openSession()) {
+			session.add(this.a);
+			assertTrue(session.isSatisfiable());
+			session.add(new Disjunction());
+			assertFalse(session.isSatisfiable());
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.tweetyproject.commons.ParserException;
+import org.tweetyproject.logics.pl.analysis.DalalDistance;
+import org.tweetyproject.logics.pl.parser.PlParser;
+import org.tweetyproject.logics.pl.reasoner.SimplePlReasoner;
+import org.tweetyproject.logics.pl.semantics.CompiledPlFormula;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Conjunction;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+public class CompiledPlFormulaTest {
+
+	private PlParser parser = new PlParser();
+
+	@Test
+	public void EvaluationTest() throws ParserException, IOException {
+		for(String s: new String[] {"a && (b || !c)", "a ^^ b ^^ c", "(a => b) <=> (!b => !a)", "a && !a", "+ || d", "!(a <=> (b && c && d && e && f && g))"}) {
+			PlFormula f = this.parser.parseFormula(s);
+			CompiledPlFormula c = new CompiledPlFormula(f);
+			Set<PossibleWorld> models = new HashSet<>();
+			for(PossibleWorld w: PossibleWorld.getAllPossibleWorlds(f.getSignature()))
+				if(w.satisfies(f))
+					models.add(w);
+			assertEquals(models, c.getModels());
+			assertEquals(models.size(), c.countModels());
+			assertEquals(!models.isEmpty(), c.isSatisfiable());
+		}
+	}
+
+	@Test
+	public void LargeSignatureTest() {
+		// 12 disjoint pairs, a world is a model of !((p0 && p1) || ... ) iff no pair is true
+		List<Proposition> sig = new ArrayList<>();
+		Disjunction d = new Disjunction();
+		for(int i = 0; i < 24; i += 2) {
+			sig.add(new Proposition("p" + i));
+			sig.add(new Proposition("p" + (i+1)));
+			d.add(new Conjunction(sig.get(i), sig.get(i+1)));
+		}
+		CompiledPlFormula c = new CompiledPlFormula(new Negation(d), sig);
+		assertEquals(1L << 24, c.numberOfWorlds());
+		assertEquals(531441, c.countModels());
+		long world = c.getIndex(c.getWorld(123456));
+		assertEquals(123456, world);
+	}
+
+	@Test
+	public void ReasonerTest() throws ParserException, IOException {
+		PlBeliefSet kb = this.parser.parseBeliefBase("a || b\n !a || c\n !b || c");
+		SimplePlReasoner reasoner = new SimplePlReasoner();
+		assertTrue(reasoner.query(kb, this.parser.parseFormula("c")));
+		assertFalse(reasoner.query(kb, this.parser.parseFormula("a")));
+		assertTrue(CompiledPlFormula.entails(kb, this.parser.parseFormula("a || b || d")));
+	}
+
+	@Test
+	public void DalalDistanceTest() throws ParserException, IOException {
+		DalalDistance d = new DalalDistance();
+		PlFormula f = this.parser.parseFormula("a && b && !c");
+		PossibleWorld w = new PossibleWorld();
+		w.add(new Proposition("c"));
+		assertEquals(3, d.distance(f, w), 0);
+		w.add(new Proposition("a"));
+		w.add(new Proposition("b"));
+		assertEquals(1, d.distance(f, w), 0);
+		assertEquals(Double.POSITIVE_INFINITY, d.distance(this.parser.parseFormula("a && !a"), w), 0);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.tweetyproject.commons.ParserException;
+import org.tweetyproject.logics.commons.analysis.DualityMusEnumerator;
+import org.tweetyproject.logics.pl.parser.PlParser;
+import org.tweetyproject.logics.pl.sat.SatSubsetConsistencyTester;
+import org.tweetyproject.logics.pl.sat.SimpleDpllSolver;
+import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+
+public class DualityMusEnumeratorTest {
+
+	private DualityMusEnumerator<PlFormula> enumerator = new DualityMusEnumerator<PlFormula>(new SatSubsetConsistencyTester(new SimpleDpllSolver()));
+
+	private PlBeliefSet parse(String... formulas) throws ParserException, IOException {
+		PlParser parser = new PlParser();
+		PlBeliefSet kb = new PlBeliefSet();
+		for(String f: formulas)
+			kb.add(parser.parseFormula(f));
+		return kb;
+	}
+
+	@Test
+	public void MusTest() throws ParserException, IOException {
+		PlBeliefSet kb = this.parse("a", "!a", "b", "!b || !a", "c");
+		Collection<Collection<PlFormula>> mus = this.enumerator.minimalInconsistentSubsets(kb);
+		Set<Set<PlFormula>> expected = new HashSet<>();
+		expected.add(new HashSet<>(this.parse("a", "!a")));
+		expected.add(new HashSet<>(this.parse("a", "b", "!b || !a")));
+		Set<Set<PlFormula>> actual = new HashSet<>();
+		for(Collection<PlFormula> m: mus)
+			actual.add(new HashSet<>(m));
+		assertEquals(expected, actual);
+		assertFalse(this.enumerator.isConsistent(kb));
+	}
+
+	@Test
+	public void McsTest() throws ParserException, IOException {
+		PlBeliefSet kb = this.parse("a", "!a", "b", "!b || !a", "c");
+		Set<Set<PlFormula>> mcs = this.enumerator.minimalCorrectionSubsets(kb);
+		Set<Set<PlFormula>> expected = new HashSet<>();
+		expected.add(new HashSet<>(this.parse("a")));
+		expected.add(new HashSet<>(this.parse("!a", "b")));
+		expected.add(new HashSet<>(this.parse("!a", "!b || !a")));
+		assertEquals(expected, mcs);
+		assertEquals(3, this.enumerator.maximalConsistentSubsets(kb).size());
+	}
+
+	@Test
+	public void ConsistentTest() throws ParserException, IOException {
+		PlBeliefSet kb = this.parse("a", "a => b", "c || !b");
+		assertTrue(this.enumerator.isConsistent(kb));
+		assertTrue(this.enumerator.minimalInconsistentSubsets(kb).isEmpty());
+		assertTrue(this.enumerator.minimalCorrectionSubsets(kb).isEmpty());
+	}
+}
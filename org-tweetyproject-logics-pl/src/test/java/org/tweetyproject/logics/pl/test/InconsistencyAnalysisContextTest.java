@@ -0,0 +1,210 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import org.tweetyproject.commons.ParserException;
+import org.tweetyproject.logics.commons.analysis.BeliefSetInconsistencyMeasure;
+import org.tweetyproject.logics.commons.analysis.DrasticInconsistencyMeasure;
+import org.tweetyproject.logics.commons.analysis.InconsistencyAnalysisContext;
+import org.tweetyproject.logics.commons.analysis.InconsistencyMeasureEvaluator;
+import org.tweetyproject.logics.commons.analysis.InconsistencyMeasureReport;
+import org.tweetyproject.logics.commons.analysis.InconsistencyMeasureResult;
+import org.tweetyproject.logics.commons.analysis.MiInconsistencyMeasure;
+import org.tweetyproject.logics.commons.analysis.MicInconsistencyMeasure;
+import org.tweetyproject.logics.commons.analysis.NaiveMusEnumerator;
+import org.tweetyproject.logics.commons.analysis.NormalizedMiInconsistencyMeasure;
+import org.tweetyproject.logics.commons.analysis.ShapleyCulpabilityMeasure;
+import org.tweetyproject.logics.pl.parser.PlParser;
+import org.tweetyproject.logics.pl.sat.SatSolver;
+import org.tweetyproject.logics.pl.sat.SimpleDpllSolver;
+import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+
+public class InconsistencyAnalysisContextTest {
+
+	private static final double ACCURACY = 0.0001;
+
+	private AtomicInteger enumerations = new AtomicInteger();
+
+	private NaiveMusEnumerator<PlFormula> enumerator = new NaiveMusEnumerator<PlFormula>(new SimpleDpllSolver()) {
+		@Override
+		public Collection<Collection<PlFormula>> minimalInconsistentSubsets(Collection<PlFormula> formulas) {
+			enumerations.incrementAndGet();
+			return super.minimalInconsistentSubsets(formulas);
+		}
+	};
+
+	private PlBeliefSet parse(String... formulas) throws ParserException, IOException {
+		PlParser parser = new PlParser();
+		PlBeliefSet kb = new PlBeliefSet();
+		for(String f: formulas)
+			kb.add(parser.parseFormula(f));
+		return kb;
+	}
+
+	@Test
+	public void EvaluatorTest() throws ParserException, IOException {
+		SatSolver.setDefaultSolver(new SimpleDpllSolver());
+		InconsistencyMeasureEvaluator<PlFormula,PlBeliefSet> ev = new InconsistencyMeasureEvaluator<PlFormula,PlBeliefSet>();
+		ev.addKnowledgeBase(this.parse("a", "!a", "b", "!b || !a"));
+		ev.addKnowledgeBase(this.parse("a", "b", "c"));
+		ev.addKnowledgeBase(this.parse("a && !a", "b", "!b", "c"));
+		ev.addInconsistencyMeasure(new MiInconsistencyMeasure<PlFormula>(this.enumerator));
+		ev.addInconsistencyMeasure(new MicInconsistencyMeasure<PlFormula>(this.enumerator));
+		ev.addInconsistencyMeasure(new DrasticInconsistencyMeasure<PlFormula>(new SimpleDpllSolver()));
+		ev.setNumberOfThreads(2);
+		ev.setShareContext(true);
+		InconsistencyMeasureReport<PlFormula,PlBeliefSet> report = ev.compareMeasures();
+		// one enumeration per knowledge base
+		assertEquals(3, this.enumerations.get());
+		assertEquals(2, report.getIthResult("mi", 0).getValue(), ACCURACY);
+		assertEquals(0, report.getIthResult("mi", 1).getValue(), ACCURACY);
+		assertEquals(2, report.getIthResult("mi", 2).getValue(), ACCURACY);
+		assertEquals(1d/2 + 1d/3, report.getIthResult("mic", 0).getValue(), ACCURACY);
+		assertEquals(1 + 1d/2, report.getIthResult("mic", 2).getValue(), ACCURACY);
+		assertEquals(1, report.getIthResult("drastic", 0).getValue(), ACCURACY);
+		assertEquals(0, report.getIthResult("drastic", 1).getValue(), ACCURACY);
+		assertEquals(2d/6, new NormalizedMiInconsistencyMeasure<PlFormula>(this.enumerator).inconsistencyMeasure(ev.getDataset().get(2)), ACCURACY);
+	}
+
+	@Test
+	public void EvaluatorErrorTest() throws ParserException, IOException {
+		SatSolver.setDefaultSolver(new SimpleDpllSolver());
+		NaiveMusEnumerator<PlFormula> failing = new NaiveMusEnumerator<PlFormula>(new SimpleDpllSolver()) {
+			@Override
+			public Collection<Collection<PlFormula>> minimalInconsistentSubsets(Collection<PlFormula> formulas) {
+				throw new IllegalStateException("enumeration failed");
+			}
+		};
+		InconsistencyMeasureEvaluator<PlFormula,PlBeliefSet> ev = new InconsistencyMeasureEvaluator<PlFormula,PlBeliefSet>();
+		ev.addKnowledgeBase(this.parse("a", "!a"));
+		ev.addInconsistencyMeasure(new MicInconsistencyMeasure<PlFormula>(failing));
+		ev.addInconsistencyMeasure(new MiInconsistencyMeasure<PlFormula>(this.enumerator));
+		InconsistencyMeasureReport<PlFormula,PlBeliefSet> report = ev.compareMeasures();
+		assertEquals(InconsistencyMeasureResult.Status.ERROR, report.getIthResult("mic", 0).getStatus());
+		assertEquals("enumeration failed", report.getIthResult("mic", 0).getCause().getMessage());
+		assertEquals(InconsistencyMeasureResult.Status.OK, report.getIthResult("mi", 0).getStatus());
+		assertEquals(1, report.getIthResult("mi", 0).getValue(), ACCURACY);
+	}
+
+	@Test
+	public void EvaluatorInterruptTest() throws ParserException, IOException {
+		SatSolver.setDefaultSolver(new SimpleDpllSolver());
+		InconsistencyMeasureEvaluator<PlFormula,PlBeliefSet> ev = new InconsistencyMeasureEvaluator<PlFormula,PlBeliefSet>();
+		ev.addKnowledgeBase(this.parse("a", "!a"));
+		ev.addInconsistencyMeasure(new MiInconsistencyMeasure<PlFormula>(this.enumerator));
+		Thread.currentThread().interrupt();
+		try {
+			ev.compareMeasures();
+			fail("interrupted evaluation returned a report");
+		} catch (CancellationException e) {
+			// the interrupt status is kept
+			assertTrue(Thread.interrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	public void InterruptedWaitTest() throws Exception {
+		PlBeliefSet kb = this.parse("a", "!a", "b");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		NaiveMusEnumerator<PlFormula> blocking = new NaiveMusEnumerator<PlFormula>(new SimpleDpllSolver()) {
+			@Override
+			public Collection<Collection<PlFormula>> minimalInconsistentSubsets(Collection<PlFormula> formulas) {
+				started.countDown();
+				while (true) {
+					try {
+						// like most enumerators, ignore interrupts
+						release.await();
+						break;
+					} catch (InterruptedException e) {
+					}
+				}
+				return enumerator.minimalInconsistentSubsets(formulas);
+			}
+		};
+		InconsistencyAnalysisContext<PlFormula> context = new InconsistencyAnalysisContext<PlFormula>(kb);
+		Thread first = new Thread(() -> context.minimalInconsistentSubsets(kb, blocking));
+		first.start();
+		started.await();
+		// a second thread waits for the result without holding a lock and can be interrupted
+		AtomicReference<Throwable> waiting = new AtomicReference<Throwable>();
+		Thread second = new Thread(() -> {
+			try {
+				context.minimalInconsistentSubsets(kb, blocking);
+			} catch (Throwable e) {
+				waiting.set(e);
+			}
+		});
+		second.start();
+		second.interrupt();
+		second.join(10000);
+		assertTrue(waiting.get() instanceof CancellationException);
+		release.countDown();
+		first.join(10000);
+		assertEquals(1, context.minimalInconsistentSubsets(kb, blocking).size());
+		assertEquals(1, this.enumerations.get());
+	}
+
+	@Test
+	public void ShapleyTest() throws ParserException, IOException {
+		PlBeliefSet kb = this.parse("a", "!a", "b", "!b || !a", "c");
+		BeliefSetInconsistencyMeasure<PlFormula> mi = new MiInconsistencyMeasure<PlFormula>(this.enumerator);
+		ShapleyCulpabilityMeasure<PlFormula,PlBeliefSet> shapley = new ShapleyCulpabilityMeasure<PlFormula,PlBeliefSet>(mi);
+		InconsistencyAnalysisContext<PlFormula> context = new InconsistencyAnalysisContext<PlFormula>(kb);
+		double sum = 0;
+		for(PlFormula f: kb)
+			sum += shapley.culpabilityMeasure(kb, f, context);
+		// efficiency of the Shapley value
+		assertEquals(2, sum, ACCURACY);
+		assertEquals(1, this.enumerations.get());
+		assertEquals(1d/2 + 1d/3, shapley.culpabilityMeasure(kb, this.parse("a").iterator().next()), ACCURACY);
+	}
+
+	@Test
+	public void DuplicateFormulasTest() throws ParserException, IOException {
+		PlBeliefSet kb = this.parse("a", "!a", "b", "!b");
+		InconsistencyAnalysisContext<PlFormula> context = new InconsistencyAnalysisContext<PlFormula>(kb);
+		List<PlFormula> formulas = new ArrayList<PlFormula>(this.parse("a", "!a"));
+		// as many formulas as the knowledge base, but a proper subset of it
+		formulas.addAll(new ArrayList<PlFormula>(formulas));
+		Collection<Collection<PlFormula>> mis = context.minimalInconsistentSubsets(formulas, this.enumerator);
+		assertEquals(1, mis.size());
+		assertTrue(formulas.containsAll(mis.iterator().next()));
+		assertEquals(2, context.minimalInconsistentSubsets(kb, this.enumerator).size());
+		assertEquals(1, this.enumerations.get());
+	}
+}
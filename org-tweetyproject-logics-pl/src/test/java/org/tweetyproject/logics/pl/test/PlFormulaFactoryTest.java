@@ -0,0 +1,100 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.tweetyproject.logics.pl.syntax.Conjunction;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Implication;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlBeliefSet;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.PlFormulaFactory;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+public class PlFormulaFactoryTest {
+
+	private Proposition a = new Proposition("a");
+	private Proposition b = new Proposition("b");
+
+	@Test
+	public void InternTest() {
+		PlFormulaFactory factory = new PlFormulaFactory();
+		PlFormula f1 = new Implication(new Conjunction(this.a, this.b), new Negation(this.a));
+		PlFormula f2 = new Implication(new Conjunction(new Proposition("a"), new Proposition("b")), new Negation(new Proposition("a")));
+		PlFormula i1 = factory.intern(f1);
+		assertSame(i1, factory.intern(f2));
+		assertSame(i1, factory.intern(i1));
+		assertSame(factory.getProposition("a"), ((Implication) i1).getSecondFormula().getAtoms().iterator().next());
+		assertTrue(i1.isInterned());
+		assertFalse(f1.isInterned());
+		// interned formulas are equal to their originals (in both directions) and have the same hash code
+		assertEquals(f1, i1);
+		assertEquals(i1, f1);
+		assertEquals(f1.hashCode(), i1.hashCode());
+		// a, b, a&&b, !a and the implication
+		assertEquals(5, factory.size());
+		assertFalse(i1.equals(factory.intern(new Implication(this.a, this.b))));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void ImmutableTest() {
+		PlFormulaFactory factory = new PlFormulaFactory();
+		Disjunction d = (Disjunction) factory.intern(new Disjunction(this.a, this.b));
+		// copies are modifiable again
+		Disjunction copy = (Disjunction) d.clone();
+		copy.add(new Negation(this.a));
+		assertEquals(3, copy.size());
+		d.add(new Negation(this.a));
+	}
+
+	@Test
+	public void BeliefSetTest() {
+		PlFormulaFactory factory = new PlFormulaFactory();
+		PlBeliefSet bs = new PlBeliefSet(factory);
+		bs.add(new Disjunction(this.a, new Negation(this.b)));
+		bs.add(new Disjunction(new Proposition("a"), new Negation(new Proposition("b"))));
+		assertEquals(1, bs.size());
+		assertTrue(bs.iterator().next().isInterned());
+		assertTrue(bs.contains(new Disjunction(this.a, new Negation(this.b))));
+		assertTrue(bs.contains(factory.intern(new Disjunction(this.a, new Negation(this.b)))));
+		assertFalse(bs.contains(new Disjunction(this.b, new Negation(this.a))));
+	}
+
+	@Test
+	public void IdTest() {
+		PlFormulaFactory factory = new PlFormulaFactory();
+		factory.intern(new Conjunction(this.b, new Negation(this.a)));
+		factory.getProposition("c");
+		assertEquals(3, factory.getNumberOfPropositions());
+		assertEquals(0, factory.getId(this.b));
+		assertEquals(1, factory.getId(new Proposition("a")));
+		assertSame(factory.getProposition("c"), factory.getProposition(2));
+		assertEquals(-1, factory.getId(new Proposition("d")));
+		// unknown propositions are not interned by getId()
+		assertEquals(3, factory.getNumberOfPropositions());
+		assertEquals(1, factory.getId(factory.getProposition(1).clone()));
+	}
+}
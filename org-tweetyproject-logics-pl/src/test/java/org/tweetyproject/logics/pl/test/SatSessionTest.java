@@ -0,0 +1,83 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.logics.pl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.tweetyproject.logics.pl.sat.Sat4jSolver;
+import org.tweetyproject.logics.pl.sat.SatSession;
+import org.tweetyproject.logics.pl.sat.SatSolver;
+import org.tweetyproject.logics.pl.sat.SimpleDpllSolver;
+import org.tweetyproject.logics.pl.semantics.PossibleWorld;
+import org.tweetyproject.logics.pl.syntax.Disjunction;
+import org.tweetyproject.logics.pl.syntax.Negation;
+import org.tweetyproject.logics.pl.syntax.PlFormula;
+import org.tweetyproject.logics.pl.syntax.Proposition;
+
+public class SatSessionTest {
+
+	private Proposition a = new Proposition("a");
+	private Proposition b = new Proposition("b");
+
+	private int countModels(SatSolver solver) {
+		Set<PossibleWorld> models = new HashSet<>();
+		try(SatSession session = solver.openSession()){
+			session.add(this.a.combineWithOr(this.b));
+			PossibleWorld w;
+			while((w = session.getWitness()) != null) {
+				models.add(w);
+				Disjunction block = new Disjunction();
+				for(Proposition p: new Proposition[] {this.a, this.b})
+					block.add(w.contains(p) ? (PlFormula) new Negation(p) : p);
+				session.add(block);
+			}
+		}
+		return models.size();
+	}
+
+	@Test
+	public void EnumerationTest() {
+		assertEquals(3, this.countModels(new Sat4jSolver()));
+		assertEquals(3, this.countModels(new SimpleDpllSolver()));
+	}
+
+	@Test
+	public void AssumptionTest() {
+		try(SatSession session = new Sat4jSolver().openSession()){
+			session.add(this.a.combineWithOr(this.b));
+			session.add(new Negation(this.a).combineWithOr(new Negation(this.b)));
+			assertTrue(session.isSatisfiable(Collections.singleton(this.a)));
+			PossibleWorld w = session.getWitness(Collections.singleton(new Negation(this.a)));
+			assertTrue(w.contains(this.b));
+			session.add(new Negation(this.b));
+			assertFalse(session.isSatisfiable(Collections.singleton(new Negation(this.a))));
+			assertNull(session.getWitness(Collections.singleton(new Negation(this.a))));
+			assertTrue(session.isSatisfiable());
+		}
+	}
+}
@@ -0,0 +1,511 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.lp.asp.reasoner;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import org.tweetyproject.commons.InferenceMode;
+import org.tweetyproject.commons.util.Shell;
+import org.tweetyproject.lp.asp.parser.ASPParser;
+import org.tweetyproject.lp.asp.parser.ParseException;
+import org.tweetyproject.lp.asp.semantics.AnswerSet;
+import org.tweetyproject.lp.asp.syntax.ASPLiteral;
+import org.tweetyproject.lp.asp.syntax.Program;
+import org.tweetyproject.lp.asp.writer.ClingoWriter;
+
+/**
+ * Invokes Clingo (Part of the <a href="https://potassco.org/">Potassco
+ * project</a>) like {@link ClingoSolver}, but passes programs to Clingo via its
+ * standard input instead of temporary files and parses the answer sets while
+ * Clingo is still running, so callers can stop after the first answer sets
+ * (see {@link #solve(Program)}). As a Clingo process solves a single program,
+ * this solver keeps a pool of processes that are started in advance and wait for
+ * their program, i.e., the startup of Clingo overlaps with the preceding calls.<br>
+ * <br>
+ * All pooled processes share the same command line options, so changing them
+ * discards the idle processes. Instances should be closed after use in order to
+ * terminate the idle processes.
+ *
+ * @author The TweetyProject Team
+ */
+public class PooledClingoSolver extends ASPSolver implements AutoCloseable {
+
+	/**
+	 * String representation of Clingo binary path, meaning the location of the
+	 * clingo executable on the hard drive.
+	 */
+	private String pathToSolver;
+
+	/** Additional command line options for Clingo. */
+	private List<String> options = new ArrayList<>();
+
+	/**
+	 * If activated ({@link #toggleOutputWhitelist(boolean)}), output answer sets
+	 * will only contain atoms over predicates in the program's predicate whitelist.
+	 */
+	private boolean usePredicateWhitelist = false;
+
+	/** The number of processes that are kept waiting for a program. */
+	private int poolSize;
+
+	/** The processes waiting for a program. */
+	private Deque<Process> idle = new ArrayDeque<>();
+
+	/** Whether this solver has been closed. */
+	private boolean closed = false;
+
+	/**
+	 * Constructs a new instance pointing to a specific Clingo solver that keeps
+	 * the given number of processes waiting for programs.
+	 *
+	 * @param pathToClingo binary location of Clingo on the hard drive. The given location has to contain
+	 * a binary called "clingo". Do not include the binary itself in the path.
+	 * @param poolSize the number of processes that are started in advance.
+	 */
+	public PooledClingoSolver(String pathToClingo, int poolSize) {
+		this.pathToSolver = pathToClingo;
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * Constructs a new instance pointing to a specific Clingo solver that keeps
+	 * one process waiting for programs.
+	 *
+	 * @param pathToClingo binary location of Clingo on the hard drive. The given location has to contain
+	 * a binary called "clingo". Do not include the binary itself in the path.
+	 */
+	public PooledClingoSolver(String pathToClingo) {
+		this(pathToClingo, 1);
+	}
+
+	/**
+	 * Starts solving the given program. The answer sets can be retrieved from the
+	 * returned stream as soon as Clingo has found them; closing the stream terminates
+	 * the Clingo process.
+	 *
+	 * @param p a program
+	 * @return the stream of the answer sets of p.
+	 * @throws SolverException if Clingo could not be started.
+	 */
+	public AnswerSetStream solve(Program p) throws SolverException {
+		return this.solve(writer -> new ClingoWriter(writer, this.usePredicateWhitelist).printProgram(p));
+	}
+
+	/**
+	 * Starts solving the given program in the Clingo input language. The answer sets
+	 * can be retrieved from the returned stream as soon as Clingo has found them;
+	 * closing the stream terminates the Clingo process.
+	 *
+	 * @param p a program in the Clingo input language
+	 * @return the stream of the answer sets of p.
+	 * @throws SolverException if Clingo could not be started.
+	 */
+	public AnswerSetStream solve(String p) throws SolverException {
+		return this.solve(writer -> writer.write(p));
+	}
+
+	/**
+	 * Writes a program to some writer.
+	 */
+	private interface ProgramPrinter {
+		/**
+		 * Writes the program to the given writer.
+		 * @param writer some writer
+		 * @throws IOException if an IO issue occurs.
+		 */
+		void print(Writer writer) throws IOException;
+	}
+
+	/**
+	 * Passes the program of the given printer to a waiting Clingo process.
+	 * @param printer a printer for some program
+	 * @return the stream of the answer sets of the program.
+	 * @throws SolverException if Clingo could not be started.
+	 */
+	private AnswerSetStream solve(ProgramPrinter printer) throws SolverException {
+		Process process;
+		try {
+			process = this.acquire();
+		} catch (IOException e) {
+			throw new SolverException("Clingo could not be started: " + e.getMessage(), SolverException.SE_CANNOT_FIND_SOLVER);
+		}
+		try (Writer writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8)) {
+			printer.print(writer);
+		} catch (IOException e) {
+			// Clingo terminated before reading the whole program, its output tells why
+		}
+		return new AnswerSetStream(process);
+	}
+
+	/**
+	 * Takes a waiting process from the pool (or starts a new one if there is none) and
+	 * starts its replacements, so they can initialize while the current call is solved.
+	 * @return a process waiting for a program.
+	 * @throws IOException if a process could not be started.
+	 */
+	private synchronized Process acquire() throws IOException {
+		if (this.closed)
+			throw new IllegalStateException("The solver has already been closed.");
+		Process process = null;
+		while (process == null && !this.idle.isEmpty()) {
+			Process p = this.idle.poll();
+			if (p.isAlive())
+				process = p;
+		}
+		if (process == null)
+			process = this.start();
+		while (this.idle.size() < this.poolSize)
+			this.idle.add(this.start());
+		return process;
+	}
+
+	/**
+	 * Starts a Clingo process that reads its program from the standard input and
+	 * computes all answer sets.
+	 * @return a new process.
+	 * @throws IOException if the process could not be started.
+	 */
+	private Process start() throws IOException {
+		List<String> cmd = new ArrayList<>();
+		cmd.add(this.pathToSolver + "/clingo");
+		cmd.add("-n");
+		cmd.add("0");
+		cmd.addAll(this.options);
+		return new ProcessBuilder(cmd).redirectErrorStream(true).start();
+	}
+
+	/**
+	 * Terminates the idle processes.
+	 */
+	private synchronized void discardIdleProcesses() {
+		for (Process p : this.idle)
+			p.destroy();
+		this.idle.clear();
+	}
+
+	/**
+	 * The answer sets of a program as computed by a running Clingo process. The
+	 * output of Clingo is parsed on demand, i.e., only as far as needed for the
+	 * answer sets retrieved so far.
+	 */
+	public class AnswerSetStream implements AutoCloseable {
+
+		/** The Clingo process. */
+		private Process process;
+		/** The output of the process. */
+		private BufferedReader reader;
+		/** The output read so far. */
+		private StringBuilder output = new StringBuilder();
+		/** The result line of Clingo (e.g. "SATISFIABLE"), or null if it has not been read yet. */
+		private String result = null;
+		/** The optimization values of the latest answer set, if any. */
+		private String optimization = null;
+
+		/**
+		 * Creates a new stream for the given process.
+		 * @param process a Clingo process that has received its program
+		 */
+		private AnswerSetStream(Process process) {
+			this.process = process;
+			this.reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * Returns the next answer set, waiting for Clingo to find it if necessary.
+		 * @return the next answer set, or null if there are no more answer sets.
+		 * @throws SolverException if Clingo reported an error or its output could not be interpreted.
+		 */
+		public AnswerSet next() throws SolverException {
+			if (this.result != null)
+				return null;
+			try {
+				String line;
+				while ((line = this.readLine()) != null) {
+					if (line.startsWith("Answer:")) {
+						String answerSet = this.readLine();
+						if (answerSet == null)
+							break;
+						return this.parse(answerSet);
+					}
+					if (line.startsWith("Optimization:"))
+						this.optimization = line.substring("Optimization:".length()).strip();
+					else if (line.equals("SATISFIABLE") || line.equals("UNSATISFIABLE") || line.equals("OPTIMUM FOUND")
+							|| line.equals("UNKNOWN")) {
+						// the remaining output only contains statistics
+						this.result = line;
+						this.close();
+						return null;
+					}
+				}
+			} catch (IOException e) {
+				this.close();
+				throw new SolverException("Reading the output of Clingo failed: " + e.getMessage(), SolverException.SE_IO_FAILED);
+			}
+			this.close();
+			int error_index = this.output.indexOf("error");
+			if (error_index != -1)
+				throw new SolverException("Clingo error: " + this.output.substring(error_index), SolverException.SE_ERROR);
+			throw new SolverException("Clingo returned no output that can be interpreted: " + this.output, SolverException.SE_ERROR);
+		}
+
+		/**
+		 * Reads the next line of the output of Clingo.
+		 * @return the next line, or null if the output ended.
+		 * @throws IOException if reading failed.
+		 */
+		private String readLine() throws IOException {
+			String line = this.reader.readLine();
+			if (line != null)
+				this.output.append(line).append("\n");
+			return line;
+		}
+
+		/**
+		 * Parses the given answer set.
+		 * @param answerSet an answer set in the output format of Clingo
+		 * @return the parsed answer set.
+		 * @throws SolverException if the answer set could not be parsed.
+		 */
+		private AnswerSet parse(String answerSet) throws SolverException {
+			// the parser of answer sets is shared by all threads
+			synchronized (ASPParser.class) {
+				try {
+					return ASPParser.parseAnswerSet(answerSet);
+				} catch (ParseException e) {
+					throw new SolverException("Clingo returned an answer set that cannot be parsed: " + answerSet, SolverException.SE_ERROR);
+				}
+			}
+		}
+
+		/**
+		 * Checks whether Clingo has proven the latest answer set to be optimal. This is
+		 * only known after the last answer set has been retrieved.
+		 * @return "true" if Clingo reported "OPTIMUM FOUND".
+		 */
+		public boolean isOptimal() {
+			return "OPTIMUM FOUND".equals(this.result);
+		}
+
+		/**
+		 * Returns the optimization values reported by Clingo so far, i.e., those of the
+		 * best answer set once all answer sets have been retrieved.
+		 * @return the optimization values separated by spaces, or null if none have been
+		 * reported (yet).
+		 */
+		public String getOptimization() {
+			return this.optimization;
+		}
+
+		/**
+		 * Terminates the Clingo process if it is still running.
+		 */
+		@Override
+		public void close() {
+			this.process.destroy();
+			try {
+				this.reader.close();
+			} catch (IOException e) {
+				// the process has been terminated anyway
+			}
+			PooledClingoSolver.this.outputData = this.output.toString();
+		}
+	}
+
+	/**
+	 * Returns the first answer sets of the given stream.
+	 * @param stream some stream of answer sets
+	 * @param max the maximum number of answer sets, 0 for all
+	 * @return the first answer sets.
+	 * @throws SolverException if the stream failed.
+	 */
+	private List<AnswerSet> getModels(AnswerSetStream stream, int max) throws SolverException {
+		List<AnswerSet> result = new ArrayList<AnswerSet>();
+		try (stream) {
+			AnswerSet a;
+			while ((max <= 0 || result.size() < max) && (a = stream.next()) != null)
+				result.add(a);
+		}
+		return result;
+	}
+
+	@Override
+	public AnswerSet getModel(Program p) {
+		try {
+			List<AnswerSet> models = this.getModels(this.solve(p), 1);
+			if (!models.isEmpty())
+				return models.get(0);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the first answer sets (at most {@link #getMaxNumOfModels()}, in the order
+	 * in which Clingo found them) of the given program.
+	 */
+	@Override
+	public List<AnswerSet> getModels(Program p) {
+		try {
+			return this.getModels(this.solve(p), this.maxNumOfModels);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return new ArrayList<AnswerSet>();
+	}
+
+	@Override
+	public List<AnswerSet> getModels(String s) {
+		try {
+			return this.getModels(this.solve(s), this.maxNumOfModels);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return new ArrayList<AnswerSet>();
+	}
+
+	@Override
+	public List<AnswerSet> getModels(File file) {
+		try {
+			return this.getModels(this.solve(Files.readString(file.toPath())), this.maxNumOfModels);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return new ArrayList<AnswerSet>();
+	}
+
+	/**
+	 * Computes the optimum of a program that contains optimization statements, if there is
+	 * one.
+	 *
+	 * @param p ASP program
+	 * @return list of calculated optima
+	 */
+	public List<Integer> getOptimum(Program p) {
+		List<Integer> optima = new ArrayList<Integer>();
+		try (AnswerSetStream stream = this.solve(p)) {
+			while (stream.next() != null)
+				;
+			if (!stream.isOptimal() || stream.getOptimization() == null)
+				throw new SolverException("Clingo found no optimum.", SolverException.SE_ERROR);
+			for (String oi : stream.getOptimization().split("\\s+"))
+				optima.add(Integer.valueOf(oi));
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return optima;
+	}
+
+	@Override
+	public Boolean query(Program beliefbase, ASPLiteral formula) {
+		return this.query(beliefbase, formula, InferenceMode.SKEPTICAL);
+	}
+
+	/**
+	 * Evaluates a query on the given belief base using the specified inference mode.
+	 * Clingo is stopped as soon as the answer is known, i.e., at the first answer set
+	 * without the formula (skeptical) or with the formula (credulous).
+	 *
+	 * @param beliefbase The program representing the belief base to query.
+	 * @param formula The formula (literal) to be checked within the answer sets.
+	 * @param inferenceMode The mode of inference, either skeptical or credulous.
+	 * @return {@code true} if the formula is entailed by the belief base under the
+	 *         specified inference mode, {@code false} otherwise.
+	 */
+	public Boolean query(Program beliefbase, ASPLiteral formula, InferenceMode inferenceMode) {
+		boolean skeptical = inferenceMode.equals(InferenceMode.SKEPTICAL);
+		try (AnswerSetStream stream = this.solve(beliefbase)) {
+			AnswerSet a;
+			while ((a = stream.next()) != null)
+				if (a.contains(formula) != skeptical)
+					return !skeptical;
+		} catch (SolverException e) {
+			e.printStackTrace();
+		}
+		return skeptical;
+	}
+
+	/**
+	 * Activates or deactivates the option to use a whitelist of predicates. If
+	 * activated, answer sets will only contain atoms over predicates that are part
+	 * of the whitelist. This corresponds to the #show statement of the clingo input
+	 * language.
+	 *
+	 * @param b whether to use a whitelist of predicate
+	 */
+	public void toggleOutputWhitelist(boolean b) {
+		this.usePredicateWhitelist = b;
+	}
+
+	/**
+	 * Set the command line options for Clingo, except for the number of models
+	 * (Clingo is always asked for all models, which are read only as far as needed).
+	 * The idle processes are discarded.
+	 *
+	 * @param options a string of options in the correct
+	 * format, e.g. in the form "--opt" and separated
+	 * by spaces
+	 */
+	public synchronized void setOptions(String options) {
+		this.discardIdleProcesses();
+		this.options = options.isBlank() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(options.strip().split("\\s+")));
+	}
+
+	/**
+	 * Sets the location of the Clingo solver on the hard drive. The idle processes
+	 * are discarded.
+	 *
+	 * @param path path to Clingo
+	 */
+	public synchronized void setPathToClingo(String path) {
+		this.discardIdleProcesses();
+		this.pathToSolver = path;
+	}
+
+	/**
+	 * Terminates the idle processes; afterwards, this solver cannot be used anymore.
+	 */
+	@Override
+	public synchronized void close() {
+		this.discardIdleProcesses();
+		this.closed = true;
+	}
+
+	@Override
+	public boolean isInstalled() {
+		try {
+			Shell.getNativeShell().run(this.pathToSolver + "/clingo --version");
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+}
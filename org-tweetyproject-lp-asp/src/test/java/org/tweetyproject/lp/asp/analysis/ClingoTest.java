@@ -26,6 +26,7 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.StringReader;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.BeforeClass;
@@ -35,6 +36,7 @@ import org.junit.Test;
 import org.tweetyproject.lp.asp.parser.ASPParser;
 import org.tweetyproject.lp.asp.parser.InstantiateVisitor;
 import org.tweetyproject.lp.asp.reasoner.ClingoSolver;
+import org.tweetyproject.lp.asp.reasoner.PooledClingoSolver;
 import org.tweetyproject.lp.asp.semantics.AnswerSet;
 import org.tweetyproject.lp.asp.syntax.Program;
 
@@ -134,5 +136,24 @@ public class ClingoTest {
 		assertTrue(asl.size() == 1);
 		assertTrue(asl.get(0).size() == 4);
 	}
+	
+	/**
+	 * pooled solver test
+	 * @throws Exception any exception
+	 */
+	@Test
+	public void PooledSolverTest() throws Exception {
+		FileInputStream fistr = new FileInputStream(new File("src/main/resources/ex2.asp"));
+		parser.ReInit(fistr);
+
+		Program p = visitor.visit(parser.Program(), null);
+		try (PooledClingoSolver pooled = new PooledClingoSolver("/your/path/to/clingo", 2)) {
+			for (int i = 0; i < 3; i++)
+				assertTrue(new HashSet<>(pooled.getModels(p)).equals(new HashSet<>(solver.getModels(p))));
+			try (PooledClingoSolver.AnswerSetStream stream = pooled.solve(p)) {
+				assertTrue(stream.next().size() == 5);
+			}
+		}
+	}
 
 }
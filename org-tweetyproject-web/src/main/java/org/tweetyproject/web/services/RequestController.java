@@ -29,9 +29,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -41,6 +39,7 @@ import org.json.JSONException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -130,6 +129,7 @@ import org.tweetyproject.arg.dung.semantics.Extension;
 
 import javafx.util.Pair;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.util.logging.Level;
 
@@ -160,20 +160,72 @@ public class RequestController {
 		private final ObjectMapper objectMapper;
 		/** Service for causal reasoning operations */
 		private final CausalReasonerService causalReasonerService;
+		/** Shared worker pool running the computations of all endpoints */
+		private final ServiceExecutor serviceExecutor;
+		/** Cache for the answers of the Dung, ADF, and ranking endpoints */
+		private final ResultCache resultCache;
 
 	/**
 	 * Constructs a RequestController with the required services
 	 * @param sequenceExplanationService the sequence explanation service
 	 * @param objectMapper			     the object mapper
 	 * @param causalReasonerService		 the causal reasoner service
+	 * @param serviceExecutor			 the worker pool for computations
+	 * @param resultCache				 the cache for answers
 	 */
 	@Autowired
 	public RequestController(SequenceExplanationService sequenceExplanationService,
 	                         ObjectMapper objectMapper,
-	                         CausalReasonerService causalReasonerService) {
+	                         CausalReasonerService causalReasonerService,
+	                         ServiceExecutor serviceExecutor,
+	                         ResultCache resultCache) {
 		this.sequenceExplanationService = sequenceExplanationService;
 		this.objectMapper = objectMapper;
 		this.causalReasonerService = causalReasonerService;
+		this.serviceExecutor = serviceExecutor;
+		this.resultCache = resultCache;
+	}
+
+	/**
+	 * Handles HTTP GET requests at the endpoint "/service_metrics" and returns
+	 * the state of the worker pool as well as queue and latency statistics
+	 * for each endpoint and the statistics of the result cache.
+	 *
+	 * @return a map describing the worker pool, the endpoint statistics, and the cache
+	 */
+	@GetMapping(value = "/service_metrics", produces = "application/json")
+	@ResponseBody
+	public Map<String, Object> getServiceMetrics() {
+		Map<String, Object> status = this.serviceExecutor.getStatus();
+		status.put("cache", this.resultCache.getStatus());
+		return status;
+	}
+
+	/**
+	 * Reports the outcome of a cache lookup in the headers "X-Cache" (HIT or MISS),
+	 * "X-Cache-Hits" and "X-Cache-Misses" of the given response and in the log.
+	 * @param response the HTTP response
+	 * @param endpoint the endpoint of the request
+	 * @param hit whether the answer has been taken from the cache
+	 */
+	private void reportCacheLookup(HttpServletResponse response, String endpoint, boolean hit) {
+		long hits = this.resultCache.getHits();
+		long misses = this.resultCache.getMisses();
+		response.setHeader("X-Cache", hit ? "HIT" : "MISS");
+		response.setHeader("X-Cache-Hits", Long.toString(hits));
+		response.setHeader("X-Cache-Misses", Long.toString(misses));
+		LoggerUtil.logger.info(String.format("Cache %s for %s (hits: %s, misses: %s)", hit ? "hit" : "miss", endpoint, hits, misses));
+	}
+
+	/**
+	 * Creates the exception reported when the worker pool cannot accept
+	 * further requests.
+	 * @return an exception resulting in HTTP status 429 (too many requests)
+	 */
+	private ResponseStatusException overloaded() {
+		LoggerUtil.logger.warning("Request rejected: all workers are busy and the queue is full.");
+		return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+				"The server is busy. Please try again later.");
 	}
 
 
@@ -266,7 +318,6 @@ public class RequestController {
 
 			}
 
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			AbaReasonerResponse reasonerResponse = new AbaReasonerResponse(AbaReasonerPost.getCmd(),
 					AbaReasonerPost.getEmail(), AbaReasonerPost.getKb(), AbaReasonerPost.getKb_format(),
 					AbaReasonerPost.getFol_signature(), AbaReasonerPost.getQuery_assumption(),
@@ -279,18 +330,14 @@ public class RequestController {
 				LoggerUtil.logger.info(String.format("Run command \"%s\" with timeout: %s %s", AbaReasonerPost.getCmd(),user_timeout, AbaReasonerPost.getUnit_timeout()));
 				if (AbaReasonerPost.getCmd().equals("get_models") || AbaReasonerPost.getCmd().equals("get_model")) {
 
-					Future<Collection<AbaExtension<Formula>>> future = executor.submit(callee);
-					Pair<Collection<AbaExtension<Formula>>, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
+					Pair<Collection<AbaExtension<Formula>>, Long> result = serviceExecutor.run("/aba", callee, user_timeout, unit);
 					LoggerUtil.logger.info(String.format("Execution of command \"%s\" finished after %s %s ", AbaReasonerPost.getCmd(),result.getValue(),AbaReasonerPost.getUnit_timeout()));
 						reasonerResponse.setTime(result.getValue());
 						reasonerResponse.setAnswer(result.getKey().toString());
 						reasonerResponse.setStatus("SUCCESS");
 					}
 					else if (AbaReasonerPost.getCmd().equals("query")){
-					Future<Boolean> future = executor.submit(callee);
-					Pair<Boolean, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
+					Pair<Boolean, Long> result = serviceExecutor.run("/aba", callee, user_timeout, unit);
 
 					LoggerUtil.logger.info(String.format("Execution of command \"%s\" finished after %s %s ", AbaReasonerPost.getCmd(),result.getValue(),AbaReasonerPost.getUnit_timeout()));
 
@@ -307,20 +354,18 @@ public class RequestController {
 					reasonerResponse.setStatus("ERROR");
 				}
 
-				executor.shutdownNow();
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				LoggerUtil.logger.info(String.format("Execution of command \"%s\" reached timeout of %s %s and was aborted.", AbaReasonerPost.getCmd(),AbaReasonerPost.getTimeout(),AbaReasonerPost.getUnit_timeout()));
 				reasonerResponse.setTime(AbaReasonerPost.getTimeout());
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 			} catch (Exception e) {
 				LoggerUtil.logger.log(Level.SEVERE,(String.format("Error while running command \"%s\": %s",AbaReasonerPost.getCmd(), e.getClass().getSimpleName())));
 				reasonerResponse.setTime(0.0);
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("Error");
-
-				executor.shutdownNow();
 			}
 			return reasonerResponse;
 
@@ -346,23 +391,33 @@ public class RequestController {
  	* <p>If the command is not recognized or not applicable, the method returns a default DungReasonerResponse.</p>
  	*
  	* @param dungReasonerPost The DungReasonerPost object representing the request payload.
+ 	* @param response The HTTP response, used for reporting cache hits.
  	* @return A Response object representing the response payload.
  	*/
 	@PostMapping(value = "/dung", produces = "application/json", consumes = "application/json")
 	@ResponseBody
 	public Response handleRequest(
-			@RequestBody DungReasonerPost dungReasonerPost) {
+			@RequestBody DungReasonerPost dungReasonerPost, HttpServletResponse response) {
 		if (dungReasonerPost.getCmd().equals("info"))
 			return (Response) getInfo(dungReasonerPost);
 
 		if (dungReasonerPost.getCmd().equals("get_models") || dungReasonerPost.getCmd().equals("get_model") || dungReasonerPost.getCmd().equals("get_credulous") || dungReasonerPost.getCmd().equals("get_skeptical")) {
 			DungTheory dungTheory = AbstractExtensionReasonerFactory.getDungTheory(dungReasonerPost.getNr_of_arguments(),
 					dungReasonerPost.getAttacks());
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			DungReasonerResponse reasonerResponse = new DungReasonerResponse(dungReasonerPost.getCmd(),
 					dungReasonerPost.getEmail(), dungReasonerPost.getNr_of_arguments(), dungReasonerPost.getAttacks(),
 					dungReasonerPost.getSemantics(), dungReasonerPost.getSolver(), null, 0,
 					dungReasonerPost.getUnit_timeout(), "ERRORs");
+			String key = ResultCache.getKey("/dung", dungReasonerPost.getCmd(), dungReasonerPost.getSemantics(),
+					dungReasonerPost.getSolver(), dungReasonerPost.getUnit_timeout(), ResultCache.canonical(dungTheory));
+			ResultCache.CachedResult cached = this.resultCache.get(key);
+			this.reportCacheLookup(response, "/dung", cached != null);
+			if (cached != null) {
+				reasonerResponse.setTime(cached.getTime());
+				reasonerResponse.setAnswer(cached.getAnswer());
+				reasonerResponse.setStatus("SUCCESS");
+				return reasonerResponse;
+			}
 			TimeUnit unit = Utils.getTimeoutUnit(dungReasonerPost.getUnit_timeout());
 			AbstractExtensionReasoner reasoner = AbstractExtensionReasonerFactory.getReasoner(
 					Semantics.getSemantics(dungReasonerPost.getSemantics()));
@@ -371,24 +426,21 @@ public class RequestController {
 			int user_timeout = Utils.checkUserTimeout(dungReasonerPost.getTimeout(), SERVICES_TIMEOUT_DUNG, unit);
 			try {
 				// handle timeout
-				Future<Collection<Extension<DungTheory>>> future = executor.submit(callee);
-				Pair<Collection<Extension<DungTheory>>, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
-				executor.shutdownNow();
+				Pair<Collection<Extension<DungTheory>>, Long> result = serviceExecutor.run("/dung", callee, user_timeout, unit);
 				reasonerResponse.setTime(result.getValue());
 				reasonerResponse.setAnswer(result.getKey().toString());
 				reasonerResponse.setStatus("SUCCESS");
+				this.resultCache.put(key, reasonerResponse.getAnswer(), reasonerResponse.getTime());
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				reasonerResponse.setTime(dungReasonerPost.getTimeout());
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 			} catch (Exception e) {
 				reasonerResponse.setTime(0.0);
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("Error");
-
-				executor.shutdownNow();
 			}
 			return reasonerResponse;
 		} else {
@@ -428,7 +480,6 @@ public class RequestController {
 		if (iafReasonerPost.getCmd().equals("get_models_pos") || iafReasonerPost.getCmd().equals("get_credulous_pos") || iafReasonerPost.getCmd().equals("get_skeptical_pos") || iafReasonerPost.getCmd().equals("get_models_nec") || iafReasonerPost.getCmd().equals("get_credulous_nec") || iafReasonerPost.getCmd().equals("get_skeptical_nec")) {
 			IncompleteTheory incompleteTheory = IafReasonerFactory.getIncompleteTheory(iafReasonerPost.getNr_of_arguments(),
 					iafReasonerPost.getUncertainArguments(), iafReasonerPost.getDefiniteAttacks(), iafReasonerPost.getUncertainAttacks());
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			IafReasonerResponse reasonerResponse = new IafReasonerResponse(iafReasonerPost.getCmd(),
 					iafReasonerPost.getEmail(), iafReasonerPost.getNr_of_arguments(), iafReasonerPost.getUncertainArguments(),
 					iafReasonerPost.getDefiniteAttacks(), iafReasonerPost.getUncertainAttacks(),
@@ -442,24 +493,20 @@ public class RequestController {
 			int user_timeout = Utils.checkUserTimeout(iafReasonerPost.getTimeout(), SERVICES_TIMEOUT_DUNG, unit);
 			try {
 				// handle timeout
-				Future<Collection<Extension<IncompleteTheory>>> future = executor.submit(callee);
-				Pair<Collection<Extension<IncompleteTheory>>, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
-				executor.shutdownNow();
+				Pair<Collection<Extension<IncompleteTheory>>, Long> result = serviceExecutor.run("/iaf", callee, user_timeout, unit);
 				reasonerResponse.setTime(result.getValue());
 				reasonerResponse.setAnswer(result.getKey().toString());
 				reasonerResponse.setStatus("SUCCESS");
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				reasonerResponse.setTime(iafReasonerPost.getTimeout());
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 			} catch (Exception e) {
 				reasonerResponse.setTime(0.0);
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("Error");
-
-				executor.shutdownNow();
 			}
 			return reasonerResponse;
 		} else {
@@ -514,23 +561,33 @@ public class RequestController {
 	 * <p>If the command is not recognized or not applicable, the method returns a default DungReasonerResponse.</p>
 	 *
 	 * @param rankingReasonerPost The DungReasonerPost object representing the request payload.
+	 * @param response The HTTP response, used for reporting cache hits.
 	 * @return A Response object representing the response payload.
 	 */
 	@PostMapping(value = "/rankings", produces = "application/json", consumes = "application/json")
 	@ResponseBody
 	public Response handleRequest(
-			@RequestBody RankingReasonerPost rankingReasonerPost) {
+			@RequestBody RankingReasonerPost rankingReasonerPost, HttpServletResponse response) {
 		if (rankingReasonerPost.getCmd().equals("info"))
 			return (Response) getRankingInfo(rankingReasonerPost.getEmail());
 
 		if (rankingReasonerPost.getCmd().equals("get_model")) {
 			DungTheory dungTheory = AbstractExtensionReasonerFactory.getDungTheory(rankingReasonerPost.getNr_of_arguments(),
 					rankingReasonerPost.getAttacks());
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			RankingReasonerResponse reasonerResponse = new RankingReasonerResponse(rankingReasonerPost.getCmd(),
 					rankingReasonerPost.getEmail(), rankingReasonerPost.getNr_of_arguments(), rankingReasonerPost.getAttacks(),
 					rankingReasonerPost.getSemantics(), AbstractRankingReasonerFactory.getRankingType(rankingReasonerPost.getSemantics()), rankingReasonerPost.getSolver(), null, 0,
 					rankingReasonerPost.getUnit_timeout(), "ERRORs");
+			String key = ResultCache.getKey("/rankings", rankingReasonerPost.getCmd(), rankingReasonerPost.getSemantics(),
+					rankingReasonerPost.getSolver(), rankingReasonerPost.getUnit_timeout(), ResultCache.canonical(dungTheory));
+			ResultCache.CachedResult cached = this.resultCache.get(key);
+			this.reportCacheLookup(response, "/rankings", cached != null);
+			if (cached != null) {
+				reasonerResponse.setTime(cached.getTime());
+				reasonerResponse.setAnswer(cached.getAnswer());
+				reasonerResponse.setStatus("SUCCESS");
+				return reasonerResponse;
+			}
 			TimeUnit unit = Utils.getTimeoutUnit(rankingReasonerPost.getUnit_timeout());
 			AbstractRankingReasoner<?> reasoner = AbstractRankingReasonerFactory.getReasoner(
 					RankingSemantics.getSemantics(rankingReasonerPost.getSemantics()));
@@ -539,24 +596,21 @@ public class RequestController {
 			int user_timeout = Utils.checkUserTimeout(rankingReasonerPost.getTimeout(), SERVICES_TIMEOUT_DUNG, unit);
 			try {
 				// handle timeout
-				Future<GeneralComparator<Argument,DungTheory>> future = executor.submit(callee);
-				Pair<GeneralComparator<Argument, DungTheory>, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
-				executor.shutdownNow();
+				Pair<GeneralComparator<Argument, DungTheory>, Long> result = serviceExecutor.run("/rankings", callee, user_timeout, unit);
 				reasonerResponse.setTime(result.getValue());
 				reasonerResponse.setAnswer(result.getKey().toString());
 				reasonerResponse.setStatus("SUCCESS");
+				this.resultCache.put(key, reasonerResponse.getAnswer(), reasonerResponse.getTime());
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				reasonerResponse.setTime(rankingReasonerPost.getTimeout());
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 			} catch (Exception e) {
 				reasonerResponse.setTime(0.0);
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("Error");
-
-				executor.shutdownNow();
 			}
 			return reasonerResponse;
 		} else {
@@ -611,21 +665,33 @@ public class RequestController {
 	 * <p>If the command is not recognized or not applicable, the method returns a default DungReasonerResponse.</p>
 	 *
 	 * @param adfReasonerPost The DungReasonerPost object representing the request payload.
+	 * @param response The HTTP response, used for reporting cache hits.
 	 * @return A Response object representing the response payload.
 	 */
 	@PostMapping(value = "/adf", produces = "application/json", consumes = "application/json")
 	@ResponseBody
 	public Response handleRequest(
-			@RequestBody AdfReasonerPost adfReasonerPost) {
+			@RequestBody AdfReasonerPost adfReasonerPost, HttpServletResponse response) {
 		if (adfReasonerPost.getCmd().equals("info"))
 			return (Response) getAdfInfo(adfReasonerPost.getEmail());
 
 		if (adfReasonerPost.getCmd().equals("get_models") || adfReasonerPost.getCmd().equals("get_credulous") || adfReasonerPost.getCmd().equals("get_skeptical")) {
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			AdfReasonerResponse reasonerResponse = new AdfReasonerResponse(adfReasonerPost.getCmd(),
 					adfReasonerPost.getEmail(), adfReasonerPost.getNr_of_arguments(), adfReasonerPost.getConditions(),
 					adfReasonerPost.getSemantics(), adfReasonerPost.getSolver(), null, 0,
 					adfReasonerPost.getUnit_timeout(), "ERRORs");
+			// the ADF is looked up before it is constructed as its construction is costly
+			String key = ResultCache.getKey("/adf", adfReasonerPost.getCmd(), adfReasonerPost.getSemantics(),
+					adfReasonerPost.getSolver(), adfReasonerPost.getUnit_timeout(),
+					ResultCache.canonical(adfReasonerPost.getNr_of_arguments(), adfReasonerPost.getConditions()));
+			ResultCache.CachedResult cached = this.resultCache.get(key);
+			this.reportCacheLookup(response, "/adf", cached != null);
+			if (cached != null) {
+				reasonerResponse.setTime(cached.getTime());
+				reasonerResponse.setAnswer(cached.getAnswer());
+				reasonerResponse.setStatus("SUCCESS");
+				return reasonerResponse;
+			}
 			TimeUnit unit = Utils.getTimeoutUnit(adfReasonerPost.getUnit_timeout());
 			try {
 				AbstractDialecticalFramework adf = AbstractAdfReasonerFactory.getAdf(adfReasonerPost.getNr_of_arguments(),
@@ -636,23 +702,21 @@ public class RequestController {
 						AdfReasonerCalleeFactory.Command.getCommand(adfReasonerPost.getCmd()), reasoner, adf);
 				int user_timeout = Utils.checkUserTimeout(adfReasonerPost.getTimeout(), SERVICES_TIMEOUT_DUNG, unit);
 				// handle timeout
-				Future<Collection<Interpretation>> future = executor.submit(callee);
-				Pair<Collection<Interpretation>, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
-				executor.shutdownNow();
+				Pair<Collection<Interpretation>, Long> result = serviceExecutor.run("/adf", callee, user_timeout, unit);
 				reasonerResponse.setTime(result.getValue());
 				reasonerResponse.setAnswer(result.getKey().toString().replace("[","{").replace("]", "}"));
 				reasonerResponse.setStatus("SUCCESS");
+				this.resultCache.put(key, reasonerResponse.getAnswer(), reasonerResponse.getTime());
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				reasonerResponse.setTime(adfReasonerPost.getTimeout());
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 			} catch (Exception e) {
 				reasonerResponse.setTime(0.0);
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("Error");
-				executor.shutdownNow();
 			}
 			return reasonerResponse;
 		} else {
@@ -779,7 +843,6 @@ public class RequestController {
 					bipolarReasonerPost.getSupports());
 			BipolarSemantics semantics = BipolarSemantics.getSemantics(bipolarReasonerPost.getSemantics());
 			AbstractBipolarExtensionReasoner reasoner = AbstractBipolarExtensionReasonerFactory.getReasoner(semantics);
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			BipolarReasonerResponse reasonerResponse = new BipolarReasonerResponse(
 					bipolarReasonerPost.getCmd(),
 					bipolarReasonerPost.getEmail(),
@@ -798,24 +861,20 @@ public class RequestController {
 			int user_timeout = Utils.checkUserTimeout(bipolarReasonerPost.getTimeout(), SERVICES_TIMEOUT_DUNG, unit);
 			try {
 				// handle timeout
-				Future<Collection<Extension<DungTheory>>> future = executor.submit(callee);
-				Pair<Collection<Extension<DungTheory>>, Long> result = Utils.runServicesWithTimeout(future,
-						user_timeout, unit);
-				executor.shutdownNow();
+				Pair<Collection<Extension<DungTheory>>, Long> result = serviceExecutor.run("/bipolar", callee, user_timeout, unit);
 				reasonerResponse.setTime(result.getValue());
 				reasonerResponse.setAnswer(result.getKey().toString());
 				reasonerResponse.setStatus("SUCCESS");
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				reasonerResponse.setTime(bipolarReasonerPost.getTimeout());
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 			} catch (Exception e) {
 				reasonerResponse.setTime(0.0);
 				reasonerResponse.setAnswer(null);
 				reasonerResponse.setStatus("Error");
-
-				executor.shutdownNow();
 			}
 			return reasonerResponse;
 		} else {
@@ -884,7 +943,6 @@ public class RequestController {
 				null);
 		TimeUnit unit = Utils.getTimeoutUnit(delpPost.getUnit_timeout());
 		int user_timeout = Utils.checkUserTimeout(delpPost.getTimeout(), SERVICES_TIMEOUT_DELP, unit);
-		ExecutorService executor = Executors.newSingleThreadExecutor();
 		try {
 
 			DelpParser parser = new DelpParser();
@@ -906,8 +964,7 @@ public class RequestController {
 			else
 				f = folParser.parseFormula(qString);
 			Callee delpCallee = new DeLPCallee(delp, reasoner, f);
-			Future<DelpAnswer.Type> future = executor.submit(delpCallee);
-			Pair<DelpAnswer.Type, Long> result = Utils.runServicesWithTimeout(future, user_timeout, unit);
+			Pair<DelpAnswer.Type, Long> result = serviceExecutor.run("/delp", delpCallee, user_timeout, unit);
 
 			System.out.println(result.toString());
 
@@ -916,21 +973,19 @@ public class RequestController {
 			delpResponse.setStatus("SUCCESS");
 			System.out.println(delpResponse.toString());
 
+		} catch (RejectedExecutionException e) {
+			throw this.overloaded();
 		} catch (TimeoutException e) {
 			delpResponse.setTime(delpPost.getTimeout());
 			delpResponse.setAnswer(null);
 			delpResponse.setStatus("TIMEOUT");
-			executor.shutdownNow();
 		} catch (ParserException e) {
-			executor.shutdownNow();
 			throw new JSONException(
 					"Malformed JSON: syntax of knowledge base and/or query does not conform to the given format.");
 		} catch (IOException e) {
-			executor.shutdownNow();
 			throw new JSONException(
 					"Malformed JSON: syntax of knowledge base and/or query does not conform to the given format.");
 		} catch (Exception e) {
-			executor.shutdownNow();
 			e.printStackTrace();
 			throw new JSONException("An unexpected error occured. Please contact an administrator.");
 		}
@@ -1069,27 +1124,24 @@ public class RequestController {
 		double val = -3;
 		try {
 			PlBeliefSet beliefSet = parser.parseBeliefBase(query.getKb());
-			ExecutorService executor = Executors.newSingleThreadExecutor();
 			long millis = System.currentTimeMillis();
 			try {
 				// handle timeout
-				Future<Double> future = executor.submit(new MeasurementCallee(measure, beliefSet));
-				Pair<Double, Long> result = Utils.runServicesWithTimeout(future, user_timeout, unit);
+				Pair<Double, Long> result = serviceExecutor.run("/incmes", new MeasurementCallee(measure, beliefSet), user_timeout, unit);
 				val = result.getKey();
 				icmesResponse.setTime(result.getValue());
 				icmesResponse.setStatus("SUCCESS");
 				// val = future.get(InconsistencyMeasurementService.timeout, TimeUnit.SECONDS);
-				executor.shutdownNow();
+			} catch (RejectedExecutionException e) {
+				throw this.overloaded();
 			} catch (TimeoutException e) {
 				// inconsistency value of -1 indicates that a timeout has occurred
 				icmesResponse.setTime(query.getTimeout());
 				icmesResponse.setStatus("TIMEOUT");
-				executor.shutdownNow();
 				val = -1;
 			} catch (Exception e) {
 				// inconsistency value of -2 indicates some general error
 				icmesResponse.setStatus("ERROR");
-				executor.shutdownNow();
 				val = -2;
 			}
 			// inconsistency value of -3 indicates infinity
@@ -1109,6 +1161,8 @@ public class RequestController {
 			throw new JSONException("Malformed JSON: syntax of knowledge base does not conform to the given format.");
 		} catch (IOException e) {
 			throw new JSONException("Malformed JSON: syntax of knowledge base does not conform to the given format.");
+		} catch (ResponseStatusException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new JSONException("An unexpected error occured. Please contact an administrator.");
 		}
@@ -1184,11 +1238,11 @@ public class RequestController {
 		TimeUnit timeoutUnit = Utils.getTimeoutUnit(request.getUnit_timeout());
 		int timeout = Utils.checkUserTimeout(request.getTimeout(), SERVICES_TIMEOUT_SEQUENCE_EXPLANATION, timeoutUnit);
 
-		ExecutorService executor = Executors.newSingleThreadExecutor();
 		Pair<SequenceExplanationResult, Long> resultAndExecutionTime;
 		try {
-			var future = executor.submit(() -> processCommand(request.getCmd()));
-			resultAndExecutionTime = Utils.runServicesWithTimeout(future, timeout, timeoutUnit);
+			resultAndExecutionTime = serviceExecutor.run("/sequence-explanation", () -> processCommand(request.getCmd()), timeout, timeoutUnit);
+		} catch (RejectedExecutionException e) {
+			throw this.overloaded();
 		} catch (TimeoutException e) {
 			LoggerUtil.logger.info("Timeout while running sequence explanation.");
 			return new SequenceExplanationResponse(
@@ -1207,8 +1261,6 @@ public class RequestController {
 			e.printStackTrace();
 			Thread.currentThread().interrupt();
 			throw new RuntimeException("Thread was interrupted.");
-		} finally {
-			executor.shutdownNow();
 		}
 
 		double executionTime = resultAndExecutionTime.getValue();
@@ -1278,11 +1330,11 @@ public class RequestController {
 		TimeUnit timoutUnit = Utils.getTimeoutUnit(request.getUnit_timeout());
 		int timout = Utils.checkUserTimeout(request.getTimeout(), SERVICES_TIMEOUT_CAUSAL, timoutUnit);
 
-		ExecutorService executor = Executors.newSingleThreadExecutor();
 		Pair<String, Long> resultAndExecutionTime;
 		try {
-			var future = executor.submit(() -> processCommand(request));
-			resultAndExecutionTime = Utils.runServicesWithTimeout(future, timout, timoutUnit);
+			resultAndExecutionTime = serviceExecutor.run("/causal", () -> processCommand(request), timout, timoutUnit);
+		} catch (RejectedExecutionException e) {
+			throw this.overloaded();
 		} catch (TimeoutException e) {
 			LoggerUtil.logger.info("Timeout while running causal reasoner.");
 			return new CausalReasonerResponse(
@@ -1301,8 +1353,6 @@ public class RequestController {
 			e.printStackTrace();
 			Thread.currentThread().interrupt();
 			throw new RuntimeException("Thread was interrupted.");
-		} finally {
-			executor.shutdownNow();
 		}
 
 		double executionTime = resultAndExecutionTime.getValue();
@@ -1496,7 +1546,6 @@ public class RequestController {
 				pafPost.getNr_of_trials());
 		Callee callee = PafReasonerCalleeFactory.getCallee(cmd, reasoner, paf);
 
-		ExecutorService executor = Executors.newSingleThreadExecutor();
 		PafReasonerResponse reasonerResponse = new PafReasonerResponse(
 				pafPost.getCmd(), pafPost.getEmail(), pafPost.getNr_of_arguments(),
 				pafPost.getArgument_probabilities(), pafPost.getAttacks(),
@@ -1506,22 +1555,20 @@ public class RequestController {
 		TimeUnit unit = Utils.getTimeoutUnit(pafPost.getUnit_timeout());
 		int user_timeout = Utils.checkUserTimeout(pafPost.getTimeout(), SERVICES_TIMEOUT_DUNG, unit);
 		try {
-			Future<Map<Argument,Double>> future = executor.submit(callee);
-			Pair<Map<Argument,Double>, Long> result = Utils.runServicesWithTimeout(future, user_timeout, unit);
-			executor.shutdownNow();
+			Pair<Map<Argument,Double>, Long> result = serviceExecutor.run("/paf", callee, user_timeout, unit);
 			reasonerResponse.setAnswer(result.getKey().toString());
 			reasonerResponse.setTime(result.getValue());
 			reasonerResponse.setStatus("SUCCESS");
+		} catch (RejectedExecutionException e) {
+			throw this.overloaded();
 		} catch (TimeoutException e) {
 			reasonerResponse.setTime(pafPost.getTimeout());
 			reasonerResponse.setAnswer(null);
 			reasonerResponse.setStatus("TIMEOUT");
-			executor.shutdownNow();
 		} catch (Exception e) {
 			reasonerResponse.setTime(0.0);
 			reasonerResponse.setAnswer(null);
 			reasonerResponse.setStatus("Error");
-			executor.shutdownNow();
 		}
 		return reasonerResponse;
 	}
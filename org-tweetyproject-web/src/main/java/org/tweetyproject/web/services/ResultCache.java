@@ -0,0 +1,280 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.web.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+
+/**
+ * Content-addressed cache for the answers of reasoning endpoints.
+ *
+ * <p>Entries are keyed by a SHA-256 hash over a canonical representation of
+ * the request, i.e., the endpoint, the command, the semantics, the solver and
+ * the knowledge base (see {@link #canonical(DungTheory)} and
+ * {@link #canonical(int, List)}). Two requests describing the same knowledge
+ * base, e.g. with attacks listed in a different order, thus share an entry.</p>
+ *
+ * <p>The cache evicts the least recently used entries once it holds more than
+ * {@code tweety.services.cache.max_entries} entries (default: 1024) or once
+ * their estimated size exceeds {@code tweety.services.cache.max_bytes}
+ * (default: 64MB). Entries older than {@code tweety.services.cache.ttl}
+ * seconds (default: 3600) are not returned anymore.</p>
+ *
+ * @author The TweetyProject Team
+ */
+@Service
+public class ResultCache {
+
+	/** Estimated memory overhead of an entry (in bytes) besides its strings */
+	private static final long ENTRY_OVERHEAD = 128;
+
+	/**
+	 * A cached answer.
+	 */
+	public static class CachedResult {
+		/** The answer */
+		private final String answer;
+		/** The time the original computation took */
+		private final double time;
+		/** The creation time of the entry (in ms) */
+		private final long created;
+		/** The estimated size of the entry (in bytes) */
+		private final long weight;
+
+		/**
+		 * Creates a new cached result.
+		 * @param answer the answer
+		 * @param time the time the original computation took
+		 * @param created the creation time (in ms)
+		 * @param weight the estimated size (in bytes)
+		 */
+		private CachedResult(String answer, double time, long created, long weight) {
+			this.answer = answer;
+			this.time = time;
+			this.created = created;
+			this.weight = weight;
+		}
+
+		/**
+		 * @return the answer
+		 */
+		public String getAnswer() {
+			return this.answer;
+		}
+
+		/**
+		 * @return the time the original computation took
+		 */
+		public double getTime() {
+			return this.time;
+		}
+	}
+
+	/** The entries in access order */
+	private final LinkedHashMap<String, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+	/** The maximal number of entries */
+	private final int maxEntries;
+	/** The maximal estimated size of all entries (in bytes) */
+	private final long maxBytes;
+	/** The time to live of an entry (in ms) */
+	private final long ttl;
+	/** The estimated size of all entries (in bytes) */
+	private long bytes = 0;
+	/** Number of lookups that found an entry */
+	private long hits = 0;
+	/** Number of lookups that found no (valid) entry */
+	private long misses = 0;
+	/** Number of entries removed due to the size limits */
+	private long evictions = 0;
+
+	/**
+	 * Creates a new cache.
+	 * @param maxEntries the maximal number of entries
+	 * @param maxBytes the maximal estimated size of all entries (in bytes)
+	 * @param ttl the time to live of an entry (in seconds)
+	 */
+	public ResultCache(@Value("${tweety.services.cache.max_entries:1024}") int maxEntries,
+			@Value("${tweety.services.cache.max_bytes:67108864}") long maxBytes,
+			@Value("${tweety.services.cache.ttl:3600}") long ttl) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.ttl = TimeUnit.SECONDS.toMillis(ttl);
+	}
+
+	/**
+	 * Computes the key for the given request components by hashing them.
+	 * @param parts the components of the request (endpoint, command, semantics,
+	 * 	solver, canonical knowledge base, ...); null values are allowed
+	 * @return the key.
+	 */
+	public static String getKey(String... parts) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+		for (String part : parts) {
+			digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+			// separator which cannot occur in UTF-8 encoded strings
+			digest.update((byte) 0xff);
+		}
+		StringBuilder key = new StringBuilder();
+		for (byte b : digest.digest())
+			key.append(String.format("%02x", b));
+		return key.toString();
+	}
+
+	/**
+	 * Returns a canonical representation of the given theory, which does not depend
+	 * on the order in which arguments and attacks have been added.
+	 * @param theory some Dung theory
+	 * @return a canonical string representation of the theory.
+	 */
+	public static String canonical(DungTheory theory) {
+		List<String> arguments = new ArrayList<>();
+		for (Argument a : theory)
+			arguments.add(a.getName());
+		Collections.sort(arguments);
+		List<String> attacks = new ArrayList<>();
+		for (Attack att : theory.getAttacks())
+			attacks.add(att.getAttacker().getName() + ">" + att.getAttacked().getName());
+		Collections.sort(attacks);
+		return String.join(",", arguments) + ";" + String.join(",", attacks);
+	}
+
+	/**
+	 * Returns a canonical representation of an ADF given by its number of arguments
+	 * and acceptance conditions. Acceptance conditions are taken up to whitespace and
+	 * order, which allows to look up the cache before the (costly) construction of
+	 * the ADF.
+	 * @param nr_of_arguments the number of arguments
+	 * @param conditions the acceptance conditions
+	 * @return a canonical string representation of the ADF.
+	 */
+	public static String canonical(int nr_of_arguments, List<String> conditions) {
+		List<String> acs = new ArrayList<>();
+		for (String c : conditions)
+			acs.add(c.replaceAll("\\s", ""));
+		Collections.sort(acs);
+		return nr_of_arguments + ";" + String.join(";", acs);
+	}
+
+	/**
+	 * Returns the cached result for the given key, if present and not expired.
+	 * @param key some key
+	 * @return the cached result or null.
+	 */
+	public synchronized CachedResult get(String key) {
+		CachedResult result = this.entries.get(key);
+		if (result != null && System.currentTimeMillis() - result.created > this.ttl) {
+			this.remove(key);
+			result = null;
+		}
+		if (result == null)
+			this.misses++;
+		else
+			this.hits++;
+		return result;
+	}
+
+	/**
+	 * Stores the given answer for the given key and evicts least recently
+	 * used entries if the size limits are exceeded.
+	 * @param key some key
+	 * @param answer the answer
+	 * @param time the time the computation took
+	 */
+	public synchronized void put(String key, String answer, double time) {
+		long weight = ENTRY_OVERHEAD + 2L * (key.length() + answer.length());
+		// too large to be ever kept
+		if (weight > this.maxBytes)
+			return;
+		this.remove(key);
+		this.entries.put(key, new CachedResult(answer, time, System.currentTimeMillis(), weight));
+		this.bytes += weight;
+		Iterator<Map.Entry<String, CachedResult>> it = this.entries.entrySet().iterator();
+		while ((this.entries.size() > this.maxEntries || this.bytes > this.maxBytes) && it.hasNext()) {
+			this.bytes -= it.next().getValue().weight;
+			it.remove();
+			this.evictions++;
+		}
+	}
+
+	/**
+	 * Removes the entry with the given key.
+	 * @param key some key
+	 */
+	private void remove(String key) {
+		CachedResult old = this.entries.remove(key);
+		if (old != null)
+			this.bytes -= old.weight;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+	/**
+	 * @return the number of lookups that found an entry
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * @return the number of lookups that found no (valid) entry
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Returns the statistics of the cache.
+	 * @return a map suitable for JSON serialization
+	 */
+	public synchronized Map<String, Object> getStatus() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("entries", this.entries.size());
+		status.put("bytes", this.bytes);
+		status.put("hits", this.hits);
+		status.put("misses", this.misses);
+		status.put("evictions", this.evictions);
+		return status;
+	}
+}
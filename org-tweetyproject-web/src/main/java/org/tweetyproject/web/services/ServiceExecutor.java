@@ -0,0 +1,188 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.web.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javafx.util.Pair;
+
+/**
+ * Shared, bounded worker pool for all reasoning endpoints of the
+ * {@link RequestController}.
+ *
+ * <p>Computations run on a fixed number of worker threads. Requests that
+ * find all workers busy wait in a queue of bounded capacity; once this queue
+ * is full further requests are refused with a {@link RejectedExecutionException},
+ * which the controller reports as HTTP 429 (too many requests).</p>
+ *
+ * <p>When the caller stops waiting for a result (timeout or any other error)
+ * the computation is cancelled by interrupting its worker. Reasoners that
+ * check the interrupt flag of their thread abort early and release the
+ * worker; a request that has not been started yet is removed from the queue.</p>
+ *
+ * <p>The pool size and queue capacity can be configured with the properties
+ * {@code tweety.services.workers} (default: number of available processors)
+ * and {@code tweety.services.queue_capacity} (default: 64).</p>
+ *
+ * @author The TweetyProject Team
+ */
+@Service
+public class ServiceExecutor implements DisposableBean {
+
+	/** The worker pool */
+	private final ThreadPoolExecutor pool;
+	/** Statistics for each endpoint */
+	private final Map<String, ServiceMetrics> metrics = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new executor.
+	 * @param workers the number of worker threads; if non-positive, the number
+	 * 	of available processors is used
+	 * @param queueCapacity the maximal number of requests waiting for a worker
+	 */
+	public ServiceExecutor(@Value("${tweety.services.workers:0}") int workers,
+			@Value("${tweety.services.queue_capacity:64}") int queueCapacity) {
+		if (workers <= 0)
+			workers = Runtime.getRuntime().availableProcessors();
+		if (queueCapacity <= 0)
+			throw new IllegalArgumentException("Queue capacity must be positive.");
+		AtomicInteger threadCount = new AtomicInteger();
+		this.pool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), r -> {
+					Thread t = new Thread(r, "tweety-service-" + threadCount.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Runs the given task on the worker pool and waits for its result at most
+	 * the given time. If no result is obtained (timeout, interruption or
+	 * failure of the task) the task is cancelled.
+	 * @param <T> the type of the result
+	 * @param endpoint the endpoint the task belongs to (used for metrics)
+	 * @param task the task
+	 * @param timeout the timeout
+	 * @param unit the unit of the timeout
+	 * @return a pair of the result and the execution time (in the given unit
+	 * 	if this is seconds, in milliseconds otherwise), see
+	 * 	{@link Utils#runServicesWithTimeout(Future, long, TimeUnit)}
+	 * @throws RejectedExecutionException if the pool is saturated
+	 * @throws InterruptedException if the calling thread is interrupted
+	 * @throws ExecutionException if the task threw an exception
+	 * @throws TimeoutException if the task did not finish in time
+	 */
+	public <T> Pair<T, Long> run(String endpoint, Callable<T> task, long timeout, TimeUnit unit)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		ServiceMetrics m = this.getMetrics(endpoint);
+		AtomicBoolean started = new AtomicBoolean(false);
+		long submitted = System.currentTimeMillis();
+		Callable<T> measured = () -> {
+			if (!started.compareAndSet(false, true))
+				return null;
+			long start = System.currentTimeMillis();
+			m.recordStarted(start - submitted);
+			boolean success = false;
+			try {
+				T result = task.call();
+				success = true;
+				return result;
+			} finally {
+				m.recordFinished(System.currentTimeMillis() - start, success);
+			}
+		};
+		Future<T> future;
+		try {
+			m.recordQueued();
+			future = this.pool.submit(measured);
+		} catch (RejectedExecutionException e) {
+			m.recordRejected();
+			throw e;
+		}
+		m.recordSubmitted();
+		boolean done = false;
+		try {
+			Pair<T, Long> result = Utils.runServicesWithTimeout(future, timeout, unit);
+			done = true;
+			return result;
+		} catch (TimeoutException e) {
+			m.recordTimeout();
+			throw e;
+		} finally {
+			if (!done) {
+				future.cancel(true);
+				// the task never reached a worker; free its slot in the queue
+				if (started.compareAndSet(false, true)) {
+					this.pool.remove((RunnableFuture<?>) future);
+					m.recordDropped();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the statistics of the given endpoint.
+	 * @param endpoint some endpoint
+	 * @return the statistics of the endpoint
+	 */
+	public ServiceMetrics getMetrics(String endpoint) {
+		return this.metrics.computeIfAbsent(endpoint, e -> new ServiceMetrics());
+	}
+
+	/**
+	 * Returns a snapshot of the state of the pool and the statistics of
+	 * all endpoints that have been used so far.
+	 * @return a map suitable for JSON serialization
+	 */
+	public Map<String, Object> getStatus() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("workers", this.pool.getMaximumPoolSize());
+		status.put("active", this.pool.getActiveCount());
+		status.put("queued", this.pool.getQueue().size());
+		status.put("queue_capacity", this.pool.getQueue().size() + this.pool.getQueue().remainingCapacity());
+		status.put("endpoints", new TreeMap<>(this.metrics));
+		return status;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		this.pool.shutdownNow();
+	}
+}
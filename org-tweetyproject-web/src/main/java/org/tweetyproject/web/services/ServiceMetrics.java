@@ -0,0 +1,182 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.web.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue and latency statistics of a single service endpoint. All counters
+ * are updated concurrently by the request threads and the workers of
+ * {@link ServiceExecutor}; the getters return the current values and are
+ * serialized as-is by the metrics endpoint.
+ *
+ * @author The TweetyProject Team
+ */
+public class ServiceMetrics {
+
+	/** Number of requests accepted into the worker pool */
+	private final AtomicLong submitted = new AtomicLong();
+	/** Number of requests refused because the pool was saturated */
+	private final AtomicLong rejected = new AtomicLong();
+	/** Number of requests that finished with a result */
+	private final AtomicLong completed = new AtomicLong();
+	/** Number of requests whose computation threw an exception */
+	private final AtomicLong failed = new AtomicLong();
+	/** Number of requests that exceeded their timeout */
+	private final AtomicLong timedOut = new AtomicLong();
+	/** Number of requests currently waiting for a worker */
+	private final AtomicInteger queued = new AtomicInteger();
+	/** Number of requests currently being computed */
+	private final AtomicInteger running = new AtomicInteger();
+	/** Accumulated time (in ms) requests spent waiting for a worker */
+	private final AtomicLong totalQueueTime = new AtomicLong();
+	/** Accumulated time (in ms) workers spent computing */
+	private final AtomicLong totalRunTime = new AtomicLong();
+	/** Longest single computation (in ms) */
+	private final AtomicLong maxRunTime = new AtomicLong();
+
+	/** Creates empty statistics. */
+	public ServiceMetrics() {
+	}
+
+	/** Records that a request is about to be put into the queue. */
+	void recordQueued() {
+		this.queued.incrementAndGet();
+	}
+
+	/** Records that a request has been accepted by the pool. */
+	void recordSubmitted() {
+		this.submitted.incrementAndGet();
+	}
+
+	/** Records that a request has been refused. */
+	void recordRejected() {
+		this.queued.decrementAndGet();
+		this.rejected.incrementAndGet();
+	}
+
+	/** Records that a queued request has been removed without being run. */
+	void recordDropped() {
+		this.queued.decrementAndGet();
+	}
+
+	/**
+	 * Records that a worker started computing a request.
+	 * @param queueTime the time (in ms) the request waited in the queue
+	 */
+	void recordStarted(long queueTime) {
+		this.queued.decrementAndGet();
+		this.running.incrementAndGet();
+		this.totalQueueTime.addAndGet(queueTime);
+	}
+
+	/**
+	 * Records that a worker finished computing a request.
+	 * @param runTime the time (in ms) the computation took
+	 * @param success whether the computation returned a result
+	 */
+	void recordFinished(long runTime, boolean success) {
+		this.running.decrementAndGet();
+		this.totalRunTime.addAndGet(runTime);
+		this.maxRunTime.accumulateAndGet(runTime, Math::max);
+		if (success)
+			this.completed.incrementAndGet();
+		else
+			this.failed.incrementAndGet();
+	}
+
+	/** Records that the caller gave up waiting for a request. */
+	void recordTimeout() {
+		this.timedOut.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of requests accepted into the worker pool
+	 */
+	public long getSubmitted() {
+		return this.submitted.get();
+	}
+
+	/**
+	 * @return the number of requests refused because the pool was saturated
+	 */
+	public long getRejected() {
+		return this.rejected.get();
+	}
+
+	/**
+	 * @return the number of requests that finished with a result
+	 */
+	public long getCompleted() {
+		return this.completed.get();
+	}
+
+	/**
+	 * @return the number of requests whose computation threw an exception
+	 * (including computations aborted after a timeout)
+	 */
+	public long getFailed() {
+		return this.failed.get();
+	}
+
+	/**
+	 * @return the number of requests that exceeded their timeout
+	 */
+	public long getTimed_out() {
+		return this.timedOut.get();
+	}
+
+	/**
+	 * @return the number of requests currently waiting for a worker
+	 */
+	public int getQueued() {
+		return this.queued.get();
+	}
+
+	/**
+	 * @return the number of requests currently being computed
+	 */
+	public int getRunning() {
+		return this.running.get();
+	}
+
+	/**
+	 * @return the average time (in ms) a started request waited for a worker
+	 */
+	public double getAvg_queue_time() {
+		long started = this.completed.get() + this.failed.get() + this.running.get();
+		return started == 0 ? 0 : (double) this.totalQueueTime.get() / started;
+	}
+
+	/**
+	 * @return the average time (in ms) of a finished computation
+	 */
+	public double getAvg_run_time() {
+		long finished = this.completed.get() + this.failed.get();
+		return finished == 0 ? 0 : (double) this.totalRunTime.get() / finished;
+	}
+
+	/**
+	 * @return the longest single computation (in ms)
+	 */
+	public long getMax_run_time() {
+		return this.maxRunTime.get();
+	}
+}
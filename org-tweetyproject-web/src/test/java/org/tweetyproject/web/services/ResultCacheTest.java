@@ -0,0 +1,106 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.web.services;
+
+import org.junit.jupiter.api.Test;
+import org.tweetyproject.arg.dung.syntax.Argument;
+import org.tweetyproject.arg.dung.syntax.Attack;
+import org.tweetyproject.arg.dung.syntax.DungTheory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+
+/**
+ * Tests keys, eviction and expiry of {@link ResultCache}.
+ *
+ * @author The TweetyProject Team
+ */
+class ResultCacheTest {
+
+    private static DungTheory theory(String... attacks) {
+        DungTheory theory = new DungTheory();
+        for (String att : attacks) {
+            Argument a = new Argument(att.substring(0, 1));
+            Argument b = new Argument(att.substring(1, 2));
+            theory.add(a);
+            theory.add(b);
+            theory.add(new Attack(a, b));
+        }
+        return theory;
+    }
+
+    @Test
+    public void keyIgnoresOrder() {
+        String k1 = ResultCache.getKey("/dung", "get_models", "CO", null, ResultCache.canonical(theory("ab", "bc")));
+        String k2 = ResultCache.getKey("/dung", "get_models", "CO", null, ResultCache.canonical(theory("bc", "ab")));
+        String k3 = ResultCache.getKey("/dung", "get_models", "PR", null, ResultCache.canonical(theory("ab", "bc")));
+        assertEquals(k1, k2);
+        assertNotEquals(k1, k3);
+        assertEquals(ResultCache.canonical(2, List.of("ac(1, neg(2))", "ac(2,c(v))")),
+                ResultCache.canonical(2, List.of("ac(2, c(v))", "ac(1,neg(2))")));
+    }
+
+    @Test
+    public void lookupCountsHitsAndMisses() {
+        ResultCache cache = new ResultCache(10, 1 << 20, 3600);
+        assertNull(cache.get("k"));
+        cache.put("k", "[{a}]", 1.0);
+        assertEquals("[{a}]", cache.get("k").getAnswer());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ResultCache cache = new ResultCache(2, 1 << 20, 3600);
+        cache.put("a", "1", 0);
+        cache.put("b", "2", 0);
+        cache.get("a");
+        cache.put("c", "3", 0);
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    public void evictsBySize() {
+        ResultCache cache = new ResultCache(100, 600, 3600);
+        cache.put("a", "x".repeat(100), 0);
+        cache.put("b", "x".repeat(100), 0);
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+    }
+
+    @Test
+    public void expiresEntries() {
+        ResultCache cache = new ResultCache(10, 1 << 20, 0);
+        cache.put("a", "1", 0);
+        // entries with a time to live of zero seconds expire within a millisecond
+        long start = System.currentTimeMillis();
+        while (System.currentTimeMillis() == start) {
+            Thread.onSpinWait();
+        }
+        assertNull(cache.get("a"));
+    }
+}
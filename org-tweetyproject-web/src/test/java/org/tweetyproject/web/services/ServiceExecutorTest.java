@@ -0,0 +1,114 @@
+/*
+ *  This file is part of "TweetyProject", a collection of Java libraries for
+ *  logical aspects of artificial intelligence and knowledge representation.
+ *
+ *  TweetyProject is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License version 3 as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ *  Copyright 2026 The TweetyProject Team <http://tweetyproject.org/contact/>
+ */
+package org.tweetyproject.web.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Tests admission control, cancellation and metrics of {@link ServiceExecutor}.
+ *
+ * @author The TweetyProject Team
+ */
+class ServiceExecutorTest {
+
+    private final ServiceExecutor executor = new ServiceExecutor(1, 1);
+
+    /** A task that runs until its thread is interrupted. */
+    private static Callable<Integer> interruptible(CountDownLatch started) {
+        return () -> {
+            started.countDown();
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.onSpinWait();
+            }
+            throw new CancellationException();
+        };
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.destroy();
+    }
+
+    @Test
+    public void returnsResult() throws Exception {
+        assertEquals(Integer.valueOf(42), executor.run("/dung", () -> 42, 1, TimeUnit.SECONDS).getKey());
+        ServiceMetrics metrics = executor.getMetrics("/dung");
+        assertEquals(1, metrics.getSubmitted());
+        assertEquals(1, metrics.getCompleted());
+        assertEquals(0, metrics.getQueued());
+        assertEquals(0, metrics.getRunning());
+    }
+
+    @Test
+    public void timeoutCancelsComputation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        assertThrows(TimeoutException.class,
+                () -> executor.run("/dung", interruptible(started), 100, TimeUnit.MILLISECONDS));
+        // the single worker is freed again after the timeout
+        assertEquals(Integer.valueOf(1), executor.run("/dung", () -> 1, 1, TimeUnit.SECONDS).getKey());
+        ServiceMetrics metrics = executor.getMetrics("/dung");
+        assertEquals(1, metrics.getTimed_out());
+        assertEquals(1, metrics.getFailed());
+    }
+
+    @Test
+    public void rejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Thread busy = new Thread(() -> {
+            try {
+                executor.run("/aba", interruptible(started), 2, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                // expected timeout
+            }
+        });
+        busy.start();
+        started.await();
+        Thread queued = new Thread(() -> {
+            try {
+                executor.run("/aba", () -> 1, 2, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                // not relevant here
+            }
+        });
+        queued.start();
+        while (!executor.getStatus().get("queued").equals(1)) {
+            Thread.sleep(5);
+        }
+        assertThrows(RejectedExecutionException.class,
+                () -> executor.run("/aba", () -> 2, 1, TimeUnit.SECONDS));
+        assertEquals(1, executor.getMetrics("/aba").getRejected());
+        assertTrue(executor.getMetrics("/aba").getSubmitted() >= 2);
+        busy.interrupt();
+        busy.join();
+        queued.join();
+    }
+}